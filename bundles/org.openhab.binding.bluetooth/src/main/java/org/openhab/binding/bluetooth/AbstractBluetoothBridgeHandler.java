@@ -51,7 +51,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
     private final Set<BluetoothDiscoveryListener> discoveryListeners = new CopyOnWriteArraySet<>();
 
     // Map of Bluetooth devices known to this bridge.
-    // This contains the devices from the most recent scan
+    // This contains the devices from the most recent scan, it is accessed without locking from the adapter threads
     private final Map<BluetoothAddress, BD> devices = new ConcurrentHashMap<>();
 
     // Actual discovery status.
@@ -102,10 +102,8 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
         }
         this.inactiveRemovalJob = null;
 
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                removeDevice(device);
-            }
+        for (BD device : devices.values()) {
+            removeDevice(device);
         }
     }
 
@@ -115,21 +113,17 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     private void removeInactiveDevices() {
         // clean up orphaned entries
-        synchronized (devices) {
-            for (BD device : devices.values()) {
-                if (shouldRemove(device)) {
-                    logger.debug("Removing device '{}' due to inactivity", device.getAddress());
-                    removeDevice(device);
-                }
+        for (BD device : devices.values()) {
+            if (shouldRemove(device)) {
+                logger.debug("Removing device '{}' due to inactivity", device.getAddress());
+                removeDevice(device);
             }
         }
     }
 
     protected void removeDevice(BD device) {
         device.dispose();
-        synchronized (devices) {
-            devices.remove(device.getAddress());
-        }
+        devices.remove(device.getAddress(), device);
         discoveryListeners.forEach(listener -> listener.deviceRemoved(device));
     }
 
@@ -172,9 +166,7 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     protected void refreshDiscoveredDevices() {
         logger.debug("Refreshing Bluetooth device list...");
-        synchronized (devices) {
-            devices.values().forEach(this::deviceDiscovered);
-        }
+        devices.values().forEach(this::deviceDiscovered);
     }
 
     @Override
@@ -186,9 +178,11 @@ public abstract class AbstractBluetoothBridgeHandler<BD extends BaseBluetoothDev
 
     @Override
     public BD getDevice(BluetoothAddress address) {
-        synchronized (devices) {
-            return Objects.requireNonNull(devices.computeIfAbsent(address, this::createDevice));
-        }
+        return Objects.requireNonNull(devices.computeIfAbsent(address, a -> {
+            BD device = createDevice(a);
+            device.setScanRecordFilter(new ScanRecordFilter(config));
+            return device;
+        }));
     }
 
     protected abstract BD createDevice(BluetoothAddress address);
@@ -26,4 +26,8 @@ public class BaseBluetoothBridgeHandlerConfiguration {
     public boolean backgroundDiscovery = false;
     public int inactiveDeviceCleanupInterval = 60;
     public int inactiveDeviceCleanupThreshold = 300;
+    public int duplicateScanRecordWindow = 5;
+    public double rssiSmoothingFactor = 0.3;
+    public int rssiDeadband = 3;
+    public int rssiMaxAge = 60;
 }
@@ -26,6 +26,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,6 +80,11 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
      */
     protected @Nullable ZonedDateTime lastSeenTime = null;
 
+    /**
+     * Filter for the received scan records, null if all scan records are passed to the listeners
+     */
+    private volatile @Nullable ScanRecordFilter scanRecordFilter = null;
+
     /**
      * The event listeners will be notified of device updates
      */
@@ -340,9 +346,27 @@ public abstract class BaseBluetoothDevice extends BluetoothDevice {
             default:
                 break;
         }
+        ScanRecordFilter scanRecordFilter = this.scanRecordFilter;
+        if (event == BluetoothEventType.SCAN_RECORD && scanRecordFilter != null) {
+            BluetoothScanNotification scanRecord = scanRecordFilter.filter((BluetoothScanNotification) args[0]);
+            if (scanRecord == null) {
+                return;
+            }
+            super.notifyListeners(event, scanRecord);
+            return;
+        }
         super.notifyListeners(event, args);
     }
 
+    /**
+     * Sets the filter for received scan records
+     *
+     * @param scanRecordFilter the filter or null to pass all scan records to the listeners
+     */
+    public void setScanRecordFilter(@Nullable ScanRecordFilter scanRecordFilter) {
+        this.scanRecordFilter = scanRecordFilter;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder();
@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification.BluetoothBeaconType;
+
+/**
+ * The {@link ScanRecordFilter} reduces the scan records of a device before they are passed to the listeners.
+ * <p>
+ * Scan records with the same payload as the last forwarded record are dropped within the duplicate window. The RSSI
+ * is smoothed with an exponential moving average and only reported if it moved by at least the deadband or if it has
+ * not been reported for the max age. If the RSSI is not reported, the forwarded record has no RSSI
+ * ({@link Integer#MIN_VALUE}).
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScanRecordFilter {
+    private final long duplicateWindowNanos;
+    private final double smoothingFactor;
+    private final int rssiDeadband;
+    private final long rssiMaxAgeNanos;
+    private final LongSupplier nanoTime;
+
+    private @Nullable BluetoothScanNotification lastRecord;
+    private long lastRecordNanos;
+    private double smoothedRssi = Double.NaN;
+    private int reportedRssi = Integer.MIN_VALUE;
+    private long reportedRssiNanos;
+
+    /**
+     * Creates a filter from the configuration of a bridge
+     *
+     * @param config the bridge configuration
+     */
+    public ScanRecordFilter(BaseBluetoothBridgeHandlerConfiguration config) {
+        this(TimeUnit.SECONDS.toNanos(config.duplicateScanRecordWindow), config.rssiSmoothingFactor,
+                config.rssiDeadband, TimeUnit.SECONDS.toNanos(config.rssiMaxAge), System::nanoTime);
+    }
+
+    ScanRecordFilter(long duplicateWindowNanos, double smoothingFactor, int rssiDeadband, long rssiMaxAgeNanos,
+            LongSupplier nanoTime) {
+        this.duplicateWindowNanos = duplicateWindowNanos;
+        this.smoothingFactor = Math.min(1.0, Math.max(0.01, smoothingFactor));
+        this.rssiDeadband = rssiDeadband;
+        this.rssiMaxAgeNanos = rssiMaxAgeNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Filters a scan record
+     *
+     * @param scanRecord the received scan record
+     * @return the scan record to pass to the listeners or null if it should be dropped
+     */
+    public synchronized @Nullable BluetoothScanNotification filter(BluetoothScanNotification scanRecord) {
+        long now = nanoTime.getAsLong();
+        int rssi = reportRssi(scanRecord.getRssi(), now);
+
+        if (!hasPayload(scanRecord)) {
+            if (scanRecord.getRssi() == Integer.MIN_VALUE) {
+                // nothing to filter
+                return scanRecord;
+            }
+            return rssi == Integer.MIN_VALUE ? null : rssiOnly(scanRecord, rssi);
+        }
+
+        BluetoothScanNotification lastRecord = this.lastRecord;
+        if (lastRecord != null && now - lastRecordNanos < duplicateWindowNanos
+                && hasSamePayload(lastRecord, scanRecord)) {
+            // only the RSSI may be of interest
+            return rssi == Integer.MIN_VALUE ? null : rssiOnly(scanRecord, rssi);
+        }
+        this.lastRecord = scanRecord;
+        this.lastRecordNanos = now;
+
+        if (rssi == scanRecord.getRssi()) {
+            return scanRecord;
+        }
+        BluetoothScanNotification filteredRecord = new BluetoothScanNotification(scanRecord);
+        filteredRecord.setRssi(rssi);
+        return filteredRecord;
+    }
+
+    /**
+     * Adds a RSSI sample to the moving average
+     *
+     * @return the RSSI to report or {@link Integer#MIN_VALUE} if it should not be reported
+     */
+    private int reportRssi(int rssi, long now) {
+        if (rssi == Integer.MIN_VALUE || rssi == 0) {
+            // no valid sample
+            return rssi;
+        }
+        smoothedRssi = Double.isNaN(smoothedRssi) ? rssi : smoothedRssi + smoothingFactor * (rssi - smoothedRssi);
+        int roundedRssi = (int) Math.round(smoothedRssi);
+        if (reportedRssi == Integer.MIN_VALUE || Math.abs(roundedRssi - reportedRssi) >= rssiDeadband
+                || now - reportedRssiNanos >= rssiMaxAgeNanos) {
+            reportedRssi = roundedRssi;
+            reportedRssiNanos = now;
+            return roundedRssi;
+        }
+        return Integer.MIN_VALUE;
+    }
+
+    /**
+     * Creates a copy of a scan record that only carries the RSSI
+     */
+    private static BluetoothScanNotification rssiOnly(BluetoothScanNotification scanRecord, int rssi) {
+        BluetoothScanNotification rssiRecord = new BluetoothScanNotification(scanRecord);
+        rssiRecord.setRssi(rssi);
+        rssiRecord.setData(new byte[0]);
+        rssiRecord.setManufacturerData(new byte[0]);
+        rssiRecord.setServiceData(Map.of());
+        rssiRecord.setBeaconType(BluetoothBeaconType.BEACON_UNKNOWN);
+        rssiRecord.setDeviceName("");
+        return rssiRecord;
+    }
+
+    private static boolean hasPayload(BluetoothScanNotification scanRecord) {
+        return scanRecord.getData().length > 0 || scanRecord.getManufacturerData().length > 0
+                || !scanRecord.getServiceData().isEmpty() || !scanRecord.getDeviceName().isEmpty();
+    }
+
+    private static boolean hasSamePayload(BluetoothScanNotification a, BluetoothScanNotification b) {
+        return a.getBeaconType() == b.getBeaconType() && Arrays.equals(a.getData(), b.getData())
+                && Arrays.equals(a.getManufacturerData(), b.getManufacturerData())
+                && a.getDeviceName().equals(b.getDeviceName())
+                && hasSameServiceData(a.getServiceData(), b.getServiceData());
+    }
+
+    private static boolean hasSameServiceData(Map<String, byte[]> a, Map<String, byte[]> b) {
+        if (a.size() != b.size()) {
+            return false;
+        }
+        for (Map.Entry<String, byte[]> entry : a.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), b.get(entry.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
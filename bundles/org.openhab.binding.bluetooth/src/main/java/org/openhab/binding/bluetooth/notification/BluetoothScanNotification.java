@@ -22,6 +22,7 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
  *
  * @author Chris Jackson - Initial contribution
  * @author Peter Rosenberg - Add support for ServiceData
+ * @author agent - Copy constructor
  */
 @NonNullByDefault
 public class BluetoothScanNotification extends BluetoothNotification {
@@ -66,6 +67,24 @@ public class BluetoothScanNotification extends BluetoothNotification {
         BEACON_SCANRESPONSE
     }
 
+    public BluetoothScanNotification() {
+    }
+
+    /**
+     * Creates a copy of a scan notification
+     *
+     * @param scanNotification the {@link BluetoothScanNotification} to copy
+     */
+    public BluetoothScanNotification(BluetoothScanNotification scanNotification) {
+        this.address = scanNotification.address;
+        this.rssi = scanNotification.rssi;
+        this.data = scanNotification.data;
+        this.manufacturerData = scanNotification.manufacturerData;
+        this.serviceData = scanNotification.serviceData;
+        this.beaconType = scanNotification.beaconType;
+        this.name = scanNotification.name;
+    }
+
     /**
      * Sets the receive signal strength RSSI value for the scan
      *
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.bluetooth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.bluetooth.notification.BluetoothScanNotification;
+
+/**
+ * Tests {@link ScanRecordFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ScanRecordFilterTest {
+    private static final long WINDOW = TimeUnit.SECONDS.toNanos(5);
+    private static final long MAX_AGE = TimeUnit.SECONDS.toNanos(60);
+
+    private long now = 0;
+
+    private ScanRecordFilter createFilter(double smoothingFactor, int rssiDeadband) {
+        return new ScanRecordFilter(WINDOW, smoothingFactor, rssiDeadband, MAX_AGE, () -> now);
+    }
+
+    private static BluetoothScanNotification scanRecord(int rssi, byte... manufacturerData) {
+        BluetoothScanNotification scanRecord = new BluetoothScanNotification();
+        scanRecord.setRssi(rssi);
+        scanRecord.setManufacturerData(manufacturerData);
+        return scanRecord;
+    }
+
+    private static BluetoothScanNotification scanRecord(BluetoothAddress sender, int rssi, byte... manufacturerData) {
+        BluetoothScanNotification scanRecord = new BluetoothScanNotification() {
+            {
+                address = sender;
+            }
+        };
+        scanRecord.setRssi(rssi);
+        scanRecord.setManufacturerData(manufacturerData);
+        return scanRecord;
+    }
+
+    private static BluetoothScanNotification assertForwarded(@Nullable BluetoothScanNotification scanRecord) {
+        assertNotNull(scanRecord);
+        return scanRecord;
+    }
+
+    @Test
+    public void testDuplicatesAreDroppedWithinWindow() {
+        ScanRecordFilter filter = createFilter(1, 3);
+
+        assertArrayEquals(new byte[] { 1, 2 }, assertForwarded(filter.filter(scanRecord(-60, (byte) 1, (byte) 2)))
+                .getManufacturerData());
+        now += TimeUnit.SECONDS.toNanos(1);
+        assertNull(filter.filter(scanRecord(-60, (byte) 1, (byte) 2)));
+
+        // changed payload is always forwarded
+        now += TimeUnit.SECONDS.toNanos(1);
+        assertArrayEquals(new byte[] { 1, 3 }, assertForwarded(filter.filter(scanRecord(-60, (byte) 1, (byte) 3)))
+                .getManufacturerData());
+
+        // same payload after the window
+        now += WINDOW;
+        assertArrayEquals(new byte[] { 1, 3 }, assertForwarded(filter.filter(scanRecord(-60, (byte) 1, (byte) 3)))
+                .getManufacturerData());
+    }
+
+    @Test
+    public void testDuplicateWithChangedRssiForwardsOnlyRssi() {
+        ScanRecordFilter filter = createFilter(1, 3);
+
+        filter.filter(scanRecord(-60, (byte) 1));
+        BluetoothScanNotification scanRecord = assertForwarded(filter.filter(scanRecord(-70, (byte) 1)));
+        assertEquals(-70, scanRecord.getRssi());
+        assertEquals(0, scanRecord.getManufacturerData().length);
+    }
+
+    @Test
+    public void testFilteredRecordsKeepAddress() {
+        ScanRecordFilter filter = createFilter(0.5, 1);
+        BluetoothAddress address = new BluetoothAddress("12:34:56:78:9A:BC");
+
+        filter.filter(scanRecord(address, -60, (byte) 1));
+        // the smoothed RSSI differs from the received one
+        BluetoothScanNotification scanRecord = assertForwarded(filter.filter(scanRecord(address, -80, (byte) 2)));
+        assertEquals(address, scanRecord.getAddress());
+        assertArrayEquals(new byte[] { 2 }, scanRecord.getManufacturerData());
+        // duplicate that only reports the RSSI
+        scanRecord = assertForwarded(filter.filter(scanRecord(address, -90, (byte) 2)));
+        assertEquals(address, scanRecord.getAddress());
+        assertEquals(0, scanRecord.getManufacturerData().length);
+    }
+
+    @Test
+    public void testRssiDeadband() {
+        ScanRecordFilter filter = createFilter(1, 3);
+
+        assertEquals(-60, assertForwarded(filter.filter(scanRecord(-60, (byte) 1))).getRssi());
+        assertEquals(Integer.MIN_VALUE, assertForwarded(filter.filter(scanRecord(-62, (byte) 2))).getRssi());
+        assertNull(filter.filter(scanRecord(-62, (byte) 2)));
+        assertEquals(-63, assertForwarded(filter.filter(scanRecord(-63, (byte) 2))).getRssi());
+    }
+
+    @Test
+    public void testRssiIsReportedAfterMaxAge() {
+        ScanRecordFilter filter = createFilter(1, 3);
+
+        filter.filter(scanRecord(-60, (byte) 1));
+        now += TimeUnit.SECONDS.toNanos(30);
+        assertEquals(Integer.MIN_VALUE, assertForwarded(filter.filter(scanRecord(-61, (byte) 1))).getRssi());
+        now += TimeUnit.SECONDS.toNanos(30);
+        assertEquals(-61, assertForwarded(filter.filter(scanRecord(-61, (byte) 1))).getRssi());
+    }
+
+    @Test
+    public void testRssiIsSmoothed() {
+        ScanRecordFilter filter = createFilter(0.5, 1);
+
+        assertEquals(-60, assertForwarded(filter.filter(scanRecord(-60))).getRssi());
+        // a single outlier only moves the average halfway
+        assertEquals(-70, assertForwarded(filter.filter(scanRecord(-80))).getRssi());
+        assertEquals(-65, assertForwarded(filter.filter(scanRecord(-60))).getRssi());
+    }
+
+    @Test
+    public void testDisabledFilterForwardsEverything() {
+        ScanRecordFilter filter = new ScanRecordFilter(0, 1, 0, MAX_AGE, () -> now);
+
+        for (int i = 0; i < 3; i++) {
+            BluetoothScanNotification scanRecord = scanRecord(-60 - i, (byte) 1);
+            assertSame(scanRecord, filter.filter(scanRecord));
+        }
+    }
+}
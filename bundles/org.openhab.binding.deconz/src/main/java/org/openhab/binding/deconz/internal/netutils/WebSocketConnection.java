@@ -14,7 +14,6 @@ package org.openhab.binding.deconz.internal.netutils;
 
 import java.net.URI;
 import java.util.Map;
-import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -54,7 +53,7 @@ public class WebSocketConnection {
 
     private final WebSocketClient client;
     private final String socketName;
-    private final Gson gson;
+    private final WebSocketMessageDecoder decoder;
     private int watchdogInterval;
 
     private final WebSocketConnectionListener connectionListener;
@@ -70,7 +69,7 @@ public class WebSocketConnection {
         this.connectionListener = listener;
         this.client = client;
         this.client.setMaxIdleTimeout(0);
-        this.gson = gson;
+        this.decoder = new WebSocketMessageDecoder(gson);
         this.socketName = "Websocket$" + System.currentTimeMillis() + "-" + INSTANCE_COUNTER.incrementAndGet();
         this.watchdogInterval = watchdogInterval;
     }
@@ -168,40 +167,33 @@ public class WebSocketConnection {
         logger.trace("{} received raw data: {}", socketName, message);
 
         try {
-            DeconzBaseMessage changedMessage = Objects.requireNonNull(gson.fromJson(message, DeconzBaseMessage.class));
-            if (changedMessage.r == ResourceType.UNKNOWN) {
-                logger.trace("Received message has unknown resource type. Skipping message.");
+            // the message is only bound to its message type if a listener for the resource is registered
+            DeconzBaseMessage deconzMessage = decoder.decode(message, (resourceType, resourceId) -> {
+                if (listeners.containsKey(getListenerId(resourceType, resourceId))) {
+                    return true;
+                }
+                logger.trace(
+                        "Couldn't find listener for id {} with resource type {}. Either no thing for this id has been defined or this is a bug.",
+                        resourceId, resourceType);
+                return false;
+            });
+            if (deconzMessage == null) {
                 return;
             }
 
-            ResourceType resourceType = changedMessage.r;
-            String resourceId = changedMessage.id;
+            ResourceType resourceType = deconzMessage.r;
+            String resourceId = deconzMessage.id;
 
             if (resourceType == ResourceType.SCENES) {
                 // scene recalls
                 resourceType = ResourceType.GROUPS;
-                resourceId = changedMessage.gid;
+                resourceId = deconzMessage.gid;
             }
 
             WebSocketMessageListener listener = listeners.get(getListenerId(resourceType, resourceId));
-            if (listener == null) {
-                logger.trace(
-                        "Couldn't find listener for id {} with resource type {}. Either no thing for this id has been defined or this is a bug.",
-                        changedMessage.id, changedMessage.r);
-                return;
+            if (listener != null) {
+                listener.messageReceived(deconzMessage);
             }
-
-            // we still need the original resource type here
-            Class<? extends DeconzBaseMessage> expectedMessageType = changedMessage.r.getExpectedMessageType();
-            if (expectedMessageType == null) {
-                logger.warn(
-                        "BUG! Could not get expected message type for resource type {}. Please report this incident.",
-                        changedMessage.r);
-                return;
-            }
-
-            DeconzBaseMessage deconzMessage = Objects.requireNonNull(gson.fromJson(message, expectedMessageType));
-            listener.messageReceived(deconzMessage);
         } catch (RuntimeException e) {
             // we need to catch all processing exceptions, otherwise they could affect the connection
             logger.warn("{} encountered an error while processing the message {}: {}", socketName, message,
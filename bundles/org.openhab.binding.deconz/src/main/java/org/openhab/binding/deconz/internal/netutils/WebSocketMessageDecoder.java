@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz.internal.netutils;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.openhab.binding.deconz.internal.types.ResourceType;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * The {@link WebSocketMessageDecoder} decodes websocket messages in a single pass.
+ *
+ * The routing keys (resource type and id) are read directly from the stream. Messages for resources without a
+ * listener are discarded as soon as the routing keys are known. Only the remaining fields (like the
+ * {@code state} or {@code config} objects) are buffered and bound to the message type of the resource.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WebSocketMessageDecoder {
+    private final Gson gson;
+
+    public WebSocketMessageDecoder(Gson gson) {
+        this.gson = gson;
+    }
+
+    /**
+     * decode a websocket message
+     *
+     * @param message the message
+     * @param isExpected checks if a message for a resource type and id is expected, scene recalls are checked with
+     *            {@link ResourceType#GROUPS} and the group id
+     * @return the decoded message or {@code null} if the resource type is unknown or the message is not expected
+     * @throws JsonParseException if the message is not a valid JSON object
+     */
+    public @Nullable DeconzBaseMessage decode(String message, BiPredicate<ResourceType, String> isExpected)
+            throws JsonParseException {
+        try (JsonReader reader = new JsonReader(new StringReader(message))) {
+            return decode(reader, isExpected);
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            throw new JsonParseException(e);
+        }
+    }
+
+    private @Nullable DeconzBaseMessage decode(JsonReader reader, BiPredicate<ResourceType, String> isExpected)
+            throws IOException {
+        String e = "";
+        ResourceType r = ResourceType.UNKNOWN;
+        String t = "";
+        String id = "";
+        String gid = "";
+        String scid = "";
+        String uniqueid = "";
+        boolean hasResourceType = false;
+        boolean checked = false;
+        JsonObject payload = new JsonObject();
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "e" -> e = reader.nextString();
+                case "r" -> {
+                    r = ResourceType.fromString(reader.nextString());
+                    if (r == ResourceType.UNKNOWN) {
+                        return null;
+                    }
+                    hasResourceType = true;
+                }
+                case "t" -> t = reader.nextString();
+                case "id" -> id = reader.nextString();
+                case "gid" -> gid = reader.nextString();
+                case "scid" -> scid = reader.nextString();
+                case "uniqueid" -> uniqueid = reader.nextString();
+                default -> payload.add(name, JsonParser.parseReader(reader));
+            }
+            if (hasResourceType && !checked) {
+                String resourceId = r == ResourceType.SCENES ? gid : id;
+                if (!resourceId.isEmpty()) {
+                    if (!isExpected(r, resourceId, isExpected)) {
+                        // skip the remaining fields without buffering them
+                        return null;
+                    }
+                    checked = true;
+                }
+            }
+        }
+        reader.endObject();
+
+        if (!hasResourceType || (!checked && !isExpected(r, r == ResourceType.SCENES ? gid : id, isExpected))) {
+            return null;
+        }
+
+        Class<? extends DeconzBaseMessage> expectedMessageType = Objects.requireNonNull(r.getExpectedMessageType());
+        DeconzBaseMessage deconzMessage = Objects.requireNonNull(gson.fromJson(payload, expectedMessageType));
+        deconzMessage.e = e;
+        deconzMessage.r = r;
+        deconzMessage.t = t;
+        deconzMessage.id = id;
+        deconzMessage.gid = gid;
+        deconzMessage.scid = scid;
+        deconzMessage.uniqueid = uniqueid;
+        return deconzMessage;
+    }
+
+    private boolean isExpected(ResourceType resourceType, String resourceId,
+            BiPredicate<ResourceType, String> isExpected) {
+        // scene recalls are handled by the group
+        return isExpected.test(resourceType == ResourceType.SCENES ? ResourceType.GROUPS : resourceType, resourceId);
+    }
+}
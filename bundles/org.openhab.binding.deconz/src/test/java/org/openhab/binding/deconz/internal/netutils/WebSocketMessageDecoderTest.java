@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.deconz.internal.netutils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openhab.binding.deconz.internal.dto.DeconzBaseMessage;
+import org.openhab.binding.deconz.internal.dto.GroupMessage;
+import org.openhab.binding.deconz.internal.dto.LightMessage;
+import org.openhab.binding.deconz.internal.dto.SensorMessage;
+import org.openhab.binding.deconz.internal.types.GroupType;
+import org.openhab.binding.deconz.internal.types.GroupTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.LightType;
+import org.openhab.binding.deconz.internal.types.LightTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ResourceType;
+import org.openhab.binding.deconz.internal.types.ResourceTypeDeserializer;
+import org.openhab.binding.deconz.internal.types.ThermostatMode;
+import org.openhab.binding.deconz.internal.types.ThermostatModeGsonTypeAdapter;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+/**
+ * This class provides tests for the {@link WebSocketMessageDecoder}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class WebSocketMessageDecoderTest {
+    private static final String SENSOR_STATE = "{\"e\":\"changed\",\"id\":\"5\",\"r\":\"sensors\",\"state\":"
+            + "{\"lastupdated\":\"2023-01-07T10:12:34.567\",\"lowbattery\":false,\"temperature\":2163},"
+            + "\"t\":\"event\",\"uniqueid\":\"00:15:8d:00:02:3c:92:1b-01-0402\"}";
+    private static final String SENSOR_CONFIG = "{\"config\":{\"battery\":90,\"on\":true,\"reachable\":true,"
+            + "\"temperature\":2100},\"e\":\"changed\",\"id\":\"5\",\"r\":\"sensors\",\"t\":\"event\","
+            + "\"uniqueid\":\"00:15:8d:00:02:3c:92:1b-01-0402\"}";
+    private static final String SENSOR_ATTR = "{\"attr\":{\"id\":\"5\",\"lastseen\":\"2023-01-07T10:12Z\","
+            + "\"name\":\"Temperature\"},\"e\":\"changed\",\"id\":\"5\",\"r\":\"sensors\",\"t\":\"event\"}";
+    private static final String LIGHT_STATE = "{\"e\":\"changed\",\"id\":\"1\",\"r\":\"lights\",\"state\":"
+            + "{\"alert\":null,\"bri\":254,\"colormode\":\"ct\",\"ct\":366,\"on\":true,\"reachable\":true},"
+            + "\"t\":\"event\",\"uniqueid\":\"00:17:88:01:02:0a:37:4c-0b\"}";
+    private static final String GROUP_STATE = "{\"e\":\"changed\",\"id\":\"2\",\"r\":\"groups\",\"state\":"
+            + "{\"all_on\":false,\"any_on\":true},\"t\":\"event\"}";
+    private static final String SCENE_CALLED = "{\"e\":\"scene-called\",\"gid\":\"2\",\"r\":\"scenes\","
+            + "\"scid\":\"3\",\"t\":\"event\"}";
+
+    private @NonNullByDefault({}) Gson gson;
+    private @NonNullByDefault({}) WebSocketMessageDecoder decoder;
+
+    private final List<String> requestedIds = new ArrayList<>();
+
+    @BeforeEach
+    public void initialize() {
+        GsonBuilder gsonBuilder = new GsonBuilder();
+        gsonBuilder.registerTypeAdapter(LightType.class, new LightTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(GroupType.class, new GroupTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ResourceType.class, new ResourceTypeDeserializer());
+        gsonBuilder.registerTypeAdapter(ThermostatMode.class, new ThermostatModeGsonTypeAdapter());
+        gson = gsonBuilder.create();
+        decoder = new WebSocketMessageDecoder(gson);
+    }
+
+    private @Nullable DeconzBaseMessage decode(String message, boolean expected) {
+        return decoder.decode(message, (resourceType, resourceId) -> {
+            requestedIds.add(resourceType + "$" + resourceId);
+            return expected;
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { SENSOR_STATE, SENSOR_CONFIG, SENSOR_ATTR, LIGHT_STATE, GROUP_STATE, SCENE_CALLED })
+    public void testDecodedMessageEqualsFullDeserialization(String message) {
+        DeconzBaseMessage baseMessage = Objects.requireNonNull(gson.fromJson(message, DeconzBaseMessage.class));
+        Class<? extends DeconzBaseMessage> expectedMessageType = Objects
+                .requireNonNull(baseMessage.r.getExpectedMessageType());
+        DeconzBaseMessage expected = Objects.requireNonNull(gson.fromJson(message, expectedMessageType));
+
+        DeconzBaseMessage decoded = decode(message, true);
+
+        assertNotNull(decoded);
+        assertEquals(expectedMessageType, decoded.getClass());
+        assertEquals(gson.toJson(expected), gson.toJson(decoded));
+    }
+
+    @Test
+    public void testTypedMessages() {
+        SensorMessage sensorMessage = (SensorMessage) decode(SENSOR_CONFIG, true);
+        assertNotNull(sensorMessage);
+        assertEquals(90, Objects.requireNonNull(sensorMessage.config).battery);
+
+        LightMessage lightMessage = (LightMessage) decode(LIGHT_STATE, true);
+        assertNotNull(lightMessage);
+        assertEquals(366, Objects.requireNonNull(lightMessage.state).ct);
+
+        GroupMessage groupMessage = (GroupMessage) decode(GROUP_STATE, true);
+        assertNotNull(groupMessage);
+        assertTrue(Objects.requireNonNull(groupMessage.state).anyOn);
+    }
+
+    @Test
+    public void testRoutingKeys() {
+        assertNull(decode(SENSOR_STATE, false));
+        assertNull(decode(SENSOR_CONFIG, false));
+        assertNull(decode(SCENE_CALLED, false));
+        // the expected check is done once per message, scene recalls are routed to the group
+        assertEquals(List.of("SENSORS$5", "SENSORS$5", "GROUPS$2"), requestedIds);
+    }
+
+    @Test
+    public void testUnknownResourceType() {
+        assertNull(decode("{\"e\":\"changed\",\"id\":\"1\",\"r\":\"alarmsystems\",\"state\":{}}", true));
+        assertNull(decode("{\"e\":\"changed\",\"id\":\"1\"}", true));
+        assertTrue(requestedIds.isEmpty());
+    }
+
+    @Test
+    public void testInvalidMessage() {
+        assertThrows(JsonParseException.class, () -> decode("{\"e\":\"changed\",\"id\":", true));
+        assertThrows(JsonParseException.class, () -> decode("[]", true));
+    }
+}
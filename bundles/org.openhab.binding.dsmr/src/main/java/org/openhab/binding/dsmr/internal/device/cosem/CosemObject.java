@@ -13,11 +13,11 @@
 package org.openhab.binding.dsmr.internal.device.cosem;
 
 import java.text.ParseException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.core.types.State;
@@ -32,11 +32,6 @@ import org.slf4j.LoggerFactory;
 @NonNullByDefault
 public class CosemObject {
 
-    /**
-     * Regular expression for finding CosemValues
-     */
-    private static final Pattern COSEM_VALUES_PATTERN = Pattern.compile("(\\(([^\\(\\)]*)\\))");
-
     private final Logger logger = LoggerFactory.getLogger(CosemObject.class);
 
     /**
@@ -115,16 +110,16 @@ public class CosemObject {
     public void parseCosemValues(String cosemValueString) throws ParseException {
         logger.trace("Parsing CosemValue string {}", cosemValueString);
 
-        Matcher cosemValueMatcher = COSEM_VALUES_PATTERN.matcher(cosemValueString);
-        int nrOfCosemValues = countCosemValues(cosemValueMatcher);
+        final List<String> cosemStringValues = splitCosemValues(cosemValueString);
+        int nrOfCosemValues = cosemStringValues.size();
 
         if (type.supportsNrOfValues(nrOfCosemValues)) {
             logger.trace("Received items: {} is supported", nrOfCosemValues);
 
-            int cosemValueItr = 0;
-            while (cosemValueMatcher.find()) {
+            for (int cosemValueItr = 0; cosemValueItr < nrOfCosemValues; cosemValueItr++) {
                 final Entry<String, CosemValueDescriptor<?>> valueDescriptorEntry = type.getDescriptor(cosemValueItr);
-                final State cosemValue = valueDescriptorEntry.getValue().getStateValue(cosemValueMatcher.group(2));
+                final State cosemValue = valueDescriptorEntry.getValue()
+                        .getStateValue(cosemStringValues.get(cosemValueItr));
 
                 if (!cosemValues.containsKey(valueDescriptorEntry.getKey())) {
                     cosemValues.put(valueDescriptorEntry.getKey(), cosemValue);
@@ -132,21 +127,33 @@ public class CosemObject {
                     logger.warn("Value for descriptor {} already exists, dropping value {}", valueDescriptorEntry,
                             cosemValue);
                 }
-                cosemValueItr++;
             }
         } else {
             throw new ParseException(type + " does not support " + nrOfCosemValues + " items", 0);
         }
     }
 
-    private int countCosemValues(Matcher cosemValueMatcher) {
-        int nrOfCosemValues = 0;
-
-        while (cosemValueMatcher.find()) {
-            nrOfCosemValues++;
+    /**
+     * Splits the COSEM String values in the values between parentheses. Text outside the parentheses is ignored, if a
+     * value contains an opening parenthesis only the text after the last one is used.
+     *
+     * @param cosemValueString the List of COSEM String values
+     * @return the separate values
+     */
+    private static List<String> splitCosemValues(String cosemValueString) {
+        final List<String> values = new ArrayList<>();
+        int start = -1;
+
+        for (int i = 0; i < cosemValueString.length(); i++) {
+            final char c = cosemValueString.charAt(i);
+
+            if (c == '(') {
+                start = i + 1;
+            } else if (c == ')' && start >= 0) {
+                values.add(cosemValueString.substring(start, i));
+                start = -1;
+            }
         }
-        // We need the matcher again, reset to initial state
-        cosemValueMatcher.reset();
-        return nrOfCosemValues;
+        return values;
     }
 }
@@ -30,6 +30,11 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class CosemObjectFactory {
+    /**
+     * Maximum number of OBIS Identifier strings in the {@link #obisLookupCache}.
+     */
+    private static final int MAX_LOOKUP_CACHE_SIZE = 256;
+
     private final Logger logger = LoggerFactory.getLogger(CosemObjectFactory.class);
 
     /**
@@ -42,6 +47,22 @@ public class CosemObjectFactory {
      */
     private final Map<OBISIdentifier, List<CosemObjectType>> obisLookupTableMultipleFixed = new HashMap<>();
 
+    /**
+     * Lookup cache from the received OBIS Identifier strings to the parsed OBIS Identifier and the candidate
+     * {@link CosemObjectType}s. A meter sends the same identifiers in every telegram, so after the first telegram
+     * identifiers don't need to be parsed and looked up again.
+     */
+    private final Map<String, ObisLookup> obisLookupCache = new HashMap<>();
+
+    /**
+     * Result of the lookup of an OBIS Identifier string.
+     *
+     * @param obisId the parsed OBIS Identifier
+     * @param objectTypes the candidate types in the order they should be tried, empty if unknown
+     */
+    private record ObisLookup(OBISIdentifier obisId, List<CosemObjectType> objectTypes) {
+    }
+
     /**
      * Creates a new CosemObjectFactory
      */
@@ -79,46 +100,62 @@ public class CosemObjectFactory {
      * @return CosemObject or null if parsing failed
      */
     public @Nullable CosemObject getCosemObject(String obisIdString, String cosemStringValues) {
-        OBISIdentifier obisId;
-        OBISIdentifier reducedObisId;
-        OBISIdentifier reducedObisIdGroupE;
-
-        try {
-            obisId = new OBISIdentifier(obisIdString);
-            reducedObisId = obisId.getReducedOBISIdentifier();
-            reducedObisIdGroupE = obisId.getReducedOBISIdentifierGroupE();
-        } catch (final ParseException pe) {
-            logger.debug("Received invalid OBIS identifier: {}", obisIdString);
-            return null;
+        ObisLookup lookup = obisLookupCache.get(obisIdString);
+
+        if (lookup == null) {
+            try {
+                lookup = lookup(new OBISIdentifier(obisIdString));
+            } catch (final ParseException pe) {
+                logger.debug("Received invalid OBIS identifier: {}", obisIdString);
+                return null;
+            }
+            if (obisLookupCache.size() < MAX_LOOKUP_CACHE_SIZE) {
+                obisLookupCache.put(obisIdString, lookup);
+            }
         }
+        final OBISIdentifier obisId = lookup.obisId();
 
         logger.trace("Received obisIdString {}, obisId: {}, values: {}", obisIdString, obisId, cosemStringValues);
 
+        for (CosemObjectType cosemObjectType : lookup.objectTypes()) {
+            CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
+            if (cosemObject != null) {
+                return cosemObject;
+            }
+        }
+        if (lookup.objectTypes().isEmpty()) {
+            logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
+        }
+        return null;
+    }
+
+    /**
+     * Looks up the candidate {@link CosemObjectType}s of an OBIS Identifier.
+     *
+     * @param obisId the OBIS Identifier to look up
+     * @return the lookup result
+     */
+    private ObisLookup lookup(OBISIdentifier obisId) {
+        OBISIdentifier reducedObisId = obisId.getReducedOBISIdentifier();
+
         CosemObjectType objectType = obisLookupTableFixed.get(reducedObisId);
         if (objectType != null) {
             logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            return new ObisLookup(obisId, List.of(objectType));
         }
 
+        List<CosemObjectType> objectTypes = new ArrayList<>();
         List<CosemObjectType> objectTypeList = obisLookupTableMultipleFixed.get(reducedObisId);
         if (objectTypeList != null) {
-            for (CosemObjectType cosemObjectType : objectTypeList) {
-                CosemObject cosemObject = getCosemObjectInternal(cosemObjectType, obisId, cosemStringValues);
-                if (cosemObject != null) {
-                    logger.trace("Found obisId {} in the fixed lookup table", reducedObisId);
-                    return cosemObject;
-                }
-            }
+            logger.trace("Found obisId {} in the multiple fixed lookup table", reducedObisId);
+            objectTypes.addAll(objectTypeList);
         }
 
-        objectType = obisLookupTableFixed.get(reducedObisIdGroupE);
+        objectType = obisLookupTableFixed.get(obisId.getReducedOBISIdentifierGroupE());
         if (objectType != null) {
-            return getCosemObjectInternal(objectType, obisId, cosemStringValues);
+            objectTypes.add(objectType);
         }
-
-        logger.debug("Received unknown Cosem Object(OBIS id: {})", obisId);
-
-        return null;
+        return new ObisLookup(obisId, List.copyOf(objectTypes));
     }
 
     /**
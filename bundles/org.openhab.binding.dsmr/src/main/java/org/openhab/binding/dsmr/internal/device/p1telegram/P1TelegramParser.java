@@ -19,7 +19,6 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.regex.Pattern;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
@@ -61,9 +60,9 @@ public class P1TelegramParser implements TelegramParser {
     }
 
     /**
-     * Pattern for the CRC-code
+     * Number of hexadecimal characters of the CRC-code
      */
-    private static final String CRC_PATTERN = "[0-9A-Z]{4}";
+    private static final int CRC_LENGTH = 4;
 
     private final Logger logger = LoggerFactory.getLogger(P1TelegramParser.class);
 
@@ -87,7 +86,12 @@ public class P1TelegramParser implements TelegramParser {
     /**
      * Current crc value read.
      */
-    private final StringBuilder crcValue = new StringBuilder();
+    private int crcValue;
+
+    /**
+     * Number of crc characters read, -1 if an invalid character was read.
+     */
+    private int crcLength;
 
     /**
      * CRC calculation helper
@@ -253,10 +257,11 @@ public class P1TelegramParser implements TelegramParser {
                      * P1 telegram is correctly finished
                      */
                     if (c == '\r' || c == '/') {
-                        logger.trace("telegramState {}, crcValue to check 0x{}", telegramState, crcValue);
+                        logger.trace("telegramState {}, crcValue to check 0x{}", telegramState,
+                                Integer.toHexString(crcValue));
                         // Only perform CRC check if telegram is still ok
 
-                        if (telegramState.isEmpty() && crcValue.length() > 0) {
+                        if (telegramState.isEmpty() && crcLength != 0) {
                             telegramState = checkCRC();
                         }
                         processTelegram();
@@ -280,18 +285,17 @@ public class P1TelegramParser implements TelegramParser {
     private Optional<DSMRErrorStatus> checkCRC() {
         final Optional<DSMRErrorStatus> telegramState;
 
-        if (Pattern.matches(CRC_PATTERN, crcValue)) {
-            final int crcP1Telegram = Integer.parseInt(crcValue.toString(), 16);
+        if (crcLength == CRC_LENGTH) {
             final int calculatedCRC = crc.getCurrentCRCCode();
 
-            if (logger.isDebugEnabled()) {
-                logger.trace("received CRC value: {}, calculated CRC value: 0x{}", crcValue,
+            if (logger.isTraceEnabled()) {
+                logger.trace("received CRC value: {}, calculated CRC value: 0x{}", String.format("%04X", crcValue),
                         String.format("%04X", calculatedCRC));
             }
-            if (crcP1Telegram != calculatedCRC) {
+            if (crcValue != calculatedCRC) {
                 if (test) {
                     throw new IllegalArgumentException(
-                            String.format("Invalid CRC. Read: %s, expected: %04X", crcValue, calculatedCRC));
+                            String.format("Invalid CRC. Read: %04X, expected: %04X", crcValue, calculatedCRC));
                 }
                 logger.trace("CRC value does not match, p1 Telegram failed");
 
@@ -386,7 +390,7 @@ public class P1TelegramParser implements TelegramParser {
                 if (c == '!') {
                     crc.processByte((byte) c);
                 } else {
-                    crcValue.append(c);
+                    handleCRCCharacter(c);
                 }
                 // CRC data is not part of received data
                 break;
@@ -395,6 +399,30 @@ public class P1TelegramParser implements TelegramParser {
         }
     }
 
+    /**
+     * Adds a character of the CRC-code to the crc value read. The CRC-code consists of upper case hexadecimal
+     * characters.
+     *
+     * @param c the character to process
+     */
+    private void handleCRCCharacter(final char c) {
+        final int digit;
+
+        if (c >= '0' && c <= '9') {
+            digit = c - '0';
+        } else if (c >= 'A' && c <= 'F') {
+            digit = c - 'A' + 10;
+        } else {
+            digit = -1;
+        }
+        if (digit < 0 || crcLength < 0) {
+            crcLength = -1;
+        } else {
+            crcValue = (crcValue << 4) | digit;
+            crcLength++;
+        }
+    }
+
     /**
      * Clears all internal state
      */
@@ -402,7 +430,8 @@ public class P1TelegramParser implements TelegramParser {
         obisId.setLength(0);
         obisValue.setLength(0);
         rawData.setLength(0);
-        crcValue.setLength(0);
+        crcValue = 0;
+        crcLength = 0;
         crc.initialize();
         cosemObjects.clear();
         unknownCosemObjects.clear();
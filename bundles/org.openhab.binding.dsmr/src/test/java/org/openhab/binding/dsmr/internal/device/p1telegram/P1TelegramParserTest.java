@@ -12,15 +12,19 @@
  */
 package org.openhab.binding.dsmr.internal.device.p1telegram;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.openhab.binding.dsmr.internal.TelegramReaderUtil;
+import org.openhab.binding.dsmr.internal.TelegramReaderUtil.P1TelegramListenerImpl;
+import org.openhab.binding.dsmr.internal.device.connector.DSMRErrorStatus;
 
 /**
  * Test class for {@link P1TelegramParser}.
@@ -61,4 +65,19 @@ public class P1TelegramParserTest {
                 telegram.getCosemObjects().stream().mapToInt(co -> co.getCosemValues().size()).sum(),
                 "Expected number of objects");
     }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "0000", "ZZZZ", "12", "12345" })
+    public void testInvalidCRC(final String crc) {
+        final String telegram = new String(TelegramReaderUtil.readRawTelegram("dsmr_50"), StandardCharsets.UTF_8);
+        final byte[] invalidTelegram = (telegram.substring(0, telegram.indexOf('!') + 1) + crc + "\r\n")
+                .getBytes(StandardCharsets.UTF_8);
+        final P1TelegramListenerImpl listener = new P1TelegramListenerImpl();
+        final P1TelegramParser parser = new P1TelegramParser(listener);
+
+        parser.parse(invalidTelegram, invalidTelegram.length);
+
+        assertNull(listener.telegram, "Telegram with invalid CRC should not be received");
+        assertEquals(DSMRErrorStatus.TELEGRAM_CRC_ERROR, listener.state);
+    }
 }
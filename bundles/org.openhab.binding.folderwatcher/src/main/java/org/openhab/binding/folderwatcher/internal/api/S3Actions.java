@@ -29,6 +29,7 @@ import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
@@ -72,8 +73,23 @@ public class S3Actions {
     }
 
     public List<String> listBucket(String prefix) throws Exception {
+        return listBucket(prefix, null);
+    }
+
+    /**
+     * List the keys of the bucket in lexicographical order.
+     *
+     * @param prefix only keys starting with this prefix are listed
+     * @param startAfter only keys after this key are listed, {@code null} to list all keys
+     * @return the listed keys
+     * @throws Exception if the bucket can't be listed
+     */
+    public List<String> listBucket(String prefix, @Nullable String startAfter) throws Exception {
         Map<String, String> headers = new HashMap<String, String>();
         Map<String, String> params = new HashMap<String, String>();
+        if (startAfter != null) {
+            params.put("start-after", startAfter);
+        }
         return listObjectsV2(prefix, headers, params);
     }
 
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.folderwatcher.internal.common;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ListingIndex} class keeps the files, which were already reported, in a hash set.
+ *
+ * The index is stored in a file, which starts with the watched directory followed by one file per line. New files
+ * are appended, files which disappeared from the listing are only dropped when the index file is compacted, i.e.
+ * rewritten once it contains more stale than live entries. Failures writing the file are logged only, the index in
+ * memory stays valid.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ListingIndex {
+    private static final int MIN_STALE_ENTRIES = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(ListingIndex.class);
+    private final File file;
+    private Set<String> files = new HashSet<>();
+    private String watchDir = "";
+    private int storedEntries;
+
+    public ListingIndex(File file) {
+        this.file = file;
+    }
+
+    /**
+     * Load the index from its file. The index is reset if the file doesn't exist or belongs to another directory.
+     *
+     * @param watchDir the watched directory
+     * @throws IOException if the index file can't be read or written
+     */
+    public synchronized void load(String watchDir) throws IOException {
+        this.watchDir = watchDir;
+        files = new HashSet<>();
+        storedEntries = 0;
+        if (file.exists()) {
+            try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+                String line = reader.readLine();
+                if (watchDir.equals(line)) {
+                    while ((line = reader.readLine()) != null) {
+                        if (!line.isEmpty()) {
+                            files.add(line);
+                            storedEntries++;
+                        }
+                    }
+                    return;
+                }
+            }
+        } else {
+            Files.createDirectories(file.toPath().getParent());
+        }
+        write(file.toPath());
+    }
+
+    /**
+     * Add the files of a partial listing.
+     *
+     * @param listing the listed files
+     * @return the files which were not in the index yet, in listing order
+     */
+    public synchronized List<String> add(Collection<String> listing) {
+        List<String> newFiles = new ArrayList<>();
+        for (String listedFile : listing) {
+            if (files.add(listedFile)) {
+                newFiles.add(listedFile);
+            }
+        }
+        append(newFiles);
+        return newFiles;
+    }
+
+    /**
+     * Replace the index with a complete listing, files which are not listed anymore are removed.
+     *
+     * @param listing the listed files
+     * @return the files which were not in the index yet, in listing order
+     */
+    public synchronized List<String> update(Collection<String> listing) {
+        Set<String> currentFiles = new HashSet<>();
+        List<String> newFiles = new ArrayList<>();
+        for (String listedFile : listing) {
+            if (currentFiles.add(listedFile) && !files.contains(listedFile)) {
+                newFiles.add(listedFile);
+            }
+        }
+        files = currentFiles;
+        append(newFiles);
+        if (storedEntries - files.size() > Math.max(files.size(), MIN_STALE_ENTRIES)) {
+            compact();
+        }
+        return newFiles;
+    }
+
+    private void append(List<String> newFiles) {
+        if (newFiles.isEmpty()) {
+            return;
+        }
+        try (BufferedWriter fileWriter = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (String newFile : newFiles) {
+                fileWriter.write(newFile);
+                fileWriter.newLine();
+            }
+            storedEntries += newFiles.size();
+        } catch (IOException e) {
+            logger.debug("Can't save new listing into file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void compact() {
+        Path path = file.toPath();
+        Path tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            write(tempPath);
+            Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Can't compact listing file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void write(Path path) throws IOException {
+        try (BufferedWriter fileWriter = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            fileWriter.write(watchDir);
+            fileWriter.newLine();
+            for (String indexedFile : files) {
+                fileWriter.write(indexedFile);
+                fileWriter.newLine();
+            }
+        }
+        storedEntries = files.size();
+    }
+}
@@ -12,14 +12,11 @@
  */
 package org.openhab.binding.folderwatcher.internal.common;
 
-import java.io.BufferedWriter;
 import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.OpenHAB;
+import org.openhab.core.thing.ThingUID;
 
 /**
  * The {@link WatcherCommon} class contains commonly used methods.
@@ -29,36 +26,14 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class WatcherCommon {
 
-    private static void initFile(File file, String watchDir) throws IOException {
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(file))) {
-            fileWriter.write(watchDir);
-            fileWriter.newLine();
-        }
-    }
-
-    public static List<String> initStorage(File file, String watchDir) throws IOException {
-        List<String> returnList = List.of();
-        List<String> currentFileListing = List.of();
-        if (!file.exists()) {
-            Files.createDirectories(file.toPath().getParent());
-            initFile(file, watchDir);
-        } else {
-            currentFileListing = Files.readAllLines(file.toPath().toAbsolutePath());
-            if (currentFileListing.get(0).equals(watchDir)) {
-                returnList = currentFileListing;
-            } else {
-                initFile(file, watchDir);
-            }
-        }
-        return returnList;
-    }
-
-    public static void saveNewListing(List<String> newList, File listingFile) throws IOException {
-        try (BufferedWriter fileWriter = new BufferedWriter(new FileWriter(listingFile, true))) {
-            for (String newFile : newList) {
-                fileWriter.write(newFile);
-                fileWriter.newLine();
-            }
-        }
+    /**
+     * Get the file, which stores the listing index of a thing.
+     *
+     * @param thingUID the UID of the thing
+     * @return the index file
+     */
+    public static File getListingFile(ThingUID thingUID) {
+        return new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher" + File.separator
+                + thingUID.getAsString().replace(':', '_') + ".data");
     }
 }
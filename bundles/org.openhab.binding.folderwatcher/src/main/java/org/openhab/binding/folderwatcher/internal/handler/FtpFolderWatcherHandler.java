@@ -14,11 +14,11 @@ package org.openhab.binding.folderwatcher.internal.handler;
 
 import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingConstants.CHANNEL_NEWFILE;
 
-import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Calendar;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -29,9 +29,9 @@ import org.apache.commons.net.ftp.FTPReply;
 import org.apache.commons.net.ftp.FTPSClient;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.folderwatcher.internal.common.ListingIndex;
 import org.openhab.binding.folderwatcher.internal.common.WatcherCommon;
 import org.openhab.binding.folderwatcher.internal.config.FtpFolderWatcherConfiguration;
-import org.openhab.core.OpenHAB;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
@@ -52,10 +52,10 @@ import org.slf4j.LoggerFactory;
 public class FtpFolderWatcherHandler extends BaseThingHandler {
     private final Logger logger = LoggerFactory.getLogger(FtpFolderWatcherHandler.class);
     private FtpFolderWatcherConfiguration config = new FtpFolderWatcherConfiguration();
-    private @Nullable File currentFtpListingFile;
+    private final ListingIndex index = new ListingIndex(WatcherCommon.getListingFile(thing.getUID()));
     private @Nullable ScheduledFuture<?> executionJob, initJob;
     private FTPClient ftp = new FTPClient();
-    private List<String> previousFtpListing = new ArrayList<>();
+    private boolean useMlsd;
 
     public FtpFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -71,7 +71,6 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
 
     @Override
     public void initialize() {
-        File currentFtpListingFile;
         config = getConfigAs(FtpFolderWatcherConfiguration.class);
         updateStatus(ThingStatus.UNKNOWN);
         if (config.connectionTimeout <= 0) {
@@ -88,14 +87,12 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                     "Polling interval can't be null or negative");
         }
 
-        currentFtpListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher" + File.separator
-                + thing.getUID().getAsString().replace(':', '_') + ".data");
         try {
-            this.currentFtpListingFile = currentFtpListingFile;
-            previousFtpListing = WatcherCommon.initStorage(currentFtpListingFile, config.ftpAddress + config.ftpDir);
+            index.load(config.ftpAddress + config.ftpDir);
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-            logger.debug("Can't write file {}, error message {}", currentFtpListingFile, e.getMessage());
+            logger.debug("Can't write file {}, error message {}", WatcherCommon.getListingFile(thing.getUID()),
+                    e.getMessage());
             return;
         }
         this.initJob = scheduler.scheduleWithFixedDelay(this::connectionKeepAlive, 0, config.pollInterval,
@@ -127,11 +124,17 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
     private void listDirectory(FTPClient ftpClient, String dirPath, boolean recursive, List<String> dirFiles)
             throws IOException {
         Instant dateNow = Instant.now();
-        for (FTPFile file : ftpClient.listFiles(dirPath)) {
+        // MLSD returns exact UTC modification times, LIST only provides the date for older files
+        FTPFile[] files = useMlsd ? ftpClient.mlistDir(dirPath) : ftpClient.listFiles(dirPath);
+        for (FTPFile file : files) {
             String currentFileName = file.getName();
             if (".".equals(currentFileName) || "..".equals(currentFileName)) {
                 continue;
             }
+            if (useMlsd && !config.listHidden && currentFileName.startsWith(".")) {
+                // the hidden files option only applies to LIST
+                continue;
+            }
             String filePath = dirPath + "/" + currentFileName;
             if (file.isDirectory()) {
                 if (recursive) {
@@ -142,7 +145,11 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                     }
                 }
             } else {
-                long diff = ChronoUnit.HOURS.between(file.getTimestamp().toInstant(), dateNow);
+                Calendar timestamp = file.getTimestamp();
+                if (timestamp == null) {
+                    continue;
+                }
+                long diff = ChronoUnit.HOURS.between(timestamp.toInstant(), dateNow);
                 if (diff < config.diffHours) {
                     dirFiles.add("ftp:/" + ftpClient.getRemoteAddress() + filePath);
                 }
@@ -195,6 +202,8 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                     ftp.logout();
                     return;
                 }
+                useMlsd = ftp.hasFeature("MLST");
+                logger.debug("FTP server {} MLSD listing", useMlsd ? "supports" : "doesn't support");
                 updateStatus(ThingStatus.ONLINE);
                 ScheduledFuture<?> executionJob = this.executionJob;
                 if (executionJob != null) {
@@ -210,7 +219,6 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
 
     private void refreshFTPFolderInformation() {
         String ftpRootDir = config.ftpDir;
-        final File currentFtpListingFile = this.currentFtpListingFile;
         if (ftp.isConnected()) {
             ftp.enterLocalPassiveMode();
             try {
@@ -222,17 +230,7 @@ public class FtpFolderWatcherHandler extends BaseThingHandler {
                 }
                 List<String> currentFtpListing = new ArrayList<>();
                 listDirectory(ftp, ftpRootDir, config.listRecursiveFtp, currentFtpListing);
-                List<String> diffFtpListing = new ArrayList<>(currentFtpListing);
-                diffFtpListing.removeAll(previousFtpListing);
-                diffFtpListing.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
-                if (!diffFtpListing.isEmpty() && currentFtpListingFile != null) {
-                    try {
-                        WatcherCommon.saveNewListing(diffFtpListing, currentFtpListingFile);
-                    } catch (IOException e2) {
-                        logger.debug("Can't save new listing into file: {}", e2.getMessage());
-                    }
-                }
-                previousFtpListing = new ArrayList<>(currentFtpListing);
+                index.update(currentFtpListing).forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
             } catch (IOException e) {
                 updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
                         "FTP connection lost. " + e.getMessage());
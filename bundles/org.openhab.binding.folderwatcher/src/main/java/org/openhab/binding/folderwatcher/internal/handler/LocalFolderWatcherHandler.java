@@ -12,26 +12,32 @@
  */
 package org.openhab.binding.folderwatcher.internal.handler;
 
+import static java.nio.file.StandardWatchEventKinds.*;
 import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingConstants.CHANNEL_NEWFILE;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.FileVisitor;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.folderwatcher.internal.common.ListingIndex;
 import org.openhab.binding.folderwatcher.internal.common.WatcherCommon;
 import org.openhab.binding.folderwatcher.internal.config.LocalFolderWatcherConfiguration;
-import org.openhab.core.OpenHAB;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
@@ -52,10 +58,11 @@ import org.slf4j.LoggerFactory;
 public class LocalFolderWatcherHandler extends BaseThingHandler {
     private final Logger logger = LoggerFactory.getLogger(LocalFolderWatcherHandler.class);
     private LocalFolderWatcherConfiguration config = new LocalFolderWatcherConfiguration();
-    private File currentLocalListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
-            + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
+    private final ListingIndex index = new ListingIndex(WatcherCommon.getListingFile(thing.getUID()));
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousLocalListing = new ArrayList<>();
+    private @Nullable WatchService watchService;
+    private @Nullable Thread watchThread;
+    private final Set<Path> watchedDirectories = ConcurrentHashMap.newKeySet();
 
     public LocalFolderWatcherHandler(Thing thing) {
         super(thing);
@@ -74,27 +81,38 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
         config = getConfigAs(LocalFolderWatcherConfiguration.class);
         updateStatus(ThingStatus.UNKNOWN);
 
-        if (!Files.isDirectory(Paths.get(config.localDir))) {
+        Path rootDir = Paths.get(config.localDir);
+        if (!Files.isDirectory(rootDir)) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, "Local directory is not valid");
             return;
         }
         try {
-            previousLocalListing = WatcherCommon.initStorage(currentLocalListingFile, config.localDir);
+            index.load(config.localDir);
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-            logger.debug("Can't write file {}: {}", currentLocalListingFile, e.getMessage());
+            logger.debug("Can't write file {}: {}", WatcherCommon.getListingFile(thing.getUID()), e.getMessage());
             return;
         }
 
-        if (config.pollIntervalLocal > 0) {
-            updateStatus(ThingStatus.ONLINE);
-            executionJob = scheduler.scheduleWithFixedDelay(this::refreshFolderInformation, config.pollIntervalLocal,
-                    config.pollIntervalLocal, TimeUnit.SECONDS);
-        } else {
+        if (config.pollIntervalLocal <= 0) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR,
                     "Polling interval can't be null or negative");
             return;
         }
+
+        long initialDelay = config.pollIntervalLocal;
+        if (config.watchLocal) {
+            try {
+                startWatching(rootDir);
+                // register the watched directories right away
+                initialDelay = 0;
+            } catch (IOException e) {
+                logger.warn("Can't watch directory {}, falling back to polling: {}", rootDir, e.getMessage());
+            }
+        }
+        updateStatus(ThingStatus.ONLINE);
+        executionJob = scheduler.scheduleWithFixedDelay(this::refreshFolderInformation, initialDelay,
+                config.pollIntervalLocal, TimeUnit.SECONDS);
     }
 
     @Override
@@ -104,60 +122,147 @@ public class LocalFolderWatcherHandler extends BaseThingHandler {
             executionJob.cancel(true);
             this.executionJob = null;
         }
+        stopWatching();
+    }
+
+    private void startWatching(Path rootDir) throws IOException {
+        WatchService watchService = rootDir.getFileSystem().newWatchService();
+        this.watchService = watchService;
+        Thread watchThread = new Thread(() -> watch(watchService), "OH-binding-" + thing.getUID());
+        watchThread.setDaemon(true);
+        watchThread.start();
+        this.watchThread = watchThread;
+    }
+
+    private void stopWatching() {
+        Thread watchThread = this.watchThread;
+        if (watchThread != null) {
+            watchThread.interrupt();
+            this.watchThread = null;
+        }
+        WatchService watchService = this.watchService;
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                logger.debug("Error closing watch service: {}", e.getMessage());
+            }
+            this.watchService = null;
+        }
+        watchedDirectories.clear();
     }
 
-    private void refreshFolderInformation() {
-        final String rootDir = config.localDir;
+    private void watch(WatchService watchService) {
         try {
-            List<String> currentLocalListing = new ArrayList<>();
-
-            Files.walkFileTree(Paths.get(rootDir), new FileVisitor<@Nullable Path>() {
-                @Override
-                public FileVisitResult preVisitDirectory(@Nullable Path dir, @Nullable BasicFileAttributes attrs)
-                        throws IOException {
-                    if (dir != null) {
-                        if (!dir.equals(Paths.get(rootDir)) && !config.listRecursiveLocal) {
-                            return FileVisitResult.SKIP_SUBTREE;
-                        }
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                Path dir = (Path) key.watchable();
+                boolean overflow = false;
+                List<Path> createdPaths = new ArrayList<>();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.kind() == OVERFLOW) {
+                        overflow = true;
+                    } else if (event.context() instanceof Path name) {
+                        createdPaths.add(dir.resolve(name));
                     }
-                    return FileVisitResult.CONTINUE;
                 }
+                if (!key.reset()) {
+                    watchedDirectories.remove(dir);
+                }
+                if (overflow) {
+                    // events were lost, fall back to a complete listing
+                    refreshFolderInformation();
+                } else {
+                    processCreatedPaths(createdPaths);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // handler disposed
+        }
+    }
 
-                @Override
-                public FileVisitResult visitFile(@Nullable Path file, @Nullable BasicFileAttributes attrs)
-                        throws IOException {
-                    if (file != null) {
-                        if (Files.isHidden(file) && !config.listHiddenLocal) {
-                            return FileVisitResult.CONTINUE;
-                        }
-                        currentLocalListing.add(file.toAbsolutePath().toString());
+    private void register(Path dir) {
+        WatchService watchService = this.watchService;
+        if (watchService != null && watchedDirectories.add(dir)) {
+            try {
+                dir.register(watchService, ENTRY_CREATE);
+            } catch (IOException | ClosedWatchServiceException e) {
+                watchedDirectories.remove(dir);
+                logger.debug("Can't watch directory {}: {}", dir, e.getMessage());
+            }
+        }
+    }
+
+    private synchronized void processCreatedPaths(List<Path> createdPaths) {
+        try {
+            List<String> createdFiles = new ArrayList<>();
+            for (Path path : createdPaths) {
+                if (Files.isDirectory(path)) {
+                    if (config.listRecursiveLocal) {
+                        // files may have been created before the directory was registered
+                        createdFiles.addAll(listFiles(path));
                     }
-                    return FileVisitResult.CONTINUE;
+                } else if (config.listHiddenLocal || !Files.isHidden(path)) {
+                    createdFiles.add(path.toAbsolutePath().toString());
                 }
+            }
+            index.add(createdFiles).forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
+        } catch (IOException e) {
+            logger.debug("File manipulation error: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void refreshFolderInformation() {
+        try {
+            index.update(listFiles(Paths.get(config.localDir))).forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
+        } catch (IOException e) {
+            logger.debug("File manipulation error: {}", e.getMessage());
+        }
+    }
+
+    private List<String> listFiles(Path startDir) throws IOException {
+        final Path rootDir = Paths.get(config.localDir);
+        List<String> currentLocalListing = new ArrayList<>();
 
-                @Override
-                public FileVisitResult visitFileFailed(@Nullable Path file, @Nullable IOException exc)
-                        throws IOException {
-                    return FileVisitResult.CONTINUE;
+        Files.walkFileTree(startDir, new FileVisitor<@Nullable Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(@Nullable Path dir, @Nullable BasicFileAttributes attrs)
+                    throws IOException {
+                if (dir != null) {
+                    if (!dir.equals(rootDir) && !config.listRecursiveLocal) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    register(dir);
                 }
+                return FileVisitResult.CONTINUE;
+            }
 
-                @Override
-                public FileVisitResult postVisitDirectory(@Nullable Path dir, @Nullable IOException exc)
-                        throws IOException {
-                    return FileVisitResult.CONTINUE;
+            @Override
+            public FileVisitResult visitFile(@Nullable Path file, @Nullable BasicFileAttributes attrs)
+                    throws IOException {
+                if (file != null) {
+                    if (Files.isHidden(file) && !config.listHiddenLocal) {
+                        return FileVisitResult.CONTINUE;
+                    }
+                    currentLocalListing.add(file.toAbsolutePath().toString());
                 }
-            });
+                return FileVisitResult.CONTINUE;
+            }
 
-            List<String> diffLocalListing = new ArrayList<>(currentLocalListing);
-            diffLocalListing.removeAll(previousLocalListing);
-            diffLocalListing.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
+            @Override
+            public FileVisitResult visitFileFailed(@Nullable Path file, @Nullable IOException exc)
+                    throws IOException {
+                return FileVisitResult.CONTINUE;
+            }
 
-            if (!diffLocalListing.isEmpty()) {
-                WatcherCommon.saveNewListing(diffLocalListing, currentLocalListingFile);
+            @Override
+            public FileVisitResult postVisitDirectory(@Nullable Path dir, @Nullable IOException exc)
+                    throws IOException {
+                return FileVisitResult.CONTINUE;
             }
-            previousLocalListing = new ArrayList<>(currentLocalListing);
-        } catch (IOException e) {
-            logger.debug("File manipulation error: {}", e.getMessage());
-        }
+        });
+        return currentLocalListing;
     }
 }
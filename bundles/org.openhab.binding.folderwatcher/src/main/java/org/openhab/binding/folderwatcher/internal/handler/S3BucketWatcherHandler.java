@@ -14,9 +14,7 @@ package org.openhab.binding.folderwatcher.internal.handler;
 
 import static org.openhab.binding.folderwatcher.internal.FolderWatcherBindingConstants.CHANNEL_NEWFILE;
 
-import java.io.File;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
@@ -24,9 +22,9 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.folderwatcher.internal.api.S3Actions;
+import org.openhab.binding.folderwatcher.internal.common.ListingIndex;
 import org.openhab.binding.folderwatcher.internal.common.WatcherCommon;
 import org.openhab.binding.folderwatcher.internal.config.S3BucketWatcherConfiguration;
-import org.openhab.core.OpenHAB;
 import org.openhab.core.io.net.http.HttpClientFactory;
 import org.openhab.core.thing.ChannelUID;
 import org.openhab.core.thing.Thing;
@@ -46,12 +44,18 @@ import org.slf4j.LoggerFactory;
  */
 @NonNullByDefault
 public class S3BucketWatcherHandler extends BaseThingHandler {
+    /**
+     * Number of polls, after which the complete bucket is listed again. In between only keys after the last known key
+     * are listed, keys sorting before it are found with the next complete listing.
+     */
+    private static final int FULL_LISTING_INTERVAL = 10;
+
     private final Logger logger = LoggerFactory.getLogger(S3BucketWatcherHandler.class);
     private S3BucketWatcherConfiguration config = new S3BucketWatcherConfiguration();
-    private File currentS3ListingFile = new File(OpenHAB.getUserDataFolder() + File.separator + "FolderWatcher"
-            + File.separator + thing.getUID().getAsString().replace(':', '_') + ".data");
+    private final ListingIndex index = new ListingIndex(WatcherCommon.getListingFile(thing.getUID()));
     private @Nullable ScheduledFuture<?> executionJob;
-    private List<String> previousS3Listing = new ArrayList<>();
+    private @Nullable String lastKey;
+    private int pollCount;
     private HttpClientFactory httpClientFactory;
     private @Nullable S3Actions s3;
 
@@ -79,11 +83,13 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
                     config.awsSecret);
         }
 
+        lastKey = null;
+        pollCount = 0;
         try {
-            previousS3Listing = WatcherCommon.initStorage(currentS3ListingFile, config.s3BucketName);
+            index.load(config.s3BucketName);
         } catch (IOException e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR, e.getMessage());
-            logger.debug("Can't write file {}: {}", currentS3ListingFile, e.getMessage());
+            logger.debug("Can't write file {}: {}", WatcherCommon.getListingFile(thing.getUID()), e.getMessage());
             return;
         }
 
@@ -99,19 +105,23 @@ public class S3BucketWatcherHandler extends BaseThingHandler {
         }
     }
 
-    private boolean refreshS3BucketInformation() {
-        List<String> currentS3Listing = new ArrayList<>();
+    private synchronized boolean refreshS3BucketInformation() {
+        S3Actions s3 = this.s3;
+        if (s3 == null) {
+            return false;
+        }
         try {
-            currentS3Listing = s3.listBucket(config.s3Path);
+            String startAfter = pollCount++ % FULL_LISTING_INTERVAL == 0 ? null : lastKey;
+            List<String> currentS3Listing = s3.listBucket(config.s3Path, startAfter);
             updateStatus(ThingStatus.ONLINE);
-            List<String> difS3Listing = new ArrayList<>(currentS3Listing);
-            difS3Listing.removeAll(previousS3Listing);
+            List<String> difS3Listing = startAfter == null ? index.update(currentS3Listing)
+                    : index.add(currentS3Listing);
             difS3Listing.forEach(file -> triggerChannel(CHANNEL_NEWFILE, file));
-
-            if (!difS3Listing.isEmpty()) {
-                WatcherCommon.saveNewListing(difS3Listing, currentS3ListingFile);
+            if (!currentS3Listing.isEmpty()) {
+                lastKey = currentS3Listing.get(currentS3Listing.size() - 1);
+            } else if (startAfter == null) {
+                lastKey = null;
             }
-            previousS3Listing = new ArrayList<>(currentS3Listing);
         } catch (Exception e) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR, "Can't connect to the bucket");
             logger.debug("Can't connect to the bucket: {}", e.getMessage());
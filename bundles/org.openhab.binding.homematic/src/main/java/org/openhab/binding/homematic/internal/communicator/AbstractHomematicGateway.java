@@ -16,6 +16,7 @@ import static org.openhab.binding.homematic.internal.HomematicBindingConstants.*
 import static org.openhab.binding.homematic.internal.misc.HomematicConstants.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -33,6 +34,7 @@ import java.util.concurrent.TimeUnit;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.homematic.internal.common.HomematicConfig;
 import org.openhab.binding.homematic.internal.communicator.client.BinRpcClient;
+import org.openhab.binding.homematic.internal.communicator.client.ParamsetDescriptionCache;
 import org.openhab.binding.homematic.internal.communicator.client.RpcClient;
 import org.openhab.binding.homematic.internal.communicator.client.TransferMode;
 import org.openhab.binding.homematic.internal.communicator.client.UnknownParameterSetException;
@@ -76,6 +78,7 @@ import org.openhab.binding.homematic.internal.model.HmInterface;
 import org.openhab.binding.homematic.internal.model.HmParamsetType;
 import org.openhab.binding.homematic.internal.model.HmRssiInfo;
 import org.openhab.binding.homematic.internal.model.HmValueType;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.common.ThreadPoolManager;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -111,6 +114,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     private boolean newDeviceEventsEnabled;
     private ScheduledFuture<?> enableNewDeviceFuture;
     private final ScheduledExecutorService scheduler = ThreadPoolManager.getScheduledPool(GATEWAY_POOL_NAME);
+    private final ParamsetDescriptionCache paramsetDescriptionCache;
 
     static {
         // loads all virtual datapoints
@@ -139,6 +143,8 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         this.config = config;
         this.gatewayAdapter = gatewayAdapter;
         this.httpClient = httpClient;
+        this.paramsetDescriptionCache = new ParamsetDescriptionCache(
+                Path.of(OpenHAB.getUserDataFolder(), "homematic", id + ".paramsets"));
     }
 
     @Override
@@ -188,6 +194,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
             sb.setLength(sb.length() - 2);
         }
         logger.debug("Used Homematic transfer modes: {}", sb.toString());
+        paramsetDescriptionCache.load();
         startClients();
         startServers();
         registerCallbacks();
@@ -227,8 +234,10 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
     protected synchronized void startClients() throws IOException {
         for (TransferMode mode : availableInterfaces.values()) {
             if (!rpcClients.containsKey(mode)) {
-                rpcClients.put(mode,
-                        mode == TransferMode.XML_RPC ? new XmlRpcClient(config, httpClient) : new BinRpcClient(config));
+                RpcClient<?> rpcClient = mode == TransferMode.XML_RPC ? new XmlRpcClient(config, httpClient)
+                        : new BinRpcClient(config);
+                rpcClient.setParamsetDescriptionCache(paramsetDescriptionCache);
+                rpcClients.put(mode, rpcClient);
             }
         }
     }
@@ -427,7 +436,9 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
         }
         if (!cancelLoadAllMetadata) {
             devices.keySet().retainAll(loadedDevices);
+            paramsetDescriptionCache.removeUnused();
         }
+        paramsetDescriptionCache.save();
         initialized = true;
     }
 
@@ -771,6 +782,7 @@ public abstract class AbstractHomematicGateway implements RpcEventListener, Home
                             gatewayAdapter.onNewDevice(device);
                         }
                     }
+                    paramsetDescriptionCache.save();
                 } catch (Exception ex) {
                     logger.error("{}", ex.getMessage(), ex);
                 }
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openhab.binding.homematic.internal.model.HmChannel;
+import org.openhab.binding.homematic.internal.model.HmDevice;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persistent cache for paramset descriptions. The descriptions are cached by device type, firmware, channel number
+ * and paramset type, so devices of the same model share one description and unchanged devices are not loaded from
+ * the gateway again after a restart.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParamsetDescriptionCache {
+    private final Logger logger = LoggerFactory.getLogger(ParamsetDescriptionCache.class);
+
+    // the cache only contains RPC values (strings, numbers, booleans, dates, arrays and structs)
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config
+            .createFilter("java.lang.*;java.util.*;java.math.*;!*");
+
+    private final Path file;
+    private final Map<String, Object[]> descriptions = new ConcurrentHashMap<>();
+    private final Set<String> usedKeys = ConcurrentHashMap.newKeySet();
+    private volatile boolean modified;
+
+    public ParamsetDescriptionCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Returns the cache key for the paramset description of the given channel.
+     */
+    public static String getKey(HmChannel channel, HmParamsetType paramsetType) {
+        HmDevice device = channel.getDevice();
+        return String.format("%s:%s:%s:%s:%s", device.getHmInterface(), device.getType(), device.getFirmware(),
+                channel.getNumber(), paramsetType);
+    }
+
+    /**
+     * Returns the cached paramset description or null, if the description is not cached.
+     */
+    public Object[] get(String key) {
+        Object[] description = descriptions.get(key);
+        if (description != null) {
+            usedKeys.add(key);
+        }
+        return description;
+    }
+
+    /**
+     * Adds the paramset description to the cache.
+     */
+    public void put(String key, Object[] description) {
+        descriptions.put(key, description);
+        usedKeys.add(key);
+        modified = true;
+    }
+
+    /**
+     * Removes all descriptions which have not been used since the cache was loaded, e.g. of removed devices or
+     * outdated firmware versions.
+     */
+    public void removeUnused() {
+        if (descriptions.keySet().retainAll(usedKeys)) {
+            modified = true;
+        }
+    }
+
+    /**
+     * Loads the cache from disk.
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized void load() {
+        descriptions.clear();
+        usedKeys.clear();
+        modified = false;
+        try (InputStream is = Files.newInputStream(file); ObjectInputStream ois = new ObjectInputStream(is)) {
+            ois.setObjectInputFilter(FILTER);
+            descriptions.putAll((Map<String, Object[]>) ois.readObject());
+            logger.debug("Loaded {} paramset descriptions from '{}'", descriptions.size(), file);
+        } catch (NoSuchFileException e) {
+            logger.debug("No paramset description cache found at '{}'", file);
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            logger.warn("Unable to load paramset description cache from '{}', ignoring it: {}", file, e.getMessage());
+            descriptions.clear();
+        }
+    }
+
+    /**
+     * Saves the cache to disk, if it has been modified.
+     */
+    public synchronized void save() {
+        if (!modified) {
+            return;
+        }
+        modified = false;
+        Path tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(file.getParent());
+            try (OutputStream os = Files.newOutputStream(tempFile);
+                    ObjectOutputStream oos = new ObjectOutputStream(os)) {
+                oos.writeObject(new HashMap<>(descriptions));
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug("Saved {} paramset descriptions to '{}'", descriptions.size(), file);
+        } catch (IOException e) {
+            logger.warn("Unable to save paramset description cache to '{}': {}", file, e.getMessage());
+        }
+    }
+}
@@ -68,11 +68,19 @@ public abstract class RpcClient<T> {
     private String thisUID = UUID.randomUUID().toString();
     private ScheduledFuture<?> future = null;
     private int attempt;
+    private ParamsetDescriptionCache paramsetDescriptionCache;
 
     public RpcClient(HomematicConfig config) {
         this.config = config;
     }
 
+    /**
+     * Sets the cache for paramset descriptions, null disables caching.
+     */
+    public void setParamsetDescriptionCache(ParamsetDescriptionCache paramsetDescriptionCache) {
+        this.paramsetDescriptionCache = paramsetDescriptionCache;
+    }
+
     /**
      * Returns a RpcRequest for this client.
      */
@@ -220,10 +228,20 @@ public abstract class RpcClient<T> {
             // The configuration channel only has a MASTER Paramset, so there is nothing to load
             return;
         }
-        RpcRequest<T> request = createRpcRequest("getParamsetDescription");
-        request.addArg(getRpcAddress(channel.getDevice().getAddress()) + getChannelSuffix(channel));
-        request.addArg(paramsetType.toString());
-        new GetParamsetDescriptionParser(channel, paramsetType).parse(sendMessage(config.getRpcPort(channel), request));
+        // the datapoints of reconfigurable channels depend on the selected mode, they are never cached
+        ParamsetDescriptionCache cache = channel.isReconfigurable() ? null : paramsetDescriptionCache;
+        String cacheKey = ParamsetDescriptionCache.getKey(channel, paramsetType);
+        Object[] description = cache == null ? null : cache.get(cacheKey);
+        if (description == null) {
+            RpcRequest<T> request = createRpcRequest("getParamsetDescription");
+            request.addArg(getRpcAddress(channel.getDevice().getAddress()) + getChannelSuffix(channel));
+            request.addArg(paramsetType.toString());
+            description = sendMessage(config.getRpcPort(channel), request);
+            if (cache != null) {
+                cache.put(cacheKey, description);
+            }
+        }
+        new GetParamsetDescriptionParser(channel, paramsetType).parse(description);
     }
 
     /**
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.homematic.internal.communicator.client;
+
+import static org.hamcrest.CoreMatchers.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.openhab.binding.homematic.test.util.DimmerHelper.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.homematic.internal.model.HmParamsetType;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests for {@link ParamsetDescriptionCache}.
+ *
+ * @author agent - Initial contribution
+ */
+public class ParamsetDescriptionCacheTest extends JavaTest {
+    private static final String KEY = ParamsetDescriptionCache.getKey(createDimmerHmChannel(), HmParamsetType.VALUES);
+
+    @TempDir
+    public Path tempDir;
+
+    private Object[] createDescription() {
+        Map<String, Object> level = new TreeMap<>();
+        level.put("TYPE", "FLOAT");
+        level.put("MIN", 0.0);
+        level.put("MAX", 1.01);
+        level.put("OPERATIONS", 7);
+        level.put("UNIT", "100%");
+        Map<String, Object> direction = new TreeMap<>();
+        direction.put("TYPE", "ENUM");
+        direction.put("VALUE_LIST", new Object[] { "NONE", "UP", "DOWN", "UNDEFINED" });
+        direction.put("DEFAULT", Boolean.FALSE);
+        Map<String, Object> datapoints = new TreeMap<>();
+        datapoints.put("LEVEL", level);
+        datapoints.put("DIRECTION", direction);
+        return new Object[] { datapoints };
+    }
+
+    @Test
+    public void keyContainsInterfaceTypeFirmwareChannelAndParamset() {
+        assertThat(KEY, is("null:HM-LC-Dim1-Pl3:1:1:VALUES"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void descriptionsAreRestoredWithTheirTypes() {
+        Path file = tempDir.resolve("gateway.paramsets");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+        cache.put(KEY, createDescription());
+        cache.save();
+
+        ParamsetDescriptionCache loadedCache = new ParamsetDescriptionCache(file);
+        loadedCache.load();
+        Object[] description = loadedCache.get(KEY);
+
+        assertThat(description, is(notNullValue()));
+        Map<String, Map<String, Object>> datapoints = (Map<String, Map<String, Object>>) description[0];
+        assertThat(datapoints.get("LEVEL").get("MAX"), is(1.01));
+        assertThat(datapoints.get("LEVEL").get("OPERATIONS"), is(7));
+        assertThat(datapoints.get("DIRECTION").get("DEFAULT"), is(Boolean.FALSE));
+        assertThat(((Object[]) datapoints.get("DIRECTION").get("VALUE_LIST")).length, is(4));
+    }
+
+    @Test
+    public void unusedDescriptionsAreRemoved() {
+        Path file = tempDir.resolve("gateway.paramsets");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+        cache.put(KEY, createDescription());
+        cache.put("RF:HM-LC-Dim1-Pl3:0.9:1:VALUES", createDescription());
+        cache.save();
+
+        cache.load();
+        cache.get(KEY);
+        cache.removeUnused();
+        cache.save();
+        cache.load();
+
+        assertThat(cache.get(KEY), is(notNullValue()));
+        assertThat(cache.get("RF:HM-LC-Dim1-Pl3:0.9:1:VALUES"), is(nullValue()));
+    }
+
+    @Test
+    public void invalidCacheFileIsIgnored() throws IOException {
+        Path file = tempDir.resolve("gateway.paramsets");
+        Files.writeString(file, "no cache");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(file);
+
+        cache.load();
+
+        assertThat(cache.get(KEY), is(nullValue()));
+    }
+}
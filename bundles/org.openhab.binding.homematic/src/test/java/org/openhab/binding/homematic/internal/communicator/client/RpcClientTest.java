@@ -19,9 +19,11 @@ import static org.openhab.binding.homematic.test.util.DimmerHelper.*;
 import static org.openhab.binding.homematic.test.util.RpcClientMockImpl.*;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.openhab.binding.homematic.internal.communicator.message.RpcRequest;
 import org.openhab.binding.homematic.internal.communicator.message.XmlRpcRequest;
 import org.openhab.binding.homematic.internal.model.HmChannel;
@@ -68,6 +70,34 @@ public class RpcClientTest extends JavaTest {
         assertThat(rpcClient.numberOfCalls.get(GET_PARAMSET_DESCRIPTION_NAME), is(0));
     }
 
+    @Test
+    public void paramsetDescriptionIsLoadedOnceForEqualChannels(@TempDir Path tempDir) throws IOException {
+        rpcClient.setParamsetDescriptionCache(new ParamsetDescriptionCache(tempDir.resolve("test.paramsets")));
+
+        rpcClient.addChannelDatapoints(createDimmerHmChannel(), HmParamsetType.VALUES);
+        rpcClient.addChannelDatapoints(createDimmerHmChannel(), HmParamsetType.VALUES);
+        rpcClient.addChannelDatapoints(createDimmerHmChannel(), HmParamsetType.MASTER);
+
+        assertThat(rpcClient.numberOfCalls.get(GET_PARAMSET_DESCRIPTION_NAME), is(2));
+    }
+
+    @Test
+    public void paramsetDescriptionIsLoadedFromPersistedCache(@TempDir Path tempDir) throws IOException {
+        Path cacheFile = tempDir.resolve("test.paramsets");
+        ParamsetDescriptionCache cache = new ParamsetDescriptionCache(cacheFile);
+        rpcClient.setParamsetDescriptionCache(cache);
+        rpcClient.addChannelDatapoints(createDimmerHmChannel(), HmParamsetType.VALUES);
+        cache.save();
+
+        RpcClientMockImpl restartedRpcClient = new RpcClientMockImpl();
+        ParamsetDescriptionCache loadedCache = new ParamsetDescriptionCache(cacheFile);
+        loadedCache.load();
+        restartedRpcClient.setParamsetDescriptionCache(loadedCache);
+        restartedRpcClient.addChannelDatapoints(createDimmerHmChannel(), HmParamsetType.VALUES);
+
+        assertThat(restartedRpcClient.numberOfCalls.get(GET_PARAMSET_DESCRIPTION_NAME), is(0));
+    }
+
     @Test
     public void valuesParamsetIsLoadedForChannel() throws IOException {
         HmChannel channel = createDimmerHmChannel();
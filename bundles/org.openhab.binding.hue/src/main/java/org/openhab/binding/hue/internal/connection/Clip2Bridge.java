@@ -31,6 +31,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -466,7 +467,8 @@ public class Clip2Bridge implements Closeable {
      * The Hue Bridge can get confused if they receive too many HTTP requests in a short period of time (e.g. on start
      * up), or if too many HTTP sessions are opened at the same time, which cause it to respond with an HTML error page.
      * So this class a) waits to acquire permitCount (or no more than MAX_CONCURRENT_SESSIONS) stream permits, and b)
-     * throttles the requests to a maximum of one per REQUEST_INTERVAL_MILLISECS.
+     * throttles the requests to a maximum of one per REQUEST_INTERVAL_MILLISECS. When the permits are released, the
+     * command queue is notified, since it does not wait for permits itself.
      */
     private class Throttler implements AutoCloseable {
         private final int permitCount;
@@ -478,20 +480,12 @@ public class Clip2Bridge implements Closeable {
         Throttler(int permitCount) throws InterruptedException {
             this.permitCount = permitCount;
             streamMutex.acquire(permitCount);
-            long delay;
-            synchronized (Clip2Bridge.this) {
-                Instant now = Instant.now();
-                delay = lastRequestTime
-                        .map(t -> Math.max(0, Duration.between(now, t).toMillis() + REQUEST_INTERVAL_MILLISECS))
-                        .orElse(0L);
-                lastRequestTime = Optional.of(now.plusMillis(delay));
-            }
-            Thread.sleep(delay);
+            Thread.sleep(reserveRequestSlot());
         }
 
         @Override
         public void close() {
-            streamMutex.release(permitCount);
+            releasePermits(permitCount);
         }
     }
 
@@ -558,6 +552,7 @@ public class Clip2Bridge implements Closeable {
     private final Semaphore streamMutex = new Semaphore(MAX_CONCURRENT_STREAMS, true); // i.e. fair
     private final ReadWriteLock sessionUseCreateLock = new ReentrantReadWriteLock(true); // i.e. fair
     private final Map<Integer, Future<?>> fatalErrorTasks = new ConcurrentHashMap<>();
+    private final Clip2CommandQueue commandQueue;
 
     private boolean recreatingSession;
     private boolean closing;
@@ -592,6 +587,30 @@ public class Clip2Bridge implements Closeable {
         baseUrl = String.format(FORMAT_URL_RESOURCE, hostName);
         eventUrl = String.format(FORMAT_URL_EVENTS, hostName);
         registrationUrl = String.format(FORMAT_URL_REGISTER, hostName);
+        commandQueue = new Clip2CommandQueue(this, bridgeHandler.getScheduler(), REQUEST_INTERVAL_MILLISECS);
+    }
+
+    /**
+     * Release stream permits, and notify the command queue that it may try to acquire them.
+     *
+     * @param permitCount the number of permits to release.
+     */
+    private void releasePermits(int permitCount) {
+        streamMutex.release(permitCount);
+        commandQueue.permitsReleased();
+    }
+
+    /**
+     * Reserve the next time slot for an HTTP request, which is at least REQUEST_INTERVAL_MILLISECS after the prior one.
+     *
+     * @return the delay in milliseconds until the reserved time slot.
+     */
+    private synchronized long reserveRequestSlot() {
+        Instant now = Instant.now();
+        long delay = lastRequestTime
+                .map(t -> Math.max(0, Duration.between(now, t).toMillis() + REQUEST_INTERVAL_MILLISECS)).orElse(0L);
+        lastRequestTime = Optional.of(now.plusMillis(delay));
+        return delay;
     }
 
     /**
@@ -638,6 +657,7 @@ public class Clip2Bridge implements Closeable {
     @Override
     public void close() {
         closing = true;
+        commandQueue.close();
         Thread recreateThread = this.recreateThread;
         if (Objects.nonNull(recreateThread) && recreateThread.isAlive()) {
             recreateThread.interrupt();
@@ -1076,57 +1096,150 @@ public class Clip2Bridge implements Closeable {
     }
 
     /**
-     * Use an HTTP/2 PUT command to send a resource to the server. Uses a Throttler to prevent too many concurrent
-     * calls, and to prevent too frequent calls on the Hue bridge server. Also uses a SessionSynchronizer to delay
-     * accessing the session while it is being recreated.
+     * Use an HTTP/2 PUT command to send a resource to the server without blocking the calling thread. Used by the
+     * command queue. If the stream permits are not available right now, no thread waits for them; instead the method
+     * returns null, and the command queue is notified when permits are released. Otherwise the PUT command is sent in
+     * the next request time slot, and the permits are released when the command completes.
      *
      * @param resource the resource to put.
-     * @return the resource, which may contain errors.
-     * @throws ApiException if something fails.
-     * @throws InterruptedException
+     * @return a future that completes with the resource, which may contain errors; or null if no permits are available.
      */
-    public Resources putResource(Resource resource) throws ApiException, InterruptedException {
-        Stream stream = null;
-        try (Throttler throttler = new Throttler(MAX_CONCURRENT_STREAMS);
-                SessionSynchronizer sessionSynchronizer = new SessionSynchronizer(false)) {
+    @Nullable
+    CompletableFuture<Resources> putResourceAsync(Resource resource) {
+        if (!streamMutex.tryAcquire(MAX_CONCURRENT_STREAMS)) {
+            return null;
+        }
+        CompletableFuture<Resources> result = new CompletableFuture<>();
+        result.whenComplete((resources, e) -> releasePermits(MAX_CONCURRENT_STREAMS));
+        long delay = reserveRequestSlot();
+        Instant sessionDeadline = Instant.now().plusMillis(delay).plusSeconds(TIMEOUT_SECONDS);
+        if (delay > 0) {
+            bridgeHandler.getScheduler().schedule(() -> sendResourceAsync(resource, result, sessionDeadline), delay,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            sendResourceAsync(resource, result, sessionDeadline);
+        }
+        return result;
+    }
+
+    /**
+     * Open a stream for an asynchronous PUT command, and send the resource. The session 'read' lock is only held while
+     * the stream is being opened. If the session is being recreated, the attempt is repeated later, until the deadline
+     * is reached; whereafter (like the SessionSynchronizer) it tries to use the session anyway.
+     *
+     * @param resource the resource to put.
+     * @param result the future to be completed with the response.
+     * @param sessionDeadline the time until which to wait for the session to be available.
+     */
+    private void sendResourceAsync(Resource resource, CompletableFuture<Resources> result, Instant sessionDeadline) {
+        Lock lock = sessionUseCreateLock.readLock();
+        boolean locked = lock.tryLock();
+        if (!locked && Instant.now().isBefore(sessionDeadline)) {
+            bridgeHandler.getScheduler().schedule(() -> sendResourceAsync(resource, result, sessionDeadline),
+                    REQUEST_INTERVAL_MILLISECS, TimeUnit.MILLISECONDS);
+            return;
+        }
+        try {
             Session session = getSession();
-            String requestJson = jsonParser.toJson(resource);
-            ByteBuffer requestBytes = ByteBuffer.wrap(requestJson.getBytes(StandardCharsets.UTF_8));
-            String url = getUrl(new ResourceReference().setId(resource.getId()).setType(resource.getType()));
-            HeadersFrame headers = prepareHeaders(url, MediaType.APPLICATION_JSON, "PUT", requestBytes.capacity(),
-                    MediaType.APPLICATION_JSON);
-            LOGGER.trace("PUT {} HTTP/2 >> {}", url, requestJson);
+            ByteBuffer requestBytes = preparePutContent(resource);
+            HeadersFrame headers = preparePutHeaders(resource, requestBytes);
             Completable<@Nullable Stream> streamPromise = new Completable<>();
             ContentStreamListenerAdapter contentStreamListener = new ContentStreamListenerAdapter();
             session.newStream(headers, streamPromise, contentStreamListener);
-            // wait for stream to be opened
-            stream = Objects.requireNonNull(streamPromise.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
-            stream.data(new DataFrame(stream.getId(), requestBytes, true), Callback.NOOP);
-            // wait for HTTP response
-            String contentJson = contentStreamListener.awaitResult();
-            String contentType = contentStreamListener.getContentType();
-            int status = contentStreamListener.getStatus();
-            LOGGER.trace("HTTP/2 {} (Content-Type: {}) << {}", status, contentType, contentJson);
-            if (!HttpStatus.isSuccess(status)) {
-                throw new ApiException(String.format("Unexpected HTTP status '%d'", status));
-            }
-            if (!MediaType.APPLICATION_JSON.equals(contentType)) {
-                throw new ApiException("Unexpected Content-Type: " + contentType);
-            }
-            if (contentJson.isEmpty()) {
-                throw new ApiException("Response payload is empty");
-            }
-            try {
-                return Objects.requireNonNull(jsonParser.fromJson(contentJson, Resources.class));
-            } catch (JsonParseException e) {
-                LOGGER.debug("putResource() parsing error json:{}", contentJson, e);
-                throw new ApiException("Parsing error", e);
-            }
-        } catch (ExecutionException | TimeoutException e) {
-            throw new ApiException("Error sending PUT request", e);
+            streamPromise.orTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS).thenCompose(stream -> {
+                Stream openStream = Objects.requireNonNull(stream);
+                openStream.data(new DataFrame(openStream.getId(), requestBytes, true), Callback.NOOP);
+                return contentStreamListener.completable.orTimeout(TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                        .whenComplete((contentJson, e) -> closeStream(openStream));
+            }).whenComplete((contentJson, e) -> {
+                if (Objects.nonNull(e)) {
+                    Throwable cause = e instanceof CompletionException && Objects.nonNull(e.getCause()) ? e.getCause()
+                            : e;
+                    result.completeExceptionally(cause instanceof ApiException ? cause
+                            : new ApiException("Error sending PUT request", cause));
+                    return;
+                }
+                try {
+                    result.complete(parsePutResponse(contentStreamListener, contentJson));
+                } catch (ApiException apiException) {
+                    result.completeExceptionally(apiException);
+                }
+            });
+        } catch (ApiException | RuntimeException e) {
+            result.completeExceptionally(e);
         } finally {
-            closeStream(stream);
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Helper method to serialize a resource as the content of a PUT command.
+     *
+     * @param resource the resource to put.
+     * @return the content bytes.
+     */
+    private ByteBuffer preparePutContent(Resource resource) {
+        return ByteBuffer.wrap(jsonParser.toJson(resource).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Helper method to create the HeadersFrame of a PUT command.
+     *
+     * @param resource the resource to put.
+     * @param requestBytes the content bytes.
+     * @return the HeadersFrame.
+     */
+    private HeadersFrame preparePutHeaders(Resource resource, ByteBuffer requestBytes) {
+        String url = getUrl(new ResourceReference().setId(resource.getId()).setType(resource.getType()));
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace("PUT {} HTTP/2 >> {}", url, StandardCharsets.UTF_8.decode(requestBytes.duplicate()));
+        }
+        return prepareHeaders(url, MediaType.APPLICATION_JSON, "PUT", requestBytes.capacity(),
+                MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Helper method to check the response to a PUT command, and parse its content.
+     *
+     * @param contentStreamListener the listener that received the response.
+     * @param contentJson the response content.
+     * @return the resource, which may contain errors.
+     * @throws ApiException if the response is not successful, or cannot be parsed.
+     */
+    private Resources parsePutResponse(ContentStreamListenerAdapter contentStreamListener, String contentJson)
+            throws ApiException {
+        String contentType = contentStreamListener.getContentType();
+        int status = contentStreamListener.getStatus();
+        LOGGER.trace("HTTP/2 {} (Content-Type: {}) << {}", status, contentType, contentJson);
+        if (!HttpStatus.isSuccess(status)) {
+            throw new ApiException(String.format("Unexpected HTTP status '%d'", status));
+        }
+        if (!MediaType.APPLICATION_JSON.equals(contentType)) {
+            throw new ApiException("Unexpected Content-Type: " + contentType);
         }
+        if (contentJson.isEmpty()) {
+            throw new ApiException("Response payload is empty");
+        }
+        try {
+            return Objects.requireNonNull(jsonParser.fromJson(contentJson, Resources.class));
+        } catch (JsonParseException e) {
+            LOGGER.debug("putResourceAsync() parsing error json:{}", contentJson, e);
+            throw new ApiException("Parsing error", e);
+        }
+    }
+
+    /**
+     * Queue a resource to be sent to the server via an HTTP/2 PUT command. Uses a Clip2CommandQueue to merge superseded
+     * or compatible commands for the same resource into a single PUT, and to send the PUT commands asynchronously
+     * without blocking the calling thread.
+     *
+     * @param resource the resource to put.
+     * @return a future that completes with the resource, which may contain errors.
+     */
+    public CompletableFuture<Resources> putResourceQueued(Resource resource) {
+        return commandQueue.put(resource);
     }
 
     /**
@@ -0,0 +1,311 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.hue.internal.dto.clip2.ColorTemperature;
+import org.openhab.binding.hue.internal.dto.clip2.ColorXy;
+import org.openhab.binding.hue.internal.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.dto.clip2.Dynamics;
+import org.openhab.binding.hue.internal.dto.clip2.OnState;
+import org.openhab.binding.hue.internal.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Asynchronous queue for PUT commands that are to be sent to a Hue Bridge via its {@link Clip2Bridge}.
+ * <p>
+ * Commands are queued per resource, and are sent in order one after the other, separated by at least the minimum
+ * request interval. While a command for a given LIGHT or GROUPED_LIGHT resource is still waiting in the queue, any
+ * newer command for the same resource with the same transition dynamics is merged into it. i.e. superseded on /
+ * dimming / color / color temperature values collapse to the newest value, and compatible properties are combined
+ * into one single PUT. Other commands (e.g. alerts, effects, scenes, sensor enable) are never merged.
+ * <p>
+ * Waiting commands do not occupy any thread. The queue is drained by a task on the scheduler, which sends the PUT
+ * commands asynchronously. If the bridge's stream permits are not available, the drain task ends, and the next one is
+ * scheduled when the bridge reports that permits have been released.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class Clip2CommandQueue {
+
+    private static final Set<ResourceType> MERGEABLE_TYPES = Set.of(ResourceType.LIGHT, ResourceType.GROUPED_LIGHT);
+
+    /**
+     * A queue entry containing the resource to be PUT, and the futures of all commands that it represents.
+     */
+    private static class Entry {
+        private Resource resource;
+        private final boolean mergeable;
+        private final List<CompletableFuture<Resources>> futures = new ArrayList<>();
+        private boolean sending;
+
+        private Entry(Resource resource, boolean mergeable) {
+            this.resource = resource;
+            this.mergeable = mergeable;
+        }
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(Clip2CommandQueue.class);
+
+    private final Clip2Bridge bridge;
+    private final ScheduledExecutorService scheduler;
+    private final int intervalMilliSeconds;
+
+    private final Deque<Entry> pendingEntries = new ArrayDeque<>();
+    private final Map<String, Entry> mergeableEntries = new HashMap<>();
+
+    private boolean running;
+    private boolean closing;
+    private boolean waitingForPermits;
+    private long permitsReleasedCount;
+    private @Nullable Future<?> drainTask;
+
+    /**
+     * Constructor.
+     *
+     * @param bridge the bridge connection that actually sends the PUT commands.
+     * @param scheduler the scheduler on which the queue is drained.
+     * @param intervalMilliSeconds the minimum interval between the end of one PUT command and the start of the next.
+     */
+    public Clip2CommandQueue(Clip2Bridge bridge, ScheduledExecutorService scheduler, int intervalMilliSeconds) {
+        this.bridge = bridge;
+        this.scheduler = scheduler;
+        this.intervalMilliSeconds = intervalMilliSeconds;
+    }
+
+    /**
+     * Check if the given resource only contains properties that may safely be merged with other commands.
+     *
+     * @param resource the resource to check.
+     * @return true if the resource can be merged.
+     */
+    static boolean isMergeable(Resource resource) {
+        return MERGEABLE_TYPES.contains(resource.getType()) && Objects.nonNull(resource.getId())
+                && Objects.isNull(resource.getAlerts()) && Objects.isNull(resource.getEffects())
+                && Objects.isNull(resource.getRecall());
+    }
+
+    /**
+     * Check if two mergeable resources have the same transition dynamics. Merging resources with different dynamics
+     * would apply the transition duration of one command to the properties of the other one.
+     *
+     * @param newer the newer resource.
+     * @param older the older resource.
+     * @return true if the resources can be merged.
+     */
+    static boolean haveSameDynamics(Resource newer, Resource older) {
+        Dynamics newerDynamics = newer.getDynamics();
+        Dynamics olderDynamics = older.getDynamics();
+        return Objects.equals(Objects.nonNull(newerDynamics) ? newerDynamics.getDuration() : null,
+                Objects.nonNull(olderDynamics) ? olderDynamics.getDuration() : null);
+    }
+
+    /**
+     * Merge the properties of an older (superseded) command resource into a newer command resource. Properties that are
+     * set in the newer resource take precedence; properties that are only set in the older resource are taken over.
+     * Since color and color temperature are mutually exclusive, neither is taken over if the newer resource contains
+     * either of them. The resources must have the same dynamics.
+     *
+     * @param newer the newer resource, into which the older one is merged.
+     * @param older the older resource.
+     * @return the newer resource.
+     */
+    static Resource merge(Resource newer, Resource older) {
+        OnState onState = older.getOnState();
+        if (Objects.isNull(newer.getOnState()) && Objects.nonNull(onState)) {
+            newer.setOnState(onState);
+        }
+        Dimming dimming = older.getDimming();
+        if (Objects.isNull(newer.getDimming()) && Objects.nonNull(dimming)) {
+            newer.setDimming(dimming);
+        }
+        if (Objects.isNull(newer.getColorXy()) && Objects.isNull(newer.getColorTemperature())) {
+            ColorXy colorXy = older.getColorXy();
+            if (Objects.nonNull(colorXy)) {
+                newer.setColorXy(colorXy);
+            }
+            ColorTemperature colorTemperature = older.getColorTemperature();
+            if (Objects.nonNull(colorTemperature)) {
+                newer.setColorTemperature(colorTemperature);
+            }
+        }
+        return newer;
+    }
+
+    /**
+     * Close the queue. Cancel the drain task, and complete all pending commands exceptionally.
+     */
+    public void close() {
+        List<Entry> entries;
+        synchronized (this) {
+            closing = true;
+            Future<?> task = drainTask;
+            if (Objects.nonNull(task)) {
+                task.cancel(false);
+            }
+            drainTask = null;
+            entries = new ArrayList<>(pendingEntries);
+            pendingEntries.clear();
+            mergeableEntries.clear();
+        }
+        ApiException exception = new ApiException("Command queue closed");
+        entries.forEach(entry -> entry.futures.forEach(future -> future.completeExceptionally(exception)));
+    }
+
+    /**
+     * Drain the head of the queue. Send its PUT command to the bridge asynchronously, complete its futures with the
+     * result, and then schedule the next drain task. If the bridge has no stream permits available, the head entry
+     * stays in the queue until permitsReleased() is called.
+     * <p>
+     * Note: the bridge is never called while holding the lock on this instance, since the bridge calls
+     * permitsReleased() while it may hold its own locks.
+     */
+    private void drain() {
+        Entry entry;
+        long releasedCount;
+        synchronized (this) {
+            drainTask = null;
+            entry = pendingEntries.peek();
+            if (closing || Objects.isNull(entry)) {
+                running = false;
+                return;
+            }
+            // prevent newer commands from being merged into the entry while it is being sent
+            entry.sending = true;
+            releasedCount = permitsReleasedCount;
+        }
+        CompletableFuture<Resources> response = bridge.putResourceAsync(entry.resource);
+        synchronized (this) {
+            if (Objects.isNull(response)) {
+                entry.sending = false;
+                if (closing) {
+                    running = false;
+                } else if (releasedCount != permitsReleasedCount) {
+                    // permits were released in the meantime, so try again
+                    running = false;
+                    scheduleDrain(0);
+                } else {
+                    waitingForPermits = true;
+                }
+                return;
+            }
+            pendingEntries.remove(entry);
+            if (entry.mergeable) {
+                mergeableEntries.remove(entry.resource.getId(), entry);
+            }
+        }
+        if (logger.isDebugEnabled() && entry.futures.size() > 1) {
+            logger.debug("drain() sending {} coalesced commands in one PUT {}", entry.futures.size(), entry.resource);
+        }
+        Entry sentEntry = entry;
+        response.whenComplete((resources, e) -> {
+            if (Objects.nonNull(e)) {
+                Throwable cause = e instanceof CompletionException && Objects.nonNull(e.getCause()) ? e.getCause() : e;
+                sentEntry.futures.forEach(future -> future.completeExceptionally(cause));
+            } else {
+                sentEntry.futures.forEach(future -> future.complete(resources));
+            }
+            synchronized (this) {
+                running = false;
+                scheduleDrain(intervalMilliSeconds);
+            }
+        });
+    }
+
+    /**
+     * Called by the bridge when it has released stream permits. If the queue is waiting for permits, then schedule the
+     * next drain task.
+     */
+    public synchronized void permitsReleased() {
+        permitsReleasedCount++;
+        if (waitingForPermits) {
+            waitingForPermits = false;
+            running = false;
+            scheduleDrain(0);
+        }
+    }
+
+    /**
+     * Add a resource PUT command to the queue. If the queue already contains a mergeable command for the same resource
+     * which has not yet been sent, then the new command is merged into it.
+     *
+     * @param resource the resource to be sent.
+     * @return a future that completes with the bridge response to the (possibly merged) PUT command.
+     */
+    public CompletableFuture<Resources> put(Resource resource) {
+        CompletableFuture<Resources> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (closing) {
+                future.completeExceptionally(new ApiException("Command queue closed"));
+                return future;
+            }
+            String resourceId = resource.getId();
+            if (isMergeable(resource)) {
+                Entry entry = mergeableEntries.get(resourceId);
+                if (Objects.nonNull(entry) && !entry.sending && haveSameDynamics(resource, entry.resource)) {
+                    // the entry has not been sent yet, so it keeps its position in the queue
+                    entry.resource = merge(resource, entry.resource);
+                    entry.futures.add(future);
+                    logger.trace("put() merged command into queued {}", entry.resource);
+                    return future;
+                }
+                // later commands are merged into the new entry, which is behind any earlier one
+                Entry newEntry = new Entry(resource, true);
+                newEntry.futures.add(future);
+                pendingEntries.add(newEntry);
+                mergeableEntries.put(resourceId, newEntry);
+            } else {
+                // later commands must not overtake this one, so stop merging into earlier entries for the same id
+                mergeableEntries.remove(resourceId);
+                Entry newEntry = new Entry(resource, false);
+                newEntry.futures.add(future);
+                pendingEntries.add(newEntry);
+            }
+            scheduleDrain(0);
+        }
+        return future;
+    }
+
+    /**
+     * Schedule the drain task if it is not already running, and there are pending entries. Must be called while
+     * holding the lock on this instance.
+     *
+     * @param delayMilliSeconds the delay before running the drain task.
+     */
+    private void scheduleDrain(int delayMilliSeconds) {
+        if (!closing && !running && !pendingEntries.isEmpty()) {
+            running = true;
+            drainTask = scheduler.schedule(() -> drain(), delayMilliSeconds, TimeUnit.MILLISECONDS);
+        }
+    }
+}
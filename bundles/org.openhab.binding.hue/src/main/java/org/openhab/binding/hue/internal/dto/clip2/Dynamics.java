@@ -13,6 +13,7 @@
 package org.openhab.binding.hue.internal.dto.clip2;
 
 import java.time.Duration;
+import java.util.Objects;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -24,9 +25,14 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class Dynamics {
-    private @Nullable @SuppressWarnings("unused") Long duration;
+    private @Nullable Long duration;
     private @Nullable @SuppressWarnings("unused") Double speed;
 
+    public @Nullable Duration getDuration() {
+        Long duration = this.duration;
+        return Objects.nonNull(duration) ? Duration.ofMillis(duration) : null;
+    }
+
     public Dynamics setDuration(Duration duration) {
         this.duration = duration.toMillis();
         return this;
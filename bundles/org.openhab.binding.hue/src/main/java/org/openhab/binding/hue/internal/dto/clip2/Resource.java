@@ -92,7 +92,7 @@ public class Resource {
     private @Nullable @SerializedName("relative_rotary") RelativeRotary relativeRotary;
     private @Nullable List<ResourceReference> children;
     private @Nullable JsonElement status;
-    private @Nullable @SuppressWarnings("unused") Dynamics dynamics;
+    private @Nullable Dynamics dynamics;
 
     /**
      * Constructor
@@ -320,6 +320,10 @@ public class Resource {
         return UnDefType.NULL;
     }
 
+    public @Nullable Dynamics getDynamics() {
+        return dynamics;
+    }
+
     public @Nullable Effects getEffects() {
         return effects;
     }
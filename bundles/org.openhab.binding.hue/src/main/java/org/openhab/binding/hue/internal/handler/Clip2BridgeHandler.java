@@ -15,13 +15,16 @@ package org.openhab.binding.hue.internal.handler;
 import static org.openhab.binding.hue.internal.HueBindingConstants.*;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
@@ -115,6 +118,20 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     private @Nullable ScheduledFuture<?> scheduledUpdateTask;
     private Map<Integer, Future<?>> resourcesEventTasks = new ConcurrentHashMap<>();
 
+    /**
+     * An index of the child thing handlers that are interested in resources with a given ID. It is a map between the
+     * resource ID (string) and the set of child thing handlers which consume resources having that ID, or whose owner
+     * has that ID. e.g. a DEVICE thing handler is indexed under its own resource ID, and under the resource IDs of its
+     * LIGHT, ZIGBEE_CONNECTIVITY etc. services, and under the resource IDs of the scenes that contribute to it.
+     */
+    private final Map<String, Set<Clip2ThingHandler>> resourceHandlerIndex = new ConcurrentHashMap<>();
+
+    /**
+     * The reverse of the resource handler index i.e. the set of resource IDs under which each child thing handler is
+     * currently registered. Guarded by the resource handler index.
+     */
+    private final Map<Clip2ThingHandler, Set<String>> handlerResourceIds = new HashMap<>();
+
     private boolean assetsLoaded;
     private int applKeyRetriesRemaining;
     private int connectRetriesRemaining;
@@ -509,8 +526,8 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
     }
 
     /**
-     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform all
-     * child thing handlers with the respective resource.
+     * Called when an SSE event message comes in with a valid list of resources. For each resource received, inform the
+     * child thing handlers that are interested in the respective resource.
      *
      * @param resources a list of incoming resource objects.
      */
@@ -526,31 +543,66 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         }
     }
 
+    /**
+     * Route the incoming resources to the child thing handlers that are interested in them. Each resource is looked up
+     * in the resource handler index via its own ID, and via its owner's ID, and it is then passed (in order) only to
+     * those child thing handlers that are indexed under either of those IDs.
+     *
+     * @param resources a list of incoming resource objects.
+     */
     private void onResourcesEventTask(List<Resource> resources) {
         logger.debug("onResourcesEventTask() resource count {}", resources.size());
-        getThing().getThings().forEach(thing -> {
-            ThingHandler handler = thing.getHandler();
-            if (handler instanceof Clip2ThingHandler) {
-                resources.forEach(resource -> {
-                    ((Clip2ThingHandler) handler).onResource(resource);
-                });
+        Map<Clip2ThingHandler, List<Resource>> handlerResources = new LinkedHashMap<>();
+        for (Resource resource : resources) {
+            addIndexedHandlers(handlerResources, resource.getId(), resource);
+            ResourceReference owner = resource.getOwner();
+            if (Objects.nonNull(owner)) {
+                addIndexedHandlers(handlerResources, owner.getId(), resource);
             }
+        }
+        handlerResources.forEach((handler, handlerResourceList) -> {
+            handlerResourceList.forEach(resource -> handler.onResource(resource));
         });
     }
 
     /**
-     * Execute an HTTP PUT to send a Resource object to the server.
+     * Add the given resource to the list of resources for each of the child thing handlers that are indexed under the
+     * given resource ID.
+     *
+     * @param handlerResources map of child thing handlers versus the list of resources to be passed to them.
+     * @param resourceId the resource ID to look up in the index (may be null).
+     * @param resource the resource to be added.
+     */
+    private void addIndexedHandlers(Map<Clip2ThingHandler, List<Resource>> handlerResources,
+            @Nullable String resourceId, Resource resource) {
+        if (Objects.nonNull(resourceId)) {
+            Set<Clip2ThingHandler> handlers = resourceHandlerIndex.get(resourceId);
+            if (Objects.nonNull(handlers)) {
+                for (Clip2ThingHandler handler : handlers) {
+                    List<Resource> handlerResourceList = handlerResources.computeIfAbsent(handler,
+                            h -> new ArrayList<>());
+                    // prevent duplicates if the handler is indexed under both the resource ID and its owner ID
+                    if (handlerResourceList.isEmpty()
+                            || handlerResourceList.get(handlerResourceList.size() - 1) != resource) {
+                        handlerResourceList.add(resource);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Queue a Resource object to be sent to the server via an HTTP PUT. Superseded or compatible commands for the same
+     * resource are merged before being sent.
      *
      * @param resource the resource to put.
-     * @return the resource, which may contain errors.
-     * @throws ApiException if a communication error occurred.
+     * @return a future that completes with the resource, which may contain errors.
      * @throws AssetNotLoadedException if one of the assets is not loaded.
-     * @throws InterruptedException
      */
-    public Resources putResource(Resource resource) throws ApiException, AssetNotLoadedException, InterruptedException {
-        logger.debug("putResource() {}", resource);
+    public CompletableFuture<Resources> putResourceQueued(Resource resource) throws AssetNotLoadedException {
+        logger.debug("putResourceQueued() {}", resource);
         checkAssetsLoaded();
-        return getClip2Bridge().putResource(resource);
+        return getClip2Bridge().putResourceQueued(resource);
     }
 
     /**
@@ -572,6 +624,27 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         updateConfiguration(configuration);
     }
 
+    /**
+     * Register a child thing handler in the resource handler index under the given set of resource IDs. The handler is
+     * added under its new resource IDs before it is removed from those IDs that it is no longer interested in, so
+     * resources having an ID that is in both sets are routed to the handler without interruption.
+     *
+     * @param handler the child thing handler.
+     * @param resourceIds the set of resource IDs that the handler is interested in.
+     */
+    public void registerResourceIds(Clip2ThingHandler handler, Set<String> resourceIds) {
+        Set<String> newResourceIds = Set.copyOf(resourceIds);
+        synchronized (resourceHandlerIndex) {
+            newResourceIds.forEach(resourceId -> resourceHandlerIndex
+                    .computeIfAbsent(resourceId, id -> ConcurrentHashMap.newKeySet()).add(handler));
+            Set<String> oldResourceIds = handlerResourceIds.put(handler, newResourceIds);
+            if (Objects.nonNull(oldResourceIds)) {
+                oldResourceIds.stream().filter(resourceId -> !newResourceIds.contains(resourceId))
+                        .forEach(resourceId -> removeIndexedHandler(resourceId, handler));
+            }
+        }
+    }
+
     /**
      * Register the discovery service.
      *
@@ -588,6 +661,32 @@ public class Clip2BridgeHandler extends BaseBridgeHandler {
         discoveryService = null;
     }
 
+    /**
+     * Remove a child thing handler from the resource handler index.
+     *
+     * @param handler the child thing handler.
+     */
+    public void unregisterResourceIds(Clip2ThingHandler handler) {
+        synchronized (resourceHandlerIndex) {
+            Set<String> oldResourceIds = handlerResourceIds.remove(handler);
+            if (Objects.nonNull(oldResourceIds)) {
+                oldResourceIds.forEach(resourceId -> removeIndexedHandler(resourceId, handler));
+            }
+        }
+    }
+
+    /**
+     * Remove a child thing handler from the resource handler index entry of the given resource ID, and remove the
+     * entry if it no longer contains any handlers. Must be called while holding the resource handler index lock.
+     *
+     * @param resourceId the resource ID.
+     * @param handler the child thing handler.
+     */
+    private void removeIndexedHandler(String resourceId, Clip2ThingHandler handler) {
+        resourceHandlerIndex.computeIfPresent(resourceId,
+                (id, handlers) -> handlers.remove(handler) && handlers.isEmpty() ? null : handlers);
+    }
+
     /**
      * Update the bridge's online state and update its dependent things. Called when the connection goes online.
      */
@@ -44,7 +44,6 @@ import org.openhab.binding.hue.internal.dto.clip2.MirekSchema;
 import org.openhab.binding.hue.internal.dto.clip2.ProductData;
 import org.openhab.binding.hue.internal.dto.clip2.Resource;
 import org.openhab.binding.hue.internal.dto.clip2.ResourceReference;
-import org.openhab.binding.hue.internal.dto.clip2.Resources;
 import org.openhab.binding.hue.internal.dto.clip2.enums.ActionType;
 import org.openhab.binding.hue.internal.dto.clip2.enums.EffectType;
 import org.openhab.binding.hue.internal.dto.clip2.enums.RecallAction;
@@ -251,6 +250,11 @@ public class Clip2ThingHandler extends BaseThingHandler {
         commandResourceIds.clear();
         serviceContributorsCache.clear();
         controlIds.clear();
+        try {
+            getBridgeHandler().unregisterResourceIds(this);
+        } catch (AssetNotLoadedException e) {
+            // bridge handler already gone; nothing to unregister
+        }
     }
 
     /**
@@ -508,19 +512,26 @@ public class Clip2ThingHandler extends BaseThingHandler {
         logger.debug("{} -> handleCommand() put resource {}", resourceId, putResource);
 
         try {
-            Resources resources = getBridgeHandler().putResource(putResource);
-            if (resources.hasErrors()) {
-                logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", command,
-                        thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
-            }
-        } catch (ApiException | AssetNotLoadedException e) {
+            getBridgeHandler().putResourceQueued(putResource).whenComplete((resources, e) -> {
+                if (Objects.nonNull(e)) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
+                    } else {
+                        logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", commandParam,
+                                thing.getUID(), channelUID, e.getMessage());
+                    }
+                } else if (resources.hasErrors()) {
+                    logger.info("Command '{}' for thing '{}', channel '{}' succeeded with errors: {}", commandParam,
+                            thing.getUID(), channelUID, String.join("; ", resources.getErrors()));
+                }
+            });
+        } catch (AssetNotLoadedException e) {
             if (logger.isDebugEnabled()) {
                 logger.debug("{} -> handleCommand() error {}", resourceId, e.getMessage(), e);
             } else {
                 logger.warn("Command '{}' for thing '{}', channel '{}' failed with error '{}'.", command,
                         thing.getUID(), channelUID, e.getMessage());
             }
-        } catch (InterruptedException e) {
         }
     }
 
@@ -586,6 +597,8 @@ public class Clip2ThingHandler extends BaseThingHandler {
         updateLightPropertiesDone = false;
         updateSceneContributorsDone = false;
 
+        updateResourceIndex();
+
         Bridge bridge = getBridge();
         if (Objects.nonNull(bridge)) {
             BridgeHandler bridgeHandler = bridge.getHandler();
@@ -925,6 +938,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
                     return;
                 }
                 updateLookups();
+                updateResourceIndex();
                 updateServiceContributors();
                 updateChannelList();
                 updateChannelItemLinksFromLegacy();
@@ -1090,6 +1104,24 @@ public class Clip2ThingHandler extends BaseThingHandler {
         }
     }
 
+    /**
+     * Register this handler in the bridge handler's resource index under the IDs of all resources that it consumes.
+     * i.e. the ID of its own resource, plus the IDs of its service contributors and of its scene contributors.
+     */
+    private void updateResourceIndex() {
+        if (!disposing) {
+            Set<String> resourceIds = new HashSet<>();
+            resourceIds.add(resourceId);
+            resourceIds.addAll(serviceContributorsCache.keySet());
+            resourceIds.addAll(sceneContributorsCache.keySet());
+            try {
+                getBridgeHandler().registerResourceIds(this, resourceIds);
+            } catch (AssetNotLoadedException e) {
+                logger.debug("{} -> updateResourceIndex() {}", resourceId, e.getMessage(), e);
+            }
+        }
+    }
+
     /**
      * Fetch the full list of scenes from the bridge, and call updateSceneContributors(List<Resource> allScenes)
      *
@@ -1133,6 +1165,7 @@ public class Clip2ThingHandler extends BaseThingHandler {
 
                 logger.debug("{} -> updateSceneContributors() found {} scenes", resourceId, scenes.size());
             }
+            updateResourceIndex();
             updateSceneContributorsDone = true;
         }
         return updateSceneContributorsDone;
@@ -0,0 +1,266 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.hue.internal.connection;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.hue.internal.dto.clip2.ColorTemperature;
+import org.openhab.binding.hue.internal.dto.clip2.ColorXy;
+import org.openhab.binding.hue.internal.dto.clip2.Dimming;
+import org.openhab.binding.hue.internal.dto.clip2.OnState;
+import org.openhab.binding.hue.internal.dto.clip2.Resource;
+import org.openhab.binding.hue.internal.dto.clip2.Resources;
+import org.openhab.binding.hue.internal.dto.clip2.enums.RecallAction;
+import org.openhab.binding.hue.internal.dto.clip2.enums.ResourceType;
+import org.openhab.binding.hue.internal.exceptions.ApiException;
+import org.openhab.binding.hue.internal.exceptions.DTOPresentButEmptyException;
+import org.openhab.core.library.types.OnOffType;
+
+/**
+ * JUnit test for merging and sending of CLIP 2 commands in the {@link Clip2CommandQueue}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class Clip2CommandQueueTest {
+
+    private static final String LIGHT_ID = "6a5e8a3b-1e9d-4c4b-8a4e-0a8e8f1b2c3d";
+    private static final String OTHER_LIGHT_ID = "7b6f9b4c-2f0e-4d5c-9b5f-1b9f9a2c3d4e";
+
+    private final List<Runnable> scheduledTasks = new ArrayList<>();
+    private final List<Resource> sentResources = new ArrayList<>();
+    private final List<CompletableFuture<Resources>> responses = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final Clip2Bridge bridge = mock(Clip2Bridge.class);
+    private final Clip2CommandQueue queue = new Clip2CommandQueue(bridge, scheduler, 50);
+
+    private boolean permitsAvailable = true;
+
+    @BeforeEach
+    void setUp() {
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            scheduledTasks.add(invocation.getArgument(0));
+            return null;
+        });
+        when(bridge.putResourceAsync(any(Resource.class))).thenAnswer(invocation -> {
+            if (!permitsAvailable) {
+                return null;
+            }
+            sentResources.add(invocation.getArgument(0));
+            CompletableFuture<Resources> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        });
+    }
+
+    private Resource light() {
+        return new Resource(ResourceType.LIGHT).setId(LIGHT_ID);
+    }
+
+    private void runScheduledTasks() {
+        while (!scheduledTasks.isEmpty()) {
+            scheduledTasks.remove(0).run();
+        }
+    }
+
+    private static double brightness(Resource resource) throws DTOPresentButEmptyException {
+        Dimming dimming = resource.getDimming();
+        assertNotNull(dimming);
+        return dimming.getBrightness();
+    }
+
+    private static @Nullable Throwable failureOf(CompletableFuture<Resources> future) {
+        assertTrue(future.isCompletedExceptionally());
+        ExecutionException e = assertThrows(ExecutionException.class, () -> future.get());
+        return e.getCause();
+    }
+
+    @Test
+    void testPendingCommandsAreCoalesced() throws DTOPresentButEmptyException {
+        CompletableFuture<Resources> future1 = queue.put(light().setOnOff(OnOffType.ON));
+        CompletableFuture<Resources> future2 = queue.put(light().setDimming(new Dimming().setBrightness(20)));
+        CompletableFuture<Resources> future3 = queue.put(light().setDimming(new Dimming().setBrightness(80)));
+        runScheduledTasks();
+
+        assertEquals(1, sentResources.size());
+        Resource sent = sentResources.get(0);
+        assertEquals(80, brightness(sent), 0.01);
+        OnState onState = sent.getOnState();
+        assertNotNull(onState);
+        assertTrue(onState.isOn());
+        assertFalse(future1.isDone());
+
+        Resources resources = new Resources();
+        responses.get(0).complete(resources);
+        assertSame(resources, future1.getNow(null));
+        assertSame(resources, future2.getNow(null));
+        assertSame(resources, future3.getNow(null));
+    }
+
+    @Test
+    void testCommandsAreNotMergedIntoSentCommand() throws DTOPresentButEmptyException {
+        CompletableFuture<Resources> future1 = queue.put(light().setDimming(new Dimming().setBrightness(10)));
+        runScheduledTasks();
+        CompletableFuture<Resources> future2 = queue.put(light().setDimming(new Dimming().setBrightness(20)));
+        CompletableFuture<Resources> future3 = queue.put(light().setDimming(new Dimming().setBrightness(30)));
+        runScheduledTasks();
+
+        // one PUT command at a time
+        assertEquals(1, sentResources.size());
+        Resources resources1 = new Resources();
+        responses.get(0).complete(resources1);
+        runScheduledTasks();
+
+        assertEquals(2, sentResources.size());
+        assertEquals(30, brightness(sentResources.get(1)), 0.01);
+        Resources resources2 = new Resources();
+        responses.get(1).complete(resources2);
+        assertSame(resources1, future1.getNow(null));
+        assertSame(resources2, future2.getNow(null));
+        assertSame(resources2, future3.getNow(null));
+    }
+
+    @Test
+    void testCommandsWithDifferentDynamicsAreNotMerged() throws DTOPresentButEmptyException {
+        queue.put(light().setDimming(new Dimming().setBrightness(10)).setDynamicsDuration(Duration.ofSeconds(5)));
+        queue.put(light().setDimming(new Dimming().setBrightness(20)));
+        queue.put(light().setDimming(new Dimming().setBrightness(30)));
+        runScheduledTasks();
+        responses.get(0).complete(new Resources());
+        runScheduledTasks();
+
+        assertEquals(2, sentResources.size());
+        assertEquals(10, brightness(sentResources.get(0)), 0.01);
+        assertEquals(30, brightness(sentResources.get(1)), 0.01);
+        assertNull(sentResources.get(1).getDynamics());
+    }
+
+    @Test
+    void testFailureIsPropagatedToMergedCommands() {
+        CompletableFuture<Resources> future1 = queue.put(light().setOnOff(OnOffType.ON));
+        CompletableFuture<Resources> future2 = queue.put(light().setDimming(new Dimming().setBrightness(20)));
+        CompletableFuture<Resources> future3 = queue
+                .put(new Resource(ResourceType.LIGHT).setId(OTHER_LIGHT_ID).setOnOff(OnOffType.OFF));
+        runScheduledTasks();
+
+        ApiException exception = new ApiException("PUT failed");
+        responses.get(0).completeExceptionally(exception);
+        assertSame(exception, failureOf(future1));
+        assertSame(exception, failureOf(future2));
+
+        // the queue continues with the next command
+        assertFalse(future3.isDone());
+        runScheduledTasks();
+        assertEquals(2, sentResources.size());
+        responses.get(1).complete(new Resources());
+        assertTrue(future3.isDone());
+        assertFalse(future3.isCompletedExceptionally());
+    }
+
+    @Test
+    void testDrainWaitsForPermitsWithoutBlocking() {
+        permitsAvailable = false;
+        CompletableFuture<Resources> future = queue.put(light().setOnOff(OnOffType.ON));
+        runScheduledTasks();
+        assertTrue(sentResources.isEmpty());
+        assertTrue(scheduledTasks.isEmpty());
+
+        permitsAvailable = true;
+        queue.permitsReleased();
+        runScheduledTasks();
+        assertEquals(1, sentResources.size());
+        responses.get(0).complete(new Resources());
+        assertTrue(future.isDone());
+    }
+
+    @Test
+    void testCloseCompletesPendingCommandsExceptionally() {
+        CompletableFuture<Resources> future1 = queue.put(light().setOnOff(OnOffType.ON));
+        CompletableFuture<Resources> future2 = queue
+                .put(new Resource(ResourceType.LIGHT).setId(OTHER_LIGHT_ID).setOnOff(OnOffType.OFF));
+        queue.close();
+
+        assertInstanceOf(ApiException.class, failureOf(future1));
+        assertInstanceOf(ApiException.class, failureOf(future2));
+        runScheduledTasks();
+        assertTrue(sentResources.isEmpty());
+        assertInstanceOf(ApiException.class, failureOf(queue.put(light().setOnOff(OnOffType.ON))));
+    }
+
+    @Test
+    void testHaveSameDynamics() {
+        assertTrue(Clip2CommandQueue.haveSameDynamics(light(), light()));
+        assertTrue(Clip2CommandQueue.haveSameDynamics(light().setDynamicsDuration(Duration.ofMillis(400)),
+                light().setDynamicsDuration(Duration.ofMillis(400))));
+        assertFalse(Clip2CommandQueue.haveSameDynamics(light().setDynamicsDuration(Duration.ofMillis(400)), light()));
+        assertFalse(Clip2CommandQueue.haveSameDynamics(light().setDynamicsDuration(Duration.ofMillis(400)),
+                light().setDynamicsDuration(Duration.ofMillis(800))));
+    }
+
+    @Test
+    void testIsMergeable() {
+        assertTrue(Clip2CommandQueue.isMergeable(light().setOnOff(OnOffType.ON)));
+        assertTrue(Clip2CommandQueue.isMergeable(
+                new Resource(ResourceType.GROUPED_LIGHT).setId(LIGHT_ID).setDimming(new Dimming().setBrightness(50))));
+        assertFalse(Clip2CommandQueue.isMergeable(new Resource(ResourceType.LIGHT).setOnOff(OnOffType.ON)));
+        assertFalse(Clip2CommandQueue.isMergeable(new Resource(ResourceType.MOTION).setId(LIGHT_ID)));
+        assertFalse(Clip2CommandQueue
+                .isMergeable(new Resource(ResourceType.SCENE).setId(LIGHT_ID).setRecallAction(RecallAction.ACTIVE)));
+    }
+
+    @Test
+    void testMergeSupersededValues() throws DTOPresentButEmptyException {
+        Resource older = light().setDimming(new Dimming().setBrightness(20));
+        Resource newer = light().setDimming(new Dimming().setBrightness(80));
+        Resource merged = Clip2CommandQueue.merge(newer, older);
+        Dimming dimming = merged.getDimming();
+        assertNotNull(dimming);
+        assertEquals(80, dimming.getBrightness(), 0.01);
+    }
+
+    @Test
+    void testMergeCompatibleValues() throws DTOPresentButEmptyException {
+        Resource older = light().setOnOff(OnOffType.ON).setColorXy(new ColorXy().setXY(new double[] { 0.3, 0.4 }));
+        Resource newer = light().setDimming(new Dimming().setBrightness(60));
+        Resource merged = Clip2CommandQueue.merge(newer, older);
+        OnState onState = merged.getOnState();
+        assertNotNull(onState);
+        assertTrue(onState.isOn());
+        assertNotNull(merged.getDimming());
+        assertNotNull(merged.getColorXy());
+        assertNull(merged.getColorTemperature());
+    }
+
+    @Test
+    void testMergeColorAndColorTemperatureAreExclusive() {
+        Resource older = light().setColorXy(new ColorXy().setXY(new double[] { 0.3, 0.4 }));
+        Resource newer = light().setColorTemperature(new ColorTemperature().setMirek(300));
+        Resource merged = Clip2CommandQueue.merge(newer, older);
+        assertNull(merged.getColorXy());
+        assertNotNull(merged.getColorTemperature());
+    }
+}
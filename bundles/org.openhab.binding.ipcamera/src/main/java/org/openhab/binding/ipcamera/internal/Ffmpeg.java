@@ -23,8 +23,6 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -100,7 +98,6 @@ public class Ffmpeg {
     }
 
     private class IpCameraFfmpegThread extends Thread {
-        private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(1);
         public int countOfMotions;
 
         IpCameraFfmpegThread() {
@@ -186,10 +183,10 @@ public class Ffmpeg {
             } finally {
                 switch (format) {
                     case GIF:
-                        threadPool.schedule(this::gifCreated, 800, TimeUnit.MILLISECONDS);
+                        ipCameraHandler.getThreadPool().schedule(this::gifCreated, 800, TimeUnit.MILLISECONDS);
                         break;
                     case RECORD:
-                        threadPool.schedule(this::mp4Created, 800, TimeUnit.MILLISECONDS);
+                        ipCameraHandler.getThreadPool().schedule(this::mp4Created, 800, TimeUnit.MILLISECONDS);
                         break;
                     default:
                         break;
@@ -34,6 +34,8 @@ public class IpCameraBindingConstants {
     public static final String COMMON_HANDLER = "commonHandler";
     public static final String INSTAR_HANDLER = "instarHandler";
     public static final String REOLINK_HANDLER = "reolinkHandler";
+    public static final String THREAD_POOL_NAME = BINDING_ID;
+    public static final String EVENT_LOOP_THREAD_NAME = BINDING_ID + "-netty";
 
     public enum FFmpegFormat {
         HLS,
@@ -33,7 +33,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -62,6 +61,7 @@ import org.openhab.binding.ipcamera.internal.ReolinkHandler;
 import org.openhab.binding.ipcamera.internal.onvif.OnvifConnection;
 import org.openhab.binding.ipcamera.internal.servlet.CameraServlet;
 import org.openhab.core.OpenHAB;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.IncreaseDecreaseType;
 import org.openhab.core.library.types.OnOffType;
@@ -96,7 +96,6 @@ import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.group.ChannelGroup;
 import io.netty.channel.group.DefaultChannelGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.base64.Base64;
@@ -128,7 +127,8 @@ import io.netty.util.concurrent.GlobalEventExecutor;
 public class IpCameraHandler extends BaseThingHandler {
     public final Logger logger = LoggerFactory.getLogger(getClass());
     public final IpCameraDynamicStateDescriptionProvider stateDescriptionProvider;
-    private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(2);
+    // Shared by all cameras, so jobs must be cancelled and never shutdown by a single handler.
+    private final ScheduledExecutorService threadPool = ThreadPoolManager.getScheduledPool(THREAD_POOL_NAME);
     private GroupTracker groupTracker;
     public CameraConfig cameraConfig = new CameraConfig();
 
@@ -152,7 +152,9 @@ public class IpCameraHandler extends BaseThingHandler {
     private @Nullable ScheduledFuture<?> snapshotJob = null;
     private @Nullable ScheduledFuture<?> authenticationJob = null;
     private @Nullable Bootstrap mainBootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(1);
+    private final EventLoopGroup mainEventLoopGroup;
+    // delayed tasks on the shared event loop, cancelled when the camera goes offline
+    private final Set<Future<?>> eventLoopTasks = ConcurrentHashMap.newKeySet();
     private FullHttpRequest putRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.PUT, "");
     private FullHttpRequest postRequestWithBody = new DefaultFullHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "");
     private String gifFilename = "ipcamera";
@@ -392,8 +394,10 @@ public class IpCameraHandler extends BaseThingHandler {
     }
 
     public IpCameraHandler(Thing thing, @Nullable String ipAddress, GroupTracker groupTracker,
-            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService) {
+            IpCameraDynamicStateDescriptionProvider stateDescriptionProvider, HttpService httpService,
+            EventLoopGroup eventLoopGroup) {
         super(thing);
+        this.mainEventLoopGroup = eventLoopGroup;
         this.stateDescriptionProvider = stateDescriptionProvider;
         if (ipAddress != null) {
             hostIp = ipAddress;
@@ -408,6 +412,29 @@ public class IpCameraHandler extends BaseThingHandler {
         return this;
     }
 
+    /**
+     * @return the Netty event loop that is shared by all cameras.
+     */
+    public EventLoopGroup getEventLoopGroup() {
+        return mainEventLoopGroup;
+    }
+
+    /**
+     * Run a task on the shared event loop after a delay. The task is cancelled if the camera goes offline before, as
+     * the event loop keeps running after this camera is disposed.
+     */
+    private void scheduleOnEventLoop(Runnable task, long delayMs) {
+        eventLoopTasks.removeIf(Future::isDone);
+        eventLoopTasks.add(mainEventLoopGroup.schedule(task, delayMs, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * @return the scheduler that is shared by all cameras.
+     */
+    public ScheduledExecutorService getThreadPool() {
+        return threadPool;
+    }
+
     // false clears the stored user/pass hash, true creates the hash
     public boolean setBasicAuth(boolean useBasic) {
         if (!useBasic) {
@@ -710,7 +737,7 @@ public class IpCameraHandler extends BaseThingHandler {
         }
         closeChannel(getTinyUrl(mjpegUri));
         // Dahua cameras crash if you refresh (close and open) the stream without this delay.
-        mainEventLoopGroup.schedule(this::openMjpegStream, 300, TimeUnit.MILLISECONDS);
+        scheduleOnEventLoop(this::openMjpegStream, 300);
     }
 
     private void openMjpegStream() {
@@ -1230,7 +1257,7 @@ public class IpCameraHandler extends BaseThingHandler {
                             return;
                         }
                         onvifCamera.setAbsolutePan(Float.valueOf(command.toString()));
-                        mainEventLoopGroup.schedule(this::sendPTZRequest, 500, TimeUnit.MILLISECONDS);
+                        scheduleOnEventLoop(this::sendPTZRequest, 500);
                     }
                     return;
                 case CHANNEL_TILT:
@@ -1255,7 +1282,7 @@ public class IpCameraHandler extends BaseThingHandler {
                             return;
                         }
                         onvifCamera.setAbsoluteTilt(Float.valueOf(command.toString()));
-                        mainEventLoopGroup.schedule(this::sendPTZRequest, 500, TimeUnit.MILLISECONDS);
+                        scheduleOnEventLoop(this::sendPTZRequest, 500);
                     }
                     return;
                 case CHANNEL_ZOOM:
@@ -1280,7 +1307,7 @@ public class IpCameraHandler extends BaseThingHandler {
                             return;
                         }
                         onvifCamera.setAbsoluteZoom(Float.valueOf(command.toString()));
-                        mainEventLoopGroup.schedule(this::sendPTZRequest, 500, TimeUnit.MILLISECONDS);
+                        scheduleOnEventLoop(this::sendPTZRequest, 500);
                     }
                     return;
             }
@@ -1474,7 +1501,7 @@ public class IpCameraHandler extends BaseThingHandler {
 
     private void updateSnapshot() {
         lastSnapshotRequest = Instant.now();
-        mainEventLoopGroup.schedule(this::takeSnapshot, 0, TimeUnit.MILLISECONDS);
+        scheduleOnEventLoop(this::takeSnapshot, 0);
     }
 
     public byte[] getSnapshot() {
@@ -1649,8 +1676,6 @@ public class IpCameraHandler extends BaseThingHandler {
     @Override
     public void initialize() {
         cameraConfig = getConfigAs(CameraConfig.class);
-        threadPool = Executors.newScheduledThreadPool(2);
-        mainEventLoopGroup = new NioEventLoopGroup(3);
         snapshotUri = getCorrectUrlFormat(cameraConfig.getSnapshotUrl());
         mjpegUri = getCorrectUrlFormat(cameraConfig.getMjpegUrl());
         rtspUri = cameraConfig.getFfmpegInput();
@@ -1820,6 +1845,8 @@ public class IpCameraHandler extends BaseThingHandler {
             localFuture.cancel(true);
             cameraConnectionJob = null;
         }
+        eventLoopTasks.forEach(task -> task.cancel(false));
+        eventLoopTasks.clear();
         Ffmpeg localFfmpeg = ffmpegHLS;
         if (localFfmpeg != null) {
             localFfmpeg.stopConverting();
@@ -1864,7 +1891,6 @@ public class IpCameraHandler extends BaseThingHandler {
             localServlet.dispose();
             servlet = null;
         }
-        threadPool.shutdown();
         // inform all group handlers that this camera has gone offline
         groupTracker.listOfOnlineCameraHandlers.remove(this);
         groupTracker.listOfOnlineCameraUID.remove(getThing().getUID().getId());
@@ -1873,7 +1899,6 @@ public class IpCameraHandler extends BaseThingHandler {
         }
         basicAuth = ""; // clear out stored Password hash
         useDigestAuth = false;
-        mainEventLoopGroup.shutdownGracefully();
         mainBootstrap = null;
         channelTrackingMap.clear();
     }
@@ -27,8 +27,6 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.TimeZone;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -51,7 +49,8 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.group.ChannelGroup;
+import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.handler.codec.http.DefaultFullHttpRequest;
@@ -61,6 +60,7 @@ import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpMethod;
 import io.netty.handler.codec.http.HttpVersion;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.concurrent.GlobalEventExecutor;
 
 /**
  * The {@link OnvifConnection} This is a basic Netty implementation for connecting and communicating to ONVIF cameras.
@@ -112,9 +112,9 @@ public class OnvifConnection {
     }
 
     private final Logger logger = LoggerFactory.getLogger(getClass());
-    private ScheduledExecutorService threadPool = Executors.newScheduledThreadPool(2);
     private @Nullable Bootstrap bootstrap;
-    private EventLoopGroup mainEventLoopGroup = new NioEventLoopGroup(2);
+    // The event loop and scheduler are shared with all cameras, so only our own channels are closed on disconnect.
+    private final ChannelGroup openChannels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE);
     private ReentrantLock connecting = new ReentrantLock();
     private String ipAddress = "";
     private String user = "";
@@ -547,9 +547,9 @@ public class OnvifConnection {
         request.headers().set("Content-Length", bbuf.readableBytes());
         request.content().clear().writeBytes(bbuf);
 
+        EventLoopGroup mainEventLoopGroup = ipCameraHandler.getEventLoopGroup();
         Bootstrap localBootstap = bootstrap;
         if (localBootstap == null) {
-            mainEventLoopGroup = new NioEventLoopGroup(2);
             localBootstap = new Bootstrap();
             localBootstap.group(mainEventLoopGroup);
             localBootstap.channel(NioSocketChannel.class);
@@ -580,6 +580,7 @@ public class OnvifConnection {
                             }
                             if (future.isSuccess()) {
                                 Channel ch = future.channel();
+                                openChannels.add(ch);
                                 ch.writeAndFlush(request);
                             } else { // an error occured
                                 logger.debug("Camera is not reachable when using xAddr:{}.", xAddr);
@@ -922,7 +923,6 @@ public class OnvifConnection {
         try {
             if (!isConnected) {
                 logger.debug("Connecting {} to ONVIF", ipAddress);
-                threadPool = Executors.newScheduledThreadPool(2);
                 sendOnvifRequest(RequestType.GetSystemDateAndTime, deviceXAddr);
                 usingEvents = useEvents;
                 sendOnvifRequest(RequestType.GetCapabilities, deviceXAddr);
@@ -942,17 +942,10 @@ public class OnvifConnection {
     }
 
     private void cleanup() {
-        if (!isConnected && !mainEventLoopGroup.isShuttingDown()) {
-            try {
-                mainEventLoopGroup.shutdownGracefully();
-                mainEventLoopGroup.awaitTermination(3, TimeUnit.SECONDS);
-            } catch (InterruptedException e) {
-                logger.warn("ONVIF was not cleanly shutdown, due to being interrupted");
-            } finally {
-                logger.debug("Eventloop is shutdown:{}", mainEventLoopGroup.isShutdown());
-                bootstrap = null;
-                threadPool.shutdown();
-            }
+        if (!isConnected) {
+            openChannels.close().awaitUninterruptibly(3, TimeUnit.SECONDS);
+            logger.debug("ONVIF channels are closed:{}", openChannels.isEmpty());
+            bootstrap = null;
         }
     }
 
@@ -961,12 +954,12 @@ public class OnvifConnection {
         try {
             isConnected = false;// isConnected is not thread safe, connecting.lock() used as fix.
             if (bootstrap != null) {
-                if (usingEvents && !mainEventLoopGroup.isShuttingDown()) {
+                if (usingEvents && !ipCameraHandler.getEventLoopGroup().isShuttingDown()) {
                     // Some cameras may continue to send events even when they can't reach a server.
                     sendOnvifRequest(RequestType.Unsubscribe, subscriptionXAddr);
                 }
-                // give time for the Unsubscribe request to be sent, shutdownGracefully will try to send it first.
-                threadPool.schedule(this::cleanup, 50, TimeUnit.MILLISECONDS);
+                // give time for the Unsubscribe request to be sent before its channel is closed.
+                ipCameraHandler.getThreadPool().schedule(this::cleanup, 50, TimeUnit.MILLISECONDS);
             } else {
                 cleanup();
             }
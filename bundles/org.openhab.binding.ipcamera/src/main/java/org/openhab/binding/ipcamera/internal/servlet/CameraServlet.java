@@ -87,6 +87,26 @@ public class CameraServlet extends IpCameraServlet {
         }
     }
 
+    private void mjpegStreamClosed(StreamOutput output) {
+        // Occurs when browser stops the stream.
+        openStreams.removeStream(output);
+        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
+        if (openStreams.isEmpty()) {
+            if (output.isSnapshotBased) {
+                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
+                if (localMjpeg != null) {
+                    localMjpeg.stopConverting();
+                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
+                    // in handler's pollCameraRunnable() check for frozen camera
+                    handler.ffmpegMjpeg = null;
+                }
+            } else {
+                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
+            }
+            logger.debug("All ipcamera.mjpeg streams have stopped.");
+        }
+    }
+
     @Override
     protected void doGet(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
         if (req == null || resp == null) {
@@ -181,49 +201,32 @@ public class CameraServlet extends IpCameraServlet {
                     }
                 } while (true);
             case "/ipcamera.mjpeg":
+                AsyncContext asyncContext = req.startAsync(req, resp);
+                asyncContext.setTimeout(0);
                 if (openStreams.isEmpty()) {
                     logger.debug("First stream requested, opening up stream from camera");
                     handler.openCamerasStream();
                     if (handler.mjpegUri.isEmpty() || "ffmpeg".equals(handler.mjpegUri)) {
-                        output = new StreamOutput(resp);
+                        output = new StreamOutput(asyncContext);
                     } else {
-                        output = new StreamOutput(resp, handler.mjpegContentType);
+                        output = new StreamOutput(asyncContext, handler.mjpegContentType);
                     }
                 } else if (handler.mjpegUri.isEmpty() || "ffmpeg".equals(handler.mjpegUri)) {
-                    output = new StreamOutput(resp);
+                    output = new StreamOutput(asyncContext);
                 } else {
                     ChannelTracking tracker = handler.channelTrackingMap.get(handler.getTinyUrl(handler.mjpegUri));
                     if (tracker == null || !tracker.getChannel().isOpen()) {
                         logger.debug("Not the first stream requested but the stream from camera was closed");
                         handler.openCamerasStream();
                     }
-                    output = new StreamOutput(resp, handler.mjpegContentType);
+                    output = new StreamOutput(asyncContext, handler.mjpegContentType);
                 }
-                openStreams.addStream(output);
-                do {
-                    try {
-                        output.sendFrame();
-                    } catch (InterruptedException | IOException e) {
-                        // Never stop streaming until IOException. Occurs when browser stops the stream.
-                        openStreams.removeStream(output);
-                        logger.debug("Now there are {} ipcamera.mjpeg streams open.", openStreams.getNumberOfStreams());
-                        if (openStreams.isEmpty()) {
-                            if (output.isSnapshotBased) {
-                                Ffmpeg localMjpeg = handler.ffmpegMjpeg;
-                                if (localMjpeg != null) {
-                                    localMjpeg.stopConverting();
-                                    // Set reference to ffmpegMjpeg to null to prevent automatic reconnection
-                                    // in handler's pollCameraRunnable() check for frozen camera
-                                    handler.ffmpegMjpeg = null;
-                                }
-                            } else {
-                                handler.closeChannel(handler.getTinyUrl(handler.mjpegUri));
-                            }
-                            logger.debug("All ipcamera.mjpeg streams have stopped.");
-                        }
-                        return;
-                    }
-                } while (!openStreams.isEmpty());
+                // Frames are written by the container when the viewer can take them, so no thread is held here.
+                final StreamOutput mjpegOutput = output;
+                mjpegOutput.setCloseListener(() -> mjpegStreamClosed(mjpegOutput));
+                openStreams.addStream(mjpegOutput);
+                mjpegOutput.startAsync();
+                return;
             case "/autofps.mjpeg":
                 handler.streamingAutoFps = true;
                 output = new StreamOutput(resp);
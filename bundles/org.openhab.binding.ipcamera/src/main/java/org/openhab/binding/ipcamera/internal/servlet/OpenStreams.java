@@ -12,23 +12,23 @@
  */
 package org.openhab.binding.ipcamera.internal.servlet;
 
-import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 
 /**
  * The {@link OpenStreams} Keeps track of all open mjpeg streams so the byte[] can be given to all FIFO buffers to allow
- * 1 to many streams without needing to open more than 1 source stream.
- *
+ * 1 to many streams without needing to open more than 1 source stream. Each frame is only turned into a multipart
+ * part once and the same array is then shared by all viewers.
  *
  * @author Matthew Skinner - Initial contribution
  */
 
 @NonNullByDefault
 public class OpenStreams {
-    private List<StreamOutput> openStreams = Collections.synchronizedList(new ArrayList<StreamOutput>());
+    private List<StreamOutput> openStreams = new CopyOnWriteArrayList<>();
     public String boundary = "thisMjpegStream";
 
     public synchronized void addStream(StreamOutput stream) {
@@ -55,8 +55,17 @@ public class OpenStreams {
     }
 
     public synchronized void queueFrame(byte[] frame) {
+        byte @Nullable [] snapshotPart = null;
         for (StreamOutput stream : openStreams) {
-            stream.queueFrame(frame);
+            if (stream.isSnapshotBased) {
+                byte[] localPart = snapshotPart;
+                if (localPart == null) {
+                    localPart = snapshotPart = StreamOutput.createSnapshotPart(frame);
+                }
+                stream.queueFrame(localPart);
+            } else {
+                stream.queueFrame(frame);
+            }
         }
     }
 
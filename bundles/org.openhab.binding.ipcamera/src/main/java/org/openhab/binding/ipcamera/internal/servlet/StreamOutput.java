@@ -13,45 +13,82 @@
 package org.openhab.binding.ipcamera.internal.servlet;
 
 import java.io.IOException;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 
+import javax.servlet.AsyncContext;
 import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
 import javax.servlet.http.HttpServletResponse;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * The {@link StreamOutput} Streams mjpeg out to a client
+ * The {@link StreamOutput} Streams mjpeg out to a client. When created with an {@link AsyncContext} the frames are
+ * written with non blocking Servlet I/O, so no servlet thread is held per viewer. Frames are shared between all
+ * viewers and never copied per viewer, and slow viewers drop frames instead of buffering them.
  *
  * @author Matthew Skinner - Initial contribution
  */
-
 @NonNullByDefault
-public class StreamOutput {
+public class StreamOutput implements WriteListener {
+    private static final String SNAPSHOT_BOUNDARY = "thisMjpegStream";
+    private static final byte[] SNAPSHOT_PART_HEADER = ("--" + SNAPSHOT_BOUNDARY
+            + "\r\nContent-Type: image/jpeg\r\nContent-Length: ").getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_QUEUED_CHUNKS = 50;
+
     public final Logger logger = LoggerFactory.getLogger(getClass());
     private final HttpServletResponse response;
-    private final String boundary;
+    private final @Nullable AsyncContext asyncContext;
     private String contentType;
+    private byte[] delimiter = new byte[0];
+    private byte[] resyncTail = new byte[0];
     private final ServletOutputStream output;
-    private BlockingQueue<byte[]> fifo = new ArrayBlockingQueue<byte[]>(50);
+    private final Deque<byte[]> fifo = new ArrayDeque<>();
+    private @Nullable Runnable closeListener;
     private boolean connected = false;
+    private boolean writePossible = false;
+    private boolean resyncing = false;
+    private boolean firstFrameQueued = false;
+    private boolean closed = false;
     public boolean isSnapshotBased = false;
 
     public StreamOutput(HttpServletResponse response) throws IOException {
-        boundary = "thisMjpegStream";
-        contentType = "multipart/x-mixed-replace; boundary=" + boundary;
+        contentType = "multipart/x-mixed-replace; boundary=" + SNAPSHOT_BOUNDARY;
         this.response = response;
+        this.asyncContext = null;
         output = response.getOutputStream();
         isSnapshotBased = true;
     }
 
-    public StreamOutput(HttpServletResponse response, String contentType) throws IOException {
-        boundary = "";
-        this.contentType = contentType;
+    /**
+     * Creates a snapshot based stream that is written asynchronously.
+     */
+    public StreamOutput(AsyncContext asyncContext) throws IOException {
+        this((HttpServletResponse) asyncContext.getResponse(), asyncContext);
+    }
+
+    private StreamOutput(HttpServletResponse response, AsyncContext asyncContext) throws IOException {
+        contentType = "multipart/x-mixed-replace; boundary=" + SNAPSHOT_BOUNDARY;
         this.response = response;
+        this.asyncContext = asyncContext;
+        output = response.getOutputStream();
+        isSnapshotBased = true;
+    }
+
+    /**
+     * Creates a stream that relays the cameras own mjpeg stream asynchronously.
+     */
+    public StreamOutput(AsyncContext asyncContext, String contentType) throws IOException {
+        this.contentType = contentType;
+        this.response = (HttpServletResponse) asyncContext.getResponse();
+        this.asyncContext = asyncContext;
         output = response.getOutputStream();
         if (!contentType.isEmpty()) {
             sendInitialHeaders();
@@ -59,55 +96,248 @@ public class StreamOutput {
         }
     }
 
+    /**
+     * Builds a complete multipart part from a jpg, so it only has to be done once for all viewers.
+     *
+     * @param snapshot the jpg
+     * @return boundary, headers, jpg and trailing CRLF in a single array.
+     */
+    public static byte[] createSnapshotPart(byte[] snapshot) {
+        byte[] length = Integer.toString(snapshot.length).getBytes(StandardCharsets.US_ASCII);
+        byte[] part = new byte[SNAPSHOT_PART_HEADER.length + length.length + 2 * CRLF.length + snapshot.length
+                + CRLF.length];
+        int index = 0;
+        System.arraycopy(SNAPSHOT_PART_HEADER, 0, part, index, SNAPSHOT_PART_HEADER.length);
+        index += SNAPSHOT_PART_HEADER.length;
+        System.arraycopy(length, 0, part, index, length.length);
+        index += length.length;
+        System.arraycopy(CRLF, 0, part, index, CRLF.length);
+        index += CRLF.length;
+        System.arraycopy(CRLF, 0, part, index, CRLF.length);
+        index += CRLF.length;
+        System.arraycopy(snapshot, 0, part, index, snapshot.length);
+        index += snapshot.length;
+        System.arraycopy(CRLF, 0, part, index, CRLF.length);
+        return part;
+    }
+
     public void sendSnapshotBasedFrame(byte[] currentSnapshot) throws IOException {
-        String header = "--" + boundary + "\r\n" + "Content-Type: image/jpeg" + "\r\n" + "Content-Length: "
-                + currentSnapshot.length + "\r\n\r\n";
+        byte[] part = createSnapshotPart(currentSnapshot);
         if (!connected) {
             sendInitialHeaders();
             // iOS needs to have two jpgs sent for the picture to appear instantly.
-            output.write(header.getBytes());
-            output.write(currentSnapshot);
-            output.write("\r\n".getBytes());
+            output.write(part);
+            connected = true;
+        }
+        output.write(part);
+    }
+
+    /**
+     * Sets a listener that is called once when the viewer disconnects.
+     */
+    public void setCloseListener(Runnable closeListener) {
+        this.closeListener = closeListener;
+    }
+
+    /**
+     * Starts writing queued frames with non blocking I/O. Only valid for streams created with an AsyncContext.
+     */
+    public void startAsync() {
+        if (isSnapshotBased) {
+            sendInitialHeaders();
             connected = true;
         }
-        output.write(header.getBytes());
-        output.write(currentSnapshot);
-        output.write("\r\n".getBytes());
+        output.setWriteListener(this);
     }
 
+    /**
+     * Queues a frame for this viewer. Snapshot based streams only keep the newest frame, streams that relay the
+     * cameras mjpeg stream drop the backlog and restart at the next boundary when the viewer falls too far behind.
+     *
+     * @param frame a complete part made with {@link #createSnapshotPart} or a chunk of the cameras mjpeg stream.
+     */
     public void queueFrame(byte[] frame) {
-        try {
-            fifo.add(frame);
-        } catch (IllegalStateException e) {
-            logger.debug("FIFO buffer has run out of space:{}", e.getMessage());
-            fifo.remove();
-            fifo.add(frame);
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (isSnapshotBased) {
+                if (!fifo.isEmpty()) {
+                    logger.trace("Viewer is too slow, dropping a frame");
+                    fifo.clear();
+                }
+                if (!firstFrameQueued) {
+                    // iOS needs to have two jpgs sent for the picture to appear instantly.
+                    fifo.add(frame);
+                    firstFrameQueued = true;
+                }
+                fifo.add(frame);
+            } else {
+                byte[] chunk = frame;
+                if (fifo.size() >= MAX_QUEUED_CHUNKS) {
+                    logger.debug("Viewer is too slow, dropping {} chunks and waiting for the next frame", fifo.size());
+                    fifo.clear();
+                    resyncing = true;
+                    resyncTail = new byte[0];
+                }
+                if (resyncing) {
+                    byte[] resumed = resync(chunk);
+                    if (resumed == null) {
+                        return;
+                    }
+                    chunk = resumed;
+                }
+                fifo.add(chunk);
+            }
+        }
+        writeQueuedFrames();
+    }
+
+    /**
+     * Searches for the next multipart delimiter while resyncing. The last bytes of a chunk are kept, so a delimiter
+     * that is split across two chunks is still found.
+     *
+     * @return the data starting at the delimiter, or null if the chunk contains no delimiter.
+     */
+    private byte @Nullable [] resync(byte[] chunk) {
+        byte[] data = chunk;
+        if (resyncTail.length > 0) {
+            data = Arrays.copyOf(resyncTail, resyncTail.length + chunk.length);
+            System.arraycopy(chunk, 0, data, resyncTail.length, chunk.length);
+        }
+        int start = indexOfDelimiter(data);
+        if (start < 0) {
+            int tailLength = Math.min(data.length, delimiter.length - 1);
+            resyncTail = Arrays.copyOfRange(data, data.length - tailLength, data.length);
+            return null;
+        }
+        resyncing = false;
+        resyncTail = new byte[0];
+        return start == 0 ? data : Arrays.copyOfRange(data, start, data.length);
+    }
+
+    private int indexOfDelimiter(byte[] data) {
+        if (delimiter.length == 0) {
+            return 0;
         }
+        outer: for (int i = 0; i <= data.length - delimiter.length; i++) {
+            for (int j = 0; j < delimiter.length; j++) {
+                if (data[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @return the multipart delimiter "--boundary" from a content type, or an empty array if it has no boundary.
+     */
+    static byte[] parseDelimiter(String contentType) {
+        int index = contentType.indexOf("boundary=");
+        if (index < 0) {
+            return new byte[0];
+        }
+        String boundary = contentType.substring(index + "boundary=".length());
+        int end = boundary.indexOf(';');
+        if (end >= 0) {
+            boundary = boundary.substring(0, end);
+        }
+        boundary = boundary.trim();
+        if (boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+            boundary = boundary.substring(1, boundary.length() - 1);
+        }
+        if (boundary.isEmpty()) {
+            return new byte[0];
+        }
+        return ("--" + boundary).getBytes(StandardCharsets.US_ASCII);
     }
 
     public void updateContentType(String contentType) {
-        this.contentType = contentType;
-        if (!connected) {
-            sendInitialHeaders();
-            connected = true;
+        synchronized (this) {
+            this.contentType = contentType;
+            if (!connected) {
+                sendInitialHeaders();
+                connected = true;
+            }
         }
+        writeQueuedFrames();
     }
 
-    public void sendFrame() throws IOException, InterruptedException {
-        if (isSnapshotBased) {
-            sendSnapshotBasedFrame(fifo.take());
-        } else if (connected) {
-            output.write(fifo.take());
+    /**
+     * Writes the queued frames from the calling thread if the container has reported that the output is ready and no
+     * other thread is currently writing.
+     */
+    private void writeQueuedFrames() {
+        synchronized (this) {
+            if (!writePossible) {
+                return;
+            }
+            writePossible = false;
+        }
+        try {
+            onWritePossible();
+        } catch (IOException e) {
+            onError(e);
+        }
+    }
+
+    @Override
+    public void onWritePossible() throws IOException {
+        while (output.isReady()) {
+            byte[] frame;
+            synchronized (this) {
+                frame = connected ? fifo.poll() : null;
+                if (frame == null) {
+                    writePossible = !closed;
+                    return;
+                }
+            }
+            output.write(frame);
+        }
+        // the container calls onWritePossible() again once the client has caught up.
+    }
+
+    @Override
+    public void onError(@Nullable Throwable t) {
+        logger.debug("Viewer has stopped the stream:{}", t == null ? "" : t.getMessage());
+        boolean wasClosed;
+        synchronized (this) {
+            wasClosed = closed;
+        }
+        close();
+        Runnable listener = closeListener;
+        if (!wasClosed && listener != null) {
+            listener.run();
         }
     }
 
     private void sendInitialHeaders() {
+        delimiter = parseDelimiter(contentType);
         response.setContentType(contentType);
         response.setHeader("Access-Control-Allow-Origin", "*");
         response.setHeader("Access-Control-Expose-Headers", "*");
     }
 
     public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            writePossible = false;
+            fifo.clear();
+        }
+        AsyncContext localContext = asyncContext;
+        if (localContext != null) {
+            try {
+                localContext.complete();
+            } catch (IllegalStateException e) {
+                // already completed by the container
+            }
+            return;
+        }
         try {
             output.close();
         } catch (IOException e) {
@@ -22,12 +22,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.InboundSpec;
 import org.openhab.binding.knx.internal.client.OutboundSpec;
+import org.openhab.binding.knx.internal.dpt.DPTDecoder;
 import org.openhab.binding.knx.internal.dpt.DPTUtil;
+import org.openhab.binding.knx.internal.dpt.ValueDecoder;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.thing.Channel;
 import org.openhab.core.thing.ChannelUID;
@@ -56,6 +59,7 @@ public abstract class KNXChannel {
     private final ChannelUID channelUID;
     private final boolean isControl;
     private final Class<? extends Type> preferredType;
+    private final Map<String, DPTDecoder> decoders = new ConcurrentHashMap<>();
 
     KNXChannel(List<Class<? extends Type>> acceptedTypes, Channel channel) {
         this(Set.of(GA), acceptedTypes, channel);
@@ -150,5 +154,18 @@ public abstract class KNXChannel {
                 .filter(spec -> spec.matchesDestination(groupAddress)).findFirst().orElse(null);
     }
 
+    /**
+     * convert the raw value received for this channel to the corresponding openHAB value
+     *
+     * The decoder for each DPT is only created once and re-used for all further data.
+     *
+     * @param dpt the DPT of the given data
+     * @param data a byte array containing the value
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    public final @Nullable Type decode(String dpt, byte[] data) {
+        return decoders.computeIfAbsent(dpt, d -> ValueDecoder.getDecoder(d, preferredType)).decode(data);
+    }
+
     protected abstract String getDefaultDPT(String gaConfigKey);
 }
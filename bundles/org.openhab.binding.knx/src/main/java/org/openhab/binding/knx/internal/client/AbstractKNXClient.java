@@ -16,13 +16,11 @@ import static org.openhab.binding.knx.internal.dpt.DPTUtil.NORMALIZED_DPT;
 
 import java.time.Duration;
 import java.util.Optional;
-import java.util.Set;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -90,6 +88,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private final int readingPause;
     private final int autoReconnectPeriod;
     private final int readRetriesLimit;
+    private final int maxOutstandingReads;
     private final StatusUpdateCallback statusUpdateCallback;
     private final ScheduledExecutorService knxScheduler;
     private final CommandExtensionData commandExtensionData;
@@ -103,8 +102,10 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     private @Nullable ScheduledFuture<?> busJob;
     private @Nullable ScheduledFuture<?> connectJob;
 
-    private final Set<GroupAddressListener> groupAddressListeners = new CopyOnWriteArraySet<>();
-    private final LinkedBlockingQueue<ReadDatapoint> readDatapoints = new LinkedBlockingQueue<>();
+    private final GroupAddressDispatcher groupAddressDispatcher;
+    private final ReadDatapointQueue readDatapoints;
+    private final ReadStatistics readStatistics;
+    private final AtomicInteger outstandingReads = new AtomicInteger();
 
     @FunctionalInterface
     private interface ListenerNotification {
@@ -121,6 +122,7 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupWrite(ProcessEvent e) {
+            readDatapoints.answered(e.getDestination());
             processEvent("Group Write", e, (listener, source, destination, asdu) -> listener
                     .onGroupWrite(AbstractKNXClient.this, source, destination, asdu));
         }
@@ -133,22 +135,28 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
 
         @Override
         public void groupReadResponse(ProcessEvent e) {
+            readDatapoints.answered(e.getDestination());
             processEvent("Group Read Response", e, (listener, source, destination, asdu) -> listener
                     .onGroupReadResponse(AbstractKNXClient.this, source, destination, asdu));
         }
     };
 
     public AbstractKNXClient(int autoReconnectPeriod, ThingUID thingUID, int responseTimeout, int readingPause,
-            int readRetriesLimit, ScheduledExecutorService knxScheduler, CommandExtensionData commandExtensionData,
-            StatusUpdateCallback statusUpdateCallback) {
+            int readRetriesLimit, int maxOutstandingReads, ScheduledExecutorService knxScheduler,
+            CommandExtensionData commandExtensionData, StatusUpdateCallback statusUpdateCallback) {
         this.autoReconnectPeriod = autoReconnectPeriod;
         this.thingUID = thingUID;
         this.responseTimeout = responseTimeout;
         this.readingPause = readingPause;
         this.readRetriesLimit = readRetriesLimit;
+        this.maxOutstandingReads = Math.max(1, maxOutstandingReads);
         this.knxScheduler = knxScheduler;
         this.statusUpdateCallback = statusUpdateCallback;
         this.commandExtensionData = commandExtensionData;
+        this.groupAddressDispatcher = new GroupAddressDispatcher(knxScheduler,
+                commandExtensionData.telegramStatistics());
+        this.readStatistics = commandExtensionData.readStatistics();
+        this.readDatapoints = new ReadDatapointQueue(readStatistics);
     }
 
     public void initialize() {
@@ -327,13 +335,8 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         IndividualAddress source = event.getSourceAddr();
         byte[] asdu = event.getASDU();
         logger.trace("Received a {} telegram from '{}' to '{}' with value '{}'", task, source, destination, asdu);
-        boolean isHandled = false;
-        for (GroupAddressListener listener : groupAddressListeners) {
-            if (listener.listensTo(destination)) {
-                isHandled = true;
-                knxScheduler.schedule(() -> action.apply(listener, source, destination, asdu), 0, TimeUnit.SECONDS);
-            }
-        }
+        boolean isHandled = groupAddressDispatcher.dispatch(destination,
+                listener -> action.apply(listener, source, destination, asdu));
         // Store information about unhandled GAs, can be shown on console using knx:list-unknown-ga.
         // The idea is to store GA, message type, and size as key. The value counts the number of packets.
         if (!isHandled) {
@@ -349,8 +352,6 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         }
     }
 
-    // datapoint is null at end of the list, warning is misleading
-    @SuppressWarnings("null")
     private void readNextQueuedDatapoint() {
         if (!connectIfNotAutomatic()) {
             return;
@@ -359,32 +360,49 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
         if (processCommunicator == null) {
             return;
         }
+        // keep the number of read requests waiting for a response within the configured limit
+        if (outstandingReads.get() >= maxOutstandingReads) {
+            return;
+        }
         ReadDatapoint datapoint = readDatapoints.poll();
-        if (datapoint != null) {
+        if (datapoint == null) {
+            return;
+        }
+        readStatistics.setOutstanding(outstandingReads.incrementAndGet());
+        if (maxOutstandingReads == 1) {
+            readDatapoint(processCommunicator, datapoint);
+        } else {
+            knxScheduler.execute(() -> readDatapoint(processCommunicator, datapoint));
+        }
+    }
+
+    private void readDatapoint(ProcessCommunicator processCommunicator, ReadDatapoint datapoint) {
+        try {
             datapoint.incrementRetries();
-            try {
-                logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
-                processCommunicator.read(datapoint.getDatapoint());
-            } catch (KNXException e) {
-                // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
-                // KnxIllegArgumentException
-                if (datapoint.getRetries() < datapoint.getLimit()) {
-                    readDatapoints.add(datapoint);
-                    logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
-                            datapoint.getDatapoint().getMainAddress(), e.getMessage());
-                } else {
-                    logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
-                            datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
-                }
-            } catch (InterruptedException | CancellationException e) {
-                logger.debug("Interrupted sending KNX read request");
-            } catch (Exception e) {
-                // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
-                // Not catching this would end the scheduled read for all DPs in case of an error.
-                // Severity is warning as this is likely caused by a configuration error.
-                logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(),
-                        e.getMessage());
+            readStatistics.readSent();
+            logger.trace("Sending a Group Read Request telegram for {}", datapoint.getDatapoint().getMainAddress());
+            processCommunicator.read(datapoint.getDatapoint());
+        } catch (KNXException e) {
+            // Note: KnxException does not cover KnxRuntimeException and subclasses KnxSecureException,
+            // KnxIllegArgumentException
+            if (datapoint.getRetries() < datapoint.getLimit()) {
+                readDatapoints.retry(datapoint);
+                logger.debug("Could not read value for datapoint {}: {}. Going to retry.",
+                        datapoint.getDatapoint().getMainAddress(), e.getMessage());
+            } else {
+                readStatistics.readFailed();
+                logger.warn("Giving up reading datapoint {}, the number of maximum retries ({}) is reached.",
+                        datapoint.getDatapoint().getMainAddress(), datapoint.getLimit());
             }
+        } catch (InterruptedException | CancellationException e) {
+            logger.debug("Interrupted sending KNX read request");
+        } catch (Exception e) {
+            // Any other exception: Fail gracefully, i.e. notify user and continue reading next DP.
+            // Not catching this would end the scheduled read for all DPs in case of an error.
+            // Severity is warning as this is likely caused by a configuration error.
+            logger.warn("Error reading datapoint {}: {}", datapoint.getDatapoint().getMainAddress(), e.getMessage());
+        } finally {
+            readStatistics.setOutstanding(outstandingReads.decrementAndGet());
         }
     }
 
@@ -456,23 +474,18 @@ public abstract class AbstractKNXClient implements NetworkLinkListener, KNXClien
     }
 
     @Override
-    public void readDatapoint(Datapoint datapoint) {
-        synchronized (this) {
-            ReadDatapoint retryDatapoint = new ReadDatapoint(datapoint, readRetriesLimit);
-            if (!readDatapoints.contains(retryDatapoint)) {
-                readDatapoints.add(retryDatapoint);
-            }
-        }
+    public void readDatapoint(Datapoint datapoint, ReadPriority priority) {
+        readDatapoints.add(new ReadDatapoint(datapoint, readRetriesLimit), priority);
     }
 
     @Override
     public final void registerGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.add(listener);
+        groupAddressDispatcher.register(listener);
     }
 
     @Override
     public final void unregisterGroupAddressListener(GroupAddressListener listener) {
-        groupAddressListeners.remove(listener);
+        groupAddressDispatcher.unregister(listener);
     }
 
     @Override
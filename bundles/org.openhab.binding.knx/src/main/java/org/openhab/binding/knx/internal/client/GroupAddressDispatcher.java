@@ -0,0 +1,155 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link GroupAddressDispatcher} hands telegrams to the {@link GroupAddressListener}s interested in their
+ * destination.
+ *
+ * Listeners are indexed by group address when they are registered, so finding the listeners of a telegram is a single
+ * lookup. Telegrams for the same group address are processed one after the other in the order they were received,
+ * while telegrams for different group addresses are processed in parallel on the given executor.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class GroupAddressDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(GroupAddressDispatcher.class);
+
+    private final Executor executor;
+    private final TelegramStatistics statistics;
+    private final Map<GroupAddress, Set<GroupAddressListener>> listenersByGroupAddress = new ConcurrentHashMap<>();
+    private final Map<GroupAddressListener, Set<GroupAddress>> groupAddressesByListener = new ConcurrentHashMap<>();
+    private final Map<GroupAddress, SerialQueue> queues = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the tasks of one group address one after the other, without occupying a thread while idle.
+     */
+    private class SerialQueue implements Runnable {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private boolean running = false;
+
+        void execute(Runnable task) {
+            synchronized (this) {
+                tasks.add(task);
+                if (running) {
+                    return;
+                }
+                running = true;
+            }
+            executor.execute(this);
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        running = false;
+                        return;
+                    }
+                }
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Failed to process telegram: {}", e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    GroupAddressDispatcher(Executor executor, TelegramStatistics statistics) {
+        this.executor = executor;
+        this.statistics = statistics;
+    }
+
+    /**
+     * Add the listener to the index, or update the index if the listener was already registered.
+     *
+     * @param listener the listener
+     */
+    synchronized void register(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = Set.copyOf(listener.getGroupAddresses());
+        Set<GroupAddress> previous = groupAddressesByListener.put(listener, groupAddresses);
+        if (previous != null) {
+            previous.stream().filter(ga -> !groupAddresses.contains(ga)).forEach(ga -> removeFromIndex(ga, listener));
+        }
+        for (GroupAddress groupAddress : groupAddresses) {
+            listenersByGroupAddress.computeIfAbsent(groupAddress, ga -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+    }
+
+    /**
+     * Remove the listener from the index.
+     *
+     * @param listener the listener
+     */
+    synchronized void unregister(GroupAddressListener listener) {
+        Set<GroupAddress> groupAddresses = groupAddressesByListener.remove(listener);
+        if (groupAddresses != null) {
+            groupAddresses.forEach(ga -> removeFromIndex(ga, listener));
+        }
+    }
+
+    private void removeFromIndex(GroupAddress groupAddress, GroupAddressListener listener) {
+        listenersByGroupAddress.computeIfPresent(groupAddress, (ga, listeners) -> {
+            listeners.remove(listener);
+            if (listeners.isEmpty()) {
+                queues.remove(ga);
+                return null;
+            }
+            return listeners;
+        });
+    }
+
+    /**
+     * Queue a telegram for all listeners interested in the given group address.
+     *
+     * @param destination the destination of the telegram
+     * @param action the notification to be applied to each listener
+     * @return {@code false} if no listener is interested in the group address
+     */
+    boolean dispatch(GroupAddress destination, Consumer<GroupAddressListener> action) {
+        statistics.telegramReceived();
+        Set<GroupAddressListener> listeners = listenersByGroupAddress.get(destination);
+        if (listeners == null || listeners.isEmpty()) {
+            return false;
+        }
+        long receivedNanos = System.nanoTime();
+        queues.computeIfAbsent(destination, ga -> new SerialQueue()).execute(() -> {
+            statistics.telegramDispatched(System.nanoTime() - receivedNanos);
+            for (GroupAddressListener listener : listeners) {
+                action.accept(listener);
+            }
+        });
+        return true;
+    }
+}
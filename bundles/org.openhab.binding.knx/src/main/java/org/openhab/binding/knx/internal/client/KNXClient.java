@@ -29,6 +29,16 @@ import tuwien.auto.calimero.datapoint.Datapoint;
 @NonNullByDefault
 public interface KNXClient {
 
+    /**
+     * Priority of read requests, requests with a higher priority are sent to the bus first.
+     */
+    enum ReadPriority {
+        /** initial reads of linked channels and refresh requests */
+        HIGH,
+        /** periodic reads */
+        LOW
+    }
+
     /**
      * Check whether the client is connected
      *
@@ -78,8 +88,9 @@ public interface KNXClient {
      * Schedule the given data point for asynchronous reading.
      *
      * @param datapoint the datapoint
+     * @param priority the priority of the read request
      */
-    void readDatapoint(Datapoint datapoint);
+    void readDatapoint(Datapoint datapoint, ReadPriority priority);
 
     /**
      * Write a command to the KNX bus.
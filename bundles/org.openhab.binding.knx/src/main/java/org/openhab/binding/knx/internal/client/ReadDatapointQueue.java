@@ -0,0 +1,144 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.knx.internal.client.KNXClient.ReadPriority;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ * The {@link ReadDatapointQueue} holds the datapoints which are to be read from the KNX bus.
+ *
+ * Datapoints are read by priority, and in order of arrival within the same priority. Each group address is queued
+ * at most once, a request for a group address which is already queued only raises its priority. Queued requests
+ * are dropped when another telegram has already provided the value of the group address.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ReadDatapointQueue {
+    private final Map<ReadPriority, Deque<ReadDatapoint>> queues = new EnumMap<>(ReadPriority.class);
+    // the datapoint currently queued for each group address, queues may contain outdated entries which are skipped
+    private final Map<GroupAddress, ReadDatapoint> pending = new HashMap<>();
+    private final int[] pendingCount = new int[ReadPriority.values().length];
+    private final ReadStatistics statistics;
+
+    ReadDatapointQueue(ReadStatistics statistics) {
+        this.statistics = statistics;
+        for (ReadPriority priority : ReadPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Queue a datapoint, unless its group address is already queued with the same or a higher priority.
+     *
+     * @param datapoint the datapoint
+     * @param priority the priority
+     */
+    synchronized void add(ReadDatapoint datapoint, ReadPriority priority) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        ReadDatapoint queued = pending.get(groupAddress);
+        if (queued != null) {
+            if (queued.getPriority().compareTo(priority) <= 0) {
+                return;
+            }
+            pendingCount[queued.getPriority().ordinal()]--;
+        } else {
+            statistics.readQueued();
+        }
+        datapoint.setPriority(priority);
+        pending.put(groupAddress, datapoint);
+        pendingCount[priority.ordinal()]++;
+        queues.get(priority).addLast(datapoint);
+        updateStatistics();
+    }
+
+    /**
+     * Queue a datapoint again after a failed read. It is read before all other datapoints of its priority.
+     *
+     * @param datapoint the datapoint
+     */
+    synchronized void retry(ReadDatapoint datapoint) {
+        GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+        if (pending.containsKey(groupAddress)) {
+            // a new request has been queued in the meantime
+            return;
+        }
+        pending.put(groupAddress, datapoint);
+        pendingCount[datapoint.getPriority().ordinal()]++;
+        queues.get(datapoint.getPriority()).addFirst(datapoint);
+        updateStatistics();
+    }
+
+    /**
+     * Take the next datapoint to be read.
+     *
+     * @return the datapoint, or null if none is queued
+     */
+    synchronized @Nullable ReadDatapoint poll() {
+        for (ReadPriority priority : ReadPriority.values()) {
+            Deque<ReadDatapoint> queue = queues.get(priority);
+            ReadDatapoint datapoint;
+            while ((datapoint = queue.pollFirst()) != null) {
+                GroupAddress groupAddress = datapoint.getDatapoint().getMainAddress();
+                if (pending.get(groupAddress) == datapoint && datapoint.getPriority() == priority) {
+                    pending.remove(groupAddress);
+                    pendingCount[priority.ordinal()]--;
+                    updateStatistics();
+                    return datapoint;
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Drop a queued read request, as a telegram has provided the value of the group address.
+     *
+     * @param groupAddress the group address
+     */
+    synchronized void answered(GroupAddress groupAddress) {
+        ReadDatapoint datapoint = pending.remove(groupAddress);
+        if (datapoint != null) {
+            pendingCount[datapoint.getPriority().ordinal()]--;
+            statistics.readAnswered();
+            updateStatistics();
+        }
+    }
+
+    synchronized int size() {
+        return pending.size();
+    }
+
+    synchronized void clear() {
+        queues.values().forEach(Deque::clear);
+        pending.clear();
+        for (int i = 0; i < pendingCount.length; i++) {
+            pendingCount[i] = 0;
+        }
+        updateStatistics();
+    }
+
+    private void updateStatistics() {
+        statistics.setPending(pendingCount[ReadPriority.HIGH.ordinal()], pendingCount[ReadPriority.LOW.ordinal()]);
+    }
+}
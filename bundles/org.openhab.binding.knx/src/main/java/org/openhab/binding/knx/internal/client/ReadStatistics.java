@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link ReadStatistics} keeps track of the progress of the read requests sent to the KNX bus. It can be shown on
+ * the console using knx:list-read-progress.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ReadStatistics {
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder answered = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile int pendingHigh;
+    private volatile int pendingLow;
+    private volatile int outstanding;
+
+    void readQueued() {
+        queued.increment();
+    }
+
+    void readSent() {
+        sent.increment();
+    }
+
+    void readAnswered() {
+        answered.increment();
+    }
+
+    void readFailed() {
+        failed.increment();
+    }
+
+    void setPending(int pendingHigh, int pendingLow) {
+        this.pendingHigh = pendingHigh;
+        this.pendingLow = pendingLow;
+    }
+
+    void setOutstanding(int outstanding) {
+        this.outstanding = outstanding;
+    }
+
+    /**
+     * @return the number of read requests queued since the binding was loaded
+     */
+    public long getQueued() {
+        return queued.sum();
+    }
+
+    /**
+     * @return the number of read requests sent to the bus since the binding was loaded
+     */
+    public long getSent() {
+        return sent.sum();
+    }
+
+    /**
+     * @return the number of queued read requests which were skipped because another telegram already provided the
+     *         value
+     */
+    public long getAnswered() {
+        return answered.sum();
+    }
+
+    /**
+     * @return the number of read requests given up after reaching the retry limit
+     */
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    /**
+     * @return the number of queued read requests for linked channels and refreshes
+     */
+    public int getPendingHigh() {
+        return pendingHigh;
+    }
+
+    /**
+     * @return the number of queued periodic read requests
+     */
+    public int getPendingLow() {
+        return pendingLow;
+    }
+
+    /**
+     * @return the number of read requests currently waiting for a response from the bus
+     */
+    public int getOutstanding() {
+        return outstanding;
+    }
+}
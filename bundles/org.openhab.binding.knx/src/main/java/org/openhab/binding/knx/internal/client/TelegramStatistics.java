@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link TelegramStatistics} counts the telegrams received from the KNX bus and the time between receiving a
+ * telegram and handing it to the interested things. It can be shown on the console using knx:list-telegram-stats.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class TelegramStatistics {
+    private final long startNanos = System.nanoTime();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder dispatchNanos = new LongAdder();
+    private final AtomicLong maxDispatchNanos = new AtomicLong();
+
+    void telegramReceived() {
+        received.increment();
+    }
+
+    void telegramDispatched(long latencyNanos) {
+        dispatched.increment();
+        dispatchNanos.add(latencyNanos);
+        maxDispatchNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public long getReceived() {
+        return received.sum();
+    }
+
+    public long getDispatched() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return the average number of telegrams received per second since the binding was loaded
+     */
+    public double getThroughput() {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        return elapsedMillis == 0 ? 0 : received.sum() * 1000.0 / elapsedMillis;
+    }
+
+    /**
+     * @return the average time in microseconds a telegram waited before its listeners were called
+     */
+    public long getAverageDispatchLatencyMicros() {
+        long count = dispatched.sum();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(dispatchNanos.sum() / count);
+    }
+
+    /**
+     * @return the maximum time in microseconds a telegram waited before its listeners were called
+     */
+    public long getMaxDispatchLatencyMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(maxDispatchNanos.get());
+    }
+}
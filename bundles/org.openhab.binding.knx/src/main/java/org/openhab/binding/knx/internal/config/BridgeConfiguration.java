@@ -25,6 +25,7 @@ public class BridgeConfiguration {
     private int autoReconnectPeriod = 0;
     private int readingPause = 0;
     private int readRetriesLimit = 0;
+    private int maxOutstandingReads = 1;
     private int responseTimeout = 0;
 
     public int getAutoReconnectPeriod() {
@@ -39,6 +40,10 @@ public class BridgeConfiguration {
         return readRetriesLimit;
     }
 
+    public int getMaxOutstandingReads() {
+        return maxOutstandingReads;
+    }
+
     public int getResponseTimeout() {
         return responseTimeout;
     }
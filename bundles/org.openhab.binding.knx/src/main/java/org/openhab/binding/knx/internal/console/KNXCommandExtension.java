@@ -18,6 +18,8 @@ import java.util.Map.Entry;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.KNXBindingConstants;
+import org.openhab.binding.knx.internal.client.ReadStatistics;
+import org.openhab.binding.knx.internal.client.TelegramStatistics;
 import org.openhab.binding.knx.internal.factory.KNXHandlerFactory;
 import org.openhab.binding.knx.internal.handler.KNXBridgeBaseThingHandler;
 import org.openhab.core.io.console.Console;
@@ -33,13 +35,17 @@ import org.osgi.service.component.annotations.Reference;
  * The {@link KNXCommandExtension} is responsible for handling console commands
  *
  * @author Holger Friedrich - Initial contribution
+ * @author agent - Telegram statistics and read queue commands
  */
 @NonNullByDefault
 @Component(service = ConsoleCommandExtension.class)
 public class KNXCommandExtension extends AbstractConsoleCommandExtension implements ConsoleCommandCompleter {
 
     private static final String CMD_LIST_UNKNOWN_GA = "list-unknown-ga";
-    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(List.of(CMD_LIST_UNKNOWN_GA), false);
+    private static final String CMD_LIST_TELEGRAM_STATS = "list-telegram-stats";
+    private static final String CMD_LIST_READ_PROGRESS = "list-read-progress";
+    private static final StringsCompleter CMD_COMPLETER = new StringsCompleter(
+            List.of(CMD_LIST_UNKNOWN_GA, CMD_LIST_TELEGRAM_STATS, CMD_LIST_READ_PROGRESS), false);
 
     private final KNXHandlerFactory knxHandlerFactory;
 
@@ -60,14 +66,38 @@ public class KNXCommandExtension extends AbstractConsoleCommandExtension impleme
                 }
             }
             return;
+        } else if (args.length == 1 && CMD_LIST_TELEGRAM_STATS.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                TelegramStatistics statistics = bridgeHandler.getCommandExtensionData().telegramStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel()
+                        + "\": telegrams received since last reload of binding: " + statistics.getReceived() + " ("
+                        + String.format("%.2f", statistics.getThroughput()) + "/s), dispatched to things: "
+                        + statistics.getDispatched() + ", dispatch latency average/max: "
+                        + statistics.getAverageDispatchLatencyMicros() + "/" + statistics.getMaxDispatchLatencyMicros()
+                        + " µs");
+            }
+            return;
+        } else if (args.length == 1 && CMD_LIST_READ_PROGRESS.equalsIgnoreCase(args[0])) {
+            for (KNXBridgeBaseThingHandler bridgeHandler : knxHandlerFactory.getBridges()) {
+                ReadStatistics statistics = bridgeHandler.getCommandExtensionData().readStatistics();
+                console.println("KNX bridge \"" + bridgeHandler.getThing().getLabel() + "\": read requests pending: "
+                        + statistics.getPendingHigh() + " initial/refresh, " + statistics.getPendingLow()
+                        + " periodic, waiting for response: " + statistics.getOutstanding());
+                console.println("  since last reload of binding: queued " + statistics.getQueued() + ", sent "
+                        + statistics.getSent() + ", skipped as already answered " + statistics.getAnswered()
+                        + ", given up " + statistics.getFailed());
+            }
+            return;
         }
         printUsage(console);
     }
 
     @Override
     public List<String> getUsages() {
-        return List
-                .of(buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"));
+        return List.of(
+                buildCommandUsage(CMD_LIST_UNKNOWN_GA, "list group addresses which are not configured in openHAB"),
+                buildCommandUsage(CMD_LIST_TELEGRAM_STATS, "show telegram throughput and dispatch latency"),
+                buildCommandUsage(CMD_LIST_READ_PROGRESS, "show progress of reading the group addresses"));
     }
 
     @Override
@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.dpt;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.types.Type;
+
+/**
+ * A decoder for one DPT, created by {@link ValueDecoder#getDecoder(String, Class)}
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+@FunctionalInterface
+public interface DPTDecoder {
+
+    /**
+     * convert the raw value received to the corresponding openHAB value
+     *
+     * @param data a byte array containing the value
+     * @return the data converted to an openHAB Type (or null if conversion failed)
+     */
+    @Nullable
+    Type decode(byte[] data);
+}
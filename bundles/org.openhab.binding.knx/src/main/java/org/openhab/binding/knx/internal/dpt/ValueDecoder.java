@@ -20,7 +20,9 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.ToDoubleFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -91,65 +93,12 @@ public class ValueDecoder {
             DPTXlator translator = TranslatorTypes.createTranslator(0,
                     DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
             translator.setData(data);
-            String value = translator.getValue();
 
-            String id = dptId; // prefer using the user-supplied DPT
-
-            Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
-            if (!m.matches() || m.groupCount() != 2) {
-                LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator",
-                        id);
-                id = translator.getType().getID();
-                m = DPTUtil.DPT_PATTERN.matcher(id);
-                if (!m.matches() || m.groupCount() != 2) {
-                    LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", id);
-                    return null;
-                }
-            }
-            LOGGER.trace("Finally using datapoint DPT = {}", id);
-
-            String mainType = m.group("main");
-            String subType = m.group("sub");
-
-            switch (mainType) {
-                case "1":
-                    return handleDpt1(subType, translator);
-                case "2":
-                    DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
-                    int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
-                            + (translator1BitControlled.getValueBit() ? 1 : 0);
-                    return new DecimalType(decValue);
-                case "3":
-                    return handleDpt3(subType, translator);
-                case "10":
-                    return handleDpt10(value);
-                case "11":
-                    return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN)
-                            .format(new SimpleDateFormat(DATE_FORMAT).parse(value)));
-                case "18":
-                    DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
-                    int decimalValue = translatorSceneControl.getSceneNumber();
-                    if (value.startsWith("learn")) {
-                        decimalValue += 0x80;
-                    }
-                    return new DecimalType(decimalValue);
-                case "19":
-                    return handleDpt19(translator);
-                case "16":
-                case "20":
-                case "21":
-                case "22":
-                case "28":
-                    return StringType.valueOf(value);
-                case "232":
-                    return handleDpt232(value, subType);
-                case "242":
-                    return handleDpt242(value);
-                case "251":
-                    return handleDpt251(value, preferredType);
-                default:
-                    return handleNumericDpt(id, translator, preferredType);
+            Matcher m = matchDptId(dptId, translator);
+            if (m == null) {
+                return null;
             }
+            return decode(translator, m.group(), m.group("main"), m.group("sub"), preferredType);
         } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException e) {
             LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId, e.getClass());
         } catch (KNXException e) {
@@ -159,38 +108,218 @@ public class ValueDecoder {
         return null;
     }
 
-    private static Type handleDpt1(String subType, DPTXlator translator) {
-        DPTXlatorBoolean translatorBoolean = (DPTXlatorBoolean) translator;
+    /**
+     * get a decoder for the given DPT which can be re-used for all data received for this DPT
+     *
+     * Everything that only depends on the DPT is resolved once. The most common DPTs are decoded directly from the
+     * raw data, all others use a translator which is created once and re-used.
+     *
+     * @param dptId the DPT of the data to be decoded
+     * @param preferredType the preferred datatype for the conversions
+     * @return the decoder, never null (decoding unsupported DPTs returns null)
+     */
+    public static DPTDecoder getDecoder(String dptId, Class<? extends Type> preferredType) {
+        DPTXlator translator;
+        try {
+            translator = TranslatorTypes.createTranslator(0, DPTUtil.NORMALIZED_DPT.getOrDefault(dptId, dptId));
+        } catch (KNXException e) {
+            // not supported, keep the logging of the regular path
+            return data -> decode(dptId, data, preferredType);
+        }
+        Matcher m = matchDptId(dptId, translator);
+        if (m == null) {
+            return data -> null;
+        }
+        String id = m.group();
+        String mainType = m.group("main");
+        String subType = Objects.requireNonNullElse(m.group("sub"), "");
+        DPTDecoder translatorDecoder = new TranslatorDecoder(translator, dptId, id, mainType, subType, preferredType);
+
+        switch (mainType) {
+            case "1":
+                return data -> data.length == 1 ? handleDpt1(subType, (data[0] & 0x01) != 0)
+                        : translatorDecoder.decode(data);
+            case "2":
+                return data -> data.length == 1 ? new DecimalType(data[0] & 0x03) : translatorDecoder.decode(data);
+            case "3":
+                return data -> data.length == 1 ? handleDpt3(subType, (data[0] & 0x08) != 0, data[0] & 0x07)
+                        : translatorDecoder.decode(data);
+            case "17":
+                return numericDecoder(id, 1, data -> data[0] & 0x3f, preferredType, translatorDecoder);
+            case "18":
+                return data -> data.length == 1 ? new DecimalType(data[0] & 0xbf) : translatorDecoder.decode(data);
+            case "232":
+                return data -> data.length == 3
+                        ? handleDpt232(subType, data[0] & 0xff, data[1] & 0xff, data[2] & 0xff)
+                        : translatorDecoder.decode(data);
+            default:
+                break;
+        }
+        // numeric DPTs which transport the value unscaled
+        switch (id) {
+            case "5.004", "5.005", "5.006", "5.010":
+                return numericDecoder(id, 1, data -> data[0] & 0xff, preferredType, translatorDecoder);
+            case "6.001", "6.010":
+                return numericDecoder(id, 1, data -> data[0], preferredType, translatorDecoder);
+            case "7.001", "7.002", "7.005", "7.006", "7.007", "7.010", "7.011", "7.012", "7.013", "7.600":
+                return numericDecoder(id, 2, data -> ((data[0] & 0xff) << 8) | (data[1] & 0xff), preferredType,
+                        translatorDecoder);
+            case "8.001", "8.002", "8.005", "8.006", "8.007", "8.011", "8.012":
+                return numericDecoder(id, 2, data -> (short) (((data[0] & 0xff) << 8) | (data[1] & 0xff)),
+                        preferredType, translatorDecoder);
+            case "12.001":
+                return numericDecoder(id, 4, data -> Integer.toUnsignedLong(int32(data)), preferredType,
+                        translatorDecoder);
+            case "13.001", "13.010", "13.011", "13.012", "13.013", "13.014", "13.015", "13.016", "13.100":
+                return numericDecoder(id, 4, ValueDecoder::int32, preferredType, translatorDecoder);
+            default:
+                return translatorDecoder;
+        }
+    }
+
+    private static int int32(byte[] data) {
+        return ((data[0] & 0xff) << 24) | ((data[1] & 0xff) << 16) | ((data[2] & 0xff) << 8) | (data[3] & 0xff);
+    }
+
+    private static DPTDecoder numericDecoder(String id, int length, ToDoubleFunction<byte[]> rawValue,
+            Class<? extends Type> preferredType, DPTDecoder fallback) {
+        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
+        String unit = DPTUnits.getUnitForDpt(id);
+        return data -> data.length == length
+                ? handleNumericDpt(id, rawValue.applyAsDouble(data), allowedTypes, unit, preferredType)
+                : fallback.decode(data);
+    }
+
+    /**
+     * Decoder using a Calimero translator, which is created once and re-used
+     */
+    private static class TranslatorDecoder implements DPTDecoder {
+        private final DPTXlator translator;
+        private final String dptId;
+        private final String id;
+        private final String mainType;
+        private final String subType;
+        private final Class<? extends Type> preferredType;
+
+        TranslatorDecoder(DPTXlator translator, String dptId, String id, String mainType, String subType,
+                Class<? extends Type> preferredType) {
+            this.translator = translator;
+            this.dptId = dptId;
+            this.id = id;
+            this.mainType = mainType;
+            this.subType = subType;
+            this.preferredType = preferredType;
+        }
+
+        @Override
+        public @Nullable Type decode(byte[] data) {
+            try {
+                // translators keep the data as state, so they must not be used concurrently
+                synchronized (translator) {
+                    translator.setData(data);
+                    return ValueDecoder.decode(translator, id, mainType, subType, preferredType);
+                }
+            } catch (NumberFormatException | KNXFormatException | KNXIllegalArgumentException | ParseException e) {
+                LOGGER.info("Translator couldn't parse data '{}' for datapoint type '{}' ({}).", data, dptId,
+                        e.getClass());
+            }
+            return null;
+        }
+    }
+
+    private static @Nullable Matcher matchDptId(String dptId, DPTXlator translator) {
+        String id = dptId; // prefer using the user-supplied DPT
+
+        Matcher m = DPTUtil.DPT_PATTERN.matcher(id);
+        if (!m.matches() || m.groupCount() != 2) {
+            LOGGER.trace("User-Supplied DPT '{}' did not match for sub-type, using DPT returned from Translator", id);
+            id = translator.getType().getID();
+            m = DPTUtil.DPT_PATTERN.matcher(id);
+            if (!m.matches() || m.groupCount() != 2) {
+                LOGGER.warn("Couldn't identify main/sub number in dptID '{}'", id);
+                return null;
+            }
+        }
+        LOGGER.trace("Finally using datapoint DPT = {}", id);
+        return m;
+    }
+
+    private static @Nullable Type decode(DPTXlator translator, String id, String mainType, String subType,
+            Class<? extends Type> preferredType) throws KNXFormatException, ParseException {
+        // only the DPTs that are parsed from the string representation need getValue(), which formats the value
+        switch (mainType) {
+            case "1":
+                return handleDpt1(subType, ((DPTXlatorBoolean) translator).getValueBoolean());
+            case "2":
+                DPTXlator1BitControlled translator1BitControlled = (DPTXlator1BitControlled) translator;
+                int decValue = (translator1BitControlled.getControlBit() ? 2 : 0)
+                        + (translator1BitControlled.getValueBit() ? 1 : 0);
+                return new DecimalType(decValue);
+            case "3":
+                DPTXlator3BitControlled translator3BitControlled = (DPTXlator3BitControlled) translator;
+                return handleDpt3(subType, translator3BitControlled.getControlBit(),
+                        translator3BitControlled.getStepCode());
+            case "10":
+                return handleDpt10(translator.getValue());
+            case "11":
+                return DateTimeType.valueOf(new SimpleDateFormat(DateTimeType.DATE_PATTERN)
+                        .format(new SimpleDateFormat(DATE_FORMAT).parse(translator.getValue())));
+            case "18":
+                DPTXlatorSceneControl translatorSceneControl = (DPTXlatorSceneControl) translator;
+                int decimalValue = translatorSceneControl.getSceneNumber();
+                if (translatorSceneControl.getValue().startsWith("learn")) {
+                    decimalValue += 0x80;
+                }
+                return new DecimalType(decimalValue);
+            case "19":
+                return handleDpt19(translator);
+            case "16":
+            case "20":
+            case "21":
+            case "22":
+            case "28":
+                return StringType.valueOf(translator.getValue());
+            case "232":
+                return handleDpt232(translator.getValue(), subType);
+            case "242":
+                return handleDpt242(translator.getValue());
+            case "251":
+                return handleDpt251(translator.getValue(), preferredType);
+            default:
+                return handleNumericDpt(id, translator.getNumericValue(), DPTUtil.getAllowedTypes(id),
+                        DPTUnits.getUnitForDpt(id), preferredType);
+        }
+    }
+
+    private static Type handleDpt1(String subType, boolean valueBoolean) {
         switch (subType) {
             case "008":
-                return translatorBoolean.getValueBoolean() ? UpDownType.DOWN : UpDownType.UP;
+                return valueBoolean ? UpDownType.DOWN : UpDownType.UP;
             case "009":
             case "019":
                 // This is wrong for DPT 1.009. It should be true -> CLOSE, false -> OPEN, but unfortunately
                 // can't be fixed without breaking a lot of working installations.
                 // The documentation has been updated to reflect that. / @J-N-K
-                return translatorBoolean.getValueBoolean() ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
+                return valueBoolean ? OpenClosedType.OPEN : OpenClosedType.CLOSED;
             case "010":
-                return translatorBoolean.getValueBoolean() ? StopMoveType.MOVE : StopMoveType.STOP;
+                return valueBoolean ? StopMoveType.MOVE : StopMoveType.STOP;
             case "022":
-                return DecimalType.valueOf(translatorBoolean.getValueBoolean() ? "1" : "0");
+                return DecimalType.valueOf(valueBoolean ? "1" : "0");
             default:
-                return OnOffType.from(translatorBoolean.getValueBoolean());
+                return OnOffType.from(valueBoolean);
         }
     }
 
-    private static @Nullable Type handleDpt3(String subType, DPTXlator translator) {
-        DPTXlator3BitControlled translator3BitControlled = (DPTXlator3BitControlled) translator;
-        if (translator3BitControlled.getStepCode() == 0) {
+    private static @Nullable Type handleDpt3(String subType, boolean controlBit, int stepCode) {
+        if (stepCode == 0) {
             LOGGER.debug("convertRawDataToType: KNX DPT_Control_Dimming: break received.");
             return UnDefType.NULL;
         }
         switch (subType) {
             case "007":
-                return translator3BitControlled.getControlBit() ? IncreaseDecreaseType.INCREASE
-                        : IncreaseDecreaseType.DECREASE;
+                return controlBit ? IncreaseDecreaseType.INCREASE : IncreaseDecreaseType.DECREASE;
             case "008":
-                return translator3BitControlled.getControlBit() ? UpDownType.DOWN : UpDownType.UP;
+                return controlBit ? UpDownType.DOWN : UpDownType.UP;
             default:
                 LOGGER.warn("DPT3, subtype '{}' is unknown.", subType);
                 return null;
@@ -279,24 +408,28 @@ public class ValueDecoder {
             int g = Integer.parseInt(rgb.group("g"));
             int b = Integer.parseInt(rgb.group("b"));
 
-            switch (subType) {
-                case "600":
-                    return HSBType.fromRGB(r, g, b);
-                case "60000":
-                    // MDT specific: mis-use 232.600 for hsv instead of rgb
-                    DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
-                    PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
-                    PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
-                    return new HSBType(hue, sat, bright);
-                default:
-                    LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
-                    return null;
-            }
+            return handleDpt232(subType, r, g, b);
         }
         LOGGER.warn("Failed to convert '{}' (DPT 232): Pattern does not match", value);
         return null;
     }
 
+    private static @Nullable Type handleDpt232(String subType, int r, int g, int b) {
+        switch (subType) {
+            case "600":
+                return HSBType.fromRGB(r, g, b);
+            case "60000":
+                // MDT specific: mis-use 232.600 for hsv instead of rgb
+                DecimalType hue = new DecimalType(coerceToRange(r * 360.0 / 255.0, 0.0, 359.9999));
+                PercentType sat = new PercentType(BigDecimal.valueOf(coerceToRange(g / 2.55, 0.0, 100.0)));
+                PercentType bright = new PercentType(BigDecimal.valueOf(coerceToRange(b / 2.55, 0.0, 100.0)));
+                return new HSBType(hue, sat, bright);
+            default:
+                LOGGER.warn("Unknown subtype '232.{}', no conversion possible.", subType);
+                return null;
+        }
+    }
+
     private static @Nullable Type handleDpt242(String value) {
         Matcher xyY = XYY_PATTERN.matcher(value);
         if (xyY.matches()) {
@@ -345,18 +478,14 @@ public class ValueDecoder {
         return null;
     }
 
-    private static @Nullable Type handleNumericDpt(String id, DPTXlator translator, Class<? extends Type> preferredType)
-            throws KNXFormatException {
-        Set<Class<? extends Type>> allowedTypes = DPTUtil.getAllowedTypes(id);
-
-        double value = translator.getNumericValue();
+    private static @Nullable Type handleNumericDpt(String id, double value, Set<Class<? extends Type>> allowedTypes,
+            @Nullable String unit, Class<? extends Type> preferredType) {
         if (allowedTypes.contains(PercentType.class)
                 && (HSBType.class.equals(preferredType) || PercentType.class.equals(preferredType))) {
             return new PercentType(BigDecimal.valueOf(Math.round(value)));
         }
 
         if (allowedTypes.contains(QuantityType.class) && !disableUoM) {
-            String unit = DPTUnits.getUnitForDpt(id);
             if (unit != null) {
                 return new QuantityType<>(value + " " + unit);
             } else {
@@ -12,6 +12,8 @@
  */
 package org.openhab.binding.knx.internal.handler;
 
+import java.util.Set;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.knx.internal.client.BusMessageListener;
 
@@ -28,9 +30,10 @@ import tuwien.auto.calimero.GroupAddress;
 public interface GroupAddressListener extends BusMessageListener {
 
     /**
-     * Called to verify if the GroupAddressListener has an interest in the given GroupAddress
+     * Called on registration to get the GroupAddresses the GroupAddressListener has an interest in. Telegrams are
+     * only passed to the listener for these GroupAddresses.
      *
-     * @param destination
+     * @return the GroupAddresses
      */
-    boolean listensTo(GroupAddress destination);
+    Set<GroupAddress> getGroupAddresses();
 }
@@ -185,8 +185,8 @@ public class IPBridgeThingHandler extends KNXBridgeBaseThingHandler {
         client = new IPClient(ipConnectionType, ip, localSource, port, localEndPoint, useNAT, autoReconnectPeriod,
                 secureRouting.backboneGroupKey, secureRouting.latencyToleranceMs, secureTunnel.devKey,
                 secureTunnel.user, secureTunnel.userKey, thing.getUID(), config.getResponseTimeout(),
-                config.getReadingPause(), config.getReadRetriesLimit(), getScheduler(), getCommandExtensionData(),
-                this);
+                config.getReadingPause(), config.getReadRetriesLimit(), config.getMaxOutstandingReads(), getScheduler(),
+                getCommandExtensionData(), this);
 
         IPClient tmpClient = client;
         if (tmpClient != null) {
@@ -20,7 +20,9 @@ import java.util.concurrent.ScheduledExecutorService;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.knx.internal.client.KNXClient;
+import org.openhab.binding.knx.internal.client.ReadStatistics;
 import org.openhab.binding.knx.internal.client.StatusUpdateCallback;
+import org.openhab.binding.knx.internal.client.TelegramStatistics;
 import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
@@ -68,7 +70,8 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
      * Helper class to carry information which can be used by the
      * command line extension (openHAB console).
      */
-    public record CommandExtensionData(Map<String, Long> unknownGA) {
+    public record CommandExtensionData(Map<String, Long> unknownGA, TelegramStatistics telegramStatistics,
+            ReadStatistics readStatistics) {
     }
 
     private final ScheduledExecutorService knxScheduler = ThreadPoolManager.getScheduledPool("knx");
@@ -81,7 +84,8 @@ public abstract class KNXBridgeBaseThingHandler extends BaseBridgeHandler implem
         super(bridge);
         secureRouting = new SecureRoutingConfig();
         secureTunnel = new SecureTunnelConfig();
-        commandExtensionData = new CommandExtensionData(new TreeMap<>());
+        commandExtensionData = new CommandExtensionData(new TreeMap<>(), new TelegramStatistics(),
+                new ReadStatistics());
     }
 
     protected abstract KNXClient getClient();
@@ -56,8 +56,8 @@ public class SerialBridgeThingHandler extends KNXBridgeBaseThingHandler {
         // when a parameter change is done from UI, dispose() and initialize() are called
         SerialBridgeConfiguration config = getConfigAs(SerialBridgeConfiguration.class);
         client = new SerialClient(config.getAutoReconnectPeriod(), thing.getUID(), config.getResponseTimeout(),
-                config.getReadingPause(), config.getReadRetriesLimit(), getScheduler(), config.getSerialPort(),
-                config.useCemi(), serialPortManager, getCommandExtensionData(), this);
+                config.getReadingPause(), config.getReadRetriesLimit(), config.getMaxOutstandingReads(), getScheduler(),
+                config.getSerialPort(), config.useCemi(), serialPortManager, getCommandExtensionData(), this);
 
         updateStatus(ThingStatus.UNKNOWN);
         // delay actual initialization, allow for longer runtime of actual initialization
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.handler.GroupAddressListener;
+
+import tuwien.auto.calimero.GroupAddress;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class GroupAddressDispatcherTest {
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final TelegramStatistics statistics = new TelegramStatistics();
+    private final GroupAddressDispatcher dispatcher = new GroupAddressDispatcher(pendingTasks::add, statistics);
+
+    private void runPendingTasks() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+
+    private GroupAddressListener listener(GroupAddress... groupAddresses) {
+        GroupAddressListener listener = mock(GroupAddressListener.class);
+        when(listener.getGroupAddresses()).thenReturn(Set.of(groupAddresses));
+        return listener;
+    }
+
+    @Test
+    void testDispatchOnlyToInterestedListeners() {
+        GroupAddressListener listener1 = listener(GA_1);
+        GroupAddressListener listener2 = listener(GA_1, GA_2);
+        dispatcher.register(listener1);
+        dispatcher.register(listener2);
+
+        List<GroupAddressListener> notified = new ArrayList<>();
+        assertTrue(dispatcher.dispatch(GA_2, notified::add));
+        runPendingTasks();
+        assertEquals(List.of(listener2), notified);
+
+        assertFalse(dispatcher.dispatch(new GroupAddress(5, 5, 5), notified::add));
+        assertEquals(2, statistics.getReceived());
+        assertEquals(1, statistics.getDispatched());
+    }
+
+    @Test
+    void testUnregisterAndReregister() {
+        GroupAddressListener listener = listener(GA_1);
+        dispatcher.register(listener);
+        when(listener.getGroupAddresses()).thenReturn(Set.of(GA_2));
+        dispatcher.register(listener);
+
+        List<GroupAddressListener> notified = new ArrayList<>();
+        assertFalse(dispatcher.dispatch(GA_1, notified::add));
+        assertTrue(dispatcher.dispatch(GA_2, notified::add));
+
+        dispatcher.unregister(listener);
+        assertFalse(dispatcher.dispatch(GA_2, notified::add));
+        runPendingTasks();
+        assertEquals(List.of(listener), notified);
+    }
+
+    @Test
+    void testTelegramsForSameGroupAddressAreProcessedInOrder() {
+        dispatcher.register(listener(GA_1, GA_2));
+
+        List<String> processed = new ArrayList<>();
+        dispatcher.dispatch(GA_1, l -> processed.add("1a"));
+        dispatcher.dispatch(GA_2, l -> processed.add("2a"));
+        dispatcher.dispatch(GA_1, l -> processed.add("1b"));
+        dispatcher.dispatch(GA_1, l -> processed.add("1c"));
+
+        // one task per group address, telegrams of the same group address are queued behind each other
+        assertEquals(2, pendingTasks.size());
+        runPendingTasks();
+        assertEquals(List.of("1a", "1b", "1c", "2a"), processed);
+    }
+}
@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.knx.internal.client;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.knx.internal.client.KNXClient.ReadPriority;
+
+import tuwien.auto.calimero.GroupAddress;
+import tuwien.auto.calimero.datapoint.CommandDP;
+
+/**
+ *
+ * @author agent - Initial contribution
+ *
+ */
+@NonNullByDefault
+class ReadDatapointQueueTest {
+    private static final GroupAddress GA_1 = new GroupAddress(1, 2, 3);
+    private static final GroupAddress GA_2 = new GroupAddress(1, 2, 4);
+    private static final GroupAddress GA_3 = new GroupAddress(1, 2, 5);
+
+    private final ReadStatistics statistics = new ReadStatistics();
+    private final ReadDatapointQueue queue = new ReadDatapointQueue(statistics);
+
+    private ReadDatapoint datapoint(GroupAddress groupAddress) {
+        return new ReadDatapoint(new CommandDP(groupAddress, "test"), 3);
+    }
+
+    private @Nullable GroupAddress pollAddress() {
+        ReadDatapoint datapoint = queue.poll();
+        return datapoint == null ? null : datapoint.getDatapoint().getMainAddress();
+    }
+
+    @Test
+    void testPriorityAndOrder() {
+        queue.add(datapoint(GA_1), ReadPriority.LOW);
+        queue.add(datapoint(GA_2), ReadPriority.HIGH);
+        queue.add(datapoint(GA_3), ReadPriority.HIGH);
+        assertEquals(2, statistics.getPendingHigh());
+        assertEquals(1, statistics.getPendingLow());
+
+        assertEquals(GA_2, pollAddress());
+        assertEquals(GA_3, pollAddress());
+        assertEquals(GA_1, pollAddress());
+        assertNull(queue.poll());
+        assertEquals(0, statistics.getPendingHigh() + statistics.getPendingLow());
+    }
+
+    @Test
+    void testDuplicatesRaisePriority() {
+        queue.add(datapoint(GA_1), ReadPriority.LOW);
+        queue.add(datapoint(GA_2), ReadPriority.LOW);
+        queue.add(datapoint(GA_2), ReadPriority.LOW);
+        queue.add(datapoint(GA_1), ReadPriority.HIGH);
+        assertEquals(2, queue.size());
+        assertEquals(2, statistics.getQueued());
+
+        assertEquals(GA_1, pollAddress());
+        assertEquals(GA_2, pollAddress());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testAnsweredAddressesAreSkipped() {
+        queue.add(datapoint(GA_1), ReadPriority.HIGH);
+        queue.add(datapoint(GA_2), ReadPriority.HIGH);
+        queue.answered(GA_1);
+        queue.answered(GA_3);
+        assertEquals(1, statistics.getAnswered());
+
+        assertEquals(GA_2, pollAddress());
+        assertNull(queue.poll());
+    }
+
+    @Test
+    void testRetryIsReadFirst() {
+        queue.add(datapoint(GA_1), ReadPriority.HIGH);
+        queue.add(datapoint(GA_2), ReadPriority.HIGH);
+        ReadDatapoint first = queue.poll();
+        assertNotNull(first);
+        queue.add(datapoint(GA_3), ReadPriority.HIGH);
+        queue.retry(first);
+
+        assertEquals(GA_1, pollAddress());
+        assertEquals(GA_2, pollAddress());
+        assertEquals(GA_3, pollAddress());
+    }
+}
@@ -23,13 +23,19 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.HSBType;
+import org.openhab.core.library.types.IncreaseDecreaseType;
+import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.library.types.OpenClosedType;
 import org.openhab.core.library.types.QuantityType;
+import org.openhab.core.library.types.UpDownType;
 import org.openhab.core.library.unit.SIUnits;
 import org.openhab.core.library.unit.Units;
+import org.openhab.core.types.Type;
 
 import tuwien.auto.calimero.dptxlator.DPTXlator2ByteUnsigned;
 import tuwien.auto.calimero.dptxlator.DPTXlator4ByteFloat;
@@ -405,6 +411,49 @@ class DPTTest {
         Assertions.assertNotNull(value);
     }
 
+    private static Stream<Arguments> decoderProvider() {
+        // one entry per DPT family which is decoded directly from the raw data, plus some using the translator
+        return Stream.of( //
+                Arguments.of("1.001", new byte[] { 1 }, OnOffType.class), //
+                Arguments.of("1.008", new byte[] { 0 }, UpDownType.class), //
+                Arguments.of("1.009", new byte[] { 1 }, OpenClosedType.class), //
+                Arguments.of("2.001", new byte[] { 3 }, DecimalType.class), //
+                Arguments.of("3.007", new byte[] { 0x0b }, IncreaseDecreaseType.class), //
+                Arguments.of("3.007", new byte[] { 0x08 }, IncreaseDecreaseType.class), //
+                Arguments.of("3.008", new byte[] { 0x02 }, UpDownType.class), //
+                Arguments.of("5.010", new byte[] { (byte) 0xfe }, DecimalType.class), //
+                Arguments.of("6.010", new byte[] { (byte) 0x85 }, DecimalType.class), //
+                Arguments.of("7.001", new byte[] { (byte) 0xfe, 0x12 }, DecimalType.class), //
+                Arguments.of("7.013", new byte[] { 0x12, 0x34 }, QuantityType.class), //
+                Arguments.of("8.001", new byte[] { (byte) 0xfe, 0x12 }, DecimalType.class), //
+                Arguments.of("9.001", new byte[] { 0x0c, 0x1a }, QuantityType.class), //
+                Arguments.of("12.001", new byte[] { (byte) 0xfe, 0x12, 0x34, 0x56 }, DecimalType.class), //
+                Arguments.of("13.010", new byte[] { (byte) 0xfe, 0x12, 0x34, 0x56 }, QuantityType.class), //
+                Arguments.of("14.019", new byte[] { 0x41, 0x20, 0x00, 0x00 }, QuantityType.class), //
+                Arguments.of("17.001", new byte[] { 0x25 }, DecimalType.class), //
+                Arguments.of("18.001", new byte[] { (byte) 0x85 }, DecimalType.class), //
+                Arguments.of("18.001", new byte[] { 0x05 }, DecimalType.class), //
+                Arguments.of("232.600", new byte[] { 0x12, 0x34, 0x56 }, HSBType.class), //
+                Arguments.of("232.60000", new byte[] { 0x12, 0x34, 0x56 }, HSBType.class), //
+                Arguments.of("251.600", new byte[] { 0x26, 0x2b, 0x31, 0x00, 0x00, 0x0e }, HSBType.class));
+    }
+
+    @ParameterizedTest
+    @MethodSource("decoderProvider")
+    public void decoderMatchesDecode(String dpt, byte[] data, Class<? extends Type> preferredType) {
+        DPTDecoder decoder = ValueDecoder.getDecoder(dpt, preferredType);
+        assertEquals(ValueDecoder.decode(dpt, data, preferredType), decoder.decode(data));
+        // decoders are re-used for subsequent data
+        assertEquals(ValueDecoder.decode(dpt, data, preferredType), decoder.decode(data));
+    }
+
+    @Test
+    public void decoderForUnsupportedDpt() {
+        assertNull(ValueDecoder.getDecoder("999.001", DecimalType.class).decode(new byte[] { 1 }));
+        // wrong length falls back to the translator, which rejects the data
+        assertNull(ValueDecoder.getDecoder("7.001", DecimalType.class).decode(new byte[] { 1 }));
+    }
+
     private static Stream<byte[]> rgbValueProvider() {
         // Returning all combinations is too much. Implementation tries to catch rounding errors
         // but is still deterministic to get reproducible test results.
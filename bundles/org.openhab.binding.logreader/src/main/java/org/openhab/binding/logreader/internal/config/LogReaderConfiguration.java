@@ -22,8 +22,12 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class LogReaderConfiguration {
+    public static final String TAILING_MODE_POLLING = "POLLING";
+    public static final String TAILING_MODE_WATCH = "WATCH";
+
     public String filePath = "${OPENHAB_LOGDIR}/openhab.log";
     public int refreshRate = 1000;
+    public String tailingMode = TAILING_MODE_POLLING;
     public String warningPatterns = "WARN+";
     public @Nullable String warningBlacklistingPatterns;
     public String errorPatterns = "ERROR+";
@@ -33,7 +37,8 @@ public class LogReaderConfiguration {
 
     @Override
     public String toString() {
-        return "[" + "filePath=" + filePath + ", refreshRate=" + refreshRate + ", warningPatterns=" + warningPatterns
+        return "[" + "filePath=" + filePath + ", refreshRate=" + refreshRate + ", tailingMode=" + tailingMode
+                + ", warningPatterns=" + warningPatterns
                 + ", warningBlacklistingPatterns=" + warningBlacklistingPatterns + ", errorPatterns=" + errorPatterns
                 + ", errorBlacklistingPatterns=" + errorBlacklistingPatterns + ", customPatterns=" + customPatterns
                 + ", customBlacklistingPatterns=" + customBlacklistingPatterns + "]";
@@ -15,6 +15,7 @@ package org.openhab.binding.logreader.internal.filereader;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
@@ -33,6 +34,9 @@ public abstract class AbstractLogFileReader implements LogFileReader {
 
     private List<FileReaderListener> fileReaderListeners = new CopyOnWriteArrayList<>();
 
+    private final AtomicLong lineCount = new AtomicLong();
+    private final AtomicLong byteCount = new AtomicLong();
+
     @Override
     public boolean registerListener(FileReaderListener fileReaderListener) {
         Objects.requireNonNull(fileReaderListener, "It's not allowed to pass a null FileReaderListener.");
@@ -45,6 +49,24 @@ public abstract class AbstractLogFileReader implements LogFileReader {
         return fileReaderListeners.remove(fileReaderListener);
     }
 
+    @Override
+    public long getLineCount() {
+        return lineCount.get();
+    }
+
+    @Override
+    public long getByteCount() {
+        return byteCount.get();
+    }
+
+    /**
+     * Add the given number of bytes to the number of bytes read.
+     *
+     */
+    protected void countBytes(long bytes) {
+        byteCount.addAndGet(bytes);
+    }
+
     /**
      * Send file not found event to all registered listeners.
      *
@@ -65,6 +87,7 @@ public abstract class AbstractLogFileReader implements LogFileReader {
      *
      */
     public void sendLineToListeners(String line) {
+        lineCount.incrementAndGet();
         for (FileReaderListener fileReaderListener : fileReaderListeners) {
             try {
                 fileReaderListener.handle(line);
@@ -46,6 +46,8 @@ public class FileTailer extends AbstractLogFileReader implements LogFileReader {
                 return;
             }
 
+            // the tailer doesn't report the bytes read, count characters and one line terminator instead
+            countBytes(line.length() + 1L);
             sendLineToListeners(line);
         }
 
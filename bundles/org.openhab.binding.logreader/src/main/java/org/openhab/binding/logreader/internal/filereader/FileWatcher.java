@@ -0,0 +1,240 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link WatchService} based log file reader implementation.
+ *
+ * The directory of the log file is watched for changes, new bytes are read through a reusable buffer. The file is
+ * additionally checked every refresh interval in case the file system doesn't report changes. A rotation is detected
+ * if the file is replaced (different file key) or truncated.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileWatcher extends AbstractLogFileReader implements LogFileReader {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Logger logger = LoggerFactory.getLogger(FileWatcher.class);
+
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private @Nullable Thread thread;
+    private volatile boolean running;
+
+    private @Nullable FileChannel channel;
+    private @Nullable Object fileKey;
+    private long position;
+
+    @Override
+    public void start(String filePath, long refreshRate) throws FileReaderException {
+        Path path = Path.of(filePath).toAbsolutePath();
+        Path directory = path.getParent();
+        if (directory == null) {
+            throw new FileReaderException("Cannot determine directory of '" + filePath + "'");
+        }
+        WatchService watchService;
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new FileReaderException(e);
+        }
+
+        running = true;
+        Thread localThread = new Thread(() -> watch(path, watchService, refreshRate),
+                "OH-binding-logreader-" + path.getFileName());
+        localThread.setDaemon(true);
+        localThread.start();
+        thread = localThread;
+    }
+
+    @Override
+    public void stop() {
+        logger.debug("Shutdown");
+        running = false;
+        Thread localThread = thread;
+        if (localThread != null) {
+            localThread.interrupt();
+            thread = null;
+        }
+    }
+
+    private void watch(Path path, WatchService watchService, long refreshRate) {
+        open(path, true);
+        try (watchService) {
+            while (running) {
+                WatchKey key = watchService.poll(refreshRate, TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    boolean changed = false;
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        changed |= event.kind() == OVERFLOW || path.getFileName().equals(event.context());
+                    }
+                    key.reset();
+                    if (!changed) {
+                        // another file in the same directory
+                        continue;
+                    }
+                }
+                try {
+                    if (channel == null && !open(path, false)) {
+                        continue;
+                    }
+                    checkRotation(path);
+                    read();
+                } catch (ClosedByInterruptException e) {
+                    break;
+                } catch (IOException e) {
+                    logger.debug("Reading '{}' failed: {}", path, e.getMessage());
+                    sendExceptionToListeners(e);
+                    close();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            logger.debug("Closing watch service failed: {}", e.getMessage());
+        } finally {
+            close();
+        }
+        logger.debug("Shutdown complete");
+    }
+
+    /**
+     * Open the log file.
+     *
+     * @param path the log file
+     * @param atEnd start reading at the end of the file
+     * @return true if the file was opened, false if it does not exist
+     */
+    private boolean open(Path path, boolean atEnd) {
+        try {
+            FileChannel localChannel = FileChannel.open(path, StandardOpenOption.READ);
+            fileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+            position = atEnd ? localChannel.size() : 0;
+            buffer.clear();
+            channel = localChannel;
+            return true;
+        } catch (NoSuchFileException e) {
+            sendFileNotFoundToListeners();
+        } catch (IOException e) {
+            sendExceptionToListeners(e);
+        }
+        return false;
+    }
+
+    private void close() {
+        FileChannel localChannel = channel;
+        if (localChannel != null) {
+            try {
+                localChannel.close();
+            } catch (IOException e) {
+                logger.debug("Closing log file failed: {}", e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    private void checkRotation(Path path) throws IOException {
+        FileChannel localChannel = Objects.requireNonNull(channel);
+        Object currentFileKey;
+        try {
+            currentFileKey = Files.readAttributes(path, BasicFileAttributes.class).fileKey();
+        } catch (NoSuchFileException e) {
+            // rotated, but the new file was not created yet
+            return;
+        }
+        if (currentFileKey != null && !currentFileKey.equals(fileKey)) {
+            logger.debug("Log file '{}' was replaced", path);
+            // read what was written to the old file before it was replaced
+            read();
+            close();
+            sendFileRotationToListeners();
+            open(path, false);
+        } else if (localChannel.size() < position) {
+            logger.debug("Log file '{}' was truncated", path);
+            position = 0;
+            buffer.clear();
+            sendFileRotationToListeners();
+        }
+    }
+
+    private void read() throws IOException {
+        FileChannel localChannel = channel;
+        if (localChannel == null) {
+            return;
+        }
+        int count;
+        while ((count = localChannel.read(buffer, position)) > 0) {
+            position += count;
+            countBytes(count);
+            buffer.flip();
+            sendLines();
+            if (buffer.remaining() < buffer.capacity()) {
+                buffer.compact();
+            } else {
+                // a single line exceeds the buffer
+                sendLine(buffer.position(), buffer.limit());
+                buffer.clear();
+            }
+        }
+    }
+
+    /**
+     * Send all complete lines in the buffer to the listeners, the buffer position is set to the start of the
+     * incomplete last line
+     */
+    private void sendLines() {
+        byte[] bytes = buffer.array();
+        int start = buffer.position();
+        for (int i = start; i < buffer.limit(); i++) {
+            if (bytes[i] == '\n') {
+                sendLine(start, i);
+                start = i + 1;
+            }
+        }
+        buffer.position(start);
+    }
+
+    private void sendLine(int start, int end) {
+        int length = end - start;
+        if (length > 0 && buffer.array()[end - 1] == '\r') {
+            length--;
+        }
+        sendLineToListeners(new String(buffer.array(), start, length, StandardCharsets.UTF_8));
+    }
+}
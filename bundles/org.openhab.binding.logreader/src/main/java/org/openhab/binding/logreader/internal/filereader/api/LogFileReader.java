@@ -51,4 +51,18 @@ public interface LogFileReader {
      * Stop log file reader.
      */
     void stop();
+
+    /**
+     * Get the number of lines read since the reader was created.
+     *
+     * @return number of lines.
+     */
+    long getLineCount();
+
+    /**
+     * Get the number of bytes read since the reader was created.
+     *
+     * @return number of bytes.
+     */
+    long getByteCount();
 }
@@ -15,13 +15,18 @@ package org.openhab.binding.logreader.internal.handler;
 import static org.openhab.binding.logreader.internal.LogReaderBindingConstants.*;
 
 import java.time.ZonedDateTime;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.PatternSyntaxException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.logreader.internal.config.LogReaderConfiguration;
+import org.openhab.binding.logreader.internal.filereader.FileTailer;
+import org.openhab.binding.logreader.internal.filereader.FileWatcher;
 import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
 import org.openhab.binding.logreader.internal.filereader.api.LogFileReader;
+import org.openhab.binding.logreader.internal.searchengine.LineFilter;
 import org.openhab.binding.logreader.internal.searchengine.SearchEngine;
 import org.openhab.core.library.types.DateTimeType;
 import org.openhab.core.library.types.DecimalType;
@@ -48,17 +53,22 @@ import org.slf4j.LoggerFactory;
 public class LogHandler extends BaseThingHandler implements FileReaderListener {
     private final Logger logger = LoggerFactory.getLogger(LogHandler.class);
 
-    private final LogFileReader fileReader;
+    private static final int STATISTICS_INTERVAL = 10;
+
+    private @Nullable LogFileReader fileReader;
+    private @Nullable ScheduledFuture<?> statisticsJob;
+    private long lastLineCount;
+    private long lastByteCount;
 
     private @NonNullByDefault({}) LogReaderConfiguration configuration;
 
     private @Nullable SearchEngine errorEngine;
     private @Nullable SearchEngine warningEngine;
     private @Nullable SearchEngine customEngine;
+    private @Nullable LineFilter lineFilter;
 
-    public LogHandler(Thing thing, LogFileReader fileReader) {
+    public LogHandler(Thing thing) {
         super(thing);
-        this.fileReader = fileReader;
     }
 
     @Override
@@ -98,11 +108,17 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
         clearCounters();
 
         try {
-            warningEngine = new SearchEngine(configuration.warningPatterns, configuration.warningBlacklistingPatterns);
-            errorEngine = new SearchEngine(configuration.errorPatterns, configuration.errorBlacklistingPatterns);
+            SearchEngine localWarningEngine = new SearchEngine(configuration.warningPatterns,
+                    configuration.warningBlacklistingPatterns);
+            SearchEngine localErrorEngine = new SearchEngine(configuration.errorPatterns,
+                    configuration.errorBlacklistingPatterns);
             String customPatterns = configuration.customPatterns;
-            customEngine = new SearchEngine(customPatterns != null ? customPatterns : "",
+            SearchEngine localCustomEngine = new SearchEngine(customPatterns != null ? customPatterns : "",
                     configuration.customBlacklistingPatterns);
+            warningEngine = localWarningEngine;
+            errorEngine = localErrorEngine;
+            customEngine = localCustomEngine;
+            lineFilter = new LineFilter(localWarningEngine, localErrorEngine, localCustomEngine);
         } catch (PatternSyntaxException e) {
             logger.debug("Illegal search pattern syntax '{}'. ", e.getMessage(), e);
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.CONFIGURATION_ERROR, e.getMessage());
@@ -111,9 +127,17 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
 
         logger.debug("Start file reader");
 
+        LogFileReader localFileReader = LogReaderConfiguration.TAILING_MODE_WATCH.equals(configuration.tailingMode)
+                ? new FileWatcher()
+                : new FileTailer();
+        fileReader = localFileReader;
+        lastLineCount = 0;
+        lastByteCount = 0;
         try {
-            fileReader.registerListener(this);
-            fileReader.start(configuration.filePath, configuration.refreshRate);
+            localFileReader.registerListener(this);
+            localFileReader.start(configuration.filePath, configuration.refreshRate);
+            statisticsJob = scheduler.scheduleWithFixedDelay(this::updateStatistics, STATISTICS_INTERVAL,
+                    STATISTICS_INTERVAL, TimeUnit.SECONDS);
             updateStatus(ThingStatus.ONLINE);
         } catch (Exception e) {
             logger.debug("Exception occurred during initalization: {}. ", e.getMessage(), e);
@@ -160,10 +184,34 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
         }
     }
 
+    private void updateStatistics() {
+        LogFileReader localFileReader = fileReader;
+        if (localFileReader == null) {
+            return;
+        }
+        long lineCount = localFileReader.getLineCount();
+        long byteCount = localFileReader.getByteCount();
+        updateChannelIfLinked(CHANNEL_LINES_PER_SECOND,
+                new DecimalType((double) (lineCount - lastLineCount) / STATISTICS_INTERVAL));
+        updateChannelIfLinked(CHANNEL_BYTES_PER_SECOND,
+                new DecimalType((double) (byteCount - lastByteCount) / STATISTICS_INTERVAL));
+        lastLineCount = lineCount;
+        lastByteCount = byteCount;
+    }
+
     private void shutdown() {
-        logger.debug("Stop file reader");
-        fileReader.unregisterListener(this);
-        fileReader.stop();
+        ScheduledFuture<?> localStatisticsJob = statisticsJob;
+        if (localStatisticsJob != null) {
+            localStatisticsJob.cancel(true);
+            statisticsJob = null;
+        }
+        LogFileReader localFileReader = fileReader;
+        if (localFileReader != null) {
+            logger.debug("Stop file reader");
+            localFileReader.unregisterListener(this);
+            localFileReader.stop();
+            fileReader = null;
+        }
     }
 
     @Override
@@ -188,6 +236,11 @@ public class LogHandler extends BaseThingHandler implements FileReaderListener {
             updateStatus(ThingStatus.ONLINE);
         }
 
+        LineFilter localLineFilter = lineFilter;
+        if (localLineFilter != null && !localLineFilter.mayMatch(line)) {
+            return;
+        }
+
         if (errorEngine != null && errorEngine.isMatching(line)) {
             updateChannelIfLinked(CHANNEL_ERRORS, new DecimalType(errorEngine.getMatchCount()));
             updateChannelIfLinked(CHANNEL_LASTERROR, new StringType(line));
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * This class combines the search patterns of several {@link SearchEngine}s. Most log lines don't match any search
+ * pattern, such lines are discarded with a single search instead of asking every engine.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LineFilter {
+
+    private final List<Pattern> matchers;
+
+    public LineFilter(SearchEngine... engines) {
+        List<Pattern> patterns = new ArrayList<>();
+        for (SearchEngine engine : engines) {
+            patterns.addAll(engine.getPatterns());
+        }
+        matchers = SearchEngine.combinePatterns(patterns);
+    }
+
+    /**
+     * Check if data may match one of the search engines.
+     *
+     * @param data data against search will be done.
+     * @return true if one of the search patterns found, blacklisting patterns are not checked.
+     */
+    public boolean mayMatch(String data) {
+        for (Pattern pattern : matchers) {
+            if (pattern.matcher(data).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -24,11 +24,16 @@ import org.eclipse.jdt.annotation.Nullable;
 /**
  * This class implements logic for regular expression based searching.
  *
+ * The search patterns (and the blacklisting patterns) are combined into one alternation, so a line is searched in a
+ * single pass. Patterns using back references, named groups or flags can't be combined and are searched one by one.
+ *
  * @author Pauli Anttila - Initial contribution
  */
 @NonNullByDefault
 public class SearchEngine {
+    private static final Pattern GROUP_REFERENCE = Pattern.compile("\\\\(\\d|k<)|\\(\\?<[a-zA-Z]");
 
+    private final List<Pattern> patterns;
     private List<Pattern> matchers;
     private List<Pattern> blacklistingMatchers;
 
@@ -42,8 +47,9 @@ public class SearchEngine {
      *
      */
     public SearchEngine(String patterns, @Nullable String blacklistingPatterns) throws PatternSyntaxException {
-        matchers = compilePatterns(patterns);
-        blacklistingMatchers = compilePatterns(blacklistingPatterns);
+        this.patterns = compilePatterns(patterns);
+        matchers = combinePatterns(this.patterns);
+        blacklistingMatchers = combinePatterns(compilePatterns(blacklistingPatterns));
     }
 
     /**
@@ -62,6 +68,15 @@ public class SearchEngine {
         return false;
     }
 
+    /**
+     * Get the search patterns of this engine.
+     *
+     * @return list of precompiled patterns, one for each search pattern.
+     */
+    public List<Pattern> getPatterns() {
+        return patterns;
+    }
+
     public long getMatchCount() {
         return matchCount;
     }
@@ -93,6 +108,44 @@ public class SearchEngine {
         return patternsList;
     }
 
+    /**
+     * Combine precompiled patterns into a single pattern.
+     *
+     * @param patterns patterns to combine.
+     * @return list containing the combined pattern followed by the patterns which can't be combined.
+     */
+    static List<Pattern> combinePatterns(List<Pattern> patterns) {
+        if (patterns.size() <= 1) {
+            return patterns;
+        }
+        List<Pattern> result = new ArrayList<>();
+        List<Pattern> combinable = new ArrayList<>();
+        for (Pattern pattern : patterns) {
+            // group numbers and names change when combining, compile flags can't be told apart from inline flags
+            if (pattern.flags() != 0 || GROUP_REFERENCE.matcher(pattern.pattern()).find()) {
+                result.add(pattern);
+            } else {
+                combinable.add(pattern);
+            }
+        }
+        if (combinable.size() <= 1) {
+            return patterns;
+        }
+        StringBuilder combined = new StringBuilder();
+        for (Pattern pattern : combinable) {
+            if (combined.length() > 0) {
+                combined.append('|');
+            }
+            combined.append("(?:").append(pattern.pattern()).append(')');
+        }
+        try {
+            result.add(0, Pattern.compile(combined.toString()));
+        } catch (PatternSyntaxException e) {
+            return patterns;
+        }
+        return result;
+    }
+
     private boolean notBlacklisted(String data) {
         return !isMatching(blacklistingMatchers, data);
     }
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.filereader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderException;
+import org.openhab.binding.logreader.internal.filereader.api.FileReaderListener;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests cases for {@link FileWatcher}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class FileWatcherTest extends JavaTest {
+    private static final long REFRESH_RATE = 50;
+
+    private @NonNullByDefault({}) @TempDir Path directory;
+    private @NonNullByDefault({}) Path logFile;
+
+    private final FileWatcher fileWatcher = new FileWatcher();
+    private final Listener listener = new Listener();
+
+    private static class Listener implements FileReaderListener {
+        final List<String> lines = new CopyOnWriteArrayList<>();
+        final AtomicInteger notFound = new AtomicInteger();
+        final AtomicInteger rotations = new AtomicInteger();
+
+        @Override
+        public void fileNotFound() {
+            notFound.incrementAndGet();
+        }
+
+        @Override
+        public void fileRotated() {
+            rotations.incrementAndGet();
+        }
+
+        @Override
+        public void handle(@Nullable String line) {
+            if (line != null) {
+                lines.add(line);
+            }
+        }
+
+        @Override
+        public void handle(@Nullable Exception ex) {
+        }
+    }
+
+    @BeforeEach
+    public void setUp() throws FileReaderException {
+        logFile = directory.resolve("openhab.log");
+        fileWatcher.registerListener(listener);
+        // the file doesn't exist yet, so everything written to it is read from the start
+        fileWatcher.start(logFile.toString(), REFRESH_RATE);
+        waitForAssert(() -> assertTrue(listener.notFound.get() > 0));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fileWatcher.stop();
+    }
+
+    private void append(String text) throws IOException {
+        Files.writeString(logFile, text, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    @Test
+    public void linesAreRead() throws IOException {
+        append("first line\nsecond line\r\nincomplete");
+        waitForAssert(() -> assertEquals(List.of("first line", "second line"), listener.lines));
+
+        append(" line\n");
+        waitForAssert(() -> assertEquals(List.of("first line", "second line", "incomplete line"), listener.lines));
+        assertEquals(3, fileWatcher.getLineCount());
+        assertEquals(Files.size(logFile), fileWatcher.getByteCount());
+        assertEquals(0, listener.rotations.get());
+    }
+
+    @Test
+    public void truncatedFileIsReadFromStart() throws IOException {
+        append("a long line before truncation\n");
+        waitForAssert(() -> assertEquals(List.of("a long line before truncation"), listener.lines));
+
+        Files.writeString(logFile, "truncated\n", StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+
+        waitForAssert(() -> assertEquals(List.of("a long line before truncation", "truncated"), listener.lines));
+        assertEquals(1, listener.rotations.get());
+    }
+
+    @Test
+    public void replacedFileIsReadFromStart() throws IOException {
+        append("before rotation\n");
+        waitForAssert(() -> assertEquals(List.of("before rotation"), listener.lines));
+
+        append("written just before rotation\n");
+        Files.move(logFile, directory.resolve("openhab.log.1"));
+        append("after rotation\n");
+
+        waitForAssert(() -> assertEquals(List.of("before rotation", "written just before rotation", "after rotation"),
+                listener.lines));
+        assertEquals(1, listener.rotations.get());
+    }
+}
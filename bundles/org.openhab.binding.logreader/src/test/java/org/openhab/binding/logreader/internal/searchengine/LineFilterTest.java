@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link LineFilter}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LineFilterTest {
+
+    @Test
+    public void linesMatchingAnyEngineMayMatch() {
+        SearchEngine errors = new SearchEngine("ERROR", "ignored");
+        SearchEngine warnings = new SearchEngine("WARN", null);
+        SearchEngine custom = new SearchEngine("(\\w+) \\1", null);
+        LineFilter filter = new LineFilter(errors, warnings, custom);
+
+        assertTrue(filter.mayMatch("[ERROR] failed"));
+        assertTrue(filter.mayMatch("[WARN ] slow"));
+        assertTrue(filter.mayMatch("again again"));
+        assertFalse(filter.mayMatch("[INFO ] started"));
+    }
+
+    @Test
+    public void blacklistingIsLeftToTheEngines() {
+        SearchEngine errors = new SearchEngine("ERROR", "ignored");
+        LineFilter filter = new LineFilter(errors);
+
+        assertTrue(filter.mayMatch("[ERROR] ignored"));
+        assertFalse(errors.isMatching("[ERROR] ignored"));
+    }
+
+    @Test
+    public void nothingMatchesWithoutPatterns() {
+        LineFilter filter = new LineFilter(new SearchEngine("", null));
+
+        assertFalse(filter.mayMatch("[ERROR] failed"));
+    }
+}
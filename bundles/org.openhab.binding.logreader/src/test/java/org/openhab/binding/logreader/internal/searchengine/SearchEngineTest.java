@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.logreader.internal.searchengine;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests cases for {@link SearchEngine}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SearchEngineTest {
+
+    private static List<Pattern> patterns(String... regexes) {
+        return List.of(regexes).stream().map(Pattern::compile).toList();
+    }
+
+    private static boolean find(List<Pattern> patterns, String data) {
+        return patterns.stream().anyMatch(pattern -> pattern.matcher(data).find());
+    }
+
+    @Test
+    public void patternsAreCombined() {
+        List<Pattern> combined = SearchEngine.combinePatterns(patterns(".*ERROR.*", "WARN", "^Exception$"));
+
+        assertEquals(1, combined.size());
+        assertTrue(find(combined, "2023-10-01 [ERROR] failed"));
+        assertTrue(find(combined, "[WARN ] something"));
+        assertTrue(find(combined, "Exception"));
+        assertFalse(find(combined, "[INFO ] Exception"));
+        assertFalse(find(combined, "[INFO ] all good"));
+    }
+
+    @Test
+    public void alternationsStayWithinTheirPattern() {
+        List<Pattern> combined = SearchEngine.combinePatterns(patterns("^a|b$", "^c"));
+
+        assertEquals(1, combined.size());
+        assertTrue(find(combined, "abc"));
+        assertTrue(find(combined, "xxb"));
+        assertTrue(find(combined, "cxx"));
+        assertFalse(find(combined, "xcx"));
+    }
+
+    @Test
+    public void patternsWithCapturingGroupsAreCombined() {
+        List<Pattern> combined = SearchEngine.combinePatterns(patterns("(ERROR|FATAL) in (\\w+)", "(WARN)"));
+
+        assertEquals(1, combined.size());
+        assertTrue(find(combined, "FATAL in handler"));
+        assertTrue(find(combined, "WARN"));
+        assertFalse(find(combined, "ERROR in"));
+    }
+
+    @Test
+    public void patternsWithBackReferencesAreSearchedSeparately() {
+        Pattern repeated = Pattern.compile("(\\w+) \\1");
+        Pattern named = Pattern.compile("(?<word>\\w+)-\\k<word>");
+        List<Pattern> combined = SearchEngine.combinePatterns(
+                List.of(repeated, Pattern.compile("WARN"), named, Pattern.compile("ERROR")));
+
+        assertEquals(3, combined.size());
+        assertTrue(combined.contains(repeated));
+        assertTrue(combined.contains(named));
+        assertTrue(find(combined, "again again"));
+        assertTrue(find(combined, "twice-twice"));
+        assertTrue(find(combined, "WARN"));
+        assertTrue(find(combined, "ERROR"));
+        assertFalse(find(combined, "once twice"));
+    }
+
+    @Test
+    public void patternsWithNamedGroupsAreNotCombined() {
+        List<Pattern> patterns = patterns("(?<level>ERROR)", "WARN");
+
+        assertEquals(patterns, SearchEngine.combinePatterns(patterns));
+    }
+
+    @Test
+    public void patternsWithInlineFlagsAreSearchedSeparately() {
+        List<Pattern> combined = SearchEngine.combinePatterns(patterns("(?i)error", "Warn", "x(?i)fatal", "Info"));
+
+        assertEquals(3, combined.size());
+        assertTrue(find(combined, "ERROR"));
+        assertTrue(find(combined, "xFATAL"));
+        assertTrue(find(combined, "Warn"));
+        assertTrue(find(combined, "Info"));
+        assertFalse(find(combined, "XFATAL"));
+        assertFalse(find(combined, "WARN"));
+        assertFalse(find(combined, "INFO"));
+    }
+
+    @Test
+    public void patternsWithCompileFlagsAreSearchedSeparately() {
+        Pattern error = Pattern.compile("error", Pattern.CASE_INSENSITIVE);
+        List<Pattern> combined = SearchEngine.combinePatterns(List.of(error, Pattern.compile("warn")));
+
+        assertEquals(2, combined.size());
+        assertTrue(find(combined, "ERROR"));
+        assertTrue(find(combined, "warn"));
+        assertFalse(find(combined, "WARN"));
+    }
+
+    @Test
+    public void blacklistedLinesDoNotMatch() {
+        SearchEngine engine = new SearchEngine("ERROR|WARN", "ignored|\\[test\\]");
+
+        assertTrue(engine.isMatching("[ERROR] failed"));
+        assertTrue(engine.isMatching("[WARN ] failed"));
+        assertFalse(engine.isMatching("[ERROR] ignored"));
+        assertFalse(engine.isMatching("[test] WARN"));
+        assertFalse(engine.isMatching("[INFO ] started"));
+        assertEquals(2, engine.getMatchCount());
+    }
+}
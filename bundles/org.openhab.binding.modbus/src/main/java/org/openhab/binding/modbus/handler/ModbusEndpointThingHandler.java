@@ -14,6 +14,7 @@ package org.openhab.binding.modbus.handler;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
 import org.openhab.core.common.registry.Identifiable;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.thing.ThingUID;
@@ -45,6 +46,15 @@ public interface ModbusEndpointThingHandler extends Identifiable<ThingUID> {
      */
     int getSlaveId() throws EndpointNotInitializedException;
 
+    /**
+     * Gets the {@link ModbusReadPlanner} merging the regular polls of this endpoint
+     *
+     * @return read planner, or <code>null</code> if polls should not be merged
+     */
+    default @Nullable ModbusReadPlanner getReadPlanner() {
+        return null;
+    }
+
     /**
      * Return true if auto discovery is enabled for this endpoint
      *
@@ -12,6 +12,7 @@
  */
 package org.openhab.binding.modbus.handler;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -22,10 +23,12 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.modbus.internal.AtomicStampedValue;
 import org.openhab.binding.modbus.internal.ModbusBindingConstantsInternal;
+import org.openhab.binding.modbus.internal.ModbusReadPlanner;
 import org.openhab.binding.modbus.internal.config.ModbusPollerConfiguration;
 import org.openhab.binding.modbus.internal.handler.ModbusDataThingHandler;
 import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
 import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
 import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
 import org.openhab.core.io.transport.modbus.ModbusConstants;
 import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
@@ -62,6 +65,9 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
      * bridge. This makes sense, as the callback delegates
      * to all child things of this bridge.
      *
+     * Children are notified one at a time. A child is only passed the result if the registers (or bits) it reads have
+     * changed since the previous poll, or if it is time to update its unchanged values.
+     *
      * @author Sami Salonen - Initial contribution
      *
      */
@@ -69,6 +75,9 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
 
         private volatile @Nullable AtomicStampedValue<PollResult> lastResult;
+        // Copy of the data of the previous poll, for detecting changes. The registers of the polled result are updated
+        // in place by writes of individual bits, thus they cannot be used as the baseline.
+        private volatile @Nullable AsyncModbusReadResult previousResult;
 
         public synchronized void handleResult(PollResult result) {
             // Ignore all incoming data and errors if configuration is not correct
@@ -85,7 +94,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                 }
             }
             logger.debug("Thing {} received response {}", thing.getUID(), result);
-            notifyChildren(result);
+            notifyChildren(result, false);
             if (result.failure != null) {
                 Exception error = result.failure.getCause();
                 assert error != null;
@@ -103,10 +112,13 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     .getRegisters();
             lastPolledDataCache.set(registers.orElse(null));
             handleResult(new PollResult(result));
+            previousResult = copyOf(result);
         }
 
         @Override
         public synchronized void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            // children are passed the next result even if the data did not change
+            previousResult = null;
             handleResult(new PollResult(failure));
         }
 
@@ -125,27 +137,101 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          * @return whether data was updated. Data is not updated when it's too old or there's no data at all.
          */
         @SuppressWarnings("null")
-        public boolean updateChildrenWithOldData(long oldestStamp) {
+        public synchronized boolean updateChildrenWithOldData(long oldestStamp) {
             return Optional.ofNullable(this.lastResult).map(result -> result.copyIfStampAfter(oldestStamp))
                     .map(result -> {
                         logger.debug("Thing {} reusing cached data: {}", thing.getUID(), result.getValue());
-                        notifyChildren(result.getValue());
+                        notifyChildren(result.getValue(), true);
                         return true;
                     }).orElse(false);
         }
 
-        private void notifyChildren(PollResult pollResult) {
+        /**
+         * Notify children about the poll result
+         *
+         * @param pollResult result of the poll
+         * @param force pass the data to all children, even if it did not change
+         */
+        private void notifyChildren(PollResult pollResult, boolean force) {
             @Nullable
             AsyncModbusReadResult result = pollResult.result;
             @Nullable
             AsyncModbusFailure<ModbusReadRequestBlueprint> failure = pollResult.failure;
-            childCallbacks.forEach(handler -> {
-                if (result != null) {
-                    handler.onReadResult(result);
-                } else if (failure != null) {
-                    handler.handleReadError(failure);
+            AsyncModbusReadResult localPreviousResult = previousResult;
+            if (result != null) {
+                long now = System.currentTimeMillis();
+                childCallbacks.forEach(handler -> {
+                    if (force || localPreviousResult == null || handler.isUnchangedValueUpdateDue(now)
+                            || hasChildDataChanged(handler, localPreviousResult, result)) {
+                        handler.onReadResult(result);
+                    } else {
+                        handler.onUnchangedReadResult();
+                    }
+                });
+            } else if (failure != null) {
+                childCallbacks.forEach(handler -> handler.handleReadError(failure));
+            }
+        }
+
+        /**
+         * Copy the registers or bits of the result, so that later changes to the result do not affect the copy
+         */
+        private AsyncModbusReadResult copyOf(AsyncModbusReadResult result) {
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            if (registers.isPresent()) {
+                byte[] bytes = registers.get().getBytes();
+                return new AsyncModbusReadResult(result.getRequest(),
+                        new ModbusRegisterArray(Arrays.copyOf(bytes, bytes.length)));
+            }
+            Optional<BitArray> bits = result.getBits();
+            if (bits.isPresent()) {
+                BitArray localBits = bits.get();
+                boolean[] copy = new boolean[localBits.size()];
+                for (int i = 0; i < copy.length; i++) {
+                    copy[i] = localBits.getBit(i);
                 }
-            });
+                return new AsyncModbusReadResult(result.getRequest(), new BitArray(copy));
+            }
+            return result;
+        }
+
+        /**
+         * Check whether the registers or bits read by the child differ from the previous poll
+         */
+        @SuppressWarnings("null")
+        private boolean hasChildDataChanged(ModbusDataThingHandler handler, AsyncModbusReadResult previous,
+                AsyncModbusReadResult result) {
+            int offset = handler.getReadOffset();
+            int length = handler.getReadLength();
+            if (offset < 0) {
+                // child is not reading data
+                return false;
+            }
+            Optional<ModbusRegisterArray> previousRegisters = previous.getRegisters();
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> previousBits = previous.getBits();
+            Optional<BitArray> bits = result.getBits();
+            if (previousRegisters.isPresent() && registers.isPresent()) {
+                byte[] previousBytes = previousRegisters.get().getBytes();
+                byte[] bytes = registers.get().getBytes();
+                int from = offset * 2;
+                int to = (offset + length) * 2;
+                return to > bytes.length || to > previousBytes.length
+                        || !Arrays.equals(previousBytes, from, to, bytes, from, to);
+            } else if (previousBits.isPresent() && bits.isPresent()) {
+                BitArray localPreviousBits = previousBits.get();
+                BitArray localBits = bits.get();
+                if (offset + length > localBits.size() || offset + length > localPreviousBits.size()) {
+                    return true;
+                }
+                for (int i = offset; i < offset + length; i++) {
+                    if (localBits.getBit(i) != localPreviousBits.getBit(i)) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+            return true;
         }
 
         /**
@@ -153,6 +239,14 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
          */
         public void resetCache() {
             lastResult = null;
+            previousResult = null;
+        }
+
+        /**
+         * Pass the next result to all children, even if the data did not change
+         */
+        public void resetChangeDetection() {
+            previousResult = null;
         }
     }
 
@@ -189,6 +283,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     private @NonNullByDefault({}) ModbusPollerConfiguration config;
     private long cacheMillis;
     private volatile @Nullable PollTask pollTask;
+    private volatile @Nullable ModbusReadPlanner readPlanner;
     private volatile @Nullable ModbusReadRequestBlueprint request;
     private volatile boolean disposed;
     private volatile List<ModbusDataThingHandler> childCallbacks = new CopyOnWriteArrayList<>();
@@ -308,11 +403,16 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             return;
         }
         PollTask localPollTask = this.pollTask;
+        ModbusReadPlanner localReadPlanner = this.readPlanner;
         if (localPollTask != null) {
             logger.debug("Unregistering polling from ModbusManager");
             comms.unregisterRegularPoll(localPollTask);
+        } else if (localReadPlanner != null) {
+            logger.debug("Unregistering polling from read planner");
+            localReadPlanner.unregisterRegularPoll(callbackDelegator);
         }
         this.pollTask = null;
+        this.readPlanner = null;
         request = null;
         comms = null;
         updateStatus(ThingStatus.OFFLINE);
@@ -327,7 +427,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
     @SuppressWarnings("null")
     private synchronized void registerPollTask() throws EndpointNotInitializedException {
         logger.trace("registerPollTask()");
-        if (pollTask != null) {
+        if (pollTask != null || readPlanner != null) {
             updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.CONFIGURATION_ERROR);
             logger.debug("pollTask should be unregistered before registering a new one!");
             return;
@@ -361,10 +461,19 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
             logger.debug("Not registering polling with ModbusManager since refresh disabled");
             updateStatus(ThingStatus.ONLINE, ThingStatusDetail.NONE, "Not polling");
         } else {
-            logger.debug("Registering polling with ModbusManager");
-            pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
-                    callbackDelegator);
-            assert pollTask != null;
+            ModbusReadPlanner localReadPlanner = slaveEndpointThingHandler.getReadPlanner();
+            if (localReadPlanner != null) {
+                // polls of other pollers of the same endpoint might be read with the same request
+                logger.debug("Registering polling with read planner");
+                localReadPlanner.registerRegularPoll(localRequest, config.getRefresh(), callbackDelegator,
+                        callbackDelegator);
+                readPlanner = localReadPlanner;
+            } else {
+                logger.debug("Registering polling with ModbusManager");
+                pollTask = localComms.registerRegularPoll(localRequest, config.getRefresh(), 0, callbackDelegator,
+                        callbackDelegator);
+                assert pollTask != null;
+            }
             updateStatus(ThingStatus.ONLINE);
         }
     }
@@ -455,6 +564,7 @@ public class ModbusPollerThingHandler extends BaseBridgeHandler {
                     getThing().getUID());
             ModbusCommunicationInterface localComms = comms;
             if (localComms != null) {
+                callbackDelegator.resetChangeDetection();
                 localComms.submitOneTimePoll(localRequest, callbackDelegator, callbackDelegator);
             }
         }
@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusConstants;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link ModbusReadPlanner} merges the regular polls of an endpoint.
+ *
+ * Polls with the same slave id, function code, poll period and max tries are read with as few requests as possible:
+ * adjacent or overlapping ranges, and ranges separated by at most {@code maxGap} unused registers or bits, are read
+ * with a single request up to the protocol maximum. The responses are split back into the originally requested
+ * ranges and passed to the callbacks of the individual polls.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlanner {
+
+    private final Logger logger = LoggerFactory.getLogger(ModbusReadPlanner.class);
+
+    private final ModbusCommunicationInterface comms;
+    private final int maxGap;
+    private final Map<PollGroup, List<Poll>> pollsByGroup = new HashMap<>();
+    private final Map<PollGroup, List<PollTask>> tasksByGroup = new HashMap<>();
+
+    private record PollGroup(int slaveId, ModbusReadFunctionCode functionCode, long pollPeriodMillis, int maxTries) {
+    }
+
+    private record Poll(ModbusReadRequestBlueprint request, ModbusReadCallback resultCallback,
+            ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+
+        int start() {
+            return request.getReference();
+        }
+
+        int end() {
+            return request.getReference() + request.getDataLength();
+        }
+    }
+
+    /**
+     * Create a planner
+     *
+     * @param comms communication interface of the endpoint
+     * @param maxGap maximum number of unused registers or bits that are read to merge two requests
+     */
+    public ModbusReadPlanner(ModbusCommunicationInterface comms, int maxGap) {
+        this.comms = comms;
+        this.maxGap = Math.max(0, maxGap);
+    }
+
+    /**
+     * Register a regular poll, the polls of the same group are planned again
+     *
+     * @param request request to poll
+     * @param pollPeriodMillis poll interval, in milliseconds
+     * @param resultCallback callback for the data of the requested range
+     * @param failureCallback callback for errors
+     */
+    public synchronized void registerRegularPoll(ModbusReadRequestBlueprint request, long pollPeriodMillis,
+            ModbusReadCallback resultCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback) {
+        PollGroup group = new PollGroup(request.getUnitID(), request.getFunctionCode(), pollPeriodMillis,
+                request.getMaxTries());
+        pollsByGroup.computeIfAbsent(group, g -> new ArrayList<>())
+                .add(new Poll(request, resultCallback, failureCallback));
+        plan(group);
+    }
+
+    /**
+     * Unregister a regular poll, the remaining polls of the same group are planned again
+     *
+     * @param resultCallback result callback the poll was registered with
+     * @return whether a poll was unregistered
+     */
+    public synchronized boolean unregisterRegularPoll(ModbusReadCallback resultCallback) {
+        for (Map.Entry<PollGroup, List<Poll>> entry : pollsByGroup.entrySet()) {
+            if (entry.getValue().removeIf(poll -> poll.resultCallback() == resultCallback)) {
+                PollGroup group = entry.getKey();
+                if (entry.getValue().isEmpty()) {
+                    pollsByGroup.remove(group);
+                }
+                plan(group);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void plan(PollGroup group) {
+        List<PollTask> oldTasks = tasksByGroup.remove(group);
+        if (oldTasks != null) {
+            oldTasks.forEach(comms::unregisterRegularPoll);
+        }
+        List<Poll> polls = pollsByGroup.get(group);
+        if (polls == null) {
+            return;
+        }
+
+        List<PollTask> tasks = new ArrayList<>();
+        for (List<Poll> block : mergePolls(polls, maxCount(group.functionCode()), maxGap)) {
+            if (block.size() == 1) {
+                Poll poll = block.get(0);
+                tasks.add(comms.registerRegularPoll(poll.request(), group.pollPeriodMillis(), 0, poll.resultCallback(),
+                        poll.failureCallback()));
+                continue;
+            }
+            int start = block.stream().mapToInt(Poll::start).min().getAsInt();
+            int end = block.stream().mapToInt(Poll::end).max().getAsInt();
+            ModbusReadRequestBlueprint request = new ModbusReadRequestBlueprint(group.slaveId(), group.functionCode(),
+                    start, end - start, group.maxTries());
+            logger.debug("Merging {} polls into {}", block.size(), request);
+            BlockCallback callback = new BlockCallback(List.copyOf(block));
+            tasks.add(comms.registerRegularPoll(request, group.pollPeriodMillis(), 0, callback, callback));
+        }
+        tasksByGroup.put(group, tasks);
+    }
+
+    private static int maxCount(ModbusReadFunctionCode functionCode) {
+        switch (functionCode) {
+            case READ_COILS:
+            case READ_INPUT_DISCRETES:
+                return ModbusConstants.MAX_BITS_READ_COUNT;
+            default:
+                return ModbusConstants.MAX_REGISTERS_READ_COUNT;
+        }
+    }
+
+    /**
+     * Group polls into blocks that can be read with a single request
+     *
+     * @param polls polls of the same group
+     * @param maxCount maximum number of registers or bits read by a request
+     * @param maxGap maximum number of unused registers or bits between two polls of a block
+     * @return blocks of polls, ordered by start address
+     */
+    private static List<List<Poll>> mergePolls(List<Poll> polls, int maxCount, int maxGap) {
+        List<Poll> sorted = new ArrayList<>(polls);
+        sorted.sort(Comparator.comparingInt(Poll::start).thenComparingInt(Poll::end));
+
+        List<List<Poll>> blocks = new ArrayList<>();
+        List<Poll> block = new ArrayList<>();
+        int blockStart = 0;
+        int blockEnd = 0;
+        for (Poll poll : sorted) {
+            if (!block.isEmpty() && poll.start() - blockEnd <= maxGap
+                    && Math.max(blockEnd, poll.end()) - blockStart <= maxCount) {
+                block.add(poll);
+                blockEnd = Math.max(blockEnd, poll.end());
+                continue;
+            }
+            if (!block.isEmpty()) {
+                blocks.add(block);
+            }
+            block = new ArrayList<>();
+            block.add(poll);
+            blockStart = poll.start();
+            blockEnd = poll.end();
+        }
+        if (!block.isEmpty()) {
+            blocks.add(block);
+        }
+        return blocks;
+    }
+
+    /**
+     * Callback of a merged request, splits the response into the ranges of the individual polls
+     */
+    private class BlockCallback implements ModbusReadCallback, ModbusFailureCallback<ModbusReadRequestBlueprint> {
+
+        private final List<Poll> polls;
+
+        BlockCallback(List<Poll> polls) {
+            this.polls = polls;
+        }
+
+        @Override
+        public void handle(AsyncModbusReadResult result) {
+            int blockStart = result.getRequest().getReference();
+            Optional<ModbusRegisterArray> registers = result.getRegisters();
+            Optional<BitArray> bits = result.getBits();
+            for (Poll poll : polls) {
+                int offset = poll.start() - blockStart;
+                int length = poll.request().getDataLength();
+                AsyncModbusReadResult slice;
+                if (registers.isPresent()) {
+                    slice = sliceRegisters(poll.request(), registers.get(), offset, length);
+                } else if (bits.isPresent()) {
+                    slice = sliceBits(poll.request(), bits.get(), offset, length);
+                } else {
+                    slice = null;
+                }
+                if (slice == null) {
+                    poll.failureCallback().handle(new AsyncModbusFailure<>(poll.request(), new IllegalStateException(
+                            String.format("Response %s does not contain the requested range", result))));
+                } else {
+                    poll.resultCallback().handle(slice);
+                }
+            }
+        }
+
+        @Override
+        public void handle(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
+            for (Poll poll : polls) {
+                poll.failureCallback().handle(new AsyncModbusFailure<>(poll.request(), failure.getCause()));
+            }
+        }
+
+        private @Nullable AsyncModbusReadResult sliceRegisters(ModbusReadRequestBlueprint request,
+                ModbusRegisterArray registers, int offset, int length) {
+            if (offset + length > registers.size()) {
+                return null;
+            }
+            byte[] bytes = Arrays.copyOfRange(registers.getBytes(), offset * 2, (offset + length) * 2);
+            return new AsyncModbusReadResult(request, new ModbusRegisterArray(bytes));
+        }
+
+        private @Nullable AsyncModbusReadResult sliceBits(ModbusReadRequestBlueprint request, BitArray bits, int offset,
+                int length) {
+            if (offset + length > bits.size()) {
+                return null;
+            }
+            boolean[] slice = new boolean[length];
+            for (int i = 0; i < length; i++) {
+                slice[i] = bits.getBit(offset + i);
+            }
+            return new AsyncModbusReadResult(request, new BitArray(slice));
+        }
+    }
+}
@@ -38,6 +38,8 @@ public class ModbusSerialConfiguration {
     private int connectMaxTries = 1;
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
+    private boolean mergeReads;
+    private int mergeReadsMaxGap;
     private boolean enableDiscovery;
 
     public @Nullable String getPort() {
@@ -167,4 +169,20 @@ public class ModbusSerialConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergeReads() {
+        return mergeReads;
+    }
+
+    public void setMergeReads(boolean mergeReads) {
+        this.mergeReads = mergeReads;
+    }
+
+    public int getMergeReadsMaxGap() {
+        return mergeReadsMaxGap;
+    }
+
+    public void setMergeReadsMaxGap(int mergeReadsMaxGap) {
+        this.mergeReadsMaxGap = mergeReadsMaxGap;
+    }
 }
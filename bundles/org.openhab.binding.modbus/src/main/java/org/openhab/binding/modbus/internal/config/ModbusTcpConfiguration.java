@@ -32,6 +32,8 @@ public class ModbusTcpConfiguration {
     private int reconnectAfterMillis;
     private int afterConnectionDelayMillis;
     private int connectTimeoutMillis = 10_000;
+    private boolean mergeReads;
+    private int mergeReadsMaxGap;
     private boolean enableDiscovery;
     private boolean rtuEncoded;
 
@@ -118,4 +120,20 @@ public class ModbusTcpConfiguration {
     public void setDiscoveryEnabled(boolean enableDiscovery) {
         this.enableDiscovery = enableDiscovery;
     }
+
+    public boolean isMergeReads() {
+        return mergeReads;
+    }
+
+    public void setMergeReads(boolean mergeReads) {
+        this.mergeReads = mergeReads;
+    }
+
+    public int getMergeReadsMaxGap() {
+        return mergeReadsMaxGap;
+    }
+
+    public void setMergeReadsMaxGap(int mergeReadsMaxGap) {
+        this.mergeReadsMaxGap = mergeReadsMaxGap;
+    }
 }
@@ -18,12 +18,12 @@ import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -90,9 +90,10 @@ import org.slf4j.LoggerFactory;
  * commands
  *
  * Thing can be re-initialized by the bridge in case of configuration changes (bridgeStatusChanged).
- * Because of this, initialize, dispose and all callback methods (onRegisters, onBits, onError, onWriteResponse) are
- * synchronized
- * to avoid data race conditions.
+ * Because of this, initialize, dispose and the error and write callback methods (onError, onWriteResponse) are
+ * synchronized to avoid data race conditions. The read callbacks (onReadResult, onUnchangedReadResult) do not lock the
+ * handler: they only use the {@link ReadConfiguration} published by initialize, and are called by the poller one at a
+ * time.
  *
  * @author Sami Salonen - Initial contribution
  */
@@ -125,6 +126,36 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     // data channels + 4 for read/write last error/success
     private static final int NUMER_OF_CHANNELS_HINT = CHANNEL_ID_TO_ACCEPTED_TYPES.size() + 4;
 
+    /**
+     * Configuration for reading the polled data, created by initialize once the thing configuration is valid.
+     *
+     * The configuration never changes; initialize and dispose replace it as a whole, so the read callbacks see either
+     * the complete configuration or none. The last channel updates belong to the configuration and are only accessed
+     * by the read callbacks.
+     */
+    private static class ReadConfiguration {
+        private final ValueType valueType;
+        private final CascadedValueTransformationImpl transformation;
+        private final int index;
+        private final Optional<Integer> subIndex;
+        private final int offset;
+        private final int length;
+        private final long updateUnchangedValuesEveryMillis;
+        private final Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+        private final Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+
+        private ReadConfiguration(ValueType valueType, CascadedValueTransformationImpl transformation, int index,
+                Optional<Integer> subIndex, int pollStart, boolean bitQuery, long updateUnchangedValuesEveryMillis) {
+            this.valueType = valueType;
+            this.transformation = transformation;
+            this.index = index;
+            this.subIndex = subIndex;
+            this.offset = index - pollStart;
+            this.length = bitQuery ? 1 : Math.max(1, valueType.getBits() / 16);
+            this.updateUnchangedValuesEveryMillis = updateUnchangedValuesEveryMillis;
+        }
+    }
+
     //
     // If you change the below default/initial values, please update the corresponding values in dispose()
     //
@@ -141,16 +172,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     private volatile int slaveId;
     private volatile @Nullable ModbusReadFunctionCode functionCode;
     private volatile @Nullable ModbusReadRequestBlueprint readRequest;
-    private volatile long updateUnchangedValuesEveryMillis;
+    private volatile @Nullable ReadConfiguration readConfiguration;
     private volatile @NonNullByDefault({}) ModbusCommunicationInterface comms;
     private volatile boolean isWriteEnabled;
     private volatile boolean isReadEnabled;
     private volatile boolean writeParametersHavingTransformationOnly;
     private volatile boolean childOfEndpoint;
     private volatile @Nullable ModbusPollerThingHandler pollerHandler;
-    private volatile Map<String, ChannelUID> channelCache = new HashMap<>();
-    private volatile Map<ChannelUID, Long> channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
-    private volatile Map<ChannelUID, State> channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
+    private volatile Map<String, ChannelUID> channelCache = new ConcurrentHashMap<>();
 
     private volatile LocalDateTime lastStatusInfoUpdate = LocalDateTime.MIN;
     private volatile ThingStatusInfo statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE,
@@ -402,7 +431,6 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         try {
             logger.trace("initialize() of thing {} '{}' starting", thing.getUID(), thing.getLabel());
             ModbusDataConfiguration localConfig = config = getConfigAs(ModbusDataConfiguration.class);
-            updateUnchangedValuesEveryMillis = localConfig.getUpdateUnchangedValuesEveryMillis();
             Bridge bridge = getBridge();
             if (bridge == null || !bridge.getStatus().equals(ThingStatus.ONLINE)) {
                 logger.debug("Thing {} '{}' has no bridge or it is not online", getThing().getUID(),
@@ -445,6 +473,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
             validateAndParseReadParameters(localConfig);
             validateAndParseWriteParameters(localConfig);
             validateMustReadOrWrite();
+            readConfiguration = createReadConfiguration(localConfig);
 
             updateStatusIfChanged(ThingStatus.ONLINE);
         } catch (ModbusConfigurationException | EndpointNotInitializedException e) {
@@ -458,6 +487,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
 
     @Override
     public synchronized void dispose() {
+        readConfiguration = null;
         config = null;
         readValueType = null;
         writeValueType = null;
@@ -477,11 +507,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         writeParametersHavingTransformationOnly = false;
         childOfEndpoint = false;
         pollerHandler = null;
-        channelCache = new HashMap<>();
+        channelCache = new ConcurrentHashMap<>();
         lastStatusInfoUpdate = LocalDateTime.MIN;
         statusInfo = new ThingStatusInfo(ThingStatus.UNKNOWN, ThingStatusDetail.NONE, null);
-        channelLastUpdated = new HashMap<>(NUMER_OF_CHANNELS_HINT);
-        channelLastState = new HashMap<>(NUMER_OF_CHANNELS_HINT);
     }
 
     @Override
@@ -576,6 +604,23 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         validateReadIndex();
     }
 
+    /**
+     * Create the configuration for reading the polled data from the validated read parameters
+     *
+     * @return the read configuration, or null if this thing does not read data
+     */
+    private @Nullable ReadConfiguration createReadConfiguration(ModbusDataConfiguration config) {
+        ValueType localReadValueType = readValueType;
+        CascadedValueTransformationImpl localReadTransformation = readTransformation;
+        if (!isReadEnabled || readIndex.isEmpty() || localReadValueType == null || localReadTransformation == null) {
+            return null;
+        }
+        boolean bitQuery = functionCode == ModbusReadFunctionCode.READ_COILS
+                || functionCode == ModbusReadFunctionCode.READ_INPUT_DISCRETES;
+        return new ReadConfiguration(localReadValueType, localReadTransformation, readIndex.get(), readSubIndex,
+                pollStart, bitQuery, config.getUpdateUnchangedValuesEveryMillis());
+    }
+
     private void validateAndParseWriteParameters(ModbusDataConfiguration config) throws ModbusConfigurationException {
         boolean writeTypeMissing = config.getWriteType() == null || config.getWriteType().isBlank();
         boolean writeStartMissing = config.getWriteStart() == null || config.getWriteStart().isBlank();
@@ -791,9 +836,72 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         return acceptedDataTypes.stream().anyMatch(clz -> clz.equals(OpenClosedType.class));
     }
 
-    public synchronized void onReadResult(AsyncModbusReadResult result) {
-        result.getRegisters().ifPresent(registers -> onRegisters(result.getRequest(), registers));
-        result.getBits().ifPresent(bits -> onBits(result.getRequest(), bits));
+    public void onReadResult(AsyncModbusReadResult result) {
+        ReadConfiguration localReadConfiguration = readConfiguration;
+        if (localReadConfiguration == null || hasConfigurationError()) {
+            return;
+        }
+        result.getRegisters()
+                .ifPresent(registers -> onRegisters(localReadConfiguration, result.getRequest(), registers));
+        result.getBits().ifPresent(bits -> onBits(localReadConfiguration, result.getRequest(), bits));
+    }
+
+    /**
+     * Called by the poller instead of {@link #onReadResult(AsyncModbusReadResult)} if the data read by this thing did
+     * not change since the last poll. Only the time of the last successful read is updated.
+     */
+    public void onUnchangedReadResult() {
+        if (readConfiguration == null || hasConfigurationError()) {
+            return;
+        }
+        ChannelUID lastReadSuccessUID = getChannelUID(ModbusBindingConstantsInternal.CHANNEL_LAST_READ_SUCCESS);
+        if (isLinked(lastReadSuccessUID)) {
+            tryUpdateState(lastReadSuccessUID, new DateTimeType());
+        }
+    }
+
+    /**
+     * Get the index of the first register (or coil/discrete input) read by this thing, relative to the start of the
+     * poll
+     *
+     * @return index relative to the start of the poll, or -1 if this thing does not read data
+     */
+    public int getReadOffset() {
+        ReadConfiguration localReadConfiguration = readConfiguration;
+        return localReadConfiguration == null ? -1 : localReadConfiguration.offset;
+    }
+
+    /**
+     * Get the number of registers (or coils/discrete inputs) read by this thing
+     *
+     * @return number of registers, coils or discrete inputs
+     */
+    public int getReadLength() {
+        ReadConfiguration localReadConfiguration = readConfiguration;
+        return localReadConfiguration == null ? 0 : localReadConfiguration.length;
+    }
+
+    /**
+     * Check whether unchanged values should be updated to the channels
+     *
+     * @param now current time in milliseconds
+     * @return true if some channel has not been updated for updateUnchangedValuesEveryMillis
+     */
+    public boolean isUnchangedValueUpdateDue(long now) {
+        ReadConfiguration localReadConfiguration = readConfiguration;
+        if (localReadConfiguration == null) {
+            return true;
+        }
+        long updateUnchangedValuesEveryMillis = localReadConfiguration.updateUnchangedValuesEveryMillis;
+        if (updateUnchangedValuesEveryMillis <= 0L || localReadConfiguration.channelLastUpdated.isEmpty()) {
+            return true;
+        }
+        for (long lastUpdatedMillis : localReadConfiguration.channelLastUpdated.values()) {
+            if (now - lastUpdatedMillis > updateUnchangedValuesEveryMillis) {
+                return true;
+            }
+        }
+        return false;
     }
 
     public synchronized void handleReadError(AsyncModbusFailure<ModbusReadRequestBlueprint> failure) {
@@ -804,16 +912,9 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         onError(failure.getRequest(), failure.getCause());
     }
 
-    private synchronized void onRegisters(ModbusReadRequestBlueprint request, ModbusRegisterArray registers) {
-        if (hasConfigurationError()) {
-            return;
-        } else if (!isReadEnabled) {
-            return;
-        }
-        ValueType readValueType = this.readValueType;
-        if (readValueType == null) {
-            return;
-        }
+    private void onRegisters(ReadConfiguration readConfiguration, ModbusReadRequestBlueprint request,
+            ModbusRegisterArray registers) {
+        ValueType readValueType = readConfiguration.valueType;
         State numericState;
 
         // extractIndex:
@@ -828,35 +929,31 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         int extractIndex;
         if (readValueType.getBits() >= 16) {
             // Invariant, checked in initialize
-            assert readSubIndex.orElse(0) == 0;
-            extractIndex = readIndex.get() - pollStart;
+            assert readConfiguration.subIndex.orElse(0) == 0;
+            extractIndex = readConfiguration.offset;
         } else {
-            int subIndex = readSubIndex.orElse(0);
+            int subIndex = readConfiguration.subIndex.orElse(0);
             int itemsPerRegister = 16 / readValueType.getBits();
-            extractIndex = (readIndex.get() - pollStart) * itemsPerRegister + subIndex;
+            extractIndex = readConfiguration.offset * itemsPerRegister + subIndex;
         }
         numericState = ModbusBitUtilities.extractStateFromRegisters(registers, extractIndex, readValueType)
                 .map(state -> (State) state).orElse(UnDefType.UNDEF);
         boolean boolValue = !numericState.equals(DecimalType.ZERO);
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        Map<ChannelUID, State> values = processUpdatedValue(readConfiguration, numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={}, readSubIndex(or 0)={}, extractIndex={} -> numeric value {} and boolValue={}. Registers {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, readSubIndex.orElse(0), extractIndex, numericState,
-                boolValue, registers, request);
+                thing.getUID(), values, readValueType, readConfiguration.index, readConfiguration.subIndex.orElse(0),
+                extractIndex, numericState, boolValue, registers, request);
     }
 
-    private synchronized void onBits(ModbusReadRequestBlueprint request, BitArray bits) {
-        if (hasConfigurationError()) {
-            return;
-        } else if (!isReadEnabled) {
-            return;
-        }
-        boolean boolValue = bits.getBit(readIndex.get() - pollStart);
+    private void onBits(ReadConfiguration readConfiguration, ModbusReadRequestBlueprint request, BitArray bits) {
+        boolean boolValue = bits.getBit(readConfiguration.offset);
         DecimalType numericState = boolValue ? new DecimalType(BigDecimal.ONE) : DecimalType.ZERO;
-        Map<ChannelUID, State> values = processUpdatedValue(numericState, boolValue);
+        Map<ChannelUID, State> values = processUpdatedValue(readConfiguration, numericState, boolValue);
         logger.debug(
                 "Thing {} channels updated: {}. readValueType={}, readIndex={} -> numeric value {} and boolValue={}. Bits {} for request {}",
-                thing.getUID(), values, readValueType, readIndex, numericState, boolValue, bits, request);
+                thing.getUID(), values, readConfiguration.valueType, readConfiguration.index, numericState, boolValue,
+                bits, request);
     }
 
     private synchronized void onError(ModbusReadRequestBlueprint request, Exception error) {
@@ -948,17 +1045,14 @@ public class ModbusDataThingHandler extends BaseThingHandler {
     /**
      * Update linked channels
      *
+     * @param readConfiguration configuration the polled data was read with
      * @param numericState numeric state corresponding to polled data (or UNDEF with floating point NaN or infinity)
      * @param boolValue boolean value corresponding to polled data
      * @return updated channel data
      */
-    private Map<ChannelUID, State> processUpdatedValue(State numericState, boolean boolValue) {
-        ValueTransformation localReadTransformation = readTransformation;
-        if (localReadTransformation == null) {
-            // We should always have transformation available if thing is initalized properly
-            logger.trace("No transformation available, aborting processUpdatedValue");
-            return Collections.emptyMap();
-        }
+    private Map<ChannelUID, State> processUpdatedValue(ReadConfiguration readConfiguration, State numericState,
+            boolean boolValue) {
+        ValueTransformation localReadTransformation = readConfiguration.transformation;
         Map<ChannelUID, State> states = new HashMap<>();
         CHANNEL_ID_TO_ACCEPTED_TYPES.keySet().stream().forEach(channelId -> {
             ChannelUID channelUID = getChannelUID(channelId);
@@ -1000,7 +1094,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                 logger.trace(
                         "Channel {} will be updated to '{}' (type {}). Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
                         channelId, transformedState, transformedState.getClass().getSimpleName(), numericState,
-                        readValueType, boolValue,
+                        readConfiguration.valueType, boolValue,
                         localReadTransformation.isIdentityTransform() ? "<identity>" : localReadTransformation);
                 states.put(channelUID, transformedState);
             } else {
@@ -1008,7 +1102,7 @@ public class ModbusDataThingHandler extends BaseThingHandler {
                         acceptedDataTypes.stream().map(cls -> cls.getSimpleName()).toArray(String[]::new));
                 logger.warn(
                         "Channel {} will not be updated since transformation was unsuccessful. Channel is expecting the following data types [{}]. Input data: number value {} (value type '{}' taken into account) and bool value {}. Transformation: {}",
-                        channelId, types, numericState, readValueType, boolValue,
+                        channelId, types, numericState, readConfiguration.valueType, boolValue,
                         localReadTransformation.isIdentityTransform() ? "<identity>" : localReadTransformation);
             }
         });
@@ -1017,31 +1111,31 @@ public class ModbusDataThingHandler extends BaseThingHandler {
         if (isLinked(lastReadSuccessUID)) {
             states.put(lastReadSuccessUID, new DateTimeType());
         }
-        updateExpiredChannels(states);
+        updateExpiredChannels(readConfiguration, states);
         return states;
     }
 
-    private void updateExpiredChannels(Map<ChannelUID, State> states) {
-        synchronized (this) {
-            updateStatusIfChanged(ThingStatus.ONLINE);
-            long now = System.currentTimeMillis();
-            // Update channels that have not been updated in a while, or when their values has changed
-            states.forEach((uid, state) -> updateExpiredChannel(now, uid, state));
-            channelLastState = states;
-        }
+    private void updateExpiredChannels(ReadConfiguration readConfiguration, Map<ChannelUID, State> states) {
+        updateStatusIfChanged(ThingStatus.ONLINE);
+        long now = System.currentTimeMillis();
+        // Update channels that have not been updated in a while, or when their values has changed
+        states.forEach((uid, state) -> updateExpiredChannel(readConfiguration, now, uid, state));
+        readConfiguration.channelLastState.clear();
+        readConfiguration.channelLastState.putAll(states);
     }
 
     // since lastState can be null, and "lastState == null" in conditional is not useless
     @SuppressWarnings("null")
-    private void updateExpiredChannel(long now, ChannelUID uid, State state) {
+    private void updateExpiredChannel(ReadConfiguration readConfiguration, long now, ChannelUID uid, State state) {
         @Nullable
-        State lastState = channelLastState.get(uid);
-        long lastUpdatedMillis = channelLastUpdated.getOrDefault(uid, 0L);
+        State lastState = readConfiguration.channelLastState.get(uid);
+        long lastUpdatedMillis = readConfiguration.channelLastUpdated.getOrDefault(uid, 0L);
         long millisSinceLastUpdate = now - lastUpdatedMillis;
+        long updateUnchangedValuesEveryMillis = readConfiguration.updateUnchangedValuesEveryMillis;
         if (lastUpdatedMillis <= 0L || lastState == null || updateUnchangedValuesEveryMillis <= 0L
                 || millisSinceLastUpdate > updateUnchangedValuesEveryMillis || !lastState.equals(state)) {
             tryUpdateState(uid, state);
-            channelLastUpdated.put(uid, now);
+            readConfiguration.channelLastUpdated.put(uid, now);
         }
     }
 
@@ -64,6 +64,8 @@ public class ModbusSerialThingHandler
         poolConfiguration.setConnectMaxTries(config.getConnectMaxTries());
         poolConfiguration.setAfterConnectionDelayMillis(config.getAfterConnectionDelayMillis());
         poolConfiguration.setConnectTimeoutMillis(config.getConnectTimeoutMillis());
+        mergeReads = config.isMergeReads();
+        mergeReadsMaxGap = config.getMergeReadsMaxGap();
         poolConfiguration.setInterTransactionDelayMillis(config.getTimeBetweenTransactionsMillis());
 
         // Never reconnect serial connections "automatically"
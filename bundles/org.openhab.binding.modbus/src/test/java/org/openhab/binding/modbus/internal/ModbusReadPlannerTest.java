@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.modbus.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.openhab.core.io.transport.modbus.AsyncModbusFailure;
+import org.openhab.core.io.transport.modbus.AsyncModbusReadResult;
+import org.openhab.core.io.transport.modbus.BitArray;
+import org.openhab.core.io.transport.modbus.ModbusCommunicationInterface;
+import org.openhab.core.io.transport.modbus.ModbusFailureCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadCallback;
+import org.openhab.core.io.transport.modbus.ModbusReadFunctionCode;
+import org.openhab.core.io.transport.modbus.ModbusReadRequestBlueprint;
+import org.openhab.core.io.transport.modbus.ModbusRegisterArray;
+import org.openhab.core.io.transport.modbus.PollTask;
+
+/**
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ModbusReadPlannerTest {
+
+    private static final long REFRESH = 1000;
+
+    private @NonNullByDefault({}) ModbusCommunicationInterface comms;
+    private final List<ModbusReadRequestBlueprint> registeredRequests = new ArrayList<>();
+    private final List<ModbusReadCallback> registeredCallbacks = new ArrayList<>();
+    private final List<ModbusFailureCallback<ModbusReadRequestBlueprint>> registeredFailureCallbacks =
+            new ArrayList<>();
+
+    /**
+     * Registered poller, its callbacks receive the data of the requested range only
+     */
+    private class Poller {
+        final ModbusReadRequestBlueprint request;
+        final ModbusReadCallback callback = mock(ModbusReadCallback.class);
+        @SuppressWarnings("unchecked")
+        final ModbusFailureCallback<ModbusReadRequestBlueprint> failureCallback = mock(ModbusFailureCallback.class);
+
+        Poller(ModbusReadPlanner planner, ModbusReadFunctionCode functionCode, int start, int length, long refresh) {
+            request = new ModbusReadRequestBlueprint(1, functionCode, start, length, 3);
+            planner.registerRegularPoll(request, refresh, callback, failureCallback);
+        }
+
+        AsyncModbusReadResult lastResult() {
+            ArgumentCaptor<AsyncModbusReadResult> captor = ArgumentCaptor.forClass(AsyncModbusReadResult.class);
+            verify(callback, atLeastOnce()).handle(captor.capture());
+            AsyncModbusReadResult result = captor.getValue();
+            assertSame(request, result.getRequest());
+            return result;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    public void setUp() {
+        comms = mock(ModbusCommunicationInterface.class);
+        when(comms.registerRegularPoll(any(), anyLong(), anyLong(), any(), any())).thenAnswer(invocation -> {
+            registeredRequests.add(invocation.getArgument(0));
+            registeredCallbacks.add(invocation.getArgument(3));
+            registeredFailureCallbacks.add(invocation.getArgument(4));
+            return mock(PollTask.class);
+        });
+    }
+
+    private ModbusReadRequestBlueprint lastRegisteredRequest() {
+        return registeredRequests.get(registeredRequests.size() - 1);
+    }
+
+    private ModbusReadCallback lastRegisteredCallback() {
+        return registeredCallbacks.get(registeredCallbacks.size() - 1);
+    }
+
+    private static ModbusRegisterArray registers(int start, int length) {
+        int[] values = new int[length];
+        for (int i = 0; i < length; i++) {
+            values[i] = 0x100 + start + i;
+        }
+        return new ModbusRegisterArray(values);
+    }
+
+    private static void assertBits(BitArray actual, boolean... expected) {
+        assertEquals(expected.length, actual.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], actual.getBit(i));
+        }
+    }
+
+    private void assertRequest(int start, int length, ModbusReadRequestBlueprint request) {
+        assertEquals(start, request.getReference());
+        assertEquals(length, request.getDataLength());
+        assertEquals(1, request.getUnitID());
+        assertEquals(3, request.getMaxTries());
+    }
+
+    @Test
+    public void testAdjacentRegistersAreReadWithSingleRequest() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        Poller poller1 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 3, REFRESH);
+        Poller poller2 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, REFRESH);
+
+        ModbusReadRequestBlueprint request = lastRegisteredRequest();
+        assertRequest(0, 5, request);
+        lastRegisteredCallback().handle(new AsyncModbusReadResult(request, registers(0, 5)));
+
+        // same data as if the pollers were read individually
+        assertEquals(registers(2, 3), poller1.lastResult().getRegisters().get());
+        assertEquals(registers(0, 2), poller2.lastResult().getRegisters().get());
+    }
+
+    @Test
+    public void testGapTolerance() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 2);
+        Poller poller1 = new Poller(planner, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 0, 2, REFRESH);
+        Poller poller2 = new Poller(planner, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 4, 1, REFRESH);
+        Poller poller3 = new Poller(planner, ModbusReadFunctionCode.READ_INPUT_REGISTERS, 8, 1, REFRESH);
+
+        // poller 3 is too far away
+        List<ModbusReadRequestBlueprint> requests = registeredRequests.subList(registeredRequests.size() - 2,
+                registeredRequests.size());
+        assertRequest(0, 5, requests.get(0));
+        assertSame(poller3.request, requests.get(1));
+
+        registeredCallbacks.get(registeredCallbacks.size() - 2)
+                .handle(new AsyncModbusReadResult(requests.get(0), registers(0, 5)));
+        assertEquals(registers(0, 2), poller1.lastResult().getRegisters().get());
+        assertEquals(registers(4, 1), poller2.lastResult().getRegisters().get());
+        verify(poller3.callback, never()).handle(any(AsyncModbusReadResult.class));
+    }
+
+    @Test
+    public void testProtocolMaximumIsRespected() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 100, REFRESH);
+        new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 100, 100, REFRESH);
+        assertRequest(100, 100, lastRegisteredRequest());
+
+        // 2000 coils can be read at once
+        new Poller(planner, ModbusReadFunctionCode.READ_COILS, 0, 1000, REFRESH);
+        new Poller(planner, ModbusReadFunctionCode.READ_COILS, 1000, 1000, REFRESH);
+        assertRequest(0, 2000, lastRegisteredRequest());
+    }
+
+    @Test
+    public void testDifferentRefreshIsNotMerged() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        Poller poller1 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, REFRESH);
+        Poller poller2 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2, 2 * REFRESH);
+
+        assertEquals(List.of(poller1.request, poller2.request), registeredRequests);
+        assertEquals(List.of(poller1.callback, poller2.callback), registeredCallbacks);
+    }
+
+    @Test
+    public void testUnregisterPlansRemainingPolls() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        Poller poller1 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, REFRESH);
+        Poller poller2 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2, REFRESH);
+        int registrations = registeredRequests.size();
+
+        assertTrue(planner.unregisterRegularPoll(poller2.callback));
+        // the merged poll is replaced with the poll of the remaining poller
+        verify(comms, times(registrations)).unregisterRegularPoll(any());
+        assertSame(poller1.request, lastRegisteredRequest());
+        assertSame(poller1.callback, lastRegisteredCallback());
+
+        assertTrue(planner.unregisterRegularPoll(poller1.callback));
+        assertFalse(planner.unregisterRegularPoll(poller1.callback));
+        verify(comms, times(registrations + 1)).unregisterRegularPoll(any());
+    }
+
+    @Test
+    public void testFailureIsPassedToAllPollers() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        Poller poller1 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 0, 2, REFRESH);
+        Poller poller2 = new Poller(planner, ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, 2, 2, REFRESH);
+
+        Exception cause = new Exception("Something failed!");
+        registeredFailureCallbacks.get(registeredFailureCallbacks.size() - 1)
+                .handle(new AsyncModbusFailure<>(lastRegisteredRequest(), cause));
+
+        for (Poller poller : List.of(poller1, poller2)) {
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<AsyncModbusFailure<ModbusReadRequestBlueprint>> captor = ArgumentCaptor
+                    .forClass(AsyncModbusFailure.class);
+            verify(poller.failureCallback).handle(captor.capture());
+            assertSame(poller.request, captor.getValue().getRequest());
+            assertSame(cause, captor.getValue().getCause());
+        }
+    }
+
+    @Test
+    public void testCoilsAreSplit() {
+        ModbusReadPlanner planner = new ModbusReadPlanner(comms, 0);
+        Poller poller1 = new Poller(planner, ModbusReadFunctionCode.READ_COILS, 0, 3, REFRESH);
+        Poller poller2 = new Poller(planner, ModbusReadFunctionCode.READ_COILS, 3, 2, REFRESH);
+
+        ModbusReadRequestBlueprint request = lastRegisteredRequest();
+        assertRequest(0, 5, request);
+        lastRegisteredCallback()
+                .handle(new AsyncModbusReadResult(request, new BitArray(true, false, true, true, false)));
+
+        assertBits(poller1.lastResult().getBits().get(), true, false, true);
+        assertBits(poller2.lastResult().getBits().get(), true, false);
+    }
+}
@@ -37,6 +37,17 @@ public interface SnmpService {
 
     void removeCommandResponder(CommandResponder listener);
 
+    /**
+     * Add a listener for traps or update the community and source address of an already registered listener
+     *
+     * @param listener the listener
+     * @param community the community of the traps
+     * @param address the source address of the traps, {@code null} if only v1 enterprise traps shall be received
+     */
+    void addTrapListener(CommandResponder listener, String community, @Nullable String address);
+
+    void removeTrapListener(CommandResponder listener);
+
     void send(PDU pdu, Target target, @Nullable Object userHandle, ResponseListener listener) throws IOException;
 
     void addUser(String userName, SnmpAuthProtocol snmpAuthProtocol, @Nullable String authPassphrase,
@@ -24,6 +24,7 @@ import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.snmp.internal.config.SnmpServiceConfiguration;
 import org.openhab.binding.snmp.internal.types.SnmpAuthProtocol;
 import org.openhab.binding.snmp.internal.types.SnmpPrivProtocol;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.config.core.Configuration;
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
@@ -63,6 +64,7 @@ public class SnmpServiceImpl implements SnmpService {
     private @Nullable DefaultUdpTransportMapping transport;
 
     private final List<CommandResponder> listeners = new ArrayList<>();
+    private final SnmpTrapDispatcher trapDispatcher = new SnmpTrapDispatcher(ThreadPoolManager.getPool("snmp"));
     private final Set<UserEntry> userEntries = new HashSet<>();
 
     @Activate
@@ -95,6 +97,7 @@ public class SnmpServiceImpl implements SnmpService {
             SecurityProtocols.getInstance().addPrivacyProtocol(new Priv3DES());
 
             final Snmp snmp = new Snmp(transport);
+            snmp.addCommandResponder(trapDispatcher);
             listeners.forEach(snmp::addCommandResponder);
             snmp.listen();
 
@@ -151,6 +154,16 @@ public class SnmpServiceImpl implements SnmpService {
         listeners.remove(listener);
     }
 
+    @Override
+    public void addTrapListener(CommandResponder listener, String community, @Nullable String address) {
+        trapDispatcher.addListener(listener, community, address);
+    }
+
+    @Override
+    public void removeTrapListener(CommandResponder listener) {
+        trapDispatcher.removeListener(listener);
+    }
+
     @Override
     public void send(PDU pdu, Target target, @Nullable Object userHandle, ResponseListener listener)
             throws IOException {
@@ -17,7 +17,15 @@ import static org.openhab.binding.snmp.internal.SnmpBindingConstants.*;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ScheduledFuture;
@@ -37,6 +45,7 @@ import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.binding.snmp.internal.types.SnmpProtocolVersion;
 import org.openhab.binding.snmp.internal.types.SnmpSecurityModel;
+import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
@@ -47,6 +56,8 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
+import org.openhab.core.thing.binding.builder.ChannelBuilder;
+import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.thing.util.ThingHandlerHelper;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
@@ -83,6 +94,10 @@ import org.snmp4j.smi.VariableBinding;
  * The {@link SnmpTargetHandler} is responsible for handling commands, which are
  * sent to one of the channels or update remote channels
  *
+ * The variables of a refresh are split into several PDUs which are sent in parallel, but never more than
+ * {@link SnmpTargetConfiguration#maxConcurrentRequests} at the same time. Channels in {@link SnmpChannelMode#TABLE}
+ * mode walk an OID subtree with GETBULK (or GETNEXT for v1) requests and create a channel for each row found.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
@@ -102,7 +117,32 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
 
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> readChannelSet;
     private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> writeChannelSet;
-    private @NonNullByDefault({}) Set<SnmpInternalChannelConfiguration> trapChannelSet;
+    private @NonNullByDefault({}) Map<OID, Set<SnmpInternalChannelConfiguration>> readChannelsByOid;
+    private @NonNullByDefault({}) Map<OID, Set<SnmpInternalChannelConfiguration>> trapChannelsByOid;
+    private @NonNullByDefault({}) Map<OID, Set<SnmpInternalChannelConfiguration>> tableChannelsByOid;
+    private @NonNullByDefault({}) List<OID> pollOids;
+
+    private final Object requestLock = new Object();
+    private final Deque<SnmpRequest> pendingRequests = new ArrayDeque<>();
+    private final Map<PDU, SnmpRequest> outstandingRequests = new IdentityHashMap<>();
+    private final Map<OID, Set<OID>> newTableRows = new HashMap<>();
+    private boolean refreshInProgress = false;
+    private long roundTripNanos = 0;
+    private int roundTripCount = 0;
+
+    /**
+     * A request sent by a refresh, the table OID is set if the request is part of a table walk
+     */
+    private static class SnmpRequest {
+        private final PDU pdu;
+        private final @Nullable OID tableOid;
+        private long sentNanos;
+
+        private SnmpRequest(PDU pdu, @Nullable OID tableOid) {
+            this.pdu = pdu;
+            this.tableOid = tableOid;
+        }
+    }
 
     public SnmpTargetHandler(Thing thing, SnmpService snmpService) {
         super(thing);
@@ -222,7 +262,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
 
-            snmpService.addCommandResponder(this);
+            snmpService.addTrapListener(this, config.community, null);
 
             target.setRetries(config.retries);
             target.setTimeout(config.timeout);
@@ -247,7 +287,13 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         if (r != null && !r.isCancelled()) {
             r.cancel(true);
         }
-        snmpService.removeCommandResponder(this);
+        synchronized (requestLock) {
+            pendingRequests.clear();
+            outstandingRequests.clear();
+            newTableRows.clear();
+            refreshInProgress = false;
+        }
+        snmpService.removeTrapListener(this);
     }
 
     @Override
@@ -264,6 +310,20 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             ((Snmp) event.getSource()).cancel(event.getRequest(), this);
         }
 
+        SnmpRequest request = null;
+        PDU requestPdu = event.getRequest();
+        if (requestPdu != null) {
+            synchronized (requestLock) {
+                request = outstandingRequests.remove(requestPdu);
+            }
+        }
+        processResponse(event, request);
+        if (request != null) {
+            sendPendingRequests();
+        }
+    }
+
+    private void processResponse(ResponseEvent event, @Nullable SnmpRequest request) {
         PDU response = event.getResponse();
         if (response == null) {
             Exception e = event.getError();
@@ -284,13 +344,89 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         }
         logger.trace("{} received {}", thing.getUID(), response);
 
+        if (request != null) {
+            synchronized (requestLock) {
+                roundTripNanos += System.nanoTime() - request.sentNanos;
+                roundTripCount++;
+            }
+            if (response.getErrorStatus() == PDU.tooBig && splitRequest(request)) {
+                return;
+            }
+            OID tableOid = request.tableOid;
+            if (tableOid != null) {
+                processTableResponse(request, tableOid, response);
+                return;
+            }
+        }
+
         response.getVariableBindings().forEach(variable -> {
             if (variable != null) {
-                updateChannels(variable.getOid(), variable.getVariable(), readChannelSet);
+                OID oid = variable.getOid();
+                updateChannels(oid, variable.getVariable(), readChannelsByOid.getOrDefault(oid, Set.of()));
             }
         });
     }
 
+    private boolean splitRequest(SnmpRequest request) {
+        PDU pdu = request.pdu;
+        OID tableOid = request.tableOid;
+        List<SnmpRequest> requests = new ArrayList<>();
+        if (tableOid != null) {
+            if (pdu.getMaxRepetitions() <= 1) {
+                return false;
+            }
+            requests.add(createTableRequest(tableOid, pdu.get(0).getOid(), pdu.getMaxRepetitions() / 2));
+        } else {
+            int size = pdu.size();
+            if (size <= 1) {
+                return false;
+            }
+            requests.add(createGetRequest(pdu.getVariableBindings().subList(size / 2, size)));
+            requests.add(createGetRequest(pdu.getVariableBindings().subList(0, size / 2)));
+        }
+        logger.debug("{} responded 'tooBig' to a request with {} variables, splitting request", thing.getUID(),
+                pdu.size());
+        synchronized (requestLock) {
+            requests.forEach(pendingRequests::addFirst);
+        }
+        return true;
+    }
+
+    private void processTableResponse(SnmpRequest request, OID tableOid, PDU response) {
+        if (response.getErrorStatus() != PDU.noError) {
+            logger.debug("{} walking table {} failed: {}", thing.getUID(), tableOid, response.getErrorStatusText());
+            return;
+        }
+        OID startOid = request.pdu.get(0).getOid();
+        OID lastOid = startOid;
+        for (VariableBinding variable : response.getVariableBindings()) {
+            OID oid = variable.getOid();
+            if (variable.isException() || oid.size() <= tableOid.size() || !oid.startsWith(tableOid)
+                    || oid.compareTo(lastOid) <= 0) {
+                // end of table (or MIB) reached
+                return;
+            }
+            lastOid = oid;
+            Set<SnmpInternalChannelConfiguration> rowChannels = readChannelsByOid.get(oid);
+            if (rowChannels != null) {
+                updateChannels(oid, variable.getVariable(), rowChannels);
+            } else {
+                synchronized (requestLock) {
+                    newTableRows.computeIfAbsent(tableOid, k -> new HashSet<>()).add(oid);
+                }
+            }
+        }
+        if (lastOid.equals(startOid)) {
+            // an empty response would request the same rows again and again
+            logger.debug("{} walking table {} returned no rows after {}, stopping", thing.getUID(), tableOid, startOid);
+            return;
+        }
+        SnmpRequest nextRequest = createTableRequest(tableOid, lastOid, request.pdu.getMaxRepetitions());
+        synchronized (requestLock) {
+            pendingRequests.addFirst(nextRequest);
+        }
+    }
+
     @Override
     public void processPdu(@Nullable CommandResponderEvent event) {
         if (event == null) {
@@ -309,13 +445,15 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
             if (trapValue == PDUv1.ENTERPRISE_SPECIFIC) {
                 trapValue = pduv1.getSpecificTrap();
             }
-            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue), trapChannelSet);
+            updateChannels(oidEnterprise, new UnsignedInteger32(trapValue),
+                    trapChannelsByOid.getOrDefault(oidEnterprise, Set.of()));
         }
         if ((pdu.getType() == PDU.TRAP || pdu.getType() == PDU.V1TRAP) && config.community.equals(community)
-                && targetAddressString.equals(address)) {
+                && address.equals(targetAddressString)) {
             pdu.getVariableBindings().forEach(variable -> {
                 if (variable != null) {
-                    updateChannels(variable.getOid(), variable.getVariable(), trapChannelSet);
+                    OID oid = variable.getOid();
+                    updateChannels(oid, variable.getVariable(), trapChannelsByOid.getOrDefault(oid, Set.of()));
                 }
             });
         }
@@ -393,6 +531,12 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 offValue, exceptionValue, unit, config.doNotLogException);
     }
 
+    private boolean isWalkedTableRow(SnmpInternalChannelConfiguration channelConfig) {
+        Channel channel = thing.getChannel(channelConfig.channelUID);
+        String tableOid = channel == null ? null : channel.getProperties().get(PROPERTY_TABLE_OID);
+        return tableOid != null && tableChannelsByOid.containsKey(new OID(tableOid));
+    }
+
     private void generateChannelConfigs() {
         Set<SnmpInternalChannelConfiguration> channelConfigs = Collections.unmodifiableSet(thing.getChannels().stream()
                 .map(this::getChannelConfigFromChannel).filter(Objects::nonNull).collect(Collectors.toSet()));
@@ -402,8 +546,51 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         this.writeChannelSet = channelConfigs.stream()
                 .filter(c -> c.mode == SnmpChannelMode.WRITE || c.mode == SnmpChannelMode.READ_WRITE)
                 .collect(Collectors.toSet());
-        this.trapChannelSet = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
-                .collect(Collectors.toSet());
+        this.trapChannelsByOid = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TRAP)
+                .collect(Collectors.groupingBy(c -> c.oid, Collectors.toSet()));
+        this.tableChannelsByOid = channelConfigs.stream().filter(c -> c.mode == SnmpChannelMode.TABLE)
+                .collect(Collectors.groupingBy(c -> c.oid, Collectors.toSet()));
+        this.readChannelsByOid = readChannelSet.stream().collect(Collectors.groupingBy(c -> c.oid, Collectors.toSet()));
+        // rows of walked tables are updated by the table walk and don't need to be polled separately
+        this.pollOids = readChannelSet.stream().filter(c -> !isWalkedTableRow(c)).map(c -> c.oid).distinct()
+                .collect(Collectors.toList());
+    }
+
+    private void createTableRowChannels(Map<OID, Set<OID>> tableRows) {
+        ThingBuilder thingBuilder = editThing();
+        int channelCount = 0;
+        for (Map.Entry<OID, Set<OID>> entry : tableRows.entrySet()) {
+            OID tableOid = entry.getKey();
+            for (SnmpInternalChannelConfiguration tableChannelConfig : tableChannelsByOid.getOrDefault(tableOid,
+                    Set.of())) {
+                Channel tableChannel = thing.getChannel(tableChannelConfig.channelUID);
+                if (tableChannel == null) {
+                    continue;
+                }
+                for (OID rowOid : entry.getValue()) {
+                    OID index = new OID(rowOid.getValue(), tableOid.size(), rowOid.size() - tableOid.size());
+                    ChannelUID channelUID = new ChannelUID(thing.getUID(),
+                            tableChannel.getUID().getId() + "_" + index.toDottedString().replace('.', '_'));
+                    if (thing.getChannel(channelUID) != null) {
+                        continue;
+                    }
+                    Configuration configuration = new Configuration(tableChannel.getConfiguration().getProperties());
+                    configuration.put("oid", rowOid.toDottedString());
+                    configuration.put("mode", SnmpChannelMode.READ.name());
+                    String label = Objects.requireNonNullElse(tableChannel.getLabel(), tableChannel.getUID().getId());
+                    thingBuilder.withChannel(ChannelBuilder.create(channelUID, tableChannel.getAcceptedItemType())
+                            .withType(tableChannel.getChannelTypeUID()).withLabel(label + " " + index)
+                            .withConfiguration(configuration)
+                            .withProperties(Map.of(PROPERTY_TABLE_OID, tableOid.toDottedString())).build());
+                    channelCount++;
+                }
+            }
+        }
+        if (channelCount > 0) {
+            logger.debug("{} adding {} channels for new table rows", thing.getUID(), channelCount);
+            updateThing(thingBuilder.build());
+            generateChannelConfigs();
+        }
     }
 
     private void updateChannels(OID oid, Variable value, Set<SnmpInternalChannelConfiguration> channelConfigs) {
@@ -543,6 +730,7 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
         try {
             target.setAddress(new UdpAddress(InetAddress.getByName(config.hostname), config.port));
             targetAddressString = ((UdpAddress) target.getAddress()).getInetAddress().getHostAddress();
+            snmpService.addTrapListener(this, config.community, targetAddressString);
             return true;
         } catch (UnknownHostException e) {
             target.setAddress(null);
@@ -558,16 +746,101 @@ public class SnmpTargetHandler extends BaseThingHandler implements ResponseListe
                 return;
             }
         }
-        PDU pdu = getPDU();
-        pdu.setType(PDU.GET);
-        readChannelSet.stream().map(c -> new VariableBinding(c.oid)).forEach(pdu::add);
-        if (!pdu.getVariableBindings().isEmpty()) {
+        List<SnmpRequest> requests = new ArrayList<>();
+        int maxVariablesPerPdu = Math.max(1, config.maxVariablesPerPdu);
+        for (int i = 0; i < pollOids.size(); i += maxVariablesPerPdu) {
+            requests.add(createGetRequest(pollOids.subList(i, Math.min(i + maxVariablesPerPdu, pollOids.size()))
+                    .stream().map(VariableBinding::new).collect(Collectors.toList())));
+        }
+        tableChannelsByOid.keySet()
+                .forEach(tableOid -> requests.add(createTableRequest(tableOid, tableOid, config.maxRepetitions)));
+        if (requests.isEmpty()) {
+            return;
+        }
+        synchronized (requestLock) {
+            if (refreshInProgress) {
+                logger.debug("{} previous refresh did not finish, dropping {} remaining requests", thing.getUID(),
+                        pendingRequests.size() + outstandingRequests.size());
+                pendingRequests.clear();
+                outstandingRequests.clear();
+            }
+            refreshInProgress = true;
+            roundTripNanos = 0;
+            roundTripCount = 0;
+            pendingRequests.addAll(requests);
+        }
+        sendPendingRequests();
+    }
+
+    private void sendPendingRequests() {
+        List<SnmpRequest> requests = new ArrayList<>();
+        Map<OID, Set<OID>> tableRows = Map.of();
+        long averageRoundTripNanos = -1;
+        synchronized (requestLock) {
+            if (target.getAddress() == null) {
+                // target went offline, wait for next refresh
+                pendingRequests.clear();
+            }
+            while (outstandingRequests.size() < Math.max(1, config.maxConcurrentRequests)) {
+                SnmpRequest request = pendingRequests.poll();
+                if (request == null) {
+                    break;
+                }
+                request.sentNanos = System.nanoTime();
+                outstandingRequests.put(request.pdu, request);
+                requests.add(request);
+            }
+            if (refreshInProgress && pendingRequests.isEmpty() && outstandingRequests.isEmpty()) {
+                refreshInProgress = false;
+                if (roundTripCount > 0) {
+                    averageRoundTripNanos = roundTripNanos / roundTripCount;
+                }
+                if (!newTableRows.isEmpty()) {
+                    tableRows = new HashMap<>(newTableRows);
+                    newTableRows.clear();
+                }
+            }
+        }
+
+        for (SnmpRequest request : requests) {
             try {
-                snmpService.send(pdu, target, null, this);
+                snmpService.send(request.pdu, target, null, this);
             } catch (IOException e) {
                 logger.info("Could not send PDU", e);
+                synchronized (requestLock) {
+                    outstandingRequests.remove(request.pdu);
+                }
+                sendPendingRequests();
             }
         }
+
+        if (averageRoundTripNanos >= 0) {
+            long averageRoundTripMillis = TimeUnit.NANOSECONDS.toMillis(averageRoundTripNanos);
+            logger.debug("{} refresh finished, average round-trip time {} ms", thing.getUID(), averageRoundTripMillis);
+        }
+        if (!tableRows.isEmpty()) {
+            createTableRowChannels(tableRows);
+        }
+    }
+
+    private SnmpRequest createGetRequest(List<? extends VariableBinding> variables) {
+        PDU pdu = getPDU();
+        pdu.setType(PDU.GET);
+        variables.forEach(variable -> pdu.add(new VariableBinding(variable.getOid())));
+        return new SnmpRequest(pdu, null);
+    }
+
+    private SnmpRequest createTableRequest(OID tableOid, OID startOid, int maxRepetitions) {
+        PDU pdu = getPDU();
+        if (config.protocol.toInteger() == SnmpConstants.version1) {
+            pdu.setType(PDU.GETNEXT);
+        } else {
+            pdu.setType(PDU.GETBULK);
+            pdu.setNonRepeaters(0);
+            pdu.setMaxRepetitions(Math.max(1, maxRepetitions));
+        }
+        pdu.add(new VariableBinding(startOid));
+        return new SnmpRequest(pdu, tableOid);
     }
 
     private PDU getPDU() {
@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.PDU;
+import org.snmp4j.smi.IpAddress;
+
+/**
+ * The {@link SnmpTrapDispatcher} is the only {@link CommandResponder} registered for traps. It hands incoming traps
+ * to the listeners registered for the community and source address of the trap.
+ *
+ * Traps are queued and dispatched on the given executor, so the SNMP listener is never blocked by the listeners. If
+ * the queue is full (e.g. during a trap storm), further traps are dropped.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class SnmpTrapDispatcher implements CommandResponder {
+    static final int QUEUE_CAPACITY = 1000;
+
+    private final Logger logger = LoggerFactory.getLogger(SnmpTrapDispatcher.class);
+
+    private final Executor executor;
+    private final BlockingQueue<CommandResponderEvent> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicInteger droppedTraps = new AtomicInteger(0);
+
+    private final Map<CommandResponder, TrapSource> sourcesByListener = new HashMap<>();
+    private final Map<String, Set<CommandResponder>> listenersByCommunity = new ConcurrentHashMap<>();
+    private final Map<TrapSource, Set<CommandResponder>> listenersBySource = new ConcurrentHashMap<>();
+
+    private record TrapSource(String community, @Nullable String address) {
+    }
+
+    SnmpTrapDispatcher(Executor executor) {
+        this(executor, QUEUE_CAPACITY);
+    }
+
+    SnmpTrapDispatcher(Executor executor, int queueCapacity) {
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Add a listener or update the community and address of an already registered listener
+     *
+     * @param listener the listener
+     * @param community the community of the traps
+     * @param address the source address of the traps, {@code null} if not known yet
+     */
+    synchronized void addListener(CommandResponder listener, String community, @Nullable String address) {
+        removeListener(listener);
+        TrapSource source = new TrapSource(community, address);
+        sourcesByListener.put(listener, source);
+        listenersByCommunity.computeIfAbsent(community, c -> new CopyOnWriteArraySet<>()).add(listener);
+        if (address != null) {
+            listenersBySource.computeIfAbsent(source, s -> new CopyOnWriteArraySet<>()).add(listener);
+        }
+    }
+
+    /**
+     * Remove a listener
+     *
+     * @param listener the listener
+     */
+    synchronized void removeListener(CommandResponder listener) {
+        TrapSource source = sourcesByListener.remove(listener);
+        if (source == null) {
+            return;
+        }
+        listenersByCommunity.computeIfPresent(source.community(), (c, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+        listenersBySource.computeIfPresent(source, (s, listeners) -> {
+            listeners.remove(listener);
+            return listeners.isEmpty() ? null : listeners;
+        });
+    }
+
+    @Override
+    public void processPdu(@Nullable CommandResponderEvent event) {
+        if (event == null || listenersByCommunity.isEmpty()) {
+            return;
+        }
+        PDU pdu = event.getPDU();
+        if (pdu == null || (pdu.getType() != PDU.TRAP && pdu.getType() != PDU.V1TRAP)) {
+            return;
+        }
+        if (!queue.offer(event)) {
+            droppedTraps.incrementAndGet();
+            return;
+        }
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            CommandResponderEvent event = queue.poll();
+            if (event == null) {
+                draining.set(false);
+                // a trap may have been queued after polling but before the flag was reset
+                if (queue.isEmpty() || !draining.compareAndSet(false, true)) {
+                    int dropped = droppedTraps.getAndSet(0);
+                    if (dropped > 0) {
+                        logger.warn("Dropped {} traps because the trap queue was full", dropped);
+                    }
+                    return;
+                }
+                continue;
+            }
+            try {
+                dispatch(event);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to process trap {}: {}", event, e.getMessage());
+            }
+        }
+    }
+
+    private void dispatch(CommandResponderEvent event) {
+        PDU pdu = event.getPDU();
+        String community = new String(event.getSecurityName());
+        Set<CommandResponder> listeners;
+        if (pdu.getType() == PDU.V1TRAP) {
+            // the enterprise of v1 traps is accepted from every source address
+            listeners = listenersByCommunity.getOrDefault(community, Set.of());
+        } else if (event.getPeerAddress() instanceof IpAddress peerAddress) {
+            String address = peerAddress.getInetAddress().getHostAddress();
+            listeners = listenersBySource.getOrDefault(new TrapSource(community, address), Set.of());
+        } else {
+            listeners = Set.of();
+        }
+        logger.trace("dispatching trap {} to {} listeners", pdu, listeners.size());
+        listeners.forEach(listener -> listener.processPdu(event));
+    }
+}
@@ -34,6 +34,9 @@ public class SnmpTargetConfiguration {
     public int refresh = 60;
     public int timeout = 1500;
     public int retries = 2;
+    public int maxVariablesPerPdu = 20;
+    public int maxConcurrentRequests = 2;
+    public int maxRepetitions = 20;
 
     // v1/v2c only
     public String community = "public";
@@ -13,21 +13,25 @@
 package org.openhab.binding.snmp.internal;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.openhab.binding.snmp.internal.types.SnmpChannelMode;
 import org.openhab.binding.snmp.internal.types.SnmpDatatype;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.QuantityType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.Channel;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.snmp4j.PDU;
 import org.snmp4j.Snmp;
@@ -166,6 +170,79 @@ public class SnmpTargetHandlerTest extends AbstractSnmpTargetHandlerTest {
         verifyStatus(ThingStatus.ONLINE);
     }
 
+    @Test
+    public void testTableWalkAddsRowChannels() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.TABLE);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, timeout(500).times(1)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        PDU request = pduCaptor.getValue();
+        assertEquals(PDU.GETNEXT, request.getType());
+        assertEquals(new OID(TEST_OID), request.get(0).getOid());
+
+        PDU responsePDU = new PDU(PDU.RESPONSE, Collections
+                .singletonList(new VariableBinding(new OID(TEST_OID + ".7"), new OctetString(TEST_STRING))));
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, null));
+
+        // walk continues after the last received row
+        verify(snmpService, times(2)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        request = pduCaptor.getValue();
+        assertEquals(new OID(TEST_OID + ".7"), request.get(0).getOid());
+        verify(thingHandlerCallback, never()).thingUpdated(any());
+
+        responsePDU = new PDU(PDU.RESPONSE,
+                Collections.singletonList(new VariableBinding(new OID("1.2.3.5"), new OctetString(TEST_STRING))));
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, null));
+
+        ArgumentCaptor<Thing> thingCaptor = ArgumentCaptor.forClass(Thing.class);
+        verify(thingHandlerCallback, atLeast(1)).thingUpdated(thingCaptor.capture());
+        Channel rowChannel = thingCaptor.getValue().getChannel(CHANNEL_UID.getId() + "_7");
+
+        if (rowChannel == null) {
+            fail("'rowChannel' is null");
+            return;
+        }
+
+        assertEquals(TEST_OID + ".7", rowChannel.getConfiguration().get("oid"));
+        assertEquals(SnmpChannelMode.READ.name(), rowChannel.getConfiguration().get("mode"));
+        assertEquals(TEST_OID, rowChannel.getProperties().get(SnmpBindingConstants.PROPERTY_TABLE_OID));
+    }
+
+    @Test
+    public void testTableWalkStopsOnEmptyResponse() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.TABLE);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, timeout(500).times(1)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        PDU request = pduCaptor.getValue();
+
+        PDU responsePDU = new PDU(PDU.RESPONSE, Collections.emptyList());
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, null));
+
+        // the same rows are not requested again
+        verify(snmpService, times(1)).send(any(), any(), eq(null), eq(thingHandler));
+    }
+
+    @Test
+    public void testTooBigRequestIsSplit() throws IOException {
+        setup(SnmpBindingConstants.CHANNEL_TYPE_UID_STRING, SnmpChannelMode.READ);
+
+        ArgumentCaptor<PDU> pduCaptor = ArgumentCaptor.forClass(PDU.class);
+        verify(snmpService, timeout(500).times(1)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        PDU request = pduCaptor.getValue();
+        request.add(new VariableBinding(new OID("1.2.3.5")));
+
+        PDU responsePDU = new PDU(PDU.RESPONSE, Collections.emptyList());
+        responsePDU.setErrorStatus(PDU.tooBig);
+        thingHandler.onResponse(new ResponseEvent("test", null, request, responsePDU, null));
+
+        // at most two requests are sent in parallel by default
+        verify(snmpService, times(3)).send(pduCaptor.capture(), any(), eq(null), eq(thingHandler));
+        List<PDU> requests = pduCaptor.getAllValues();
+        assertEquals(1, requests.get(requests.size() - 2).size());
+        assertEquals(1, requests.get(requests.size() - 1).size());
+    }
+
     static class SnmpMock extends Snmp {
         public int cancelCallCounter = 0;
 
@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.snmp.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+import org.snmp4j.CommandResponder;
+import org.snmp4j.CommandResponderEvent;
+import org.snmp4j.PDU;
+import org.snmp4j.PDUv1;
+import org.snmp4j.smi.UdpAddress;
+
+/**
+ * Tests cases for {@link SnmpTrapDispatcher}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SnmpTrapDispatcherTest {
+    private static final String ADDRESS_1 = "192.168.0.1";
+    private static final String ADDRESS_2 = "192.168.0.2";
+
+    private final List<Runnable> pendingTasks = new ArrayList<>();
+    private final SnmpTrapDispatcher dispatcher = new SnmpTrapDispatcher(pendingTasks::add, 2);
+
+    private void runPendingTasks() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.remove(0).run();
+        }
+    }
+
+    private CommandResponderEvent trap(PDU pdu, String community, String address) {
+        pdu.setType(pdu instanceof PDUv1 ? PDU.V1TRAP : PDU.TRAP);
+        CommandResponderEvent event = mock(CommandResponderEvent.class);
+        when(event.getPDU()).thenReturn(pdu);
+        when(event.getSecurityName()).thenReturn(community.getBytes());
+        when(event.getPeerAddress()).thenReturn(new UdpAddress(address + "/162"));
+        return event;
+    }
+
+    @Test
+    public void testTrapsAreDispatchedBySourceAndCommunity() {
+        CommandResponder listener1 = mock(CommandResponder.class);
+        CommandResponder listener2 = mock(CommandResponder.class);
+        CommandResponder listener3 = mock(CommandResponder.class);
+        dispatcher.addListener(listener1, "public", ADDRESS_1);
+        dispatcher.addListener(listener2, "public", ADDRESS_2);
+        dispatcher.addListener(listener3, "private", ADDRESS_1);
+
+        CommandResponderEvent event = trap(new PDU(), "public", ADDRESS_1);
+        dispatcher.processPdu(event);
+        verify(listener1, never()).processPdu(any());
+        runPendingTasks();
+
+        verify(listener1).processPdu(event);
+        verify(listener2, never()).processPdu(any());
+        verify(listener3, never()).processPdu(any());
+    }
+
+    @Test
+    public void testV1TrapsAreDispatchedByCommunity() {
+        CommandResponder listener1 = mock(CommandResponder.class);
+        CommandResponder listener2 = mock(CommandResponder.class);
+        dispatcher.addListener(listener1, "public", null);
+        dispatcher.addListener(listener2, "private", ADDRESS_2);
+
+        CommandResponderEvent event = trap(new PDUv1(), "public", ADDRESS_1);
+        dispatcher.processPdu(event);
+        runPendingTasks();
+
+        verify(listener1).processPdu(event);
+        verify(listener2, never()).processPdu(any());
+    }
+
+    @Test
+    public void testUpdatedAndRemovedListeners() {
+        CommandResponder listener = mock(CommandResponder.class);
+        dispatcher.addListener(listener, "public", ADDRESS_1);
+        dispatcher.addListener(listener, "public", ADDRESS_2);
+
+        dispatcher.processPdu(trap(new PDU(), "public", ADDRESS_1));
+        runPendingTasks();
+        verify(listener, never()).processPdu(any());
+
+        CommandResponderEvent event = trap(new PDU(), "public", ADDRESS_2);
+        dispatcher.processPdu(event);
+        runPendingTasks();
+        verify(listener).processPdu(event);
+
+        dispatcher.removeListener(listener);
+        dispatcher.processPdu(trap(new PDU(), "public", ADDRESS_2));
+        runPendingTasks();
+        verify(listener, times(1)).processPdu(any());
+    }
+
+    @Test
+    public void testTrapsAreDroppedIfQueueIsFull() {
+        CommandResponder listener = mock(CommandResponder.class);
+        dispatcher.addListener(listener, "public", ADDRESS_1);
+
+        for (int i = 0; i < 5; i++) {
+            dispatcher.processPdu(trap(new PDU(), "public", ADDRESS_1));
+        }
+        // only one drain task is scheduled
+        assertEquals(1, pendingTasks.size());
+        runPendingTasks();
+
+        verify(listener, times(2)).processPdu(any());
+    }
+}
@@ -63,6 +63,7 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
     private final AudioHTTPServer audioHTTPServer;
     private final NetworkAddressService networkAddressService;
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
+    private final SonosHousehold household = new SonosHousehold();
 
     private final Map<String, ServiceRegistration<AudioSink>> audioSinkRegistrations = new ConcurrentHashMap<>();
 
@@ -117,8 +118,8 @@ public class SonosHandlerFactory extends BaseThingHandlerFactory {
             logger.debug("Creating a ZonePlayerHandler for thing '{}' with UDN '{}'", thing.getUID(),
                     thing.getConfiguration().get(UDN));
 
-            ZonePlayerHandler handler = new ZonePlayerHandler(thingRegistry, thing, upnpIOService, opmlUrl,
-                    stateDescriptionProvider);
+            ZonePlayerHandler handler = new ZonePlayerHandler(thingRegistry, household, thing, upnpIOService,
+                    opmlUrl, stateDescriptionProvider);
 
             // register the speaker as an audio sink
             String callbackUrl = createCallbackUrl();
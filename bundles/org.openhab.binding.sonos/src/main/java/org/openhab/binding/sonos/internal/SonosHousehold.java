@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.sonos.internal.handler.ZonePlayerHandler;
+
+/**
+ * The {@link SonosHousehold} is shared by all Zone Players of the binding. It keeps an index of the
+ * {@link ZonePlayerHandler}s by UDN and the group topology they report.
+ *
+ * Every Zone Player receives the same ZoneGroupState event when the grouping changes. It is parsed by the first
+ * player asking for it, all other players get the same {@link SonosZoneGroupTopology} instance.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosHousehold {
+
+    private final Map<String, ZonePlayerHandler> players = new ConcurrentHashMap<>();
+
+    private volatile SonosZoneGroupTopology topology = SonosZoneGroupTopology.EMPTY;
+
+    public void addPlayer(String udn, ZonePlayerHandler handler) {
+        players.put(udn, handler);
+    }
+
+    public void removePlayer(String udn, ZonePlayerHandler handler) {
+        players.remove(udn, handler);
+    }
+
+    public @Nullable ZonePlayerHandler getPlayer(String udn) {
+        return players.get(udn);
+    }
+
+    public Collection<ZonePlayerHandler> getPlayers() {
+        return players.values();
+    }
+
+    /**
+     * Returns the group topology described by the given ZoneGroupState, parsing it only if it differs from the last
+     * one.
+     *
+     * @param zoneGroupState the value of the ZoneGroupState variable
+     * @return the group topology
+     */
+    public SonosZoneGroupTopology getTopology(@Nullable String zoneGroupState) {
+        if (zoneGroupState == null || zoneGroupState.isEmpty()) {
+            return SonosZoneGroupTopology.EMPTY;
+        }
+        SonosZoneGroupTopology current = topology;
+        if (current.getZoneGroupState().equals(zoneGroupState)) {
+            return current;
+        }
+        synchronized (this) {
+            current = topology;
+            if (!current.getZoneGroupState().equals(zoneGroupState)) {
+                current = new SonosZoneGroupTopology(zoneGroupState,
+                        SonosXMLParser.getZoneGroupFromXML(zoneGroupState));
+                topology = current;
+            }
+            return current;
+        }
+    }
+}
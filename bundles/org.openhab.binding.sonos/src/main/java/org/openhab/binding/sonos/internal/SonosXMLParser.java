@@ -21,7 +21,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -58,6 +61,10 @@ public class SonosXMLParser {
                     + "<desc id=\"cdudn\" nameSpace=\"urn:schemas-rinconnetworks-com:metadata-1-0/\">" + "{4}</desc>"
                     + "</item></DIDL-Lite>");
 
+    private static final int MAX_POOLED_READERS = 8;
+    private static final Queue<XMLReader> READER_POOL = new ConcurrentLinkedQueue<>();
+    private static final DefaultHandler NO_HANDLER = new DefaultHandler();
+
     private enum Element {
         TITLE,
         CLASS,
@@ -83,6 +90,32 @@ public class SonosXMLParser {
         desc
     }
 
+    /**
+     * Parses the input with a SAX reader taken from a pool, as creating a reader is much more expensive than
+     * parsing the small documents sent by the Zone Players.
+     *
+     * @param handler the handler receiving the parse events
+     * @param source the input
+     * @throws IOException
+     * @throws SAXException
+     */
+    private static void parse(DefaultHandler handler, InputSource source) throws IOException, SAXException {
+        XMLReader reader = READER_POOL.poll();
+        if (reader == null) {
+            reader = XMLReaderFactory.createXMLReader();
+        }
+        reader.setContentHandler(handler);
+        try {
+            reader.parse(source);
+        } finally {
+            reader.setContentHandler(NO_HANDLER);
+            // the pool size is not exact, but it stays in the range of the number of concurrent parsers
+            if (READER_POOL.size() < MAX_POOLED_READERS) {
+                READER_POOL.offer(reader);
+            }
+        }
+    }
+
     /**
      * @param xml
      * @return a list of alarms from the given xml string.
@@ -92,9 +125,7 @@ public class SonosXMLParser {
     public static List<SonosAlarm> getAlarmsFromStringResult(String xml) {
         AlarmHandler handler = new AlarmHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             LOGGER.error("Could not parse Alarms from string '{}'", xml);
         } catch (SAXException s) {
@@ -110,18 +141,26 @@ public class SonosXMLParser {
      * @throws SAXException
      */
     public static List<SonosEntry> getEntriesFromString(String xml) {
-        EntryHandler handler = new EntryHandler();
+        List<SonosEntry> entries = new ArrayList<>();
+        getEntriesFromString(xml, entries::add);
+        return entries;
+    }
+
+    /**
+     * Parses the entries of the given xml string, handing each entry to the consumer as soon as it is complete.
+     *
+     * @param xml
+     * @param consumer the consumer of the entries
+     */
+    public static void getEntriesFromString(String xml, Consumer<SonosEntry> consumer) {
+        EntryHandler handler = new EntryHandler(consumer);
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             LOGGER.error("Could not parse Entries from string '{}'", xml);
         } catch (SAXException s) {
             LOGGER.error("Could not parse Entries from string '{}'", xml);
         }
-
-        return handler.getArtists();
     }
 
     /**
@@ -157,9 +196,7 @@ public class SonosXMLParser {
     public static List<SonosZoneGroup> getZoneGroupFromXML(String xml) {
         ZoneGroupHandler handler = new ZoneGroupHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse ZoneGroup from string '{}'", xml);
@@ -173,9 +210,7 @@ public class SonosXMLParser {
     public static List<String> getRadioTimeFromXML(String xml) {
         OpmlHandler handler = new OpmlHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse RadioTime from string '{}'", xml);
@@ -189,9 +224,7 @@ public class SonosXMLParser {
     public static Map<String, String> getRenderingControlFromXML(String xml) {
         RenderingControlEventHandler handler = new RenderingControlEventHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse Rendering Control from string '{}'", xml);
@@ -204,9 +237,7 @@ public class SonosXMLParser {
     public static Map<String, String> getAVTransportFromXML(String xml) {
         AVTransportEventHandler handler = new AVTransportEventHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse AV Transport from string '{}'", xml);
@@ -219,9 +250,7 @@ public class SonosXMLParser {
     public static SonosMetaData getMetaDataFromXML(String xml) {
         MetaDataHandler handler = new MetaDataHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse MetaData from string '{}'", xml);
@@ -235,9 +264,7 @@ public class SonosXMLParser {
     public static List<SonosMusicService> getMusicServicesFromXML(String xml) {
         MusicServiceHandler handler = new MusicServiceHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(handler);
-            reader.parse(new InputSource(new StringReader(xml)));
+            parse(handler, new InputSource(new StringReader(xml)));
         } catch (IOException e) {
             // This should never happen - we're not performing I/O!
             LOGGER.error("Could not parse music services from string '{}'", xml);
@@ -265,10 +292,11 @@ public class SonosXMLParser {
         private StringBuilder desc = new StringBuilder();
         private @Nullable Element element;
 
-        private List<SonosEntry> artists = new ArrayList<>();
+        private final Consumer<SonosEntry> consumer;
 
-        EntryHandler() {
+        EntryHandler(Consumer<SonosEntry> consumer) {
             // shouldn't be used outside of this package.
+            this.consumer = consumer;
         }
 
         @Override
@@ -385,7 +413,7 @@ public class SonosXMLParser {
                     }
                 }
 
-                artists.add(new SonosEntry(id, title.toString(), parentId, album.toString(), albumArtUri.toString(),
+                consumer.accept(new SonosEntry(id, title.toString(), parentId, album.toString(), albumArtUri.toString(),
                         creator.toString(), upnpClass.toString(), res.toString(), trackNumberVal, md));
                 title = new StringBuilder();
                 upnpClass = new StringBuilder();
@@ -397,10 +425,6 @@ public class SonosXMLParser {
                 desc = new StringBuilder();
             }
         }
-
-        public List<SonosEntry> getArtists() {
-            return artists;
-        }
     }
 
     private static class ResourceMetaDataHandler extends DefaultHandler {
@@ -570,7 +594,10 @@ public class SonosXMLParser {
                 groupId = attributes.getValue("ID");
                 coordinator = attributes.getValue("Coordinator");
             } else if ("ZoneGroupMember".equals(qName) && attributes != null) {
-                currentGroupPlayers.add(attributes.getValue("UUID"));
+                String uuid = attributes.getValue("UUID");
+                if (uuid != null) {
+                    currentGroupPlayers.add(uuid);
+                }
                 String zoneName = attributes.getValue("ZoneName");
                 if (zoneName != null) {
                     currentGroupPlayerZones.add(zoneName);
@@ -938,10 +965,8 @@ public class SonosXMLParser {
     public static @Nullable String getRoomName(String descriptorXML) {
         RoomNameHandler roomNameHandler = new RoomNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(roomNameHandler);
             URL url = new URL(descriptorXML);
-            reader.parse(new InputSource(url.openStream()));
+            parse(roomNameHandler, new InputSource(url.openStream()));
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos room name from string '{}'", descriptorXML);
         }
@@ -977,10 +1002,8 @@ public class SonosXMLParser {
     public static @Nullable String parseModelDescription(URL descriptorURL) {
         ModelNameHandler modelNameHandler = new ModelNameHandler();
         try {
-            XMLReader reader = XMLReaderFactory.createXMLReader();
-            reader.setContentHandler(modelNameHandler);
             URL url = new URL(descriptorURL.toString());
-            reader.parse(new InputSource(url.openStream()));
+            parse(modelNameHandler, new InputSource(url.openStream()));
         } catch (IOException | SAXException e) {
             LOGGER.error("Could not parse Sonos model name from string '{}'", descriptorURL.toString());
         }
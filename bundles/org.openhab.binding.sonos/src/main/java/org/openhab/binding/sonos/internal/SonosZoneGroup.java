@@ -20,7 +20,8 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
  * The {@link SonosZoneGroup} is data structure to describe
- * Groups of Zone Players in the Sonos ecosystem
+ * Groups of Zone Players in the Sonos ecosystem. It is immutable,
+ * so a parsed group topology can be shared by all Zone Players.
  *
  * @author Karel Goderis - Initial contribution
  */
@@ -28,17 +29,18 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 public class SonosZoneGroup {
 
     private final List<String> members;
-    private List<String> memberZoneNames;
+    private final List<String> memberZoneNames;
     private final String coordinator;
     private final String id;
 
     public SonosZoneGroup(String id, String coordinator, Collection<String> members,
             Collection<String> memberZoneNames) {
-        this.members = new ArrayList<>(members);
-        if (!this.members.contains(coordinator)) {
-            this.members.add(coordinator);
+        List<String> allMembers = new ArrayList<>(members);
+        if (!allMembers.contains(coordinator)) {
+            allMembers.add(coordinator);
         }
-        this.memberZoneNames = new ArrayList<>(memberZoneNames);
+        this.members = List.copyOf(allMembers);
+        this.memberZoneNames = List.copyOf(memberZoneNames);
         this.coordinator = coordinator;
         this.id = id;
     }
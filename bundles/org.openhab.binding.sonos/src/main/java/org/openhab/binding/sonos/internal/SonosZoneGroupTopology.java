@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SonosZoneGroupTopology} is the parsed content of a ZoneGroupState event, i.e. the
+ * {@link SonosZoneGroup}s of a household. It is immutable and shared by all Zone Players.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosZoneGroupTopology {
+
+    public static final SonosZoneGroupTopology EMPTY = new SonosZoneGroupTopology("", List.of());
+
+    private final String zoneGroupState;
+    private final List<SonosZoneGroup> groups;
+    private final Map<String, SonosZoneGroup> groupsByMember = new HashMap<>();
+
+    public SonosZoneGroupTopology(String zoneGroupState, List<SonosZoneGroup> groups) {
+        this.zoneGroupState = zoneGroupState;
+        this.groups = List.copyOf(groups);
+        for (SonosZoneGroup group : this.groups) {
+            for (String member : group.getMembers()) {
+                groupsByMember.putIfAbsent(member, group);
+            }
+        }
+    }
+
+    /**
+     * @return the ZoneGroupState this topology was parsed from
+     */
+    public String getZoneGroupState() {
+        return zoneGroupState;
+    }
+
+    public List<SonosZoneGroup> getGroups() {
+        return groups;
+    }
+
+    /**
+     * @param udn the UDN of a Zone Player
+     * @return the group the Zone Player is member of, or null if it is not part of this topology
+     */
+    public @Nullable SonosZoneGroup getGroup(String udn) {
+        return groupsByMember.get(udn);
+    }
+}
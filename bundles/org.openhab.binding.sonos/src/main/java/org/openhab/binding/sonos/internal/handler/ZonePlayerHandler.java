@@ -29,20 +29,24 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.sonos.internal.SonosAlarm;
 import org.openhab.binding.sonos.internal.SonosBindingConstants;
 import org.openhab.binding.sonos.internal.SonosEntry;
+import org.openhab.binding.sonos.internal.SonosHousehold;
 import org.openhab.binding.sonos.internal.SonosMetaData;
 import org.openhab.binding.sonos.internal.SonosMusicService;
 import org.openhab.binding.sonos.internal.SonosResourceMetaData;
 import org.openhab.binding.sonos.internal.SonosStateDescriptionOptionProvider;
 import org.openhab.binding.sonos.internal.SonosXMLParser;
 import org.openhab.binding.sonos.internal.SonosZoneGroup;
+import org.openhab.binding.sonos.internal.SonosZoneGroupTopology;
 import org.openhab.binding.sonos.internal.SonosZonePlayerState;
 import org.openhab.binding.sonos.internal.config.ZonePlayerConfiguration;
 import org.openhab.core.io.net.http.HttpUtil;
@@ -121,6 +125,13 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             SERVICE_AUDIO_IN, SERVICE_HT_CONTROL, SERVICE_CONTENT_DIRECTORY);
     protected static final int SUBSCRIPTION_DURATION = 1800;
 
+    private static final String DEFAULT_ENTRIES_FILTER = "dc:title,res,dc:creator,upnp:artist,upnp:album";
+    private static final String LIBRARY_CONTAINER = "A:";
+    private static final String QUEUE_CONTAINER = "Q:0";
+    private static final String PLAYLISTS_CONTAINER = "SQ:";
+    private static final String RADIOS_CONTAINER = "R:0";
+    private static final String FAVORITES_CONTAINER = "FV:2";
+
     private static final String ACTION_GET_ZONE_ATTRIBUTES = "GetZoneAttributes";
     private static final String ACTION_GET_ZONE_INFO = "GetZoneInfo";
     private static final String ACTION_GET_LED_STATE = "GetLEDState";
@@ -170,6 +181,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     private final Logger logger = LoggerFactory.getLogger(ZonePlayerHandler.class);
 
     private final ThingRegistry localThingRegistry;
+    private final SonosHousehold household;
     private final UpnpIOService service;
     private final @Nullable String opmlUrl;
     private final SonosStateDescriptionOptionProvider stateDescriptionProvider;
@@ -191,6 +203,19 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     private Map<String, Boolean> subscriptionState = new HashMap<>();
 
+    /**
+     * Update IDs of the content directory containers, as received by events
+     */
+    private final Map<String, String> containerUpdateIds = new ConcurrentHashMap<>();
+
+    /**
+     * Entries of content directory containers, valid as long as the update ID of the container does not change
+     */
+    private final Map<String, CachedEntries> entriesCache = new ConcurrentHashMap<>();
+
+    private record CachedEntries(String updateId, String filter, List<SonosEntry> entries) {
+    }
+
     /**
      * Thing handler instance of the coordinator speaker used for control delegation
      */
@@ -204,10 +229,12 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         ANY
     }
 
-    public ZonePlayerHandler(ThingRegistry thingRegistry, Thing thing, UpnpIOService upnpIOService,
-            @Nullable String opmlUrl, SonosStateDescriptionOptionProvider stateDescriptionProvider) {
+    public ZonePlayerHandler(ThingRegistry thingRegistry, SonosHousehold household, Thing thing,
+            UpnpIOService upnpIOService, @Nullable String opmlUrl,
+            SonosStateDescriptionOptionProvider stateDescriptionProvider) {
         super(thing);
         this.localThingRegistry = thingRegistry;
+        this.household = household;
         this.opmlUrl = opmlUrl;
         logger.debug("Creating a ZonePlayerHandler for thing '{}'", getThing().getUID());
         this.service = upnpIOService;
@@ -224,6 +251,10 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         }
         this.pollingJob = null;
 
+        String udn = configuration.udn;
+        if (udn != null) {
+            household.removePlayer(udn, this);
+        }
         removeSubscription();
         service.unregisterParticipant(this);
     }
@@ -240,6 +271,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         configuration = getConfigAs(ZonePlayerConfiguration.class);
         String udn = configuration.udn;
         if (udn != null && !udn.isEmpty()) {
+            household.addPlayer(udn, this);
             service.registerParticipant(this);
             pollingJob = scheduler.scheduleWithFixedDelay(this::poll, 0, configuration.refresh, TimeUnit.SECONDS);
         } else {
@@ -266,6 +298,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     synchronized (upnpLock) {
                         subscriptionState = new HashMap<>();
                     }
+                    // content directory events might be missed from now on
+                    entriesCache.clear();
                     return;
                 }
 
@@ -451,24 +485,14 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     private void restoreAllPlayerState() {
-        for (Thing aThing : localThingRegistry.getAll()) {
-            if (SonosBindingConstants.SUPPORTED_THING_TYPES_UIDS.contains(aThing.getThingTypeUID())) {
-                ZonePlayerHandler handler = (ZonePlayerHandler) aThing.getHandler();
-                if (handler != null) {
-                    handler.restoreState();
-                }
-            }
+        for (ZonePlayerHandler handler : household.getPlayers()) {
+            handler.restoreState();
         }
     }
 
     private void saveAllPlayerState() {
-        for (Thing aThing : localThingRegistry.getAll()) {
-            if (SonosBindingConstants.SUPPORTED_THING_TYPES_UIDS.contains(aThing.getThingTypeUID())) {
-                ZonePlayerHandler handler = (ZonePlayerHandler) aThing.getHandler();
-                if (handler != null) {
-                    handler.saveState();
-                }
-            }
+        for (ZonePlayerHandler handler : household.getPlayers()) {
+            handler.saveState();
         }
     }
 
@@ -680,12 +704,14 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                     updateChannel(TUNEINSTATIONID);
                     break;
                 case "SavedQueuesUpdateID": // service ContentDirectoy
+                    containerUpdateIds.put(PLAYLISTS_CONTAINER, value);
                     for (SonosEntry entry : getPlayLists()) {
                         options.add(new StateOption(entry.getTitle(), entry.getTitle()));
                     }
                     stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), PLAYLIST), options);
                     break;
                 case "FavoritesUpdateID": // service ContentDirectoy
+                    containerUpdateIds.put(FAVORITES_CONTAINER, value);
                     for (SonosEntry entry : getFavorites()) {
                         options.add(new StateOption(entry.getTitle(), entry.getTitle()));
                     }
@@ -694,7 +720,15 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                 // For favorite radios, we should have checked the state variable named RadioFavoritesUpdateID
                 // Due to a bug in the data type definition of this state variable, it is not set.
                 // As a workaround, we check the state variable named ContainerUpdateIDs.
+                case "ShareListUpdateID": // service ContentDirectoy
+                    containerUpdateIds.put(LIBRARY_CONTAINER, value);
+                    break;
                 case "ContainerUpdateIDs": // service ContentDirectoy
+                    // comma separated pairs of container ID and update ID, e.g. "Q:0,12,R:0,3"
+                    String[] containerUpdates = value.split(",");
+                    for (int i = 0; i + 1 < containerUpdates.length; i += 2) {
+                        containerUpdateIds.put(containerUpdates[i], containerUpdates[i + 1]);
+                    }
                     if (value.startsWith("R:0,") || stateDescriptionProvider
                             .getStateOptions(new ChannelUID(getThing().getUID(), RADIO)) == null) {
                         for (SonosEntry entry : getFavoriteRadios()) {
@@ -1115,6 +1149,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             }
             subscriptionState = new HashMap<>();
         }
+        entriesCache.clear();
     }
 
     @Override
@@ -1145,6 +1180,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                 synchronized (upnpLock) {
                     subscriptionState = new HashMap<>();
                 }
+                // content directory events might be missed from now on
+                entriesCache.clear();
             }
         } else if (!ThingStatus.ONLINE.equals(getThing().getStatus())) {
             logger.debug("Sonos player {} has been found in local network", getUDN());
@@ -1217,12 +1254,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public String getCoordinator() {
-        for (SonosZoneGroup zg : getZoneGroups()) {
-            if (zg.getMembers().contains(getUDN())) {
-                return zg.getCoordinator();
-            }
-        }
-        return getUDN();
+        SonosZoneGroup zoneGroup = getZoneGroupTopology().getGroup(getUDN());
+        return zoneGroup != null ? zoneGroup.getCoordinator() : getUDN();
     }
 
     public boolean isCoordinator() {
@@ -1524,11 +1557,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public List<SonosEntry> getArtists(String filter) {
-        return getEntries("A:", filter);
+        return getEntries(LIBRARY_CONTAINER, filter);
     }
 
     public List<SonosEntry> getArtists() {
-        return getEntries("A:", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries(LIBRARY_CONTAINER, DEFAULT_ENTRIES_FILTER);
     }
 
     public List<SonosEntry> getAlbums(String filter) {
@@ -1536,7 +1569,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public List<SonosEntry> getAlbums() {
-        return getEntries("A:ALBUM", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("A:ALBUM", DEFAULT_ENTRIES_FILTER);
     }
 
     public List<SonosEntry> getTracks(String filter) {
@@ -1544,35 +1577,35 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     }
 
     public List<SonosEntry> getTracks() {
-        return getEntries("A:TRACKS", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries("A:TRACKS", DEFAULT_ENTRIES_FILTER);
     }
 
     public List<SonosEntry> getQueue(String filter) {
-        return getEntries("Q:0", filter);
+        return getEntries(QUEUE_CONTAINER, filter);
     }
 
     public List<SonosEntry> getQueue() {
-        return getEntries("Q:0", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries(QUEUE_CONTAINER, DEFAULT_ENTRIES_FILTER);
     }
 
     public long getQueueSize() {
-        return getNbEntries("Q:0");
+        return getNbEntries(QUEUE_CONTAINER);
     }
 
     public List<SonosEntry> getPlayLists(String filter) {
-        return getEntries("SQ:", filter);
+        return getEntries(PLAYLISTS_CONTAINER, filter);
     }
 
     public List<SonosEntry> getPlayLists() {
-        return getEntries("SQ:", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries(PLAYLISTS_CONTAINER, DEFAULT_ENTRIES_FILTER);
     }
 
     public List<SonosEntry> getFavoriteRadios(String filter) {
-        return getEntries("R:0/0", filter);
+        return getEntries(RADIOS_CONTAINER + "/0", filter);
     }
 
     public List<SonosEntry> getFavoriteRadios() {
-        return getEntries("R:0/0", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries(RADIOS_CONTAINER + "/0", DEFAULT_ENTRIES_FILTER);
     }
 
     /**
@@ -1581,51 +1614,116 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * @return
      */
     public List<SonosEntry> getFavorites() {
-        return getEntries("FV:2", "dc:title,res,dc:creator,upnp:artist,upnp:album");
+        return getEntries(FAVORITES_CONTAINER, DEFAULT_ENTRIES_FILTER);
     }
 
+    /**
+     * Returns the entries of a content directory container. The lists of containers whose changes are evented
+     * (favorites, playlists, radios, queue and music library) are cached until their update ID changes.
+     */
     protected List<SonosEntry> getEntries(String type, String filter) {
+        String updateId = getContainerUpdateId(type);
+        CachedEntries cached = entriesCache.get(type);
+        if (updateId != null && cached != null && cached.updateId().equals(updateId)
+                && cached.filter().equals(filter)) {
+            return cached.entries();
+        }
+
+        List<SonosEntry> resultList = new ArrayList<>();
+        boolean complete = browseEntries(type, filter, resultList::add);
+
+        // a partial list must not be cached, it would be returned until the next change of the container
+        if (updateId != null && complete) {
+            entriesCache.put(type, new CachedEntries(updateId, filter, List.copyOf(resultList)));
+        }
+        return resultList;
+    }
+
+    /**
+     * Searches an entry by its title, without fetching the remaining pages of the container once it is found.
+     *
+     * @param type the container
+     * @param title the title of the entry
+     * @return the first entry with the given title, or null if none is found
+     */
+    protected @Nullable SonosEntry findEntry(String type, String title) {
+        String updateId = getContainerUpdateId(type);
+        CachedEntries cached = entriesCache.get(type);
+        if (updateId != null && cached != null && cached.updateId().equals(updateId)) {
+            return cached.entries().stream().filter(entry -> entry.getTitle().equals(title)).findFirst().orElse(null);
+        }
+
+        List<SonosEntry> found = new ArrayList<>(1);
+        browseEntries(type, DEFAULT_ENTRIES_FILTER, entry -> {
+            if (entry.getTitle().equals(title)) {
+                found.add(entry);
+                return false;
+            }
+            return true;
+        });
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Browses a content directory container page by page. Each page is parsed and handed to the visitor before the
+     * next one is requested.
+     *
+     * @param type the container
+     * @param filter the properties to be returned for each entry
+     * @param visitor called for each entry, returns false to stop browsing
+     * @return true if all entries were visited or the visitor stopped browsing, false if a page could not be fetched
+     */
+    protected boolean browseEntries(String type, String filter, Predicate<SonosEntry> visitor) {
         long startAt = 0;
+        long totalMatches;
 
         Map<String, String> inputs = new HashMap<>();
         inputs.put("ObjectID", type);
         inputs.put("BrowseFlag", "BrowseDirectChildren");
         inputs.put("Filter", filter);
-        inputs.put("StartingIndex", Long.toString(startAt));
-        inputs.put("RequestedCount", Integer.toString(200));
+        inputs.put("RequestedCount", Integer.toString(configuration.browsePageSize));
         inputs.put("SortCriteria", "");
 
-        Map<String, String> result = service.invokeAction(this, SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
-
-        String initialResult = result.get("Result");
-        if (initialResult == null) {
-            return Collections.emptyList();
-        }
-
-        long totalMatches = getResultEntry(result, "TotalMatches", type, filter);
-        long initialNumberReturned = getResultEntry(result, "NumberReturned", type, filter);
-
-        List<SonosEntry> resultList = SonosXMLParser.getEntriesFromString(initialResult);
-        startAt = startAt + initialNumberReturned;
-
-        while (startAt < totalMatches) {
+        boolean[] stopped = { false };
+        do {
             inputs.put("StartingIndex", Long.toString(startAt));
-            result = service.invokeAction(this, SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
 
             // Execute this action synchronously
-            String nextResult = result.get("Result");
-            if (nextResult == null) {
-                break;
+            Map<String, String> result = service.invokeAction(this, SERVICE_CONTENT_DIRECTORY, "Browse", inputs);
+            String page = result.get("Result");
+            if (page == null) {
+                logger.debug("Browsing {} failed at index {}", type, startAt);
+                return false;
             }
 
+            totalMatches = getResultEntry(result, "TotalMatches", type, filter);
             long numberReturned = getResultEntry(result, "NumberReturned", type, filter);
 
-            resultList.addAll(SonosXMLParser.getEntriesFromString(nextResult));
+            SonosXMLParser.getEntriesFromString(page, entry -> {
+                if (!stopped[0] && !visitor.test(entry)) {
+                    stopped[0] = true;
+                }
+            });
+            if (stopped[0]) {
+                return true;
+            }
+            if (numberReturned == 0) {
+                // no progress, the container is only complete if all matches have been returned
+                return startAt >= totalMatches;
+            }
 
             startAt = startAt + numberReturned;
-        }
+        } while (startAt < totalMatches);
+        return true;
+    }
 
-        return resultList;
+    private @Nullable String getContainerUpdateId(String type) {
+        if (type.startsWith(LIBRARY_CONTAINER)) {
+            return containerUpdateIds.get(LIBRARY_CONTAINER);
+        } else if (type.startsWith(RADIOS_CONTAINER + "/")) {
+            return containerUpdateIds.get(RADIOS_CONTAINER);
+        }
+        return containerUpdateIds.get(type);
     }
 
     protected long getNbEntries(String type) {
@@ -1806,6 +1904,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
 
     public void saveQueue(String name, String queueID) {
         executeAction(SERVICE_AV_TRANSPORT, ACTION_SAVE_QUEUE, Map.of("Title", name, "ObjectID", queueID));
+        entriesCache.remove(PLAYLISTS_CONTAINER);
     }
 
     public void setVolume(Command command) {
@@ -1928,9 +2027,12 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         return zoneGroup == null || zoneGroup.getMembers().size() == 1;
     }
 
+    private SonosZoneGroupTopology getZoneGroupTopology() {
+        return household.getTopology(stateMap.get("ZoneGroupState"));
+    }
+
     private Collection<SonosZoneGroup> getZoneGroups() {
-        String zoneGroupState = stateMap.get("ZoneGroupState");
-        return zoneGroupState == null ? Collections.emptyList() : SonosXMLParser.getZoneGroupFromXML(zoneGroupState);
+        return getZoneGroupTopology().getGroups();
     }
 
     /**
@@ -1940,13 +2042,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      * @return {@link SonosZoneGroup}
      */
     private @Nullable SonosZoneGroup getCurrentZoneGroup() {
-        for (SonosZoneGroup zoneGroup : getZoneGroups()) {
-            if (zoneGroup.getMembers().contains(getUDN())) {
-                return zoneGroup;
-            }
+        SonosZoneGroup zoneGroup = getZoneGroupTopology().getGroup(getUDN());
+        if (zoneGroup == null) {
+            logger.debug("Could not fetch Sonos group state information");
         }
-        logger.debug("Could not fetch Sonos group state information");
-        return null;
+        return zoneGroup;
     }
 
     /**
@@ -1987,6 +2087,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
         }
 
         executeAction(SERVICE_AV_TRANSPORT, ACTION_ADD_URI_TO_QUEUE, inputs);
+        entriesCache.remove(QUEUE_CONTAINER);
     }
 
     public void setCurrentURI(SonosEntry newEntry) {
@@ -2213,6 +2314,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
      */
     public void removeAllTracksFromQueue() {
         executeAction(SERVICE_AV_TRANSPORT, ACTION_REMOVE_ALL_TRACKS_FROM_QUEUE, Map.of("InstanceID", "0"));
+        entriesCache.remove(QUEUE_CONTAINER);
     }
 
     /**
@@ -2285,13 +2387,11 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     protected List<String> getZoneGroupMembers() {
         List<String> result = new ArrayList<>();
 
-        Collection<SonosZoneGroup> zoneGroups = getZoneGroups();
-        if (!zoneGroups.isEmpty()) {
-            for (SonosZoneGroup zg : zoneGroups) {
-                if (zg.getMembers().contains(getUDN())) {
-                    result.addAll(zg.getMembers());
-                    break;
-                }
+        SonosZoneGroupTopology topology = getZoneGroupTopology();
+        if (!topology.getGroups().isEmpty()) {
+            SonosZoneGroup zg = topology.getGroup(getUDN());
+            if (zg != null) {
+                result.addAll(zg.getMembers());
             }
         } else {
             // If the group topology was not yet received, return at least the current Sonos zone
@@ -2322,14 +2422,9 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
                 }
             }
         }
-        for (Thing aThing : localThingRegistry.getAll()) {
-            if (SonosBindingConstants.SUPPORTED_THING_TYPES_UIDS.contains(aThing.getThingTypeUID())
-                    && aThing.getConfiguration().get(ZonePlayerConfiguration.UDN).equals(remotePlayerName)) {
-                ThingHandler handler = aThing.getHandler();
-                if (handler instanceof ZonePlayerHandler) {
-                    return (ZonePlayerHandler) handler;
-                }
-            }
+        ZonePlayerHandler handler = household.getPlayer(remotePlayerName);
+        if (handler != null) {
+            return handler;
         }
         throw new IllegalStateException("Could not find handler for " + remotePlayerName);
     }
@@ -2934,6 +3029,7 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
             String numberOfTracks = rangeInputSplit[1] != null ? rangeInputSplit[1] : "1";
             executeAction(SERVICE_AV_TRANSPORT, ACTION_REMOVE_TRACK_RANGE_FROM_QUEUE,
                     Map.of("InstanceID", "0", "StartingIndex", startIndex, "NumberOfTracks", numberOfTracks));
+            entriesCache.remove(QUEUE_CONTAINER);
         }
     }
 
@@ -3009,16 +3105,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     public void playRadio(Command command) {
         if (command instanceof StringType) {
             String station = command.toString();
-            List<SonosEntry> stations = getFavoriteRadios();
-
-            SonosEntry theEntry = null;
             // search for the appropriate radio based on its name (title)
-            for (SonosEntry someStation : stations) {
-                if (someStation.getTitle().equals(station)) {
-                    theEntry = someStation;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntry(RADIOS_CONTAINER + "/0", station);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -3124,16 +3212,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     public void playFavorite(Command command) {
         if (command instanceof StringType) {
             String favorite = command.toString();
-            List<SonosEntry> favorites = getFavorites();
-
-            SonosEntry theEntry = null;
             // search for the appropriate favorite based on its name (title)
-            for (SonosEntry entry : favorites) {
-                if (entry.getTitle().equals(favorite)) {
-                    theEntry = entry;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntry(FAVORITES_CONTAINER, favorite);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -3189,16 +3269,8 @@ public class ZonePlayerHandler extends BaseThingHandler implements UpnpIOPartici
     public void playPlayList(Command command) {
         if (command instanceof StringType) {
             String playlist = command.toString();
-            List<SonosEntry> playlists = getPlayLists();
-
-            SonosEntry theEntry = null;
             // search for the appropriate play list based on its name (title)
-            for (SonosEntry somePlaylist : playlists) {
-                if (somePlaylist.getTitle().equals(playlist)) {
-                    theEntry = somePlaylist;
-                    break;
-                }
-            }
+            SonosEntry theEntry = findEntry(PLAYLISTS_CONTAINER, playlist);
 
             // set the URI of the group coordinator
             if (theEntry != null) {
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SonosHouseholdTest {
+
+    private static final String ZONE_GROUP_STATE = "<ZoneGroupState><ZoneGroups>"
+            + "<ZoneGroup Coordinator=\"RINCON_000001\" ID=\"RINCON_000001:1\">"
+            + "<ZoneGroupMember UUID=\"RINCON_000001\" ZoneName=\"Living Room\"/>"
+            + "<ZoneGroupMember UUID=\"RINCON_000002\" ZoneName=\"Kitchen\"/>" + "</ZoneGroup>"
+            + "<ZoneGroup Coordinator=\"RINCON_000003\" ID=\"RINCON_000003:7\">"
+            + "<ZoneGroupMember UUID=\"RINCON_000003\" ZoneName=\"Bedroom\"/>" + "</ZoneGroup>"
+            + "</ZoneGroups></ZoneGroupState>";
+
+    private final SonosHousehold household = new SonosHousehold();
+
+    @Test
+    public void getTopology() {
+        SonosZoneGroupTopology topology = household.getTopology(ZONE_GROUP_STATE);
+        assertEquals(2, topology.getGroups().size());
+
+        SonosZoneGroup group = topology.getGroup("RINCON_000002");
+        assertNotNull(group);
+        assertEquals("RINCON_000001", group.getCoordinator());
+        assertEquals(List.of("RINCON_000001", "RINCON_000002"), group.getMembers());
+        assertEquals(List.of("Living Room", "Kitchen"), group.getMemberZoneNames());
+
+        group = topology.getGroup("RINCON_000003");
+        assertNotNull(group);
+        assertEquals("RINCON_000003:7", group.getId());
+        assertNull(topology.getGroup("RINCON_000004"));
+    }
+
+    @Test
+    public void sameZoneGroupStateIsParsedOnce() {
+        SonosZoneGroupTopology topology = household.getTopology(ZONE_GROUP_STATE);
+        assertSame(topology, household.getTopology(new String(ZONE_GROUP_STATE)));
+
+        SonosZoneGroupTopology changed = household
+                .getTopology(ZONE_GROUP_STATE.replace("RINCON_000003:7", "RINCON_000003:8"));
+        assertNotSame(topology, changed);
+        assertNotNull(changed.getGroup("RINCON_000003"));
+    }
+
+    @Test
+    public void emptyZoneGroupState() {
+        assertSame(SonosZoneGroupTopology.EMPTY, household.getTopology(null));
+        assertTrue(household.getTopology("").getGroups().isEmpty());
+    }
+}
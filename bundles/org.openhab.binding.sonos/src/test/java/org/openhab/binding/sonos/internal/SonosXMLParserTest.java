@@ -17,6 +17,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
@@ -66,6 +67,31 @@ public class SonosXMLParserTest {
         assertEquals("OneSL", SonosXMLParser.buildThingTypeIdFromModelName("Sonos One SL (OpenHome)"));
     }
 
+    @Test
+    public void getEntriesFromString() {
+        String didl = "<DIDL-Lite xmlns:dc=\"http://purl.org/dc/elements/1.1/\" "
+                + "xmlns:upnp=\"urn:schemas-upnp-org:metadata-1-0/upnp/\" "
+                + "xmlns=\"urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/\">"
+                + "<container id=\"SQ:1\" parentID=\"SQ:\" restricted=\"true\"><dc:title>Morning</dc:title>"
+                + "<upnp:class>object.container.playlistContainer</upnp:class>"
+                + "<res>file:///jffs/settings/savedqueues.rsq#1</res></container>"
+                + "<container id=\"SQ:2\" parentID=\"SQ:\" restricted=\"true\"><dc:title>Evening</dc:title>"
+                + "<upnp:class>object.container.playlistContainer</upnp:class>"
+                + "<res>file:///jffs/settings/savedqueues.rsq#2</res></container>"
+                + "</DIDL-Lite>";
+
+        List<SonosEntry> entries = SonosXMLParser.getEntriesFromString(didl);
+        assertEquals(2, entries.size());
+        assertEquals("SQ:1", entries.get(0).getId());
+        assertEquals("Morning", entries.get(0).getTitle());
+        assertEquals("object.container.playlistContainer", entries.get(0).getUpnpClass());
+        assertEquals("Evening", entries.get(1).getTitle());
+
+        List<String> titles = new ArrayList<>();
+        SonosXMLParser.getEntriesFromString(didl, entry -> titles.add(entry.getTitle()));
+        assertEquals(List.of("Morning", "Evening"), titles);
+    }
+
     @Test
     public void getRadioTimeFromXML() throws IOException {
         InputStream resourceStream = getClass().getResourceAsStream("/OPML.xml");
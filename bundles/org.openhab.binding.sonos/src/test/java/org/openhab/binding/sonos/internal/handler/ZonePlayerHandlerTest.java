@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.sonos.internal.handler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.sonos.internal.SonosEntry;
+import org.openhab.binding.sonos.internal.SonosHousehold;
+import org.openhab.binding.sonos.internal.SonosStateDescriptionOptionProvider;
+import org.openhab.core.io.transport.upnp.UpnpIOService;
+import org.openhab.core.thing.Thing;
+import org.openhab.core.thing.ThingRegistry;
+import org.openhab.core.thing.ThingStatus;
+import org.openhab.core.thing.ThingUID;
+
+/**
+ * Tests for the paged browsing and the update ID cache of the content directory in {@link ZonePlayerHandler}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ZonePlayerHandlerTest {
+    private static final String FAVORITES = "FV:2";
+    private static final int ENTRIES = 5;
+    private static final int PAGE_SIZE = 2;
+
+    private final UpnpIOService upnpIOService = mock(UpnpIOService.class);
+    private final Set<Long> failingPages = new HashSet<>();
+    private int browseCount;
+    private @NonNullByDefault({}) ZonePlayerHandler handler;
+
+    @BeforeEach
+    public void setUp() {
+        Thing thing = mock(Thing.class);
+        when(thing.getUID()).thenReturn(new ThingUID("sonos", "One", "test"));
+        when(thing.getStatus()).thenReturn(ThingStatus.ONLINE);
+        handler = new ZonePlayerHandler(mock(ThingRegistry.class), mock(SonosHousehold.class), thing, upnpIOService,
+                null, mock(SonosStateDescriptionOptionProvider.class));
+
+        // the player returns fewer entries than requested, so the favorites are split into several pages
+        when(upnpIOService.invokeAction(any(), eq("ContentDirectory"), eq("Browse"), any())).thenAnswer(invocation -> {
+            Map<String, String> inputs = invocation.getArgument(3);
+            browseCount++;
+            long startAt = Long.parseLong(inputs.get("StartingIndex"));
+            if (failingPages.contains(startAt)) {
+                return Map.of();
+            }
+            long end = Math.min(startAt + PAGE_SIZE, ENTRIES);
+            StringBuilder didl = new StringBuilder("<DIDL-Lite xmlns:dc=\"http://purl.org/dc/elements/1.1/\" "
+                    + "xmlns:upnp=\"urn:schemas-upnp-org:metadata-1-0/upnp/\" "
+                    + "xmlns=\"urn:schemas-upnp-org:metadata-1-0/DIDL-Lite/\">");
+            for (long i = startAt; i < end; i++) {
+                didl.append("<item id=\"FV:2/").append(i).append("\" parentID=\"FV:2\" restricted=\"false\">")
+                        .append("<dc:title>Favorite ").append(i).append("</dc:title>")
+                        .append("<upnp:class>object.itemobject.item.sonos-favorite</upnp:class>")
+                        .append("<res>x-rincon-cpcontainer:").append(i).append("</res></item>");
+            }
+            didl.append("</DIDL-Lite>");
+            return Map.of("Result", didl.toString(), "NumberReturned", Long.toString(end - startAt), "TotalMatches",
+                    Integer.toString(ENTRIES));
+        });
+    }
+
+    private static List<String> titles(List<SonosEntry> entries) {
+        return entries.stream().map(SonosEntry::getTitle).collect(Collectors.toList());
+    }
+
+    @Test
+    public void allPagesAreBrowsed() {
+        List<SonosEntry> favorites = handler.getFavorites();
+
+        assertEquals(List.of("Favorite 0", "Favorite 1", "Favorite 2", "Favorite 3", "Favorite 4"), titles(favorites));
+        assertEquals(3, browseCount);
+    }
+
+    @Test
+    public void browsingStopsWhenEntryIsFound() {
+        SonosEntry entry = handler.findEntry(FAVORITES, "Favorite 1");
+
+        assertNotNull(entry);
+        assertEquals("Favorite 1", entry.getTitle());
+        assertEquals(1, browseCount);
+    }
+
+    @Test
+    public void entriesAreCachedUntilUpdateIdChanges() {
+        handler.onValueReceived("FavoritesUpdateID", "1", "ContentDirectory");
+        assertEquals(3, browseCount);
+
+        assertEquals(ENTRIES, handler.getFavorites().size());
+        assertNotNull(handler.findEntry(FAVORITES, "Favorite 4"));
+        assertEquals(3, browseCount);
+
+        handler.onValueReceived("FavoritesUpdateID", "2", "ContentDirectory");
+        assertEquals(6, browseCount);
+        assertEquals(ENTRIES, handler.getFavorites().size());
+        assertEquals(6, browseCount);
+    }
+
+    @Test
+    public void incompleteEntriesAreNotCached() {
+        failingPages.add(2L);
+        handler.onValueReceived("FavoritesUpdateID", "1", "ContentDirectory");
+        assertEquals(2, browseCount);
+
+        // the partial list is not served from the cache, the next request browses again
+        failingPages.clear();
+        assertEquals(ENTRIES, handler.getFavorites().size());
+        assertEquals(5, browseCount);
+
+        assertEquals(ENTRIES, handler.getFavorites().size());
+        assertEquals(5, browseCount);
+    }
+}
@@ -401,13 +401,19 @@ public class SysteminfoHandler extends BaseThingHandler {
         if (!ThingStatus.ONLINE.equals(thing.getStatus())) {
             return;
         }
+        long start = System.nanoTime();
+        int count = 0;
+        // all linked channels are served from one sample, devices without linked channels are not read
+        systeminfo.startSample();
         Iterator<ChannelUID> iter = channels.iterator();
         while (iter.hasNext()) {
             ChannelUID channeUID = iter.next();
             if (isLinked(channeUID.getId())) {
                 publishDataForChannel(channeUID);
+                count++;
             }
         }
+        logger.debug("Sampled {} channels in {} ms", count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
     private void publishDataForChannel(ChannelUID channelUID) {
@@ -728,6 +734,8 @@ public class SysteminfoHandler extends BaseThingHandler {
         if (thing.getStatus().equals(ThingStatus.ONLINE)) {
             if (command instanceof RefreshType) {
                 logger.debug("Refresh command received for channel {} !", channelUID);
+                // values cached in the sample of the last refresh tick may be outdated
+                systeminfo.startSample();
                 publishDataForChannel(channelUID);
             } else {
                 logger.debug("Unsupported command {} ! Supported commands: REFRESH", command);
@@ -795,6 +803,7 @@ public class SysteminfoHandler extends BaseThingHandler {
         Object newValue = newConfig.get(parameter);
         logger.debug("Channel with UID {} has changed its {} from {} to {}", channel.getUID(), parameter, oldValue,
                 newValue);
+        systeminfo.startSample();
         publishDataForChannel(channel.getUID());
     }
 
@@ -15,6 +15,7 @@ package org.openhab.binding.systeminfo.internal.model;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -45,6 +46,7 @@ import oshi.hardware.HardwareAbstractionLayer;
 import oshi.hardware.NetworkIF;
 import oshi.hardware.PowerSource;
 import oshi.hardware.Sensors;
+import oshi.hardware.VirtualMemory;
 import oshi.software.os.OSFileStore;
 import oshi.software.os.OSProcess;
 import oshi.software.os.OperatingSystem;
@@ -91,7 +93,29 @@ public class OSHISysteminfo implements SysteminfoInterface {
     // 8 long values representing time spent in User, Nice, System, Idle, IOwait, IRQ, SoftIRQ, and Steal states
     private long[] ticks = new long[8];
     // Map containing previous process state to calculate load by process
-    private Map<Integer, OSProcess> processTicks = new HashMap<>();
+    private Map<Integer, ProcessTicks> processTicks = new HashMap<>();
+
+    // Number of the current sample, values read in a sample are reused until the next sample is started
+    private long sample;
+    // Sample in which the attributes of a device were last updated
+    private final Map<Object, Long> deviceSamples = new IdentityHashMap<>();
+    // Processes looked up in the current sample
+    private final Map<Integer, OSProcess> sampledProcesses = new HashMap<>();
+    private long processSample = -1;
+    private @Nullable MemorySample memorySample;
+    private @Nullable SwapSample swapSample;
+    private double @Nullable [] loadAverages;
+    private long loadAverageSample = -1;
+
+    private record MemorySample(long sample, long total, long available) {
+    }
+
+    private record SwapSample(long sample, long total, long used) {
+    }
+
+    // State of a process in a sample, and in the sample before to calculate the load in between
+    private record ProcessTicks(long sample, @Nullable OSProcess previous, OSProcess current) {
+    }
 
     public static final int PRECISION_AFTER_DECIMAL_SIGN = 1;
 
@@ -124,6 +148,62 @@ public class OSHISysteminfo implements SysteminfoInterface {
         drives = hal.getDiskStores();
     }
 
+    @Override
+    public synchronized void startSample() {
+        sample++;
+    }
+
+    /**
+     * Returns true if the attributes of the device have not been updated in the current sample yet.
+     */
+    private synchronized boolean isUpdateNeeded(Object device) {
+        Long lastSample = deviceSamples.put(device, sample);
+        return lastSample == null || lastSample != sample;
+    }
+
+    private OSFileStore getUpdatedFileStore(int index) throws DeviceNotFoundException {
+        OSFileStore fileStore = getDevice(fileStores, index);
+        if (isUpdateNeeded(fileStore)) {
+            fileStore.updateAttributes();
+        }
+        return fileStore;
+    }
+
+    private NetworkIF getUpdatedNetwork(int index) throws DeviceNotFoundException {
+        NetworkIF network = getDevice(networks, index);
+        if (isUpdateNeeded(network)) {
+            network.updateAttributes();
+        }
+        return network;
+    }
+
+    private PowerSource getUpdatedPowerSource(int index) throws DeviceNotFoundException {
+        PowerSource powerSource = getDevice(powerSources, index);
+        if (isUpdateNeeded(powerSource)) {
+            powerSource.updateAttributes();
+        }
+        return powerSource;
+    }
+
+    private synchronized MemorySample getMemorySample() {
+        MemorySample memorySample = this.memorySample;
+        if (memorySample == null || memorySample.sample() != sample) {
+            memorySample = new MemorySample(sample, memory.getTotal(), memory.getAvailable());
+            this.memorySample = memorySample;
+        }
+        return memorySample;
+    }
+
+    private synchronized SwapSample getSwapSample() {
+        SwapSample swapSample = this.swapSample;
+        if (swapSample == null || swapSample.sample() != sample) {
+            VirtualMemory virtualMemory = memory.getVirtualMemory();
+            swapSample = new SwapSample(sample, virtualMemory.getSwapTotal(), virtualMemory.getSwapUsed());
+            this.swapSample = swapSample;
+        }
+        return swapSample;
+    }
+
     private <T> T getDevice(List<@Nullable T> devices, int index) throws DeviceNotFoundException {
         if (devices.size() <= index) {
             throw new DeviceNotFoundException("Device with index: " + index + " can not be found!");
@@ -138,10 +218,18 @@ public class OSHISysteminfo implements SysteminfoInterface {
         return devices[index];
     }
 
-    private OSProcess getProcess(int pid) throws DeviceNotFoundException {
-        OSProcess process = operatingSystem.getProcess(pid);
+    private synchronized OSProcess getProcess(int pid) throws DeviceNotFoundException {
+        if (processSample != sample) {
+            sampledProcesses.clear();
+            processSample = sample;
+        }
+        OSProcess process = sampledProcesses.get(pid);
         if (process == null) {
-            throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+            process = operatingSystem.getProcess(pid);
+            if (process == null) {
+                throw new DeviceNotFoundException("Error while getting information for process with PID " + pid);
+            }
+            sampledProcesses.put(pid, process);
         }
         return process;
     }
@@ -199,22 +287,22 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public QuantityType<DataAmount> getMemoryTotal() {
-        long totalMemory = memory.getTotal();
+        long totalMemory = getMemorySample().total();
         totalMemory = getSizeInMB(totalMemory);
         return new QuantityType<>(totalMemory, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryAvailable() {
-        long availableMemory = memory.getAvailable();
+        long availableMemory = getMemorySample().available();
         availableMemory = getSizeInMB(availableMemory);
         return new QuantityType<>(availableMemory, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getMemoryUsed() {
-        long totalMemory = memory.getTotal();
-        long availableMemory = memory.getAvailable();
+        long totalMemory = getMemorySample().total();
+        long availableMemory = getMemorySample().available();
         long usedMemory = totalMemory - availableMemory;
         usedMemory = getSizeInMB(usedMemory);
         return new QuantityType<>(usedMemory, Units.MEBIBYTE);
@@ -222,8 +310,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public QuantityType<DataAmount> getStorageTotal(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         totalSpace = getSizeInMB(totalSpace);
         return new QuantityType<>(totalSpace, Units.MEBIBYTE);
@@ -231,8 +318,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public QuantityType<DataAmount> getStorageAvailable(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(index);
         long freeSpace = fileStore.getUsableSpace();
         freeSpace = getSizeInMB(freeSpace);
         return new QuantityType<>(freeSpace, Units.MEBIBYTE);
@@ -240,8 +326,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public QuantityType<DataAmount> getStorageUsed(int index) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, index);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(index);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -251,8 +336,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable PercentType getStorageAvailablePercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         if (totalSpace > 0) {
@@ -266,8 +350,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable PercentType getStorageUsedPercent(int deviceIndex) throws DeviceNotFoundException {
-        OSFileStore fileStore = getDevice(fileStores, deviceIndex);
-        fileStore.updateAttributes();
+        OSFileStore fileStore = getUpdatedFileStore(deviceIndex);
         long totalSpace = fileStore.getTotalSpace();
         long freeSpace = fileStore.getUsableSpace();
         long usedSpace = totalSpace - freeSpace;
@@ -303,8 +386,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public StringType getNetworkIp(int index) throws DeviceNotFoundException {
-        NetworkIF netInterface = getDevice(networks, index);
-        netInterface.updateAttributes();
+        NetworkIF netInterface = getUpdatedNetwork(index);
         String[] ipAddresses = netInterface.getIPv4addr();
         String ipv4 = getDevice(ipAddresses, 0);
         return new StringType(ipv4);
@@ -368,8 +450,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable QuantityType<Time> getBatteryRemainingTime(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        PowerSource powerSource = getUpdatedPowerSource(index);
         double remainingTimeInSeconds = powerSource.getTimeRemainingEstimated();
         // The getTimeRemaining() method returns (-1.0) if is calculating or (-2.0) if the time is unlimited.
         BigDecimal remainingTime = getTimeInMinutes(remainingTimeInSeconds);
@@ -378,8 +459,7 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public PercentType getBatteryRemainingCapacity(int index) throws DeviceNotFoundException {
-        PowerSource powerSource = getDevice(powerSources, index);
-        powerSource.updateAttributes();
+        PowerSource powerSource = getUpdatedPowerSource(index);
         double remainingCapacity = powerSource.getRemainingCapacityPercent();
         BigDecimal remainingCapacityPercents = getPercentsValue(remainingCapacity);
         return new PercentType(remainingCapacityPercents);
@@ -394,8 +474,8 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable PercentType getMemoryAvailablePercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = getMemorySample().available();
+        long totalMemory = getMemorySample().total();
         if (totalMemory > 0) {
             double freePercentDecimal = (double) availableMemory / (double) totalMemory;
             BigDecimal freePercent = getPercentsValue(freePercentDecimal);
@@ -407,8 +487,8 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable PercentType getMemoryUsedPercent() {
-        long availableMemory = memory.getAvailable();
-        long totalMemory = memory.getTotal();
+        long availableMemory = getMemorySample().available();
+        long totalMemory = getMemorySample().total();
         long usedMemory = totalMemory - availableMemory;
         if (totalMemory > 0) {
             double usedPercentDecimal = (double) usedMemory / (double) totalMemory;
@@ -442,15 +522,15 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public QuantityType<DataAmount> getSwapTotal() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
+        long swapTotal = getSwapSample().total();
         swapTotal = getSizeInMB(swapTotal);
         return new QuantityType<>(swapTotal, Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getSwapAvailable() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = getSwapSample().total();
+        long swapUsed = getSwapSample().used();
         long swapAvailable = swapTotal - swapUsed;
         swapAvailable = getSizeInMB(swapAvailable);
         return new QuantityType<>(swapAvailable, Units.MEBIBYTE);
@@ -458,15 +538,15 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public QuantityType<DataAmount> getSwapUsed() {
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapUsed = getSwapSample().used();
         swapUsed = getSizeInMB(swapUsed);
         return new QuantityType<>(swapUsed, Units.MEBIBYTE);
     }
 
     @Override
     public @Nullable PercentType getSwapAvailablePercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = getSwapSample().total();
+        long swapUsed = getSwapSample().used();
         long swapAvailable = swapTotal - swapUsed;
         if (swapTotal > 0) {
             double swapAvailablePercentDecimal = (double) swapAvailable / (double) swapTotal;
@@ -479,8 +559,8 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public @Nullable PercentType getSwapUsedPercent() {
-        long swapTotal = memory.getVirtualMemory().getSwapTotal();
-        long swapUsed = memory.getVirtualMemory().getSwapUsed();
+        long swapTotal = getSwapSample().total();
+        long swapUsed = getSwapSample().used();
         if (swapTotal > 0) {
             double swapUsedPercentDecimal = (double) swapUsed / (double) swapTotal;
             BigDecimal swapUsedPercent = getPercentsValue(swapUsedPercentDecimal);
@@ -563,12 +643,22 @@ public class OSHISysteminfo implements SysteminfoInterface {
             default:
                 index = 2;
         }
-        double processorLoads[] = cpu.getSystemLoadAverage(index + 1);
+        double processorLoads[] = getLoadAverages();
         BigDecimal result = new BigDecimal(processorLoads[index]);
         result = result.setScale(PRECISION_AFTER_DECIMAL_SIGN, RoundingMode.HALF_UP);
         return result;
     }
 
+    private synchronized double[] getLoadAverages() {
+        double[] loadAverages = this.loadAverages;
+        if (loadAverages == null || loadAverageSample != sample) {
+            loadAverages = cpu.getSystemLoadAverage(3);
+            this.loadAverages = loadAverages;
+            loadAverageSample = sample;
+        }
+        return loadAverages;
+    }
+
     @Override
     public QuantityType<Time> getCpuUptime() {
         long seconds = operatingSystem.getSystemUptime();
@@ -590,32 +680,28 @@ public class OSHISysteminfo implements SysteminfoInterface {
 
     @Override
     public DecimalType getNetworkPacketsReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long packRecv = network.getPacketsRecv();
         return new DecimalType(packRecv);
     }
 
     @Override
     public DecimalType getNetworkPacketsSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long packSent = network.getPacketsSent();
         return new DecimalType(packSent);
     }
 
     @Override
     public QuantityType<DataAmount> getNetworkDataSent(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long bytesSent = network.getBytesSent();
         return new QuantityType<>(getSizeInMB(bytesSent), Units.MEBIBYTE);
     }
 
     @Override
     public QuantityType<DataAmount> getNetworkDataReceived(int networkIndex) throws DeviceNotFoundException {
-        NetworkIF network = getDevice(networks, networkIndex);
-        network.updateAttributes();
+        NetworkIF network = getUpdatedNetwork(networkIndex);
         long bytesRecv = network.getBytesRecv();
         return new QuantityType<>(getSizeInMB(bytesRecv), Units.MEBIBYTE);
     }
@@ -640,16 +726,29 @@ public class OSHISysteminfo implements SysteminfoInterface {
     public @Nullable DecimalType getProcessCpuUsage(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
             OSProcess process = getProcess(pid);
-            DecimalType load = (processTicks.containsKey(pid))
-                    ? new DecimalType(getPercentsValue(process.getProcessCpuLoadBetweenTicks(processTicks.get(pid))))
+            OSProcess previous = getPreviousProcessTicks(pid, process);
+            return (previous != null)
+                    ? new DecimalType(getPercentsValue(process.getProcessCpuLoadBetweenTicks(previous)))
                     : null;
-            processTicks.put(pid, process);
-            return load;
         } else {
             return null;
         }
     }
 
+    /**
+     * Store the state of the process in the current sample, and return its state in the sample before. If the load is
+     * requested again in the same sample, the state is still compared to the sample before, not to itself.
+     */
+    private synchronized @Nullable OSProcess getPreviousProcessTicks(int pid, OSProcess process) {
+        ProcessTicks ticks = processTicks.get(pid);
+        OSProcess previous = null;
+        if (ticks != null) {
+            previous = ticks.sample() == sample ? ticks.previous() : ticks.current();
+        }
+        processTicks.put(pid, new ProcessTicks(sample, previous, process));
+        return previous;
+    }
+
     @Override
     public @Nullable QuantityType<DataAmount> getProcessMemoryUsage(int pid) throws DeviceNotFoundException {
         if (pid > 0) {
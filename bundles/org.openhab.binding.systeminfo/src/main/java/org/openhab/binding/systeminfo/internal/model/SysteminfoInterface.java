@@ -40,6 +40,13 @@ public interface SysteminfoInterface {
      */
     void initializeSysteminfo();
 
+    /**
+     * Start a new sample of the system information. Until the next sample is started, the values of a device or a
+     * process are read from the operating system at most once and shared by all channels requesting them. Devices
+     * that are not requested are not read at all.
+     */
+    void startSample();
+
     // Operating system info
     /**
      * Get the Family of the operating system /e.g. Windows, Unix,.../
@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.systeminfo.internal.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.lang.reflect.Field;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.library.types.DecimalType;
+
+import oshi.software.os.OSProcess;
+import oshi.software.os.OperatingSystem;
+
+/**
+ * Tests for the samples of {@link OSHISysteminfo}, which share the values read from the operating system between the
+ * channels.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class OSHISysteminfoTest {
+    private static final int PID = 42;
+
+    private final OperatingSystem operatingSystem = mock(OperatingSystem.class);
+    private final OSHISysteminfo systeminfo = new OSHISysteminfo();
+
+    @BeforeEach
+    public void setUp() throws ReflectiveOperationException {
+        // the operating system is usually taken from OSHI in initializeSysteminfo
+        Field field = OSHISysteminfo.class.getDeclaredField("operatingSystem");
+        field.setAccessible(true);
+        field.set(systeminfo, operatingSystem);
+    }
+
+    @Test
+    public void processIsLookedUpOncePerSample() throws DeviceNotFoundException {
+        OSProcess process = mock(OSProcess.class);
+        when(process.getResidentSetSize()).thenReturn(1024L * 1024L);
+        when(operatingSystem.getProcess(PID)).thenReturn(process);
+
+        systeminfo.startSample();
+        systeminfo.getProcessMemoryUsage(PID);
+        systeminfo.getProcessThreads(PID);
+        verify(operatingSystem, times(1)).getProcess(PID);
+
+        // a refresh starts a new sample, so the process is read again
+        systeminfo.startSample();
+        systeminfo.getProcessMemoryUsage(PID);
+        verify(operatingSystem, times(2)).getProcess(PID);
+    }
+
+    @Test
+    public void processLoadIsComparedToPreviousSample() throws DeviceNotFoundException {
+        OSProcess first = mock(OSProcess.class);
+        OSProcess second = mock(OSProcess.class);
+        OSProcess third = mock(OSProcess.class);
+        when(second.getProcessCpuLoadBetweenTicks(first)).thenReturn(0.25);
+        when(third.getProcessCpuLoadBetweenTicks(second)).thenReturn(0.5);
+        when(operatingSystem.getProcess(PID)).thenReturn(first, second, third);
+
+        systeminfo.startSample();
+        assertNull(systeminfo.getProcessCpuUsage(PID));
+
+        systeminfo.startSample();
+        assertEquals(new DecimalType(25), systeminfo.getProcessCpuUsage(PID));
+        // requesting the load again in the same sample doesn't compare the process to itself
+        assertEquals(new DecimalType(25), systeminfo.getProcessCpuUsage(PID));
+        verify(second, never()).getProcessCpuLoadBetweenTicks(second);
+
+        systeminfo.startSample();
+        assertEquals(new DecimalType(50), systeminfo.getProcessCpuUsage(PID));
+    }
+}
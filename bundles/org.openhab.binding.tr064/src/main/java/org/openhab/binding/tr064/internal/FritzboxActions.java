@@ -18,7 +18,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Collection;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -31,7 +30,6 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.openhab.binding.tr064.internal.dto.scpd.root.SCPDServiceType;
-import org.openhab.binding.tr064.internal.phonebook.Phonebook;
 import org.openhab.binding.tr064.internal.soap.SOAPRequest;
 import org.openhab.binding.tr064.internal.util.SCPDUtil;
 import org.openhab.binding.tr064.internal.util.Util;
@@ -98,9 +96,7 @@ public class FritzboxActions implements ThingActions {
                 return Objects.requireNonNull(handler.getPhonebookByName(phonebook)
                         .flatMap(p -> p.lookupNumber(phonenumber, matchCountInt)).orElse(phonenumber));
             } else {
-                Collection<Phonebook> phonebooks = handler.getPhonebooks();
-                return Objects.requireNonNull(phonebooks.stream().map(p -> p.lookupNumber(phonenumber, matchCountInt))
-                        .filter(Optional::isPresent).map(Optional::get).findAny().orElse(phonenumber));
+                return Objects.requireNonNull(handler.lookupNumber(phonenumber, matchCountInt).orElse(phonenumber));
             }
         }
     }
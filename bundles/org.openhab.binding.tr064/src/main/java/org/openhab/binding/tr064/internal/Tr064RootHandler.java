@@ -49,6 +49,7 @@ import org.openhab.binding.tr064.internal.dto.scpd.root.SCPDDeviceType;
 import org.openhab.binding.tr064.internal.dto.scpd.root.SCPDServiceType;
 import org.openhab.binding.tr064.internal.dto.scpd.service.SCPDActionType;
 import org.openhab.binding.tr064.internal.phonebook.Phonebook;
+import org.openhab.binding.tr064.internal.phonebook.PhonebookIndex;
 import org.openhab.binding.tr064.internal.phonebook.PhonebookProvider;
 import org.openhab.binding.tr064.internal.phonebook.Tr064PhonebookImpl;
 import org.openhab.binding.tr064.internal.soap.SOAPConnector;
@@ -103,12 +104,13 @@ public class Tr064RootHandler extends BaseBridgeHandler implements PhonebookProv
     // caching is used to prevent excessive calls to the same action
     private final ExpiringCacheMap<ChannelUID, State> stateCache = new ExpiringCacheMap<>(Duration.ofMillis(2000));
     private Collection<Phonebook> phonebooks = List.of();
+    private PhonebookIndex phonebookIndex = PhonebookIndex.EMPTY;
 
     private @Nullable ScheduledFuture<?> connectFuture;
     private @Nullable ScheduledFuture<?> pollFuture;
     private @Nullable ScheduledFuture<?> phonebookFuture;
 
-    private boolean communicationEstablished = false;
+    private volatile boolean communicationEstablished = false;
 
     Tr064RootHandler(Bridge bridge, HttpClient httpClient) {
         super(bridge);
@@ -154,8 +156,8 @@ public class Tr064RootHandler extends BaseBridgeHandler implements PhonebookProv
         }
 
         endpointBaseURL = "http://" + config.host + ":49000";
-        soapConnector = new SOAPConnector(httpClient, endpointBaseURL, timeout);
         timeout = config.timeout;
+        soapConnector = new SOAPConnector(httpClient, endpointBaseURL, timeout, config.maxConcurrentRequests);
         updateStatus(ThingStatus.UNKNOWN);
 
         connectFuture = scheduler.scheduleWithFixedDelay(this::internalInitialize, 0, RETRY_INTERVAL, TimeUnit.SECONDS);
@@ -213,21 +215,25 @@ public class Tr064RootHandler extends BaseBridgeHandler implements PhonebookProv
      * poll remote device for channel values
      */
     private void poll() {
-        try {
-            channels.forEach((channelUID, channelConfig) -> {
-                if (isLinked(channelUID)) {
-                    State state = stateCache.putIfAbsentAndGet(channelUID,
-                            () -> soapConnector.getChannelStateFromDevice(channelConfig, channels, stateCache));
-                    if (state != null) {
+        // the requests are sent concurrently, identical requests of different channels are only sent once
+        SOAPConnector soapConnector = this.soapConnector;
+        channels.forEach((channelUID, channelConfig) -> {
+            if (isLinked(channelUID)) {
+                soapConnector.getChannelStateFromDeviceAsync(channelConfig, scheduler).whenComplete((state, e) -> {
+                    if (!communicationEstablished) {
+                        // disposed while the request was in flight
+                        return;
+                    }
+                    if (e != null) {
+                        logger.warn("Exception while refreshing remote data for thing '{}':", thing.getUID(), e);
+                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
+                                "Refresh exception: " + e.getMessage());
+                    } else {
                         updateState(channelUID, state);
                     }
-                }
-            });
-        } catch (RuntimeException e) {
-            logger.warn("Exception while refreshing remote data for thing '{}':", thing.getUID(), e);
-            updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.COMMUNICATION_ERROR,
-                    "Refresh exception: " + e.getMessage());
-        }
+                });
+            }
+        });
     }
 
     /**
@@ -256,7 +262,8 @@ public class Tr064RootHandler extends BaseBridgeHandler implements PhonebookProv
                     soapValueConverter.getStateFromSOAPValue(soapResponse, "NewSecurityPort", null)
                             .ifPresentOrElse(port -> {
                                 endpointBaseURL = "https://" + config.host + ":" + port;
-                                soapConnector = new SOAPConnector(httpClient, endpointBaseURL, timeout);
+                                soapConnector = new SOAPConnector(httpClient, endpointBaseURL, timeout,
+                                        config.maxConcurrentRequests);
                                 logger.debug("endpointBaseURL is now '{}'", endpointBaseURL);
                             }, () -> logger.warn("Could not determine secure port, disabling https"));
                 } else {
@@ -415,6 +422,8 @@ public class Tr064RootHandler extends BaseBridgeHandler implements PhonebookProv
                 return Collections.<Phonebook> emptyList();
             }
         }).orElse(List.of()));
+        phonebookIndex = PhonebookIndex.of(phonebooks.stream().filter(Tr064PhonebookImpl.class::isInstance)
+                .map(p -> ((Tr064PhonebookImpl) p).getPhonebookEntries()).toList());
 
         if (phonebooks.isEmpty()) {
             logger.warn("Could not get phonebooks for thing {}", thing.getUID());
@@ -431,6 +440,11 @@ public class Tr064RootHandler extends BaseBridgeHandler implements PhonebookProv
         return phonebooks;
     }
 
+    @Override
+    public Optional<String> lookupNumber(String number, int matchCount) {
+        return phonebookIndex.lookupNumber(PhonebookIndex.normalizeNumber(number), matchCount);
+    }
+
     @Override
     public ThingUID getUID() {
         return thing.getUID();
@@ -63,7 +63,7 @@ public class Tr064SubHandler extends BaseThingHandler {
     private Tr064SubConfiguration config = new Tr064SubConfiguration();
 
     private String deviceType = "";
-    private boolean isInitialized = false;
+    private volatile boolean isInitialized = false;
 
     private final Map<ChannelUID, Tr064ChannelConfig> channels = new HashMap<>();
     // caching is used to prevent excessive calls to the same action
@@ -189,13 +189,23 @@ public class Tr064SubHandler extends BaseThingHandler {
      */
     private void poll() {
         SOAPConnector soapConnector = this.soapConnector;
+        if (soapConnector == null) {
+            return;
+        }
+        // the requests are sent concurrently, identical requests of different channels are only sent once
         channels.forEach((channelUID, channelConfig) -> {
             if (isLinked(channelUID)) {
-                State state = stateCache.putIfAbsentAndGet(channelUID, () -> soapConnector == null ? UnDefType.UNDEF
-                        : soapConnector.getChannelStateFromDevice(channelConfig, channels, stateCache));
-                if (state != null) {
-                    updateState(channelUID, state);
-                }
+                soapConnector.getChannelStateFromDeviceAsync(channelConfig, scheduler).whenComplete((state, e) -> {
+                    if (!isInitialized) {
+                        // disposed while the request was in flight
+                        return;
+                    }
+                    if (e != null) {
+                        logger.warn("Exception while refreshing remote data for thing '{}':", thing.getUID(), e);
+                    } else {
+                        updateState(channelUID, state);
+                    }
+                });
             }
         });
     }
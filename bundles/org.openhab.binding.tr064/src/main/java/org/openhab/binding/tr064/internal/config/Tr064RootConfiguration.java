@@ -26,11 +26,13 @@ import org.openhab.core.OpenHAB;
 @NonNullByDefault
 public class Tr064RootConfiguration extends Tr064BaseThingConfiguration {
     public static final int DEFAULT_HTTP_TIMEOUT = 5; // in s
+    public static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 4;
 
     public String host = "";
     public String user = "dslf-config";
     public String password = "";
     public int timeout = DEFAULT_HTTP_TIMEOUT;
+    public int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
 
     /* following parameters only available in fritzbox thing */
     public List<String> tamIndices = List.of();
@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tr064.internal.phonebook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link PhonebookIndex} is an immutable trie of the reversed phone numbers of one or more phonebooks. A number
+ * is looked up by its last digits in O(length of the number), independent of the size of the phonebooks.
+ *
+ * If several numbers end with the looked up digits, the number of the first phonebook wins. Within a phonebook the
+ * shortest (i.e. the closest matching) number wins, numbers of equal length are compared lexicographically.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PhonebookIndex {
+    public static final PhonebookIndex EMPTY = new PhonebookIndex(List.of());
+
+    private static final Pattern NON_NUMBER_PATTERN = Pattern.compile("[^0-9\\*\\+]");
+
+    private static final Comparator<Map.Entry<String, String>> NUMBER_ORDER = Comparator
+            .comparingInt((Map.Entry<String, String> entry) -> entry.getKey().length())
+            .thenComparing(Map.Entry::getKey);
+
+    private final Node root = new Node();
+
+    private static class Node {
+        private char[] keys = new char[0];
+        private Node[] children = new Node[0];
+        private @Nullable String name;
+
+        private @Nullable Node getChild(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node addChild(char key) {
+            Node child = getChild(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+            }
+            return child;
+        }
+    }
+
+    private PhonebookIndex(List<Map<String, String>> phonebooks) {
+        for (Map<String, String> phonebook : phonebooks) {
+            List<Map.Entry<String, String>> entries = new ArrayList<>(phonebook.entrySet());
+            entries.sort(NUMBER_ORDER);
+            for (Map.Entry<String, String> entry : entries) {
+                add(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * create an index for a single phonebook
+     *
+     * @param phonebook map of normalized numbers to names
+     * @return the index
+     */
+    public static PhonebookIndex of(Map<String, String> phonebook) {
+        return new PhonebookIndex(List.of(phonebook));
+    }
+
+    /**
+     * create an index for several phonebooks
+     *
+     * @param phonebooks maps of normalized numbers to names, earlier phonebooks take precedence
+     * @return the index
+     */
+    public static PhonebookIndex of(List<Map<String, String>> phonebooks) {
+        return new PhonebookIndex(phonebooks);
+    }
+
+    /**
+     * normalize a phone number (remove everything except digits and *) for comparison
+     *
+     * @param number the input phone number string
+     * @return normalized phone number string
+     */
+    public static String normalizeNumber(String number) {
+        return NON_NUMBER_PATTERN.matcher(number).replaceAll("");
+    }
+
+    private void add(String number, String name) {
+        // every node keeps the name of the first number added below it
+        Node node = root;
+        for (int i = number.length() - 1; i >= 0; i--) {
+            node = node.addChild(number.charAt(i));
+            if (node.name == null) {
+                node.name = name;
+            }
+        }
+    }
+
+    /**
+     * lookup a number by its last digits
+     *
+     * @param normalizedNumber the normalized number
+     * @param matchCount the number of matching digits, counting from far right (0 = all, negative = all but the
+     *            given number of leading digits)
+     * @return an Optional containing the name associated with this number (empty if not present)
+     */
+    public Optional<String> lookupNumber(String normalizedNumber, int matchCount) {
+        int start;
+        if (matchCount > 0 && matchCount < normalizedNumber.length()) {
+            start = normalizedNumber.length() - matchCount;
+        } else if (matchCount < 0 && (-matchCount) < normalizedNumber.length()) {
+            start = -matchCount;
+        } else {
+            start = 0;
+        }
+        if (normalizedNumber.substring(start).isBlank()) {
+            return Optional.empty();
+        }
+        Node node = root;
+        for (int i = normalizedNumber.length() - 1; i >= start; i--) {
+            node = node.getChild(normalizedNumber.charAt(i));
+            if (node == null) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(node.name);
+    }
+}
@@ -178,8 +178,7 @@ public class PhonebookProfile implements StateProfile {
                 return Optional.empty();
             }).flatMap(phonebook -> phonebook.lookupNumber(phoneNumber, matchCount));
         } else {
-            return provider.getPhonebooks().stream().map(p -> p.lookupNumber(phoneNumber, matchCount))
-                    .filter(Optional::isPresent).map(Optional::get).findAny();
+            return provider.lookupNumber(phoneNumber, matchCount);
         }
     }
 
@@ -30,6 +30,19 @@ public interface PhonebookProvider {
 
     Collection<Phonebook> getPhonebooks();
 
+    /**
+     * lookup a number in all phonebooks, a match in an earlier phonebook takes precedence
+     *
+     * @param number the number
+     * @param matchCount the number of matching digits, counting from far right (0 = all, negative = all but the
+     *            given number of leading digits)
+     * @return an Optional containing the name associated with this number (empty if not present)
+     */
+    default Optional<String> lookupNumber(String number, int matchCount) {
+        return getPhonebooks().stream().map(p -> p.lookupNumber(number, matchCount)).filter(Optional::isPresent)
+                .map(Optional::get).findFirst();
+    }
+
     ThingUID getUID();
 
     String getFriendlyName();
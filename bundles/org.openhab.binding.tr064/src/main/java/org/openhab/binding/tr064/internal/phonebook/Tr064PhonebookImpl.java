@@ -33,7 +33,8 @@ import org.slf4j.LoggerFactory;
 public class Tr064PhonebookImpl implements Phonebook {
     private final Logger logger = LoggerFactory.getLogger(Tr064PhonebookImpl.class);
 
-    protected Map<String, String> phonebook = new HashMap<>();
+    private Map<String, String> phonebook = Map.of();
+    private PhonebookIndex index = PhonebookIndex.EMPTY;
 
     private final HttpClient httpClient;
     private final String phonebookUrl;
@@ -57,7 +58,7 @@ public class Tr064PhonebookImpl implements Phonebook {
         }
         phonebookName = phonebooksType.getPhonebook().getName();
 
-        phonebook = phonebooksType.getPhonebook().getContact().stream().map(contact -> {
+        Map<String, String> phonebook = phonebooksType.getPhonebook().getContact().stream().map(contact -> {
             String contactName = contact.getPerson().getRealName();
             if (contactName == null || contactName.isBlank()) {
                 return new HashMap<String, String>();
@@ -66,6 +67,26 @@ public class Tr064PhonebookImpl implements Phonebook {
                     number -> normalizeNumber(number.getValue()), number -> contactName, this::mergeSameContactNames));
         }).collect(HashMap::new, HashMap::putAll, HashMap::putAll);
         logger.debug("Downloaded phonebook {}: {}", phonebookName, phonebook);
+        setPhonebookEntries(phonebook);
+    }
+
+    /**
+     * set the entries of this phonebook and rebuild the lookup index
+     *
+     * @param phonebook map of normalized numbers to names
+     */
+    protected void setPhonebookEntries(Map<String, String> phonebook) {
+        this.phonebook = Map.copyOf(phonebook);
+        this.index = PhonebookIndex.of(this.phonebook);
+    }
+
+    /**
+     * get the entries of this phonebook
+     *
+     * @return unmodifiable map of normalized numbers to names
+     */
+    public Map<String, String> getPhonebookEntries() {
+        return phonebook;
     }
 
     // in case there are multiple phone entries with same number -> name mapping, i.e. in phonebooks exported from
@@ -86,17 +107,8 @@ public class Tr064PhonebookImpl implements Phonebook {
     @Override
     public Optional<String> lookupNumber(String number, int matchCount) {
         String normalized = normalizeNumber(number);
-        String matchString;
-        if (matchCount > 0 && matchCount < normalized.length()) {
-            matchString = normalized.substring(normalized.length() - matchCount);
-        } else if (matchCount < 0 && (-matchCount) < normalized.length()) {
-            matchString = normalized.substring(-matchCount);
-        } else {
-            matchString = normalized;
-        }
-        logger.trace("Normalized '{}' to '{}', matchString is '{}'", number, normalized, matchString);
-        return matchString.isBlank() ? Optional.empty()
-                : phonebook.keySet().stream().filter(n -> n.endsWith(matchString)).findFirst().map(phonebook::get);
+        logger.trace("Normalized '{}' to '{}', matchCount is {}", number, normalized, matchCount);
+        return index.lookupNumber(normalized, matchCount);
     }
 
     @Override
@@ -111,6 +123,6 @@ public class Tr064PhonebookImpl implements Phonebook {
      * @return normalized phone number string
      */
     public final String normalizeNumber(String number) {
-        return number.replaceAll("[^0-9\\*\\+]", "");
+        return PhonebookIndex.normalizeNumber(number);
     }
 }
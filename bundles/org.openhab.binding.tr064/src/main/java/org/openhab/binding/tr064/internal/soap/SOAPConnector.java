@@ -19,12 +19,19 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import javax.xml.soap.MessageFactory;
@@ -37,15 +44,19 @@ import javax.xml.soap.SOAPMessage;
 import javax.xml.soap.SOAPPart;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.eclipse.jetty.client.api.Authentication;
-import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
 import org.openhab.binding.tr064.internal.Tr064CommunicationException;
 import org.openhab.binding.tr064.internal.config.Tr064ChannelConfig;
+import org.openhab.binding.tr064.internal.config.Tr064RootConfiguration;
 import org.openhab.binding.tr064.internal.dto.config.ActionType;
 import org.openhab.binding.tr064.internal.dto.config.ChannelTypeDescription;
 import org.openhab.binding.tr064.internal.dto.scpd.root.SCPDServiceType;
@@ -63,26 +74,67 @@ import org.slf4j.LoggerFactory;
 /**
  * The {@link SOAPConnector} provides communication with a remote SOAP device
  *
+ * Requests are sent asynchronously, at most {@code maxConcurrentRequests} are in flight at the same time, further
+ * requests are queued. Identical requests share the same response while it is in flight and for two seconds after it
+ * was received.
+ *
  * @author Jan N. Klug - Initial contribution
  */
 @NonNullByDefault
 public class SOAPConnector {
+    private static final long CACHE_DURATION_NANOS = Duration.ofMillis(2000).toNanos();
+
     private final Logger logger = LoggerFactory.getLogger(SOAPConnector.class);
     private final HttpClient httpClient;
     private final String endpointBaseURL;
     private final SOAPValueConverter soapValueConverter;
     private final int timeout;
+    private final int maxConcurrentRequests;
+
+    private final Map<SOAPRequest, CachedResponse> soapMessageCache = new ConcurrentHashMap<>();
+
+    // MessageFactory instances are not thread-safe, each request borrows one from the pool
+    private final Queue<MessageFactory> messageFactoryPool = new ConcurrentLinkedQueue<>();
+
+    private final Object requestLock = new Object();
+    private final Deque<PendingRequest> pendingRequests = new ArrayDeque<>();
+    private int requestsInFlight = 0;
+
+    private record PendingRequest(SOAPRequest soapRequest, CompletableFuture<SOAPMessage> response) {
+    }
 
-    private final ExpiringCacheMap<SOAPRequest, SOAPMessage> soapMessageCache = new ExpiringCacheMap<>(
-            Duration.ofMillis(2000));
+    private static class CachedResponse {
+        private final CompletableFuture<SOAPMessage> response = new CompletableFuture<>();
+        private volatile long receivedNanos;
+
+        private boolean isExpired(long nowNanos) {
+            return response.isDone() && nowNanos - receivedNanos > CACHE_DURATION_NANOS;
+        }
+    }
 
     public SOAPConnector(HttpClient httpClient, String endpointBaseURL, int timeout) {
+        this(httpClient, endpointBaseURL, timeout, Tr064RootConfiguration.DEFAULT_MAX_CONCURRENT_REQUESTS);
+    }
+
+    public SOAPConnector(HttpClient httpClient, String endpointBaseURL, int timeout, int maxConcurrentRequests) {
         this.httpClient = httpClient;
         this.endpointBaseURL = endpointBaseURL;
         this.timeout = timeout;
+        this.maxConcurrentRequests = Math.max(1, maxConcurrentRequests);
         this.soapValueConverter = new SOAPValueConverter(httpClient, timeout);
     }
 
+    private MessageFactory borrowMessageFactory() throws SOAPException {
+        MessageFactory messageFactory = messageFactoryPool.poll();
+        return messageFactory != null ? messageFactory : MessageFactory.newInstance();
+    }
+
+    private void returnMessageFactory(MessageFactory messageFactory) {
+        if (messageFactoryPool.size() < maxConcurrentRequests) {
+            messageFactoryPool.offer(messageFactory);
+        }
+    }
+
     /**
      * prepare a SOAP request for an action request to a service
      *
@@ -92,8 +144,13 @@ public class SOAPConnector {
      * @throws SOAPException if a problem with creating the SOAP message occurs
      */
     private Request prepareSOAPRequest(SOAPRequest soapRequest) throws IOException, SOAPException {
-        MessageFactory messageFactory = MessageFactory.newInstance();
-        SOAPMessage soapMessage = messageFactory.createMessage();
+        MessageFactory messageFactory = borrowMessageFactory();
+        SOAPMessage soapMessage;
+        try {
+            soapMessage = messageFactory.createMessage();
+        } finally {
+            returnMessageFactory(messageFactory);
+        }
         SOAPPart soapPart = soapMessage.getSOAPPart();
         SOAPEnvelope envelope = soapPart.getEnvelope();
         envelope.setEncodingStyle("http://schemas.xmlsoap.org/soap/encoding/");
@@ -138,27 +195,36 @@ public class SOAPConnector {
      * @throws Tr064CommunicationException if an error occurs during the request
      */
     public SOAPMessage doSOAPRequest(SOAPRequest soapRequest) throws Tr064CommunicationException {
-        try {
-            SOAPMessage soapMessage = Objects.requireNonNull(soapMessageCache.putIfAbsentAndGet(soapRequest, () -> {
-                try {
-                    SOAPMessage newValue = doSOAPRequestUncached(soapRequest);
-                    logger.trace("Storing in cache: {}", newValue);
-                    return newValue;
-                } catch (Tr064CommunicationException e) {
-                    // wrap exception
-                    throw new IllegalArgumentException(e);
+        return getResponse(doSOAPRequestAsync(soapRequest));
+    }
+
+    /**
+     * execute a SOAP request with cache, identical requests that are in flight are only sent once
+     *
+     * @param soapRequest the request itself
+     * @return a future completed with the SOAPMessage answer from the remote host or a
+     *         {@link Tr064CommunicationException}
+     */
+    public CompletableFuture<SOAPMessage> doSOAPRequestAsync(SOAPRequest soapRequest) {
+        long now = System.nanoTime();
+        CachedResponse newEntry = new CachedResponse();
+        CachedResponse entry = soapMessageCache.compute(soapRequest,
+                (request, cached) -> cached == null || cached.isExpired(now) ? newEntry : cached);
+        if (entry == newEntry) {
+            sendRequest(soapRequest).whenComplete((soapMessage, e) -> {
+                if (e == null) {
+                    logger.trace("Storing in cache: {}", soapMessage);
+                    entry.receivedNanos = System.nanoTime();
+                    entry.response.complete(soapMessage);
+                } else {
+                    soapMessageCache.remove(soapRequest, entry);
+                    entry.response.completeExceptionally(e);
                 }
-            }));
-            logger.trace("Returning from cache: {}", soapMessage);
-            return soapMessage;
-        } catch (IllegalArgumentException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof Tr064CommunicationException) {
-                throw (Tr064CommunicationException) cause;
-            } else {
-                throw e;
-            }
+            });
+        } else {
+            logger.trace("Returning from cache: {}", soapRequest);
         }
+        return entry.response;
     }
 
     /**
@@ -168,39 +234,142 @@ public class SOAPConnector {
      * @return the SOAPMessage answer from the remote host
      * @throws Tr064CommunicationException if an error occurs during the request
      */
-    public synchronized SOAPMessage doSOAPRequestUncached(SOAPRequest soapRequest) throws Tr064CommunicationException {
+    public SOAPMessage doSOAPRequestUncached(SOAPRequest soapRequest) throws Tr064CommunicationException {
+        return getResponse(sendRequest(soapRequest));
+    }
+
+    private SOAPMessage getResponse(Future<SOAPMessage> response) throws Tr064CommunicationException {
         try {
-            Request request = prepareSOAPRequest(soapRequest).timeout(timeout, TimeUnit.SECONDS);
-            if (logger.isTraceEnabled()) {
-                request.getContent().forEach(buffer -> logger.trace("Request: {}", new String(buffer.array())));
-            }
+            return response.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Tr064CommunicationException(e);
+        } catch (ExecutionException e) {
+            throw toCommunicationException(e.getCause());
+        }
+    }
+
+    private static Tr064CommunicationException toCommunicationException(@Nullable Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof Tr064CommunicationException communicationException) {
+            return communicationException;
+        } else if (cause instanceof Exception exception) {
+            return new Tr064CommunicationException(exception);
+        }
+        return new Tr064CommunicationException(String.valueOf(cause));
+    }
 
-            ContentResponse response = request.send();
-            if (response.getStatus() == HttpStatus.UNAUTHORIZED_401) {
-                // retry once if authentication expired
-                logger.trace("Re-Auth needed.");
-                Authentication.Result authResult = httpClient.getAuthenticationStore()
-                        .findAuthenticationResult(URI.create(endpointBaseURL));
-                if (authResult != null) {
-                    httpClient.getAuthenticationStore().removeAuthenticationResult(authResult);
+    /**
+     * queue a request, it is sent as soon as less than {@code maxConcurrentRequests} requests are in flight
+     *
+     * @param soapRequest the request itself
+     * @return a future completed with the SOAPMessage answer from the remote host
+     */
+    private CompletableFuture<SOAPMessage> sendRequest(SOAPRequest soapRequest) {
+        CompletableFuture<SOAPMessage> response = new CompletableFuture<>();
+        synchronized (requestLock) {
+            pendingRequests.add(new PendingRequest(soapRequest, response));
+        }
+        sendPendingRequests();
+        return response;
+    }
+
+    private void sendPendingRequests() {
+        while (true) {
+            PendingRequest pendingRequest;
+            synchronized (requestLock) {
+                if (requestsInFlight >= maxConcurrentRequests) {
+                    return;
+                }
+                pendingRequest = pendingRequests.poll();
+                if (pendingRequest == null) {
+                    return;
                 }
-                request = prepareSOAPRequest(soapRequest).timeout(timeout, TimeUnit.SECONDS);
-                response = request.send();
+                requestsInFlight++;
             }
-            try (final ByteArrayInputStream is = new ByteArrayInputStream(response.getContent())) {
-                logger.trace("Received response: {}", response.getContentAsString());
-
-                SOAPMessage soapMessage = MessageFactory.newInstance().createMessage(null, is);
-                if (soapMessage.getSOAPBody().hasFault()) {
-                    String soapError = getSOAPElement(soapMessage, "errorCode").orElse("unknown");
-                    String soapReason = getSOAPElement(soapMessage, "errorDescription").orElse("unknown");
-                    String error = String.format("HTTP-Response-Code %d (%s), SOAP-Fault: %s (%s)",
-                            response.getStatus(), response.getReason(), soapError, soapReason);
-                    throw new Tr064CommunicationException(error, response.getStatus(), soapError);
+            send(pendingRequest.soapRequest(), pendingRequest.response(), true);
+        }
+    }
+
+    private void requestFinished() {
+        synchronized (requestLock) {
+            requestsInFlight--;
+        }
+        sendPendingRequests();
+    }
+
+    private void send(SOAPRequest soapRequest, CompletableFuture<SOAPMessage> response, boolean retryAuth) {
+        Request request;
+        try {
+            request = prepareSOAPRequest(soapRequest).timeout(timeout, TimeUnit.SECONDS);
+        } catch (IOException | SOAPException e) {
+            requestFinished();
+            response.completeExceptionally(new Tr064CommunicationException(e));
+            return;
+        }
+        if (logger.isTraceEnabled()) {
+            request.getContent().forEach(buffer -> logger.trace("Request: {}", new String(buffer.array())));
+        }
+
+        BufferingResponseListener listener = new BufferingResponseListener() {
+            @Override
+            public void onComplete(@Nullable Result result) {
+                Throwable failure = result == null ? null : result.getFailure();
+                if (result == null || failure != null) {
+                    requestFinished();
+                    response.completeExceptionally(toCommunicationException(failure));
+                    return;
                 }
-                return soapMessage;
+                Response httpResponse = result.getResponse();
+                if (httpResponse.getStatus() == HttpStatus.UNAUTHORIZED_401 && retryAuth) {
+                    // retry once if authentication expired, the request stays in flight
+                    logger.trace("Re-Auth needed.");
+                    Authentication.Result authResult = httpClient.getAuthenticationStore()
+                            .findAuthenticationResult(URI.create(endpointBaseURL));
+                    if (authResult != null) {
+                        httpClient.getAuthenticationStore().removeAuthenticationResult(authResult);
+                    }
+                    send(soapRequest, response, false);
+                    return;
+                }
+                requestFinished();
+                try {
+                    response.complete(parseResponse(httpResponse, getContent()));
+                } catch (Tr064CommunicationException e) {
+                    response.completeExceptionally(e);
+                }
+            }
+        };
+        try {
+            request.send(listener);
+        } catch (RuntimeException e) {
+            requestFinished();
+            response.completeExceptionally(new Tr064CommunicationException(e));
+        }
+    }
+
+    private SOAPMessage parseResponse(Response response, byte[] content) throws Tr064CommunicationException {
+        try (final ByteArrayInputStream is = new ByteArrayInputStream(content)) {
+            if (logger.isTraceEnabled()) {
+                logger.trace("Received response: {}", new String(content));
+            }
+
+            MessageFactory messageFactory = borrowMessageFactory();
+            SOAPMessage soapMessage;
+            try {
+                soapMessage = messageFactory.createMessage(null, is);
+            } finally {
+                returnMessageFactory(messageFactory);
             }
-        } catch (IOException | SOAPException | InterruptedException | TimeoutException | ExecutionException e) {
+            if (soapMessage.getSOAPBody().hasFault()) {
+                String soapError = getSOAPElement(soapMessage, "errorCode").orElse("unknown");
+                String soapReason = getSOAPElement(soapMessage, "errorDescription").orElse("unknown");
+                String error = String.format("HTTP-Response-Code %d (%s), SOAP-Fault: %s (%s)", response.getStatus(),
+                        response.getReason(), soapError, soapReason);
+                throw new Tr064CommunicationException(error, response.getStatus(), soapError);
+            }
+            return soapMessage;
+        } catch (IOException | SOAPException e) {
             throw new Tr064CommunicationException(e);
         }
     }
@@ -250,24 +419,13 @@ public class SOAPConnector {
             Map<ChannelUID, Tr064ChannelConfig> channelConfigMap, ExpiringCacheMap<ChannelUID, State> stateCache) {
         try {
             final SCPDActionType getAction = channelConfig.getGetAction();
-            if (getAction == null) {
-                // channel has no get action, return a default
-                return switch (channelConfig.getDataType()) {
-                    case "boolean" -> OnOffType.OFF;
-                    case "string" -> StringType.EMPTY;
-                    default -> UnDefType.UNDEF;
-                };
+            final SOAPRequest soapRequest = createGetRequest(channelConfig);
+            if (getAction == null || soapRequest == null) {
+                return getDefaultState(channelConfig);
             }
 
             // get value(s) from remote device
-            Map<String, String> arguments = new HashMap<>();
-            String parameter = channelConfig.getParameter();
-            ActionType action = channelConfig.getChannelTypeDescription().getGetAction();
-            if (parameter != null && !action.getParameter().isInternalOnly()) {
-                arguments.put(action.getParameter().getName(), parameter);
-            }
-            SOAPMessage soapResponse = doSOAPRequest(
-                    new SOAPRequest(channelConfig.getService(), getAction.getName(), arguments));
+            SOAPMessage soapResponse = doSOAPRequest(soapRequest);
             String argumentName = channelConfig.getChannelTypeDescription().getGetAction().getArgument();
             // find all other channels with the same action that are already in cache, so we can update them
             Map<ChannelUID, Tr064ChannelConfig> channelsInRequest = channelConfigMap.entrySet().stream()
@@ -286,24 +444,89 @@ public class SOAPConnector {
                                                     channelConfig1)
                                             .ifPresent(state -> stateCache.putValue(channelUID, state)));
 
-            return soapValueConverter.getStateFromSOAPValue(soapResponse, argumentName, channelConfig)
-                    .orElseThrow(() -> new Tr064CommunicationException("failed to transform '"
-                            + channelConfig.getChannelTypeDescription().getGetAction().getArgument() + "'"));
+            return getStateFromResponse(channelConfig, soapResponse);
         } catch (Tr064CommunicationException e) {
-            if (e.getHttpError() == 500) {
-                switch (e.getSoapError()) {
-                    case "714" -> {
-                        // NoSuchEntryInArray usually is an unknown entry in the MAC list
-                        logger.debug("Failed to get {}: {}", channelConfig, e.getMessage());
-                        return UnDefType.UNDEF;
-                    }
-                    default -> {
-                    }
+            return getStateOnError(channelConfig, e);
+        }
+    }
+
+    /**
+     * get a value from the remote device without blocking the calling thread
+     *
+     * The value is converted on the given executor, since some conversions (e.g. call lists) do further requests.
+     *
+     * @param channelConfig the channel config containing all information
+     * @param executor the executor used to convert the response
+     * @return a future completed with the value for the requested channel
+     */
+    public CompletableFuture<State> getChannelStateFromDeviceAsync(final Tr064ChannelConfig channelConfig,
+            Executor executor) {
+        final SOAPRequest soapRequest = createGetRequest(channelConfig);
+        if (soapRequest == null) {
+            return CompletableFuture.completedFuture(getDefaultState(channelConfig));
+        }
+        return doSOAPRequestAsync(soapRequest).handleAsync((soapResponse, e) -> {
+            try {
+                if (e != null) {
+                    throw toCommunicationException(e);
+                }
+                return getStateFromResponse(channelConfig, soapResponse);
+            } catch (Tr064CommunicationException e1) {
+                return getStateOnError(channelConfig, e1);
+            }
+        }, executor);
+    }
+
+    /**
+     * create the request for the get action of a channel
+     *
+     * @param channelConfig the channel config containing all information
+     * @return the request or {@code null} if the channel has no get action
+     */
+    private @Nullable SOAPRequest createGetRequest(Tr064ChannelConfig channelConfig) {
+        final SCPDActionType getAction = channelConfig.getGetAction();
+        if (getAction == null) {
+            return null;
+        }
+        Map<String, String> arguments = new HashMap<>();
+        String parameter = channelConfig.getParameter();
+        ActionType action = channelConfig.getChannelTypeDescription().getGetAction();
+        if (parameter != null && !action.getParameter().isInternalOnly()) {
+            arguments.put(action.getParameter().getName(), parameter);
+        }
+        return new SOAPRequest(channelConfig.getService(), getAction.getName(), arguments);
+    }
+
+    private State getDefaultState(Tr064ChannelConfig channelConfig) {
+        // channel has no get action, return a default
+        return switch (channelConfig.getDataType()) {
+            case "boolean" -> OnOffType.OFF;
+            case "string" -> StringType.EMPTY;
+            default -> UnDefType.UNDEF;
+        };
+    }
+
+    private State getStateFromResponse(Tr064ChannelConfig channelConfig, SOAPMessage soapResponse)
+            throws Tr064CommunicationException {
+        String argumentName = channelConfig.getChannelTypeDescription().getGetAction().getArgument();
+        return soapValueConverter.getStateFromSOAPValue(soapResponse, argumentName, channelConfig)
+                .orElseThrow(() -> new Tr064CommunicationException("failed to transform '" + argumentName + "'"));
+    }
+
+    private State getStateOnError(Tr064ChannelConfig channelConfig, Tr064CommunicationException e) {
+        if (e.getHttpError() == 500) {
+            switch (e.getSoapError()) {
+                case "714" -> {
+                    // NoSuchEntryInArray usually is an unknown entry in the MAC list
+                    logger.debug("Failed to get {}: {}", channelConfig, e.getMessage());
+                    return UnDefType.UNDEF;
+                }
+                default -> {
                 }
             }
-            // all other cases are an error
-            logger.warn("Failed to get {}: {}", channelConfig, e.getMessage());
-            return UnDefType.UNDEF;
         }
+        // all other cases are an error
+        logger.warn("Failed to get {}: {}", channelConfig, e.getMessage());
+        return UnDefType.UNDEF;
     }
 }
@@ -333,9 +333,12 @@ public class Util {
 
     public static Optional<String> getSOAPElement(SOAPMessage soapMessage, String elementName) {
         try {
-            NodeList nodeList = soapMessage.getSOAPBody().getElementsByTagName(elementName);
-            if (nodeList != null && nodeList.getLength() > 0) {
-                return Optional.of(nodeList.item(0).getTextContent());
+            // responses are shared between channels and the SAAJ/DOM tree is not thread-safe, even for reading
+            synchronized (soapMessage) {
+                NodeList nodeList = soapMessage.getSOAPBody().getElementsByTagName(elementName);
+                if (nodeList != null && nodeList.getLength() > 0) {
+                    return Optional.of(nodeList.item(0).getTextContent());
+                }
             }
         } catch (SOAPException e) {
             // if an error occurs, returning an empty Optional is fine
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tr064.internal.phonebook;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The {@link PhonebookIndexTest} class implements test cases for the {@link PhonebookIndex} class
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class PhonebookIndexTest {
+    private static final Map<String, String> PHONEBOOK_1 = Map.of("+491238007001", "foo", "+4933998005671", "bar",
+            "8007001", "short", "**820", "internal");
+    private static final Map<String, String> PHONEBOOK_2 = Map.of("+491238007001", "other", "+49555123456", "baz");
+
+    @Test
+    public void testMatchCount() {
+        PhonebookIndex index = PhonebookIndex.of(PHONEBOOK_1);
+
+        assertEquals(Optional.of("foo"), index.lookupNumber("+491238007001", 0));
+        assertEquals(Optional.empty(), index.lookupNumber("01238007001", 0));
+        assertEquals(Optional.of("foo"), index.lookupNumber("01238007001", 10));
+        assertEquals(Optional.of("bar"), index.lookupNumber("033998005671", -1));
+        assertEquals(Optional.of("internal"), index.lookupNumber("**820", 0));
+        assertEquals(Optional.empty(), index.lookupNumber("**821", 0));
+        assertEquals(Optional.empty(), index.lookupNumber("", 0));
+    }
+
+    @Test
+    public void testAmbiguousSuffixPrefersShortestNumber() {
+        PhonebookIndex index = PhonebookIndex.of(PHONEBOOK_1);
+
+        // "8007001" and "+491238007001" both end with the match string
+        assertEquals(Optional.of("short"), index.lookupNumber("8007001", 0));
+        assertEquals(Optional.of("short"), index.lookupNumber("0308007001", 4));
+        assertEquals(Optional.of("short"), index.lookupNumber("7001", 0));
+        // only the longer number matches
+        assertEquals(Optional.of("foo"), index.lookupNumber("38007001", 0));
+    }
+
+    @Test
+    public void testAmbiguousSuffixInSameLength() {
+        PhonebookIndex index = PhonebookIndex.of(Map.of("+4912301", "b", "+4912201", "a"));
+
+        // numbers of equal length are ordered lexicographically
+        assertEquals(Optional.of("a"), index.lookupNumber("01", 0));
+        assertEquals(Optional.of("b"), index.lookupNumber("301", 0));
+    }
+
+    @Test
+    public void testCompositePrefersEarlierPhonebook() {
+        PhonebookIndex index = PhonebookIndex.of(List.of(PHONEBOOK_1, PHONEBOOK_2));
+
+        assertEquals(Optional.of("foo"), index.lookupNumber("01238007001", 10));
+        assertEquals(Optional.of("baz"), index.lookupNumber("0555123456", 9));
+
+        index = PhonebookIndex.of(List.of(PHONEBOOK_2, PHONEBOOK_1));
+        assertEquals(Optional.of("other"), index.lookupNumber("01238007001", 10));
+        assertEquals(Optional.of("bar"), index.lookupNumber("033998005671", -1));
+    }
+
+    @Test
+    public void testNormalization() {
+        assertEquals("+49200123456", PhonebookIndex.normalizeNumber("+49 200/123456"));
+    }
+}
@@ -84,7 +84,7 @@ public class Tr064PhonebookImplTest {
         }
 
         public void setPhonebook(Map<String, String> phonebook) {
-            this.phonebook = phonebook;
+            setPhonebookEntries(phonebook);
         }
     }
 }
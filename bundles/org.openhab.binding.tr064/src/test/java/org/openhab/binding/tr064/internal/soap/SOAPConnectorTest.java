@@ -0,0 +1,198 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.tr064.internal.soap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import javax.xml.soap.SOAPMessage;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Authentication;
+import org.eclipse.jetty.client.api.AuthenticationStore;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
+import org.eclipse.jetty.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.binding.tr064.internal.Tr064CommunicationException;
+import org.openhab.binding.tr064.internal.dto.scpd.root.SCPDServiceType;
+import org.openhab.binding.tr064.internal.util.Util;
+
+/**
+ * Tests cases for the request queue, the coalescing of identical requests and the re-authentication of
+ * {@link SOAPConnector}. The HTTP client is replaced by mocks which record the sent requests.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class SOAPConnectorTest {
+    private static final String ENDPOINT_BASE_URL = "http://fritz.box:49000";
+    private static final int MAX_CONCURRENT_REQUESTS = 2;
+
+    private final HttpClient httpClient = mock(HttpClient.class);
+    private final AuthenticationStore authenticationStore = mock(AuthenticationStore.class);
+    private final SCPDServiceType service = mock(SCPDServiceType.class);
+    private final List<Request> requests = new CopyOnWriteArrayList<>();
+    private final List<BufferingResponseListener> listeners = new CopyOnWriteArrayList<>();
+
+    private @NonNullByDefault({}) SOAPConnector soapConnector;
+
+    @BeforeEach
+    public void setUp() {
+        when(service.getServiceType()).thenReturn("urn:dslforum-org:service:DeviceInfo:1");
+        when(service.getControlURL()).thenReturn("/upnp/control/deviceinfo");
+        when(httpClient.getAuthenticationStore()).thenReturn(authenticationStore);
+        when(httpClient.newRequest(anyString())).thenAnswer(invocation -> {
+            Request request = mock(Request.class, RETURNS_SELF);
+            doAnswer(send -> {
+                listeners.add(send.getArgument(0));
+                return null;
+            }).when(request).send(any(Response.CompleteListener.class));
+            requests.add(request);
+            return request;
+        });
+
+        soapConnector = new SOAPConnector(httpClient, ENDPOINT_BASE_URL, 5, MAX_CONCURRENT_REQUESTS);
+    }
+
+    private SOAPRequest request(String action) {
+        return new SOAPRequest(service, action, Map.of());
+    }
+
+    private static String responseBody(String action, String value) {
+        return "<?xml version=\"1.0\"?><s:Envelope xmlns:s=\"http://schemas.xmlsoap.org/soap/envelope/\" "
+                + "s:encodingStyle=\"http://schemas.xmlsoap.org/soap/encoding/\"><s:Body><u:" + action
+                + "Response xmlns:u=\"urn:dslforum-org:service:DeviceInfo:1\"><NewValue>" + value
+                + "</NewValue></u:" + action + "Response></s:Body></s:Envelope>";
+    }
+
+    private void respond(int index, int status, String body) {
+        Response response = mock(Response.class);
+        when(response.getStatus()).thenReturn(status);
+        BufferingResponseListener listener = listeners.get(index);
+        listener.onContent(response, ByteBuffer.wrap(body.getBytes(StandardCharsets.UTF_8)));
+        listener.onComplete(new Result(requests.get(index), response));
+    }
+
+    private static String value(CompletableFuture<SOAPMessage> response)
+            throws InterruptedException, ExecutionException {
+        assertTrue(response.isDone());
+        return Util.getSOAPElement(response.get(), "NewValue").orElse("");
+    }
+
+    @Test
+    public void identicalRequestsAreSentOnce() throws InterruptedException, ExecutionException {
+        CompletableFuture<SOAPMessage> first = soapConnector.doSOAPRequestAsync(request("GetInfo"));
+        CompletableFuture<SOAPMessage> second = soapConnector.doSOAPRequestAsync(request("GetInfo"));
+
+        assertEquals(1, listeners.size());
+        assertFalse(first.isDone());
+
+        respond(0, HttpStatus.OK_200, responseBody("GetInfo", "42"));
+        assertEquals("42", value(first));
+        assertEquals("42", value(second));
+
+        // the response is re-used for a while after it was received
+        assertEquals("42", value(soapConnector.doSOAPRequestAsync(request("GetInfo"))));
+        assertEquals(1, listeners.size());
+    }
+
+    @Test
+    public void failedRequestsAreNotCached() {
+        CompletableFuture<SOAPMessage> first = soapConnector.doSOAPRequestAsync(request("GetInfo"));
+        CompletableFuture<SOAPMessage> second = soapConnector.doSOAPRequestAsync(request("GetInfo"));
+
+        Response response = mock(Response.class);
+        listeners.get(0).onComplete(new Result(requests.get(0), new RuntimeException("failed"), response));
+
+        ExecutionException e = assertThrows(ExecutionException.class, first::get);
+        assertInstanceOf(Tr064CommunicationException.class, e.getCause());
+        assertTrue(second.isCompletedExceptionally());
+
+        soapConnector.doSOAPRequestAsync(request("GetInfo"));
+        assertEquals(2, listeners.size());
+    }
+
+    @Test
+    public void requestsAreQueuedWhileTooManyAreInFlight() throws InterruptedException, ExecutionException {
+        CompletableFuture<SOAPMessage> first = soapConnector.doSOAPRequestAsync(request("GetFirst"));
+        CompletableFuture<SOAPMessage> second = soapConnector.doSOAPRequestAsync(request("GetSecond"));
+        CompletableFuture<SOAPMessage> third = soapConnector.doSOAPRequestAsync(request("GetThird"));
+
+        assertEquals(MAX_CONCURRENT_REQUESTS, listeners.size());
+
+        respond(1, HttpStatus.OK_200, responseBody("GetSecond", "2"));
+        assertEquals("2", value(second));
+        assertEquals(3, listeners.size());
+
+        respond(2, HttpStatus.OK_200, responseBody("GetThird", "3"));
+        respond(0, HttpStatus.OK_200, responseBody("GetFirst", "1"));
+        assertEquals("1", value(first));
+        assertEquals("3", value(third));
+    }
+
+    @Test
+    public void expiredAuthenticationIsRetriedOnce() throws InterruptedException, ExecutionException {
+        Authentication.Result authResult = mock(Authentication.Result.class);
+        when(authenticationStore.findAuthenticationResult(URI.create(ENDPOINT_BASE_URL))).thenReturn(authResult);
+
+        CompletableFuture<SOAPMessage> response = soapConnector.doSOAPRequestAsync(request("GetInfo"));
+        CompletableFuture<SOAPMessage> queued = soapConnector.doSOAPRequestAsync(request("GetOther"));
+        CompletableFuture<SOAPMessage> queued2 = soapConnector.doSOAPRequestAsync(request("GetThird"));
+        assertEquals(MAX_CONCURRENT_REQUESTS, listeners.size());
+
+        respond(0, HttpStatus.UNAUTHORIZED_401, "");
+
+        // the retry takes the place of the failed request, the queued request is still waiting
+        verify(authenticationStore).removeAuthenticationResult(authResult);
+        assertEquals(3, listeners.size());
+        assertFalse(response.isDone());
+        assertFalse(queued2.isDone());
+
+        respond(2, HttpStatus.OK_200, responseBody("GetInfo", "42"));
+        assertEquals("42", value(response));
+        assertEquals(4, listeners.size());
+
+        respond(1, HttpStatus.OK_200, responseBody("GetOther", "1"));
+        respond(3, HttpStatus.OK_200, responseBody("GetThird", "3"));
+        assertEquals("1", value(queued));
+        assertEquals("3", value(queued2));
+    }
+
+    @Test
+    public void secondAuthenticationFailureFailsTheRequest() {
+        CompletableFuture<SOAPMessage> response = soapConnector.doSOAPRequestAsync(request("GetInfo"));
+
+        respond(0, HttpStatus.UNAUTHORIZED_401, "");
+        assertEquals(2, listeners.size());
+        respond(1, HttpStatus.UNAUTHORIZED_401, "");
+
+        assertEquals(2, listeners.size());
+        ExecutionException e = assertThrows(ExecutionException.class, response::get);
+        assertInstanceOf(Tr064CommunicationException.class, e.getCause());
+    }
+}
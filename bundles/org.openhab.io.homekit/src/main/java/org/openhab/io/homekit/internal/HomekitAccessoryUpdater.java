@@ -12,10 +12,20 @@
  */
 package org.openhab.io.homekit.internal;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.core.common.ThreadPoolManager;
 import org.openhab.core.items.GenericItem;
 import org.openhab.core.items.Item;
 import org.openhab.core.items.StateChangeListener;
@@ -24,6 +34,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.github.hapjava.server.impl.HomekitRoot;
 
 /**
  * Subscribes and unsubscribes from Item changes to enable notification to HomeKit
@@ -31,11 +42,52 @@ import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
  * HomeKit library takes care of insuring only a single subscription exists for
  * each accessory.
  *
+ * If a notification interval is set, each subscription notifies HomeKit at most once per interval. The first change
+ * is notified immediately, further changes within the interval are coalesced into a single notification at the end of
+ * the interval, which reports the latest value. It is dropped if the item returned to the state already notified.
+ * Coalesced notifications which are due at the same time are sent as one batch.
+ *
  * @author Andy Lintner - Initial contribution
  */
 public class HomekitAccessoryUpdater {
     private final Logger logger = LoggerFactory.getLogger(HomekitAccessoryUpdater.class);
     private final ConcurrentMap<ItemKey, Subscription> subscriptionsByName = new ConcurrentHashMap<>();
+    private final Set<Subscription> pendingSubscriptions = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService scheduler;
+    private final Clock clock;
+    private final Supplier<HomekitRoot> bridgeSupplier;
+
+    private volatile long notificationIntervalMs = 0;
+    private ScheduledFuture<?> flushJob;
+    private long flushDeadline;
+
+    public HomekitAccessoryUpdater() {
+        this(ThreadPoolManager.getScheduledPool(ThreadPoolManager.THREAD_POOL_NAME_COMMON), Clock.systemUTC(),
+                () -> null);
+    }
+
+    /**
+     * @param scheduler the scheduler for coalesced notifications
+     * @param clock the source of the current time. Specified for testing purposes
+     * @param bridgeSupplier supplies the bridge used to batch coalesced notifications, may return null
+     */
+    HomekitAccessoryUpdater(ScheduledExecutorService scheduler, Clock clock, Supplier<HomekitRoot> bridgeSupplier) {
+        this.scheduler = scheduler;
+        this.clock = clock;
+        this.bridgeSupplier = bridgeSupplier;
+    }
+
+    /**
+     * Set the minimum interval between two notifications of a subscription
+     *
+     * @param interval the interval, zero to notify every change immediately
+     */
+    public void setNotificationInterval(Duration interval) {
+        notificationIntervalMs = Math.max(0, interval.toMillis());
+        if (notificationIntervalMs == 0) {
+            flush(Long.MAX_VALUE);
+        }
+    }
 
     public void subscribe(GenericItem item, HomekitCharacteristicChangeCallback callback) {
         subscribe(item, null, callback);
@@ -57,7 +109,7 @@ public class HomekitAccessoryUpdater {
                 unsubscribe(item, key);
             }
             logger.trace("Adding subscription for {} / {}", item, key);
-            Subscription subscription = (changedItem, oldState, newState) -> callback.changed();
+            Subscription subscription = new Subscription(item, callback);
             item.addStateChangeListener(subscription);
             return subscription;
         });
@@ -74,21 +126,166 @@ public class HomekitAccessoryUpdater {
         subscriptionsByName.computeIfPresent(new ItemKey(item, key), (k, v) -> {
             logger.trace("Removing existing subscription for {} / {}", item, key);
             item.removeStateChangeListener(v);
+            v.cancel();
             return null;
         });
     }
 
-    @FunctionalInterface
+    /**
+     * Cancel all coalesced notifications which have not been sent yet
+     */
+    public void stop() {
+        synchronized (this) {
+            if (flushJob != null) {
+                flushJob.cancel(false);
+                flushJob = null;
+            }
+        }
+        pendingSubscriptions.forEach(Subscription::cancel);
+    }
+
+    private synchronized void scheduleFlush(long deadline) {
+        if (flushJob != null && flushDeadline <= deadline) {
+            return;
+        }
+        if (flushJob != null) {
+            flushJob.cancel(false);
+        }
+        flushDeadline = deadline;
+        flushJob = scheduler.schedule(() -> flush(clock.millis()), Math.max(0, deadline - clock.millis()),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Send the coalesced notifications which are due
+     *
+     * @param now the current time, {@link Long#MAX_VALUE} to send all pending notifications
+     */
+    private void flush(long now) {
+        synchronized (this) {
+            flushJob = null;
+        }
+        List<Subscription> due = new ArrayList<>();
+        long nextDeadline = Long.MAX_VALUE;
+        for (Subscription subscription : pendingSubscriptions) {
+            long deadline = subscription.takeIfDue(now);
+            if (deadline == 0) {
+                due.add(subscription);
+            } else if (deadline > 0) {
+                nextDeadline = Math.min(nextDeadline, deadline);
+            }
+        }
+        if (nextDeadline != Long.MAX_VALUE) {
+            scheduleFlush(nextDeadline);
+        }
+        if (due.isEmpty()) {
+            return;
+        }
+        logger.trace("Sending {} coalesced notifications", due.size());
+        HomekitRoot bridge = bridgeSupplier.get();
+        if (bridge != null) {
+            bridge.batchUpdate();
+        }
+        try {
+            due.forEach(Subscription::notifyChanged);
+        } finally {
+            if (bridge != null) {
+                bridge.completeUpdateBatch();
+            }
+        }
+    }
+
     @NonNullByDefault
-    private interface Subscription extends StateChangeListener {
+    private class Subscription implements StateChangeListener {
+        private final GenericItem item;
+        private final HomekitCharacteristicChangeCallback callback;
+
+        // guarded by this
+        private boolean pending = false;
+        private long lastNotification = Long.MIN_VALUE;
+        private State notifiedState;
+
+        Subscription(GenericItem item, HomekitCharacteristicChangeCallback callback) {
+            this.item = item;
+            this.callback = callback;
+            this.notifiedState = item.getState();
+        }
 
         @Override
-        void stateChanged(Item item, State oldState, State newState);
+        public void stateChanged(Item changedItem, State oldState, State newState) {
+            long interval = notificationIntervalMs;
+            if (interval == 0) {
+                notifyChanged();
+                return;
+            }
+            long now = clock.millis();
+            long deadline;
+            synchronized (this) {
+                if (pending) {
+                    // the pending notification will report the latest value
+                    return;
+                }
+                deadline = lastNotification + interval;
+                if (lastNotification == Long.MIN_VALUE || now >= deadline) {
+                    lastNotification = now;
+                    notifiedState = newState;
+                    deadline = 0;
+                } else {
+                    pending = true;
+                    pendingSubscriptions.add(this);
+                }
+            }
+            if (deadline == 0) {
+                notifyChanged();
+            } else {
+                scheduleFlush(deadline);
+            }
+        }
 
         @Override
-        default void stateUpdated(Item item, State state) {
+        public void stateUpdated(Item changedItem, State state) {
             // Do nothing on non-change update
         }
+
+        /**
+         * Take the pending notification if it is due and the state differs from the state already notified
+         *
+         * @param now the current time
+         * @return 0 if the notification must be sent, its deadline if it is not due yet, -1 if nothing is to be sent
+         */
+        synchronized long takeIfDue(long now) {
+            if (!pending) {
+                pendingSubscriptions.remove(this);
+                return -1;
+            }
+            long deadline = lastNotification + notificationIntervalMs;
+            if (deadline > now && notificationIntervalMs > 0) {
+                return deadline;
+            }
+            pending = false;
+            pendingSubscriptions.remove(this);
+            State state = item.getState();
+            if (state.equals(notifiedState)) {
+                logger.trace("Dropping notification of {}, state did not change", item.getName());
+                return -1;
+            }
+            lastNotification = now == Long.MAX_VALUE ? clock.millis() : now;
+            notifiedState = state;
+            return 0;
+        }
+
+        synchronized void cancel() {
+            pending = false;
+            pendingSubscriptions.remove(this);
+        }
+
+        void notifyChanged() {
+            try {
+                callback.changed();
+            } catch (RuntimeException e) {
+                logger.warn("Notifying HomeKit of the change of {} failed: {}", item.getName(), e.getMessage());
+            }
+        }
     }
 
     private static class ItemKey {
@@ -68,7 +68,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     private final MetadataRegistry metadataRegistry;
     private final Storage<Object> storage;
     private final RegistryChangeListener<Metadata> metadataChangeListener;
-    private HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater();
+    private HomekitAccessoryUpdater updater;
     private HomekitSettings settings;
     private int lastAccessoryCount;
     private Map<String, String> knownAccessories = new HashMap<>();
@@ -99,6 +99,8 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.instance = instance;
         this.applyUpdatesDebouncer = new Debouncer("update-homekit-devices-" + instance, scheduler,
                 Duration.ofMillis(1000), Clock.systemUTC(), this::applyUpdates);
+        this.updater = new HomekitAccessoryUpdater(scheduler, Clock.systemUTC(), accessoryRegistry::getBridge);
+        this.updater.setNotificationInterval(Duration.ofMillis(settings.notificationInterval));
         metadataChangeListener = new RegistryChangeListener<Metadata>() {
             @Override
             public void added(final Metadata metadata) {
@@ -346,6 +348,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
     public void updateSettings(HomekitSettings settings) {
         boolean wasUsingDummyAccessories = this.settings.useDummyAccessories;
         this.settings = settings;
+        updater.setNotificationInterval(Duration.ofMillis(settings.notificationInterval));
         // If they turned off dummy accessories, immediately prune them
         if (wasUsingDummyAccessories && !settings.useDummyAccessories) {
             pruneDummyAccessories();
@@ -356,6 +359,7 @@ public class HomekitChangeListener implements ItemRegistryChangeListener {
         this.itemRegistry.removeRegistryChangeListener(this);
         this.metadataRegistry.removeRegistryChangeListener(metadataChangeListener);
         applyUpdatesDebouncer.stop();
+        updater.stop();
         accessoryRegistry.unsetBridge();
     }
 
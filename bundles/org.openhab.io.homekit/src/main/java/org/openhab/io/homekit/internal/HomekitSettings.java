@@ -35,6 +35,7 @@ public class HomekitSettings {
     public boolean useOHmDNS = false;
     public boolean blockUserDeletion = false;
     public String networkInterface;
+    public int notificationInterval = 0;
 
     @Override
     public int hashCode() {
@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.homekit.internal;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.items.StateChangeListener;
+import org.openhab.core.library.types.DecimalType;
+import org.openhab.core.types.State;
+
+import io.github.hapjava.characteristics.HomekitCharacteristicChangeCallback;
+import io.github.hapjava.server.impl.HomekitRoot;
+
+/**
+ * Tests cases for the notification coalescing of {@link HomekitAccessoryUpdater}.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class HomekitAccessoryUpdaterTest {
+    private static final Duration INTERVAL = Duration.ofMillis(1000);
+
+    private final FakeClock clock = new FakeClock();
+    private final List<ScheduledTask> tasks = new ArrayList<>();
+    private final ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+    private final HomekitRoot bridge = mock(HomekitRoot.class);
+    private final HomekitAccessoryUpdater updater = new HomekitAccessoryUpdater(scheduler, clock, () -> bridge);
+
+    private static class FakeClock extends Clock {
+        private long millis = 1000;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(@Nullable ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+
+    private record ScheduledTask(long time, Runnable runnable, AtomicBoolean cancelled) {
+    }
+
+    private static class Subscriber {
+        final GenericItem item = mock(GenericItem.class);
+        final HomekitCharacteristicChangeCallback callback = mock(HomekitCharacteristicChangeCallback.class);
+        @Nullable
+        StateChangeListener listener;
+        State state = new DecimalType(0);
+
+        void setState(State newState) {
+            State oldState = state;
+            state = newState;
+            StateChangeListener localListener = listener;
+            if (localListener != null) {
+                localListener.stateChanged(item, oldState, newState);
+            }
+        }
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        when(scheduler.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class))).thenAnswer(invocation -> {
+            AtomicBoolean cancelled = new AtomicBoolean(false);
+            long delay = invocation.getArgument(1);
+            tasks.add(new ScheduledTask(clock.millis() + delay, invocation.getArgument(0), cancelled));
+            ScheduledFuture<?> future = mock(ScheduledFuture.class);
+            when(future.cancel(anyBoolean())).thenAnswer(i -> {
+                cancelled.set(true);
+                return true;
+            });
+            return future;
+        });
+    }
+
+    private Subscriber subscribe(String key) {
+        Subscriber subscriber = new Subscriber();
+        when(subscriber.item.getState()).thenAnswer(i -> subscriber.state);
+        when(subscriber.item.getName()).thenReturn(key);
+        updater.subscribe(subscriber.item, key, subscriber.callback);
+        ArgumentCaptor<StateChangeListener> captor = ArgumentCaptor.forClass(StateChangeListener.class);
+        verify(subscriber.item).addStateChangeListener(captor.capture());
+        subscriber.listener = captor.getValue();
+        return subscriber;
+    }
+
+    private void advance(long millis) {
+        long end = clock.millis + millis;
+        while (true) {
+            ScheduledTask next = tasks.stream().filter(t -> !t.cancelled().get() && t.time() <= end)
+                    .min((a, b) -> Long.compare(a.time(), b.time())).orElse(null);
+            if (next == null) {
+                break;
+            }
+            tasks.remove(next);
+            clock.millis = Math.max(clock.millis, next.time());
+            next.runnable().run();
+        }
+        clock.millis = end;
+    }
+
+    @Test
+    public void testEveryChangeIsNotifiedWithoutInterval() {
+        Subscriber subscriber = subscribe("key");
+        for (int i = 1; i <= 100; i++) {
+            subscriber.setState(new DecimalType(i));
+            advance(1);
+        }
+        verify(subscriber.callback, times(100)).changed();
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    public void testChangesAreCoalescedAtHighRates() {
+        updater.setNotificationInterval(INTERVAL);
+        Subscriber subscriber = subscribe("key");
+
+        // leading edge is notified immediately
+        subscriber.setState(new DecimalType(1));
+        verify(subscriber.callback).changed();
+
+        // 10 seconds of updates every 10 milliseconds
+        for (int i = 2; i <= 1000; i++) {
+            advance(10);
+            subscriber.setState(new DecimalType(i));
+        }
+        verify(subscriber.callback, times(10)).changed();
+
+        // trailing notification of the latest value
+        advance(INTERVAL.toMillis());
+        verify(subscriber.callback, times(11)).changed();
+
+        advance(10 * INTERVAL.toMillis());
+        verify(subscriber.callback, times(11)).changed();
+    }
+
+    @Test
+    public void testChangeAfterIntervalIsNotifiedImmediately() {
+        updater.setNotificationInterval(INTERVAL);
+        Subscriber subscriber = subscribe("key");
+
+        subscriber.setState(new DecimalType(1));
+        advance(INTERVAL.toMillis());
+        subscriber.setState(new DecimalType(2));
+
+        verify(subscriber.callback, times(2)).changed();
+        verifyNoInteractions(scheduler);
+    }
+
+    @Test
+    public void testRevertedChangeIsNotNotified() {
+        updater.setNotificationInterval(INTERVAL);
+        Subscriber subscriber = subscribe("key");
+
+        subscriber.setState(new DecimalType(1));
+        advance(10);
+        subscriber.setState(new DecimalType(2));
+        advance(10);
+        subscriber.setState(new DecimalType(1));
+        advance(INTERVAL.toMillis());
+
+        verify(subscriber.callback, times(1)).changed();
+    }
+
+    @Test
+    public void testCoalescedNotificationsAreBatched() {
+        updater.setNotificationInterval(INTERVAL);
+        Subscriber subscriber1 = subscribe("key1");
+        Subscriber subscriber2 = subscribe("key2");
+
+        subscriber1.setState(new DecimalType(1));
+        subscriber2.setState(new DecimalType(1));
+        advance(10);
+        subscriber1.setState(new DecimalType(2));
+        subscriber2.setState(new DecimalType(2));
+        verify(bridge, never()).batchUpdate();
+
+        advance(INTERVAL.toMillis());
+        InOrder inOrder = inOrder(bridge, subscriber1.callback, subscriber2.callback);
+        inOrder.verify(bridge).batchUpdate();
+        inOrder.verify(subscriber1.callback).changed();
+        inOrder.verify(subscriber2.callback).changed();
+        inOrder.verify(bridge).completeUpdateBatch();
+        verify(bridge, times(1)).batchUpdate();
+    }
+
+    @Test
+    public void testPendingNotificationIsDroppedOnUnsubscribe() {
+        updater.setNotificationInterval(INTERVAL);
+        Subscriber subscriber = subscribe("key");
+
+        subscriber.setState(new DecimalType(1));
+        advance(10);
+        subscriber.setState(new DecimalType(2));
+        updater.unsubscribe(subscriber.item, "key");
+        advance(INTERVAL.toMillis());
+
+        verify(subscriber.callback, times(1)).changed();
+        verify(bridge, never()).batchUpdate();
+    }
+
+    @Test
+    public void testPendingNotificationIsSentWhenIntervalIsDisabled() {
+        updater.setNotificationInterval(INTERVAL);
+        Subscriber subscriber = subscribe("key");
+
+        subscriber.setState(new DecimalType(1));
+        advance(10);
+        subscriber.setState(new DecimalType(2));
+        updater.setNotificationInterval(Duration.ZERO);
+
+        verify(subscriber.callback, times(2)).changed();
+    }
+}
@@ -99,6 +99,11 @@ public class ConfigStore {
             .registerTypeAdapter(HueSuccessResponseStateChanged.class, new HueSuccessResponseStateChanged.Serializer())
             .registerTypeAdapter(HueGroupEntry.class, new HueGroupEntry.Serializer(this)).create();
 
+    /**
+     * The serialized lights, to be used by all components that return the lights
+     */
+    public final LightsResponseCache lightsCache = new LightsResponseCache(gson);
+
     @Reference
     protected @NonNullByDefault({}) ConfigurationAdmin configAdmin;
 
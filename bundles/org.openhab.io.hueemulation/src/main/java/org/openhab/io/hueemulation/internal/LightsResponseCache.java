@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.hueemulation.internal;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.items.GenericItem;
+import org.openhab.core.types.Command;
+import org.openhab.core.types.State;
+import org.openhab.io.hueemulation.internal.dto.AbstractHueState;
+import org.openhab.io.hueemulation.internal.dto.HueDataStore;
+import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
+import org.openhab.io.hueemulation.internal.dto.changerequest.HueStateChange;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Hue clients like Echo devices and Harmony hubs poll the list of lights very often. Serializing all lights for every
+ * request is expensive with many exposed items, so the serialized lights are cached.
+ *
+ * <p>
+ * Each light is cached as a separate JSON fragment, together with the item, state, label and last command it was
+ * rendered from. A fragment is rendered again if one of those changed, all other fragments are reused. The light
+ * entries are modified in many places (item registry changes, REST requests), therefore the fragments are validated
+ * with a cheap reference comparison on each request instead of relying on every writer to invalidate the cache.
+ * </p>
+ *
+ * <p>
+ * The composed response is versioned. The version is used as entity tag, so clients sending the tag in
+ * "If-None-Match" can be answered without a body.
+ * </p>
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class LightsResponseCache {
+    private static final TypeToken<TreeMap<String, HueLightEntry>> LIGHTS_TYPE = new TypeToken<>() {
+    };
+
+    private final Gson gson;
+    private final Gson dataStoreGson;
+    private final String entityTagPrefix = Long.toHexString(System.currentTimeMillis());
+
+    private final Map<String, Fragment> fragments = new HashMap<>();
+    private @Nullable CachedLights cachedLights;
+    private List<Fragment> cachedFragments = List.of();
+    private long version = 0;
+
+    /**
+     * The serialized list of lights
+     *
+     * @param json the JSON object of all lights
+     * @param body the UTF-8 encoded JSON object of all lights
+     * @param entityTag the entity tag, changes if the content changes
+     */
+    public record CachedLights(String json, byte[] body, String entityTag) {
+    }
+
+    private static class Fragment {
+        final String id;
+        final HueLightEntry entry;
+        final GenericItem item;
+        final State itemState;
+        final @Nullable String label;
+        final AbstractHueState state;
+        final @Nullable Command lastCommand;
+        final @Nullable HueStateChange lastHueChange;
+        final String json;
+
+        /**
+         * Render the light. The item state and label are taken before rendering, so a concurrent change is detected
+         * with the next request. The serializer replaces the light state of the entry, so it is taken afterwards.
+         */
+        Fragment(Gson gson, String id, HueLightEntry entry) {
+            this.id = id;
+            this.entry = entry;
+            this.item = entry.item;
+            this.itemState = item.getState();
+            this.label = item.getLabel();
+            this.lastCommand = entry.lastCommand;
+            this.lastHueChange = entry.lastHueChange;
+            this.json = gson.toJson(entry);
+            this.state = entry.state;
+        }
+
+        boolean isValidFor(String id, HueLightEntry entry) {
+            return this.id.equals(id) && this.entry == entry && item == entry.item && itemState == item.getState()
+                    && Objects.equals(label, item.getLabel()) && state == entry.state
+                    && lastCommand == entry.lastCommand && lastHueChange == entry.lastHueChange;
+        }
+    }
+
+    public LightsResponseCache(Gson gson) {
+        this.gson = gson;
+        this.dataStoreGson = gson.newBuilder().registerTypeAdapter(LIGHTS_TYPE.getType(), new TypeAdapter<Object>() {
+            @Override
+            public void write(@Nullable JsonWriter out, @Nullable Object value) throws IOException {
+                if (out == null || !(value instanceof Map<?, ?>)) {
+                    throw new IOException("Unexpected lights map");
+                }
+                @SuppressWarnings("unchecked")
+                Map<String, HueLightEntry> lights = (Map<String, HueLightEntry>) value;
+                out.jsonValue(getLights(lights).json());
+            }
+
+            @Override
+            public @Nullable Object read(@Nullable JsonReader in) throws IOException {
+                // only the serialization is cached
+                return gson.getAdapter(LIGHTS_TYPE).read(in);
+            }
+        }).create();
+    }
+
+    /**
+     * Return the serialized lights. They are only rendered again if they changed since the last call.
+     *
+     * @param lights the lights by hue ID
+     * @return the serialized lights
+     */
+    public synchronized CachedLights getLights(Map<String, HueLightEntry> lights) {
+        CachedLights cached = cachedLights;
+        if (cached != null && isValid(lights)) {
+            return cached;
+        }
+
+        List<Fragment> parts = new ArrayList<>(lights.size());
+        StringBuilder json = new StringBuilder("{");
+        for (Map.Entry<String, HueLightEntry> light : lights.entrySet()) {
+            Fragment fragment = getFragment(light.getKey(), light.getValue());
+            if (!parts.isEmpty()) {
+                json.append(',');
+            }
+            json.append(gson.toJson(fragment.id)).append(':').append(fragment.json);
+            parts.add(fragment);
+        }
+        json.append('}');
+        fragments.keySet().retainAll(lights.keySet());
+
+        String content = json.toString();
+        cached = new CachedLights(content, content.getBytes(StandardCharsets.UTF_8),
+                entityTagPrefix + "-" + (++version));
+        cachedLights = cached;
+        cachedFragments = parts;
+        return cached;
+    }
+
+    /**
+     * Return the serialized light
+     *
+     * @param id the hue ID of the light
+     * @param entry the light
+     * @return the JSON object of the light
+     */
+    public synchronized String getLight(String id, HueLightEntry entry) {
+        return getFragment(id, entry).json;
+    }
+
+    /**
+     * Serialize the full data store, the lights are taken from the cache.
+     *
+     * @param ds the data store
+     * @return the JSON object of the data store
+     */
+    public String toJson(HueDataStore ds) {
+        return dataStoreGson.toJson(ds);
+    }
+
+    private Fragment getFragment(String id, HueLightEntry entry) {
+        Fragment fragment = fragments.get(id);
+        if (fragment == null || !fragment.isValidFor(id, entry)) {
+            fragment = new Fragment(gson, id, entry);
+            fragments.put(id, fragment);
+        }
+        return fragment;
+    }
+
+    private boolean isValid(Map<String, HueLightEntry> lights) {
+        if (cachedFragments.size() != lights.size()) {
+            return false;
+        }
+        Iterator<Fragment> parts = cachedFragments.iterator();
+        for (Map.Entry<String, HueLightEntry> light : lights.entrySet()) {
+            if (!parts.next().isValidFor(light.getKey(), light.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -14,7 +14,7 @@ package org.openhab.io.hueemulation.internal.rest;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.verify;
 
@@ -22,6 +22,8 @@ import java.io.IOException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.api.ContentResponse;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpMethod;
 import org.glassfish.jersey.server.ResourceConfig;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,12 +38,15 @@ import org.openhab.core.library.types.HSBType;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.io.hueemulation.internal.ConfigStore;
 import org.openhab.io.hueemulation.internal.DeviceType;
+import org.openhab.io.hueemulation.internal.LightsResponseCache.CachedLights;
 import org.openhab.io.hueemulation.internal.dto.HueGroupEntry;
 import org.openhab.io.hueemulation.internal.dto.HueLightEntry;
 import org.openhab.io.hueemulation.internal.dto.HueStateColorBulb;
 import org.openhab.io.hueemulation.internal.dto.HueStatePlug;
 import org.openhab.io.hueemulation.internal.rest.mocks.DummyItemRegistry;
 
+import com.google.gson.JsonParser;
+
 /**
  * Tests for {@link LightsAndGroups}.
  *
@@ -327,6 +332,75 @@ public class LightsAndGroupsTests {
         assertThat(body, containsString("color"));
     }
 
+    @Test
+    public void allLightsWithEntityTag() throws Exception {
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertEquals(200, response.getStatus());
+        String entityTag = response.getHeaders().get(HttpHeader.ETAG);
+        assertThat(entityTag, is(notNullValue()));
+
+        response = sendGetIfNoneMatch("/testuser/lights", entityTag);
+        assertEquals(304, response.getStatus());
+        assertEquals(0, response.getContent().length);
+
+        ((SwitchItem) cs.ds.lights.get("1").item).setState(OnOffType.ON);
+        response = sendGetIfNoneMatch("/testuser/lights", entityTag);
+        assertEquals(200, response.getStatus());
+        assertThat(response.getHeaders().get(HttpHeader.ETAG), is(not(entityTag)));
+        assertThat(response.getContentAsString(), containsString("\"on\":true"));
+    }
+
+    @Test
+    public void cachedLightsAreRenderedOnChange() {
+        CachedLights lights = cs.lightsCache.getLights(cs.ds.lights);
+        String colorLight = cs.lightsCache.getLight("2", cs.ds.lights.get("2"));
+        assertSame(lights, cs.lightsCache.getLights(cs.ds.lights));
+
+        // only the changed light is rendered again
+        ((SwitchItem) cs.ds.lights.get("1").item).setState(OnOffType.ON);
+        CachedLights changedLights = cs.lightsCache.getLights(cs.ds.lights);
+        assertNotSame(lights, changedLights);
+        assertNotEquals(lights.entityTag(), changedLights.entityTag());
+        assertSame(colorLight, cs.lightsCache.getLight("2", cs.ds.lights.get("2")));
+        assertThat(changedLights.json(), containsString("\"on\":true"));
+
+        // added and removed lights
+        cs.ds.lights.put("4", new HueLightEntry(new SwitchItem("switch4"), "switch4", DeviceType.SwitchType));
+        assertThat(cs.lightsCache.getLights(cs.ds.lights).json(), containsString("switch4"));
+        cs.ds.lights.remove("4");
+        assertThat(cs.lightsCache.getLights(cs.ds.lights).json(), not(containsString("switch4")));
+
+        // same result as serializing the lights directly
+        assertEquals(JsonParser.parseString(cs.gson.toJson(cs.ds.lights)),
+                JsonParser.parseString(cs.lightsCache.getLights(cs.ds.lights).json()));
+        assertEquals(JsonParser.parseString(cs.gson.toJson(cs.ds.lights)),
+                JsonParser.parseString(cs.lightsCache.toJson(cs.ds)).getAsJsonObject().get("lights"));
+    }
+
+    @Test
+    public void pollingManyLights() throws Exception {
+        for (int i = 0; i < 300; i++) {
+            String name = "polledSwitch" + i;
+            cs.ds.lights.put(name, new HueLightEntry(new SwitchItem(name), name, DeviceType.SwitchType));
+        }
+        ContentResponse response = commonSetup.sendGet("/testuser/lights");
+        assertEquals(200, response.getStatus());
+        String entityTag = response.getHeaders().get(HttpHeader.ETAG);
+        CachedLights lights = cs.lightsCache.getLights(cs.ds.lights);
+
+        for (int i = 0; i < 200; i++) {
+            assertEquals(304, sendGetIfNoneMatch("/testuser/lights", entityTag).getStatus());
+            assertArrayEquals(lights.body(), commonSetup.sendGet("/testuser/lights").getContent());
+        }
+        // polling did not render the lights again
+        assertSame(lights, cs.lightsCache.getLights(cs.ds.lights));
+    }
+
+    private ContentResponse sendGetIfNoneMatch(String path, String entityTag) throws Exception {
+        return commonSetup.client.newRequest(commonSetup.basePath + path).method(HttpMethod.GET)
+                .header(HttpHeader.IF_NONE_MATCH, entityTag).send();
+    }
+
     private boolean assertHueValue(ItemCommandEvent ce, int hueValue) {
         assertThat(((HSBType) ce.getItemCommand()).getHue().intValue(), is(hueValue * 360 / HueStateColorBulb.MAX_HUE));
         return true;
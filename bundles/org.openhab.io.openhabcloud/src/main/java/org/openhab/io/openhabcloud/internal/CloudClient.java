@@ -21,6 +21,7 @@ import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -36,9 +37,9 @@ import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.util.BytesContentProvider;
 import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpFields;
+import org.eclipse.jetty.http.HttpHeader;
 import org.eclipse.jetty.http.HttpMethod;
 import org.eclipse.jetty.http.HttpStatus;
-import org.eclipse.jetty.util.BufferUtil;
 import org.eclipse.jetty.util.URIUtil;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -57,6 +58,7 @@ import io.socket.engineio.client.Transport;
 import io.socket.engineio.client.transports.WebSocket;
 import io.socket.parser.Packet;
 import io.socket.parser.Parser;
+import io.socket.thread.EventThread;
 import okhttp3.OkHttpClient.Builder;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
@@ -81,6 +83,23 @@ public class CloudClient {
 
     private static final long READ_TIMEOUT = 60_0000;
 
+    /*
+     * Response content is sent in messages of up to this size, or after this delay
+     */
+    private static final int CONTENT_MESSAGE_SIZE = 64 * 1024;
+
+    private static final long CONTENT_MESSAGE_DELAY = 20;
+
+    /*
+     * Proxied responses are slowed down while more content than this is waiting to be sent
+     */
+    private static final long MAX_QUEUED_CONTENT = 1024 * 1024;
+
+    /*
+     * Item updates are collected for this time, only the latest update of an item is sent
+     */
+    private static final long ITEM_UPDATE_DELAY = 100;
+
     /*
      * Logger for this class
      */
@@ -139,6 +158,7 @@ public class CloudClient {
     private CloudClientListener listener;
     private boolean remoteAccessEnabled;
     private Set<String> exposedItems;
+    private boolean compressResponses;
 
     /**
      * Back-off strategy for reconnecting when manual reconnection is needed
@@ -156,6 +176,12 @@ public class CloudClient {
     private final AtomicReference<Optional<ScheduledFuture<?>>> reconnectFuture = new AtomicReference<>(
             Optional.empty());
 
+    /*
+     * Outbound queue of the messages to the openHAB Cloud, emitted on the Socket.IO event thread
+     */
+    private final CloudSocketSender sender = new CloudSocketSender((event, data) -> socket.emit(event, data),
+            EventThread::exec, scheduler, MAX_QUEUED_CONTENT, ITEM_UPDATE_DELAY);
+
     /**
      * Constructor of CloudClient
      *
@@ -163,15 +189,17 @@ public class CloudClient {
      * @param secret openHAB's Secret to connect to the openHAB Cloud
      * @param remoteAccessEnabled Allow the openHAB Cloud to be used as a remote proxy
      * @param exposedItems Items that are made available to apps connected to the openHAB Cloud
+     * @param compressResponses Compress proxied text responses with gzip
      */
     public CloudClient(HttpClient httpClient, String uuid, String secret, String baseURL, String localBaseUrl,
-            boolean remoteAccessEnabled, Set<String> exposedItems) {
+            boolean remoteAccessEnabled, Set<String> exposedItems, boolean compressResponses) {
         this.uuid = uuid;
         this.secret = secret;
         this.baseURL = baseURL;
         this.localBaseUrl = localBaseUrl;
         this.remoteAccessEnabled = remoteAccessEnabled;
         this.exposedItems = exposedItems;
+        this.compressResponses = compressResponses;
         this.jettyClient = httpClient;
         reconnectBackoff.setMin(RECONNECT_MIN);
         reconnectBackoff.setMax(RECONNECT_MAX);
@@ -459,41 +487,47 @@ public class CloudClient {
                 request.content(new BytesContentProvider(requestBody.getBytes()));
             }
 
+            boolean compress = compressResponses && method != HttpMethod.HEAD && acceptsGzip(requestHeadersJson);
+            ResponseContentAggregator aggregator = new ResponseContentAggregator(requestId, sender, scheduler,
+                    CONTENT_MESSAGE_SIZE, CONTENT_MESSAGE_DELAY);
+
             request.onResponseHeaders(response -> {
                 logger.debug("onHeaders {}", requestId);
                 JSONObject responseJson = new JSONObject();
                 try {
+                    HttpFields headers = response.getHeaders();
+                    if (compress && isCompressible(response.getStatus(), headers)) {
+                        aggregator.enableCompression();
+                        headers = new HttpFields(headers);
+                        headers.remove(HttpHeader.CONTENT_LENGTH);
+                        headers.put(HttpHeader.CONTENT_ENCODING, "gzip");
+                        headers.add(HttpHeader.VARY, "Accept-Encoding");
+                    }
                     responseJson.put("id", requestId);
-                    responseJson.put("headers", getJSONHeaders(response.getHeaders()));
+                    responseJson.put("headers", getJSONHeaders(headers));
                     responseJson.put("responseStatusCode", response.getStatus());
                     responseJson.put("responseStatusText", "OK");
-                    socket.emit("responseHeader", responseJson);
+                    sender.send("responseHeader", responseJson);
                     logger.trace("Sent headers to request {}", requestId);
                     logger.trace("{}", responseJson.toString());
-                } catch (JSONException e) {
+                } catch (JSONException | IOException e) {
                     logger.debug("{}", e.getMessage());
                 }
-            }).onResponseContent((theResponse, content) -> {
+            }).onResponseContentAsync((theResponse, content, callback) -> {
                 logger.debug("onResponseContent: {}, content size {}", requestId, String.valueOf(content.remaining()));
-                JSONObject responseJson = new JSONObject();
-                try {
-                    responseJson.put("id", requestId);
-                    responseJson.put("body", BufferUtil.toArray(content));
-                    if (logger.isTraceEnabled()) {
-                        logger.trace("{}", StandardCharsets.UTF_8.decode(content).toString());
-                    }
-                    socket.emit("responseContentBinary", responseJson);
-                    logger.trace("Sent content to request {}", requestId);
-                } catch (JSONException e) {
-                    logger.debug("{}", e.getMessage());
+                if (logger.isTraceEnabled()) {
+                    logger.trace("{}", StandardCharsets.UTF_8.decode(content.slice()).toString());
                 }
+                // Jetty reads further content once the callback succeeded, which is delayed while the
+                // send queue is full
+                aggregator.add(content, callback::succeeded);
             }).onRequestFailure((origRequest, failure) -> {
                 logger.debug("onRequestFailure: {},  {}", requestId, failure.getMessage());
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
                     responseJson.put("responseStatusText", "openHAB connection error: " + failure.getMessage());
-                    socket.emit("responseError", responseJson);
+                    sender.send("responseError", responseJson);
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
                 }
@@ -513,10 +547,11 @@ public class CloudClient {
                         logger.debug("Response Failure: {}", result.getResponseFailure().getMessage());
                     }
                 }
+                aggregator.finish();
                 JSONObject responseJson = new JSONObject();
                 try {
                     responseJson.put("id", requestId);
-                    socket.emit("responseFinished", responseJson);
+                    sender.send("responseFinished", responseJson);
                     logger.debug("Finished responding to request {}", requestId);
                 } catch (JSONException e) {
                     logger.debug("{}", e.getMessage());
@@ -596,7 +631,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("notification", notificationMessage);
+                sender.send("notification", notificationMessage);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -619,7 +654,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("lognotification", notificationMessage);
+                sender.send("lognotification", notificationMessage);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -642,7 +677,7 @@ public class CloudClient {
                 notificationMessage.put("message", message);
                 notificationMessage.put("icon", icon);
                 notificationMessage.put("severity", severity);
-                socket.emit("broadcastnotification", notificationMessage);
+                sender.send("broadcastnotification", notificationMessage);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -652,7 +687,8 @@ public class CloudClient {
     }
 
     /**
-     * Send item update to openHAB Cloud
+     * Send item update to openHAB Cloud. Updates are sent after a short delay, if an item is updated again
+     * meanwhile only the latest state is sent.
      *
      * @param itemName the name of the item
      * @param itemState updated item state
@@ -665,7 +701,7 @@ public class CloudClient {
             try {
                 itemUpdateMessage.put("itemName", itemName);
                 itemUpdateMessage.put("itemStatus", itemState);
-                socket.emit("itemupdate", itemUpdateMessage);
+                sender.sendCoalesced(itemName, "itemupdate", itemUpdateMessage);
             } catch (JSONException e) {
                 logger.debug("{}", e.getMessage());
             }
@@ -687,6 +723,7 @@ public class CloudClient {
     public void shutdown() {
         logger.info("Shutting down openHAB Cloud service connection");
         reconnectFuture.get().ifPresent(future -> future.cancel(true));
+        sender.clear();
         socket.disconnect();
     }
 
@@ -703,6 +740,37 @@ public class CloudClient {
         }, delay, TimeUnit.MILLISECONDS))).ifPresent(future -> future.cancel(true));
     }
 
+    private boolean acceptsGzip(JSONObject requestHeadersJson) {
+        Iterator<String> headersIterator = requestHeadersJson.keys();
+        while (headersIterator.hasNext()) {
+            String headerName = headersIterator.next();
+            if (HttpHeader.ACCEPT_ENCODING.is(headerName)) {
+                return requestHeadersJson.optString(headerName).toLowerCase(Locale.ROOT).contains("gzip");
+            }
+        }
+        return false;
+    }
+
+    /*
+     * Only uncompressed text responses are compressed, other content types are usually compressed already
+     */
+    private boolean isCompressible(int status, HttpFields headers) {
+        if (status == HttpStatus.NO_CONTENT_204 || status == HttpStatus.NOT_MODIFIED_304
+                || headers.containsKey(HttpHeader.CONTENT_ENCODING.asString())) {
+            return false;
+        }
+        String contentType = headers.get(HttpHeader.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        contentType = contentType.toLowerCase(Locale.ROOT);
+        if (contentType.startsWith("text/event-stream")) {
+            return false;
+        }
+        return contentType.startsWith("text/") || contentType.contains("json") || contentType.contains("javascript")
+                || contentType.contains("xml");
+    }
+
     private JSONObject getJSONHeaders(HttpFields httpFields) {
         JSONObject headersJSON = new JSONObject();
         try {
@@ -0,0 +1,203 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Outbound queue of the messages sent to the openHAB Cloud.
+ *
+ * Messages are emitted in the order they were sent, one at a time on the given executor. The size of the queued
+ * response content is bounded: if the queue is full, the sender is asked to wait until it is half empty again, which
+ * is used to slow down the local HTTP responses that are proxied.
+ *
+ * Coalesced messages (e.g. item updates) replace a pending message with the same key and are sent after a delay, or
+ * later if the queue is full at that time.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class CloudSocketSender {
+    private final Logger logger = LoggerFactory.getLogger(CloudSocketSender.class);
+
+    private final BiConsumer<String, JSONObject> emitter;
+    private final Executor emitExecutor;
+    private final ScheduledExecutorService scheduler;
+    private final long capacity;
+    private final long coalesceDelayMs;
+
+    // all fields below are guarded by this
+    private final Deque<Message> queue = new ArrayDeque<>();
+    private final List<Runnable> waiting = new ArrayList<>();
+    private final Map<String, Message> coalesced = new LinkedHashMap<>();
+    private @Nullable ScheduledFuture<?> coalesceJob;
+    private long queuedBytes;
+    private boolean draining;
+
+    private record Message(String event, JSONObject data, int size) {
+    }
+
+    /**
+     * @param emitter emits a message on the socket
+     * @param emitExecutor the executor to emit the messages on
+     * @param scheduler the scheduler for coalesced messages and waiting senders
+     * @param capacity the maximum number of queued content bytes before senders have to wait
+     * @param coalesceDelayMs the delay of coalesced messages in milliseconds
+     */
+    CloudSocketSender(BiConsumer<String, JSONObject> emitter, Executor emitExecutor,
+            ScheduledExecutorService scheduler, long capacity, long coalesceDelayMs) {
+        this.emitter = emitter;
+        this.emitExecutor = emitExecutor;
+        this.scheduler = scheduler;
+        this.capacity = capacity;
+        this.coalesceDelayMs = coalesceDelayMs;
+    }
+
+    /**
+     * Queue a message
+     *
+     * @param event the event name
+     * @param data the message
+     */
+    void send(String event, JSONObject data) {
+        send(event, data, 0, null);
+    }
+
+    /**
+     * Queue a message with content. The message is always queued, but if the queue is full the sender has to wait
+     * until onAccepted is called.
+     *
+     * @param event the event name
+     * @param data the message
+     * @param size the size of the content of the message
+     * @param onAccepted called when the sender may send further messages, if the queue is full
+     * @return true if the sender may send further messages right away, onAccepted is not called then
+     */
+    boolean send(String event, JSONObject data, int size, @Nullable Runnable onAccepted) {
+        boolean accepted;
+        boolean startDrain;
+        synchronized (this) {
+            queue.add(new Message(event, data, size));
+            queuedBytes += size;
+            accepted = queuedBytes <= capacity;
+            if (!accepted && onAccepted != null) {
+                logger.trace("Send queue is full ({} bytes), waiting", queuedBytes);
+                waiting.add(onAccepted);
+            }
+            startDrain = !draining;
+            draining = true;
+        }
+        if (startDrain) {
+            emitExecutor.execute(this::drain);
+        }
+        return accepted;
+    }
+
+    /**
+     * Queue a message which replaces a pending message with the same key. It is sent after the coalesce delay, or
+     * later if the queue is full.
+     *
+     * @param key the key of the message
+     * @param event the event name
+     * @param data the message
+     */
+    synchronized void sendCoalesced(String key, String event, JSONObject data) {
+        coalesced.put(key, new Message(event, data, 0));
+        if (coalesceJob == null) {
+            coalesceJob = scheduler.schedule(this::flushCoalesced, coalesceDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Drop all messages which have not been sent yet and release waiting senders
+     */
+    void clear() {
+        List<Runnable> released;
+        synchronized (this) {
+            ScheduledFuture<?> job = coalesceJob;
+            if (job != null) {
+                job.cancel(false);
+                coalesceJob = null;
+            }
+            coalesced.clear();
+            queue.clear();
+            queuedBytes = 0;
+            released = new ArrayList<>(waiting);
+            waiting.clear();
+        }
+        released.forEach(Runnable::run);
+    }
+
+    private void flushCoalesced() {
+        List<Message> messages;
+        synchronized (this) {
+            if (queuedBytes > capacity / 2) {
+                // keep coalescing until the queue is drained
+                coalesceJob = scheduler.schedule(this::flushCoalesced, coalesceDelayMs, TimeUnit.MILLISECONDS);
+                return;
+            }
+            coalesceJob = null;
+            messages = new ArrayList<>(coalesced.values());
+            coalesced.clear();
+        }
+        logger.trace("Sending {} coalesced messages", messages.size());
+        messages.forEach(message -> send(message.event(), message.data()));
+    }
+
+    private void drain() {
+        while (true) {
+            Message message;
+            synchronized (this) {
+                message = queue.poll();
+                if (message == null) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.accept(message.event(), message.data());
+            } catch (RuntimeException e) {
+                logger.debug("Sending {} failed: {}", message.event(), e.getMessage());
+            }
+            List<Runnable> released = null;
+            synchronized (this) {
+                // the queue may have been cleared meanwhile
+                queuedBytes = Math.max(0, queuedBytes - message.size());
+                if (!waiting.isEmpty() && queuedBytes <= capacity / 2) {
+                    released = new ArrayList<>(waiting);
+                    waiting.clear();
+                }
+            }
+            if (released != null) {
+                // don't continue the waiting senders on the emitting thread
+                released.forEach(scheduler::execute);
+            }
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Collects the content chunks of a proxied HTTP response and sends them to the openHAB Cloud as
+ * <code>responseContentBinary</code> messages. A message is sent if the collected content reaches the maximum size
+ * or the oldest collected chunk reaches the maximum delay, so large responses are not split into many small messages
+ * and streamed responses are not held back.
+ *
+ * The content can be compressed with gzip, each message then contains the compressed data collected so far.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+class ResponseContentAggregator {
+    private final Logger logger = LoggerFactory.getLogger(ResponseContentAggregator.class);
+
+    private final int requestId;
+    private final CloudSocketSender sender;
+    private final ScheduledExecutorService scheduler;
+    private final int maxSize;
+    private final long maxDelayMs;
+
+    // all fields below are guarded by this
+    private final ByteArrayOutputStream buffer;
+    private OutputStream out;
+    private int pendingBytes;
+    private boolean compressed;
+    private boolean finished;
+    private @Nullable ScheduledFuture<?> flushJob;
+
+    /**
+     * @param requestId the id of the proxied request
+     * @param sender the sender of the messages
+     * @param scheduler the scheduler for delayed messages
+     * @param maxSize the content size in bytes at which a message is sent
+     * @param maxDelayMs the maximum delay of content in milliseconds
+     */
+    ResponseContentAggregator(int requestId, CloudSocketSender sender, ScheduledExecutorService scheduler, int maxSize,
+            long maxDelayMs) {
+        this.requestId = requestId;
+        this.sender = sender;
+        this.scheduler = scheduler;
+        this.maxSize = maxSize;
+        this.maxDelayMs = maxDelayMs;
+        this.buffer = new ByteArrayOutputStream(Math.min(maxSize, 8192));
+        this.out = buffer;
+    }
+
+    /**
+     * Compress the content with gzip. Must be called before the first content is added.
+     */
+    synchronized void enableCompression() throws IOException {
+        if (!compressed && pendingBytes == 0) {
+            out = new GZIPOutputStream(buffer, 8192, true);
+            compressed = true;
+        }
+    }
+
+    synchronized boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Add a content chunk. The chunk is copied, so the buffer can be reused once onConsumed is called.
+     *
+     * @param content the content chunk
+     * @param onConsumed called when more content may be added, delayed if the send queue is full
+     */
+    void add(ByteBuffer content, Runnable onConsumed) {
+        boolean consumed = true;
+        // messages are queued while holding the lock, so they are sent in the order the content was collected
+        synchronized (this) {
+            try {
+                int length = content.remaining();
+                if (content.hasArray()) {
+                    out.write(content.array(), content.arrayOffset() + content.position(), length);
+                } else {
+                    byte[] bytes = new byte[length];
+                    content.get(bytes);
+                    out.write(bytes);
+                }
+                pendingBytes += length;
+                if (pendingBytes >= maxSize) {
+                    byte @Nullable [] body = takeContent(false);
+                    if (body != null) {
+                        consumed = send(body, onConsumed);
+                    }
+                } else if (flushJob == null && pendingBytes > 0) {
+                    flushJob = scheduler.schedule(this::flush, maxDelayMs, TimeUnit.MILLISECONDS);
+                }
+            } catch (IOException e) {
+                logger.debug("Collecting content of request {} failed: {}", requestId, e.getMessage());
+            }
+        }
+        // continue the response outside of the lock, it may add the next chunk right away
+        if (consumed) {
+            onConsumed.run();
+        }
+    }
+
+    /**
+     * Send the remaining content. Has to be called before the response is finished.
+     */
+    synchronized void finish() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        byte @Nullable [] body = takeContent(true);
+        if (body != null) {
+            send(body, null);
+        }
+    }
+
+    private synchronized void flush() {
+        flushJob = null;
+        if (finished) {
+            return;
+        }
+        byte @Nullable [] body = takeContent(false);
+        if (body != null) {
+            send(body, null);
+        }
+    }
+
+    private boolean send(byte[] body, @Nullable Runnable onConsumed) {
+        logger.trace("Sending {} bytes of content to request {}", body.length, requestId);
+        JSONObject message = new JSONObject();
+        message.put("id", requestId);
+        message.put("body", body);
+        return sender.send("responseContentBinary", message, body.length, onConsumed);
+    }
+
+    private byte @Nullable [] takeContent(boolean last) {
+        ScheduledFuture<?> job = flushJob;
+        if (job != null) {
+            job.cancel(false);
+            flushJob = null;
+        }
+        try {
+            if (compressed) {
+                if (last) {
+                    ((GZIPOutputStream) out).finish();
+                } else if (pendingBytes > 0) {
+                    // sync flush, so the client can decompress everything sent so far
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            logger.debug("Compressing content of request {} failed: {}", requestId, e.getMessage());
+        }
+        pendingBytes = 0;
+        if (buffer.size() == 0) {
+            return null;
+        }
+        byte[] body = buffer.toByteArray();
+        buffer.reset();
+        return body;
+    }
+}
@@ -0,0 +1,293 @@
+/**
+ * Copyright (c) 2010-2023 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.io.openhabcloud.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openhab.core.test.java.JavaTest;
+
+/**
+ * Tests cases for the outbound message pipeline of {@link CloudClient}, {@link ResponseContentAggregator} and
+ * {@link CloudSocketSender}. The socket is replaced by a stand-in which records the emitted frames.
+ *
+ * @author agent - Initial contribution
+ */
+@NonNullByDefault
+public class ResponseContentAggregatorTest extends JavaTest {
+    private static final int REQUEST_ID = 42;
+    private static final int MAX_SIZE = 64 * 1024;
+    private static final long MAX_DELAY = 20;
+    private static final long CAPACITY = 1000;
+    private static final long COALESCE_DELAY = 100;
+
+    private final ExecutorService emitExecutor = Executors.newSingleThreadExecutor();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final SocketStandIn socket = new SocketStandIn();
+    private final CloudSocketSender sender = new CloudSocketSender(socket, emitExecutor, scheduler, CAPACITY,
+            COALESCE_DELAY);
+
+    private record Frame(String event, JSONObject data, long nanoTime) {
+    }
+
+    private static class SocketStandIn implements BiConsumer<String, JSONObject> {
+        final List<Frame> frames = new CopyOnWriteArrayList<>();
+        @Nullable
+        volatile CountDownLatch blocker;
+
+        @Override
+        public void accept(String event, JSONObject data) {
+            CountDownLatch localBlocker = blocker;
+            if (localBlocker != null) {
+                try {
+                    localBlocker.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            frames.add(new Frame(event, data, System.nanoTime()));
+        }
+
+        List<Frame> frames(String event) {
+            return frames.stream().filter(frame -> event.equals(frame.event())).collect(Collectors.toList());
+        }
+
+        byte[] content() {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            for (Frame frame : frames("responseContentBinary")) {
+                assertEquals(REQUEST_ID, frame.data().getInt("id"));
+                content.writeBytes((byte[]) frame.data().get("body"));
+            }
+            return content.toByteArray();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        emitExecutor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    private ResponseContentAggregator newAggregator() {
+        return new ResponseContentAggregator(REQUEST_ID, sender, scheduler, MAX_SIZE, MAX_DELAY);
+    }
+
+    private static byte[] textContent(int size) {
+        StringBuilder text = new StringBuilder(size);
+        for (int i = 0; text.length() < size; i++) {
+            text.append("{\"name\":\"Item").append(i).append("\",\"state\":\"ON\"},");
+        }
+        return text.substring(0, size).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void addInChunks(ResponseContentAggregator aggregator, byte[] content, int chunkSize,
+            Runnable onConsumed) {
+        for (int offset = 0; offset < content.length; offset += chunkSize) {
+            aggregator.add(ByteBuffer.wrap(content, offset, Math.min(chunkSize, content.length - offset)), onConsumed);
+        }
+    }
+
+    private static byte[] decompress(byte[] compressed) {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            try {
+                int read;
+                while ((read = in.read(buffer)) > 0) {
+                    out.write(buffer, 0, read);
+                }
+            } catch (IOException e) {
+                // unexpected end of an unfinished stream, return what is decompressed so far
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            return new byte[0];
+        }
+    }
+
+    @Test
+    public void smallChunksAreSentInFewFrames() {
+        byte[] content = textContent(200_000);
+        AtomicInteger consumed = new AtomicInteger();
+        ResponseContentAggregator aggregator = newAggregator();
+
+        addInChunks(aggregator, content, 100, consumed::incrementAndGet);
+        aggregator.finish();
+
+        waitForAssert(() -> assertArrayEquals(content, socket.content()));
+        assertEquals(2000, consumed.get());
+        // 200 KB in 64 KB frames instead of one frame per chunk
+        assertThat(socket.frames("responseContentBinary").size(), is(4));
+    }
+
+    @Test
+    public void contentIsSentAfterMaxDelay() {
+        byte[] content = textContent(100);
+        ResponseContentAggregator aggregator = newAggregator();
+
+        long start = System.nanoTime();
+        aggregator.add(ByteBuffer.wrap(content), () -> {
+        });
+
+        waitForAssert(() -> assertArrayEquals(content, socket.content()));
+        long latencyMs = TimeUnit.NANOSECONDS.toMillis(socket.frames.get(0).nanoTime() - start);
+        assertThat(latencyMs, is(greaterThanOrEqualTo(MAX_DELAY)));
+        assertThat(latencyMs, is(lessThan(1000L)));
+
+        // finishing doesn't send the content again
+        aggregator.finish();
+        assertThat(socket.frames("responseContentBinary").size(), is(1));
+    }
+
+    @Test
+    public void compressedContentCanBeDecompressed() throws IOException {
+        byte[] content = textContent(200_000);
+        ResponseContentAggregator aggregator = newAggregator();
+        aggregator.enableCompression();
+        assertTrue(aggregator.isCompressed());
+
+        addInChunks(aggregator, content, 1000, () -> {
+        });
+        // the frames sent so far can be decompressed before the response is finished
+        waitForAssert(() -> assertThat(socket.frames.size(), is(greaterThan(0))));
+        waitForAssert(() -> assertThat(decompress(socket.content()).length, is(content.length)));
+
+        aggregator.finish();
+        waitForAssert(() -> assertArrayEquals(content, decompress(socket.content())));
+        assertThat(socket.content().length, is(lessThan(content.length / 4)));
+    }
+
+    @Test
+    public void contentIsHeldBackWhileQueueIsFull() {
+        CountDownLatch blocker = new CountDownLatch(1);
+        socket.blocker = blocker;
+        AtomicInteger consumed = new AtomicInteger();
+        ResponseContentAggregator aggregator = new ResponseContentAggregator(REQUEST_ID, sender, scheduler, 100,
+                MAX_DELAY);
+        byte[] content = textContent(2000);
+
+        addInChunks(aggregator, content, 100, consumed::incrementAndGet);
+
+        // the queue takes CAPACITY bytes, further content has to wait
+        assertEquals(10, consumed.get());
+
+        blocker.countDown();
+        waitForAssert(() -> assertEquals(20, consumed.get()));
+        aggregator.finish();
+        waitForAssert(() -> assertArrayEquals(content, socket.content()));
+    }
+
+    @Test
+    public void messagesAreSentInOrder() {
+        ResponseContentAggregator aggregator = newAggregator();
+        JSONObject header = new JSONObject(Map.of("id", REQUEST_ID));
+        JSONObject finished = new JSONObject(Map.of("id", REQUEST_ID));
+
+        sender.send("responseHeader", header);
+        aggregator.add(ByteBuffer.wrap(textContent(100)), () -> {
+        });
+        aggregator.finish();
+        sender.send("responseFinished", finished);
+
+        waitForAssert(() -> assertThat(socket.frames.size(), is(3)));
+        assertThat(socket.frames.stream().map(Frame::event).collect(Collectors.toList()),
+                contains("responseHeader", "responseContentBinary", "responseFinished"));
+    }
+
+    @Test
+    public void flushedContentIsQueuedBeforeContentAddedMeanwhile() throws InterruptedException, ExecutionException {
+        Thread schedulerThread = scheduler.submit(Thread::currentThread).get();
+        ResponseContentAggregator aggregator = new ResponseContentAggregator(REQUEST_ID, sender, scheduler, 10, 1);
+        byte[] content = textContent(30);
+        Thread adder = new Thread(() -> aggregator.add(ByteBuffer.wrap(content, 5, 25), () -> {
+        }));
+
+        // block the send queue, so the delayed flush of the first chunk waits while the next chunk is added
+        synchronized (sender) {
+            aggregator.add(ByteBuffer.wrap(content, 0, 5), () -> {
+            });
+            waitForAssert(() -> assertThat(schedulerThread.getState(), is(Thread.State.BLOCKED)));
+            adder.start();
+            waitForAssert(() -> assertThat(adder.getState(), is(Thread.State.BLOCKED)));
+        }
+        adder.join();
+        aggregator.finish();
+        sender.send("responseFinished", new JSONObject(Map.of("id", REQUEST_ID)));
+
+        waitForAssert(() -> assertThat(socket.frames("responseFinished").size(), is(1)));
+        assertArrayEquals(content, socket.content());
+        assertThat(socket.frames.get(socket.frames.size() - 1).event(), is("responseFinished"));
+    }
+
+    @Test
+    public void itemUpdatesAreCoalesced() {
+        for (int i = 0; i < 1000; i++) {
+            JSONObject update = new JSONObject();
+            update.put("itemName", "Item" + (i % 10));
+            update.put("itemStatus", String.valueOf(i));
+            sender.sendCoalesced("Item" + (i % 10), "itemupdate", update);
+        }
+
+        waitForAssert(() -> assertThat(socket.frames("itemupdate").size(), is(10)));
+        for (Frame frame : socket.frames("itemupdate")) {
+            int item = Integer.parseInt(frame.data().getString("itemName").substring(4));
+            assertEquals(String.valueOf(990 + item), frame.data().getString("itemStatus"));
+        }
+    }
+
+    @Test
+    public void clearDropsQueuedMessagesAndReleasesWaitingSenders() {
+        CountDownLatch blocker = new CountDownLatch(1);
+        socket.blocker = blocker;
+        AtomicInteger consumed = new AtomicInteger();
+        ResponseContentAggregator aggregator = new ResponseContentAggregator(REQUEST_ID, sender, scheduler, 100,
+                MAX_DELAY);
+
+        addInChunks(aggregator, textContent(2000), 100, consumed::incrementAndGet);
+        sender.sendCoalesced("Item", "itemupdate", new JSONObject());
+        sender.clear();
+
+        assertEquals(20, consumed.get());
+        blocker.countDown();
+        sender.send("marker", new JSONObject());
+        waitForAssert(() -> assertThat(socket.frames("marker").size(), is(1)));
+        // only the message which was being emitted while clearing is sent
+        assertThat(socket.frames.size(), is(lessThanOrEqualTo(2)));
+        assertThat(socket.frames("itemupdate"), is(empty()));
+    }
+}
@@ -1039,6 +1039,44 @@ public class ModbusDataHandlerTest extends AbstractModbusOSGiTest {
         statusConsumer.accept(dataHandler.getThing().getStatusInfo());
     }
 
+    private void testReadRangeGeneric(ModbusReadFunctionCode pollerFunctionCode, String start, String valueType,
+            int expectedOffset, int expectedLength) {
+        ModbusSlaveEndpoint endpoint = new ModbusTCPSlaveEndpoint("thisishost", 502, false);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+        doReturn(5).when(request).getReference();
+        doReturn(3).when(request).getDataLength();
+        doReturn(pollerFunctionCode).when(request).getFunctionCode();
+        PollTask task = Mockito.mock(PollTask.class);
+        doReturn(endpoint).when(task).getEndpoint();
+        doReturn(request).when(task).getRequest();
+        Bridge poller = createPollerMock("poller1", task);
+
+        Configuration dataConfig = new Configuration();
+        dataConfig.put("readStart", start);
+        dataConfig.put("readValueType", valueType);
+        ModbusDataThingHandler dataHandler = createDataHandler("read1", poller,
+                builder -> builder.withConfiguration(dataConfig), bundleContext);
+
+        assertThat(dataHandler.getThing().getStatus(), is(equalTo(ThingStatus.ONLINE)));
+        assertThat(dataHandler.getReadOffset(), is(equalTo(expectedOffset)));
+        assertThat(dataHandler.getReadLength(), is(equalTo(expectedLength)));
+    }
+
+    @Test
+    public void testReadRangeInt32() {
+        testReadRangeGeneric(ModbusReadFunctionCode.READ_MULTIPLE_REGISTERS, "6", "int32", 1, 2);
+    }
+
+    @Test
+    public void testReadRangeInt8() {
+        testReadRangeGeneric(ModbusReadFunctionCode.READ_INPUT_REGISTERS, "7.1", "int8", 2, 1);
+    }
+
+    @Test
+    public void testReadRangeCoil() {
+        testReadRangeGeneric(ModbusReadFunctionCode.READ_COILS, "5", "bit", 0, 1);
+    }
+
     @Test
     public void testReadOnlyData() {
         Configuration dataConfig = new Configuration();
@@ -427,6 +427,9 @@ public class ModbusPollerThingHandlerTest extends AbstractModbusOSGiTest {
 
         ModbusDataThingHandler child1 = Mockito.mock(ModbusDataThingHandler.class);
         ModbusDataThingHandler child2 = Mockito.mock(ModbusDataThingHandler.class);
+        // unchanged data is passed to children when it is time to update unchanged values
+        when(child1.isUnchangedValueUpdateDue(anyLong())).thenReturn(true);
+        when(child2.isUnchangedValueUpdateDue(anyLong())).thenReturn(true);
 
         AsyncModbusReadResult result = new AsyncModbusReadResult(request, registers);
 
@@ -434,28 +437,28 @@ public class ModbusPollerThingHandlerTest extends AbstractModbusOSGiTest {
         thingHandler.childHandlerInitialized(child1, Mockito.mock(Thing.class));
         readCallback.handle(result);
         verify(child1).onReadResult(result);
-        verifyNoMoreInteractions(child1);
-        verifyNoMoreInteractions(child2);
+        verifyNoMoreInteractions(ignoreStubs(child1));
+        verifyNoMoreInteractions(ignoreStubs(child2));
 
-        reset(child1);
+        clearInvocations(child1);
 
         // two children (one child initialized)
         thingHandler.childHandlerInitialized(child2, Mockito.mock(Thing.class));
         readCallback.handle(result);
         verify(child1).onReadResult(result);
         verify(child2).onReadResult(result);
-        verifyNoMoreInteractions(child1);
-        verifyNoMoreInteractions(child2);
+        verifyNoMoreInteractions(ignoreStubs(child1));
+        verifyNoMoreInteractions(ignoreStubs(child2));
 
-        reset(child1);
-        reset(child2);
+        clearInvocations(child1);
+        clearInvocations(child2);
 
         // one child disposed
         thingHandler.childHandlerDisposed(child1, Mockito.mock(Thing.class));
         readCallback.handle(result);
         verify(child2).onReadResult(result);
-        verifyNoMoreInteractions(child1);
-        verifyNoMoreInteractions(child2);
+        verifyNoMoreInteractions(ignoreStubs(child1));
+        verifyNoMoreInteractions(ignoreStubs(child2));
     }
 
     @Test
@@ -490,6 +493,9 @@ public class ModbusPollerThingHandlerTest extends AbstractModbusOSGiTest {
 
         ModbusDataThingHandler child1 = Mockito.mock(ModbusDataThingHandler.class);
         ModbusDataThingHandler child2 = Mockito.mock(ModbusDataThingHandler.class);
+        // unchanged data is passed to children when it is time to update unchanged values
+        when(child1.isUnchangedValueUpdateDue(anyLong())).thenReturn(true);
+        when(child2.isUnchangedValueUpdateDue(anyLong())).thenReturn(true);
 
         AsyncModbusReadResult result = new AsyncModbusReadResult(request, bits);
 
@@ -497,28 +503,130 @@ public class ModbusPollerThingHandlerTest extends AbstractModbusOSGiTest {
         thingHandler.childHandlerInitialized(child1, Mockito.mock(Thing.class));
         readCallback.handle(result);
         verify(child1).onReadResult(result);
-        verifyNoMoreInteractions(child1);
-        verifyNoMoreInteractions(child2);
+        verifyNoMoreInteractions(ignoreStubs(child1));
+        verifyNoMoreInteractions(ignoreStubs(child2));
 
-        reset(child1);
+        clearInvocations(child1);
 
         // two children (one child initialized)
         thingHandler.childHandlerInitialized(child2, Mockito.mock(Thing.class));
         readCallback.handle(result);
         verify(child1).onReadResult(result);
         verify(child2).onReadResult(result);
-        verifyNoMoreInteractions(child1);
-        verifyNoMoreInteractions(child2);
+        verifyNoMoreInteractions(ignoreStubs(child1));
+        verifyNoMoreInteractions(ignoreStubs(child2));
 
-        reset(child1);
-        reset(child2);
+        clearInvocations(child1);
+        clearInvocations(child2);
 
         // one child disposed
         thingHandler.childHandlerDisposed(child1, Mockito.mock(Thing.class));
         readCallback.handle(result);
         verify(child2).onReadResult(result);
-        verifyNoMoreInteractions(child1);
-        verifyNoMoreInteractions(child2);
+        verifyNoMoreInteractions(ignoreStubs(child1));
+        verifyNoMoreInteractions(ignoreStubs(child2));
+    }
+
+    @Test
+    public void testUnchangedDataIsNotPassedToChildDataThings()
+            throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+        PollTask pollTask = Mockito.mock(PollTask.class);
+        doReturn(pollTask).when(comms).registerRegularPoll(notNull(), eq(150l), eq(0L), notNull(), notNull());
+
+        Configuration pollerConfig = new Configuration();
+        pollerConfig.put("refresh", 150L);
+        pollerConfig.put("start", 5);
+        pollerConfig.put("length", 3);
+        pollerConfig.put("type", "holding");
+        poller = createPollerThingBuilder("poller").withConfiguration(pollerConfig).withBridge(endpoint.getUID())
+                .build();
+        addThing(poller);
+        verifyEndpointBasicInitInteraction();
+
+        ModbusPollerThingHandler thingHandler = (ModbusPollerThingHandler) poller.getHandler();
+        assertNotNull(thingHandler);
+        ModbusReadCallback readCallback = getPollerCallback(thingHandler);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+
+        // child1 reads register 5, child2 reads registers 6 and 7
+        ModbusDataThingHandler child1 = Mockito.mock(ModbusDataThingHandler.class);
+        when(child1.getReadOffset()).thenReturn(0);
+        when(child1.getReadLength()).thenReturn(1);
+        ModbusDataThingHandler child2 = Mockito.mock(ModbusDataThingHandler.class);
+        when(child2.getReadOffset()).thenReturn(1);
+        when(child2.getReadLength()).thenReturn(2);
+        thingHandler.childHandlerInitialized(child1, Mockito.mock(Thing.class));
+        thingHandler.childHandlerInitialized(child2, Mockito.mock(Thing.class));
+
+        // first data is passed to all children
+        AsyncModbusReadResult result1 = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 3));
+        readCallback.handle(result1);
+        verify(child1).onReadResult(result1);
+        verify(child2).onReadResult(result1);
+
+        // only the data of child2 changed
+        AsyncModbusReadResult result2 = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 4));
+        readCallback.handle(result2);
+        verify(child1, never()).onReadResult(result2);
+        verify(child1).onUnchangedReadResult();
+        verify(child2).onReadResult(result2);
+
+        // unchanged data is passed when it is time to update unchanged values
+        when(child1.isUnchangedValueUpdateDue(anyLong())).thenReturn(true);
+        AsyncModbusReadResult result3 = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 4));
+        readCallback.handle(result3);
+        verify(child1).onReadResult(result3);
+        verify(child2, never()).onReadResult(result3);
+
+        // after an error, the data is passed to all children
+        when(child1.isUnchangedValueUpdateDue(anyLong())).thenReturn(false);
+        getPollerFailureCallback(thingHandler)
+                .handle(new AsyncModbusFailure<>(request, new Exception("Something failed!")));
+        AsyncModbusReadResult result4 = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 2, 4));
+        readCallback.handle(result4);
+        verify(child1).onReadResult(result4);
+        verify(child2).onReadResult(result4);
+    }
+
+    @Test
+    public void testPolledDataMutatedInPlaceIsComparedToPreviousPoll()
+            throws IllegalArgumentException, IllegalAccessException, NoSuchFieldException, SecurityException {
+        PollTask pollTask = Mockito.mock(PollTask.class);
+        doReturn(pollTask).when(comms).registerRegularPoll(notNull(), eq(150l), eq(0L), notNull(), notNull());
+
+        Configuration pollerConfig = new Configuration();
+        pollerConfig.put("refresh", 150L);
+        pollerConfig.put("start", 5);
+        pollerConfig.put("length", 2);
+        pollerConfig.put("type", "holding");
+        poller = createPollerThingBuilder("poller").withConfiguration(pollerConfig).withBridge(endpoint.getUID())
+                .build();
+        addThing(poller);
+        verifyEndpointBasicInitInteraction();
+
+        ModbusPollerThingHandler thingHandler = (ModbusPollerThingHandler) poller.getHandler();
+        assertNotNull(thingHandler);
+        ModbusReadCallback readCallback = getPollerCallback(thingHandler);
+        ModbusReadRequestBlueprint request = Mockito.mock(ModbusReadRequestBlueprint.class);
+
+        ModbusDataThingHandler child = Mockito.mock(ModbusDataThingHandler.class);
+        when(child.getReadOffset()).thenReturn(1);
+        when(child.getReadLength()).thenReturn(1);
+        thingHandler.childHandlerInitialized(child, Mockito.mock(Thing.class));
+
+        ModbusRegisterArray registers = new ModbusRegisterArray(1, 2);
+        AsyncModbusReadResult result1 = new AsyncModbusReadResult(request, registers);
+        readCallback.handle(result1);
+        verify(child).onReadResult(result1);
+
+        // a write of an individual bit updates the cached registers in place
+        registers.getBytes()[3] = 3;
+
+        // the register read by the child still differs from the previous poll
+        AsyncModbusReadResult result2 = new AsyncModbusReadResult(request, new ModbusRegisterArray(1, 3));
+        readCallback.handle(result2);
+        verify(child).onReadResult(result2);
+        verify(child, never()).onUnchangedReadResult();
     }
 
     @Test
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -83,6 +84,7 @@ import org.openhab.core.thing.link.ItemChannelLink;
 import org.openhab.core.thing.link.ManagedItemChannelLinkProvider;
 import org.openhab.core.thing.type.ChannelKind;
 import org.openhab.core.thing.type.ChannelTypeUID;
+import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
 
@@ -93,6 +95,7 @@ import org.openhab.core.types.UnDefType;
  * @author Lyubomir Papazov - Created a mock systeminfo object. This way, access to the user's OS will not be required,
  *         but mock data will be used instead, avoiding potential errors from the OS queries.
  * @author Wouter Born - Migrate Groovy to Java tests
+ * @author agent - Test for the sample of refreshed channels
  */
 @NonNullByDefault
 @ExtendWith(MockitoExtension.class)
@@ -1090,6 +1093,39 @@ public class SysteminfoOSGiTest extends JavaOSGiTest {
         assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, DEFAULT_CHANNEL_TEST_PRIORITY, mockedProcessLoad);
     }
 
+    @Test
+    public void assertRefreshStartsNewSample() {
+        Configuration thingConfig = new Configuration();
+        // no further refresh ticks during the test
+        thingConfig.put(SysteminfoBindingConstants.HIGH_PRIORITY_REFRESH_TIME, new BigDecimal(3600));
+        thingConfig.put(SysteminfoBindingConstants.MEDIUM_PRIORITY_REFRESH_TIME, new BigDecimal(3600));
+        String acceptedItemType = "Number";
+        PercentType sampledLoad = new PercentType(10);
+        PercentType refreshedLoad = new PercentType(20);
+        when(mockedSystemInfo.getSystemCpuLoad()).thenReturn(sampledLoad);
+
+        initializeThing(thingConfig, DEFAULT_TEST_CHANNEL_ID, acceptedItemType, "Low", DEFAULT_CHANNEL_PID);
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, "Low", sampledLoad);
+
+        Thing thing = systeminfoThing;
+        if (thing == null) {
+            throw new AssertionError("Thing is null");
+        }
+        ThingHandler handler = thing.getHandler();
+        if (handler == null) {
+            throw new AssertionError("Thing handler is null");
+        }
+        when(mockedSystemInfo.getSystemCpuLoad()).thenReturn(refreshedLoad);
+        clearInvocations(mockedSystemInfo);
+        handler.handleCommand(new ChannelUID(thing.getUID(), DEFAULT_TEST_CHANNEL_ID), RefreshType.REFRESH);
+
+        // the refreshed value is read in a new sample, not taken from the sample of the last tick
+        InOrder inOrder = inOrder(mockedSystemInfo);
+        inOrder.verify(mockedSystemInfo, atLeastOnce()).startSample();
+        inOrder.verify(mockedSystemInfo).getSystemCpuLoad();
+        assertItemState(acceptedItemType, DEFAULT_TEST_ITEM_NAME, "Low", refreshedLoad);
+    }
+
     @Test
     public void testThingHandlesChannelPriorityChange() {
         String priorityKey = "priority";